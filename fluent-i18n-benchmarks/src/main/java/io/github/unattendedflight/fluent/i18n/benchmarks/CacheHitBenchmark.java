@@ -0,0 +1,72 @@
+package io.github.unattendedflight.fluent.i18n.benchmarks;
+
+import io.github.unattendedflight.fluent.i18n.util.TinyLfuCache;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hit throughput of {@link TinyLfuCache#computeIfAbsent} with that of an
+ * unbounded {@link ConcurrentHashMap}, which the hash cache of {@code I18n} used before, with
+ * one thread reading per core.
+ *
+ * Every lookup hits, so the difference is the cost of recording reads for the eviction
+ * policy. Run with
+ * {@code java -jar fluent-i18n-benchmarks/target/benchmarks.jar CacheHitBenchmark}, and
+ * {@code -t 1} for a single reader, where every read reaches the policy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class CacheHitBenchmark {
+    private static final int KEYS = 1 << 12;
+    private static final int MASK = KEYS - 1;
+
+    private final String[] keys = new String[KEYS];
+    private TinyLfuCache<String, String> tinyLfu;
+    private ConcurrentHashMap<String, String> map;
+
+    @Setup
+    public void setUp() {
+        tinyLfu = new TinyLfuCache<>(2 * KEYS);
+        map = new ConcurrentHashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "You have " + i + " new messages";
+            tinyLfu.putIfAbsent(keys[i], keys[i]);
+            map.put(keys[i], keys[i]);
+        }
+    }
+
+    /**
+     * The position of a benchmark thread in the key array.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = ThreadLocalRandom.current().nextInt(KEYS);
+    }
+
+    @Benchmark
+    public String tinyLfu(Cursor cursor) {
+        return tinyLfu.computeIfAbsent(keys[cursor.next++ & MASK], String::trim);
+    }
+
+    @Benchmark
+    public String concurrentHashMap(Cursor cursor) {
+        return map.computeIfAbsent(keys[cursor.next++ & MASK], String::trim);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.unattendedflight.fluent.i18n.benchmarks;
+
+import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+import io.github.unattendedflight.fluent.i18n.core.Murmur3HashGenerator;
+import io.github.unattendedflight.fluent.i18n.core.Sha256HashGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of hashing natural text with the built-in hash generators.
+ *
+ * This is the work done on every uncached lookup, such as {@code PluralBuilder.format()}
+ * and {@code ContextBuilder.translate()}. Run with
+ * {@code java -jar fluent-i18n-benchmarks/target/benchmarks.jar HashGeneratorBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashGeneratorBenchmark {
+
+    @Param({"Welcome", "You have {0} new messages in your inbox", "Grüße aus München, {0}!"})
+    public String naturalText;
+
+    private HashGenerator sha256;
+    private HashGenerator murmur3;
+
+    @Setup
+    public void setUp() {
+        sha256 = new Sha256HashGenerator();
+        murmur3 = new Murmur3HashGenerator();
+    }
+
+    @Benchmark
+    public String sha256() {
+        return sha256.generateHash(naturalText);
+    }
+
+    @Benchmark
+    public String murmur3() {
+        return murmur3.generateHash(naturalText);
+    }
+}
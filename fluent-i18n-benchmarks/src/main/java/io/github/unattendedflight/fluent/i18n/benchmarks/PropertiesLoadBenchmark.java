@@ -0,0 +1,78 @@
+package io.github.unattendedflight.fluent.i18n.benchmarks;
+
+import io.github.unattendedflight.fluent.i18n.util.PropertiesReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares loading a {@code .properties} catalog through {@link Properties}, as the properties
+ * message source used to, with the streaming {@link PropertiesReader}.
+ *
+ * The catalog mixes plain entries, Unicode escapes and line continuations. Run with
+ * {@code java -jar fluent-i18n-benchmarks/target/benchmarks.jar PropertiesLoadBenchmark -prof gc}
+ * to see the allocation per load next to the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertiesLoadBenchmark {
+
+    @Param({"1000", "50000"})
+    public int entries;
+
+    private byte[] catalog;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("# Generated catalog\n");
+        for (int i = 0; i < entries; i++) {
+            builder.append(String.format("k%010d", i)).append(" = ");
+            switch (i % 3) {
+                case 0 -> builder.append("You have {0} new messages in your inbox");
+                case 1 -> builder.append("Gr\\u00fc\\u00dfe aus M\\u00fcnchen, {0}!");
+                default -> builder.append("A longer message that is \\\n    continued on the next line");
+            }
+            builder.append('\n');
+        }
+        catalog = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Map<String, String> propertiesTable() throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(new ByteArrayInputStream(catalog), StandardCharsets.UTF_8));
+        Map<String, String> translations = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            translations.put(key, properties.getProperty(key));
+        }
+        return translations;
+    }
+
+    @Benchmark
+    public Map<String, String> streamingReader() throws IOException {
+        Map<String, String> translations = HashMap.newHashMap(64);
+        PropertiesReader.read(new InputStreamReader(new ByteArrayInputStream(catalog), StandardCharsets.UTF_8),
+            translations::put);
+        return translations;
+    }
+}
@@ -3,17 +3,24 @@ package io.github.unattendedflight.fluent.i18n;
 import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
 import io.github.unattendedflight.fluent.i18n.config.FluentConfigLoader;
 import io.github.unattendedflight.fluent.i18n.core.ContextBuilder;
+import io.github.unattendedflight.fluent.i18n.core.FormatMemo;
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
 import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+import io.github.unattendedflight.fluent.i18n.core.LocaleRegistry;
+import io.github.unattendedflight.fluent.i18n.core.MessageArguments;
 import io.github.unattendedflight.fluent.i18n.core.MessageDescriptor;
 import io.github.unattendedflight.fluent.i18n.core.MessageFormatter;
 import io.github.unattendedflight.fluent.i18n.core.MessageSourceFactory;
 import io.github.unattendedflight.fluent.i18n.core.NaturalTextMessageSource;
 import io.github.unattendedflight.fluent.i18n.core.PluralBuilder;
+import io.github.unattendedflight.fluent.i18n.core.PluralTemplate;
 import io.github.unattendedflight.fluent.i18n.core.Sha256HashGenerator;
-import io.github.unattendedflight.fluent.i18n.core.TranslationResult;
+import io.github.unattendedflight.fluent.i18n.util.CacheStats;
+import io.github.unattendedflight.fluent.i18n.util.TinyLfuCache;
 
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -29,8 +36,10 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class I18n {
     private static volatile NaturalTextMessageSource messageSource;
-    private static final ThreadLocal<Locale> currentLocale = new ThreadLocal<>();
-    private static final Map<String, String> hashCache = new ConcurrentHashMap<>();
+    private static final ThreadLocal<CurrentLocale> currentLocale = new ThreadLocal<>();
+    private static volatile CurrentLocale systemLocale = new CurrentLocale(Locale.getDefault(), LocaleRegistry.register(Locale.getDefault()));
+    private static final TinyLfuCache<String, String> hashCache = new TinyLfuCache<>(new FluentConfig().getHashCacheSize());
+    private static final TinyLfuCache<String, ContextBuilder> contexts = new TinyLfuCache<>(256);
     private static HashGenerator hashGenerator = new Sha256HashGenerator();
     private static FluentConfig config;
     private static boolean initialized = false;
@@ -61,6 +70,14 @@ public final class I18n {
      */
     public static void initialize(FluentConfig fluentConfig) {
         config = fluentConfig;
+        hashCache.setMaximumSize(fluentConfig.getHashCacheSize());
+        MessageFormatter.setCacheSize(fluentConfig.getFormatCacheSize());
+        FormatMemo.configure(fluentConfig.getFormatMemoMode(), fluentConfig.getFormatMemoSize());
+        // A custom generator installed through setHashGenerator takes precedence over the configured algorithm
+        HashAlgorithm installed = HashAlgorithm.of(hashGenerator);
+        if (installed != null && installed != fluentConfig.getHashAlgorithm()) {
+            setHashGenerator(fluentConfig.getHashAlgorithm().newGenerator());
+        }
         messageSource = MessageSourceFactory.createMessageSource(fluentConfig);
         initialized = true;
     }
@@ -116,6 +133,7 @@ public final class I18n {
      * contexts where the application logic ensures no*/
     public static void setHashGenerator(HashGenerator generator) {
         hashGenerator = generator;
+        hashCache.clear();
     }
     
     /**
@@ -129,21 +147,159 @@ public final class I18n {
      * @return the translated text in the target locale, formatted with the provided arguments if placeholders
      *         exist. If no translation is*/
     public static String translate(String naturalText, Object... args) {
-        if (naturalText == null) return null;
+        return translate(naturalText, MessageArguments.of(args));
+    }
+
+    /**
+     * Translates natural text without arguments, like {@link #translate(String, Object...)}
+     * but without allocating an empty argument array.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @return the translated text, or the natural text if no translation exists
+     */
+    public static String translate(String naturalText) {
+        return translate(naturalText, MessageArguments.of());
+    }
+
+    /**
+     * Translates natural text with one argument, like {@link #translate(String, Object...)}
+     * without a varargs array.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, Object arg0) {
+        return translate(naturalText, MessageArguments.of(arg0));
+    }
+
+    /**
+     * Translates natural text with two arguments, like {@link #translate(String, Object...)}
+     * without a varargs array.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, Object arg0, Object arg1) {
+        return translate(naturalText, MessageArguments.of(arg0, arg1));
+    }
+
+    /**
+     * Translates natural text with three arguments, like {@link #translate(String, Object...)}
+     * without a varargs array.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, Object arg0, Object arg1, Object arg2) {
+        return translate(naturalText, MessageArguments.of(arg0, arg1, arg2));
+    }
+
+    /**
+     * Translates natural text with four arguments, like {@link #translate(String, Object...)}
+     * without a varargs array.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @param arg3 the argument {@code {3}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, Object arg0, Object arg1, Object arg2, Object arg3) {
+        return translate(naturalText, MessageArguments.of(arg0, arg1, arg2, arg3));
+    }
+
+    /**
+     * Translates natural text with an {@code int} argument, such as a count, which reaches
+     * the formatter, including {@code plural} arguments, without being boxed.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, int arg0) {
+        return translate(naturalText, MessageArguments.of((long) arg0));
+    }
+
+    /**
+     * Translates natural text with a {@code long} argument, which is formatted without being boxed.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, long arg0) {
+        return translate(naturalText, MessageArguments.of(arg0));
+    }
+
+    /**
+     * Translates natural text with a {@code double} argument, which is formatted without being boxed.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, double arg0) {
+        return translate(naturalText, MessageArguments.of(arg0));
+    }
+
+    /**
+     * Translates natural text with a {@code char} argument, formatted as the character rather
+     * than widened to the {@code int} overload's number.
+     *
+     * @param naturalText the text to translate; {@code null} is returned as is
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String translate(String naturalText, char arg0) {
+        return translate(naturalText, MessageArguments.of((Object) arg0));
+    }
+
+    /**
+     * Translates natural text with arguments held by a {@link MessageArguments}, which are
+     * released once the message is formatted.
+     */
+    private static String translate(String naturalText, MessageArguments args) {
+        try {
+            if (naturalText == null) return null;
+
+            ensureInitialized();
+            return format(getOrGenerateHash(naturalText), naturalText, null, args, current());
+        } finally {
+            args.release();
+        }
+    }
+    
+    /**
+     * Translates natural text like {@link #translate(String, Object...)} and appends the result
+     * to an output instead of returning it, so template engines can render messages into their
+     * buffer or writer without an intermediate {@code String} per message.
+     *
+     * @param out the output receiving the translated and formatted text, such as a
+     *            {@link StringBuilder} or a {@link java.io.Writer}
+     * @param naturalText the text to translate; nothing is appended if it is {@code null}
+     * @param args optional arguments used to replace placeholders in the translated text
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    public static void translateTo(Appendable out, String naturalText, Object... args) {
+        if (naturalText == null) return;
         
         ensureInitialized();
-        Locale locale = getCurrentLocale();
-        String hash = getOrGenerateHash(naturalText);
-        
+        CurrentLocale current = current();
+        String template = naturalText;
         if (messageSource != null) {
-            TranslationResult result = messageSource.resolve(hash, naturalText, locale);
-            if (result.isFound()) {
-                return formatMessage(result.getTranslation(), args, locale);
+            String translation = messageSource.lookup(getOrGenerateHash(naturalText), current.locale(), current.id());
+            if (translation != null) {
+                template = translation;
             }
         }
-        
-        // Fallback to original natural text
-        return formatMessage(naturalText, args, locale);
+        MessageFormatter.formatTo(out, template, args, current.locale());
     }
     
     /**
@@ -161,6 +317,167 @@ public final class I18n {
         return translate(naturalText, args);
     }
 
+    /**
+     * Shorthand for {@link #translate(String)}.
+     *
+     * @param naturalText the text to translate
+     * @return the translated text
+     */
+    public static String t(String naturalText) {
+        return translate(naturalText);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, Object)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, Object arg0) {
+        return translate(naturalText, arg0);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, Object, Object)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, Object arg0, Object arg1) {
+        return translate(naturalText, arg0, arg1);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, Object, Object, Object)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, Object arg0, Object arg1, Object arg2) {
+        return translate(naturalText, arg0, arg1, arg2);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, Object, Object, Object, Object)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @param arg3 the argument {@code {3}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, Object arg0, Object arg1, Object arg2, Object arg3) {
+        return translate(naturalText, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, int)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, int arg0) {
+        return translate(naturalText, arg0);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, long)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, long arg0) {
+        return translate(naturalText, arg0);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, double)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, double arg0) {
+        return translate(naturalText, arg0);
+    }
+
+    /**
+     * Shorthand for {@link #translate(String, char)}.
+     *
+     * @param naturalText the text to translate
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public static String t(String naturalText, char arg0) {
+        return translate(naturalText, arg0);
+    }
+
+    /**
+     * Translates the message of a rewritten call site, see {@link LiteralCallSites}.
+     * Behaves like {@link #translate(String, Object...)} and its fixed-arity and primitive
+     * overloads without hashing the natural text.
+     *
+     * @param slot the message bound to the call site
+     * @param args the arguments of the call, released once the message is formatted
+     * @return the translated and formatted text, or the formatted natural text if no translation exists
+     */
+    static String translate(TranslationSlot slot, MessageArguments args) {
+        try {
+            ensureInitialized();
+            return format(slot.getHash(), slot.getNaturalText(), null, args, current());
+        } finally {
+            args.release();
+        }
+    }
+
+    /**
+     * Looks up the translation of a message for the current locale and formats it, serving
+     * the text from the {@link FormatMemo} when the call is memoized. A hit skips both the
+     * lookup and the formatting.
+     *
+     * @param hash the message hash
+     * @param naturalText the natural text, formatted when no translation exists
+     * @param key the key remembering the message's translations, or {@code null}
+     * @param args the arguments of the call, released once the message is formatted
+     * @param current the current locale
+     * @return the translated and formatted text, or the formatted natural text
+     */
+    private static String format(String hash, String naturalText, MessageKey key, MessageArguments args,
+                                 CurrentLocale current) {
+        NaturalTextMessageSource source = messageSource;
+        Locale locale = current.locale();
+        FormatMemo.Key memoKey = FormatMemo.keyFor(source, hash, locale, current.id(), args,
+            key != null && key.isMemoized());
+        if (memoKey != null) {
+            String memoized = FormatMemo.get(memoKey);
+            if (memoized != null) {
+                return memoized;
+            }
+        }
+
+        String template = naturalText;
+        if (source != null) {
+            String translation = key != null
+                ? key.translation(source, hashGenerator, locale, current.id())
+                : source.lookup(hash, locale, current.id());
+            if (translation != null) {
+                template = translation;
+            }
+        }
+        String formatted = MessageFormatter.format(template, args, locale);
+        FormatMemo.put(memoKey, formatted);
+        return formatted;
+    }
+
     /**
      * Resolves a localized translation for the given message descriptor based on the current locale.
      * If the descriptor is `null`, returns `null`. Ensures the internationalization system
@@ -194,16 +511,18 @@ public final class I18n {
         if (descriptor == null) return null;
         
         ensureInitialized();
-        Locale currentLocale = getCurrentLocale();
-        String hash = descriptor.getHash();
-
-        if (messageSource != null && messageSource.exists(hash, locale)) {
-          TranslationResult result = messageSource.resolve(hash, descriptor.getNaturalText(), locale);
-           if (result.isFound()) {
-               return formatMessage(result.getTranslation(), args, locale);
-           }
+        String template = descriptor.getNaturalText();
+        if (messageSource != null && locale != null) {
+            String translation = messageSource.lookup(descriptor.getHash(), locale);
+            if (translation != null) {
+                template = translation;
+            }
         }
-        return formatMessage(descriptor.getNaturalText(), args, locale);
+        // Arguments passed here replace the ones the descriptor was created with
+        MessageArguments formatArgs = args != null && args.length > 0
+            ? MessageArguments.of(args)
+            : MessageArguments.of(descriptor.getArgs());
+        return MessageFormatter.format(template, formatArgs, locale);
     }
 
     /**
@@ -254,6 +573,82 @@ public final class I18n {
         return new MessageDescriptor(hash, naturalText, args);
     }
 
+    /**
+     * Describes the message of a rewritten call site, see {@link LiteralCallSites}.
+     *
+     * @param slot the message bound to the call site
+     * @param args optional runtime arguments used for message formatting
+     * @return a descriptor carrying the call site's precomputed hash
+     */
+    static MessageDescriptor describe(TranslationSlot slot, Object[] args) {
+        ensureInitialized();
+        return new MessageDescriptor(slot.getHash(), slot.getNaturalText(), args);
+    }
+
+    /**
+     * Creates a {@link MessageKey} for a message, to be kept in a {@code static final} field
+     * and formatted without hashing the natural text again. The key can be created before
+     * the internationalization system is initialized.
+     *
+     * @param naturalText the natural language text of the message; must not be null
+     * @return a key bound to the message's hash
+     */
+    public static MessageKey key(String naturalText) {
+        return new MessageKey(Objects.requireNonNull(naturalText, "naturalText"), null, hashGenerator);
+    }
+
+    /**
+     * Creates a {@link MessageKey} for a message within a context, hashed like the messages
+     * of {@link #context(String)}.
+     *
+     * @param contextKey the context disambiguating the message; must not be null
+     * @param naturalText the natural language text of the message; must not be null
+     * @return a key bound to the message's contextual hash
+     */
+    public static MessageKey key(String contextKey, String naturalText) {
+        return new MessageKey(Objects.requireNonNull(naturalText, "naturalText"),
+            Objects.requireNonNull(contextKey, "contextKey"), hashGenerator);
+    }
+
+    /**
+     * Translates the message of a {@link MessageKey}, reusing the translation the key
+     * remembered for the current locale.
+     *
+     * @param key the message key
+     * @param args optional arguments used to replace placeholders in the translated text
+     * @return the translated and formatted text, or the formatted natural text if no translation exists
+     */
+    static String translate(MessageKey key, Object[] args) {
+        MessageArguments formatArgs = MessageArguments.of(args);
+        try {
+            ensureInitialized();
+            return format(key.getHash(), key.getNaturalText(), key, formatArgs, current());
+        } finally {
+            formatArgs.release();
+        }
+    }
+
+    /**
+     * Translates the message of a {@link MessageKey} and appends the result to an output.
+     *
+     * @param out the output receiving the translated and formatted text
+     * @param key the message key
+     * @param args optional arguments used to replace placeholders in the translated text
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    static void translateTo(Appendable out, MessageKey key, Object[] args) {
+        ensureInitialized();
+        CurrentLocale current = current();
+        String template = key.getNaturalText();
+        if (messageSource != null) {
+            String translation = key.translation(messageSource, hashGenerator, current.locale(), current.id());
+            if (translation != null) {
+                template = translation;
+            }
+        }
+        MessageFormatter.formatTo(out, template, args, current.locale());
+    }
+
     /**
      * Creates a PluralBuilder to handle pluralization logic based on the given count and current locale.
      * Ensures the internationalization system is initialized before proceeding.
@@ -270,37 +665,38 @@ public final class I18n {
         return new PluralBuilder(count, getCurrentLocale(), messageSource, hashGenerator);
     }
 
+    /**
+     * Creates a builder of a reusable {@link PluralTemplate}, hashed with the configured hash
+     * generator. Unlike {@link #plural(Number)}, the resulting template computes its ICU plural
+     * string and hash once and can be formatted for any count, so it suits constants.
+     *
+     * @return a builder collecting the natural text of each plural form
+     */
+    public static PluralTemplate.Builder pluralTemplate() {
+        ensureInitialized();
+        return PluralTemplate.builder(hashGenerator);
+    }
+
     /**
      * Resolves a translation key (hash) to its localized message, formatting it with arguments if necessary.
      *
      * Translates the given hash for the current or default locale if available, formatting the result using the specified arguments.
      * Falls back to using the hash itself as the message template if no translation can be resolved.
      *
-     * Handles scenarios where a translation might exist only for the default locale but not the current one.
+     * Handles scenarios where a translation might exist only for the default locale but not the current one:
+     * the message source resolves the hash through the locale's fallback chain in a single lookup.
      * Ensures graceful degradation in the absence of translations by using the hash as a fallback message.
      *
      * @param hash The key representing the text to translate. Expected to be a unique*/
     public static String resolveKey(String hash, Object... args) {
         ensureInitialized();
-        Locale locale = getCurrentLocale();
+        CurrentLocale current = current();
+        Locale locale = current.locale();
         
-        if (messageSource != null && messageSource.exists(hash, locale)) {
-            TranslationResult result = messageSource.resolve(hash, hash, locale);
-            if (result.isFound()) {
-                return formatMessage(result.getTranslation(), args, locale);
-            }
-        }
-      // We should not immediately fall back to formatMessage as we only have the hash.
-      // We need to use the default locale to get the message.
-      if (messageSource.exists(hash, config.getDefaultLocale())) {
-        TranslationResult result = messageSource.resolve(hash, hash, config.getDefaultLocale());
-        if (result.isFound()) {
-          return formatMessage(result.getTranslation(), args, locale);
-        }
-      }
-
-      return formatMessage(hash, args, locale);
-
+        // Message sources resolve through the locale's fallback chain, default locale included
+        String translation = messageSource != null ? messageSource.lookup(hash, locale, current.id()) : null;
+        String template = translation != null ? translation : hash;
+        return formatMessage(template, args, locale);
     }
 
     /**
@@ -326,27 +722,46 @@ public final class I18n {
      * message collisions in systems with overlapping natural text.
      *
      * The returned builder allows defining and resolving translations scoped to the provided context,
-     * utilizing the configured message source and hash generator.
+     * utilizing the configured message source and hash generator. Builders are shared per
+     * context key and remember the hashes of the texts they translated; they are thread-safe
+     * and may also be kept in a {@code static final} field.
      *
      * @param contextKey The logical grouping or namespace for translations. Used to scope and
      *                disambiguate natural text with identical wording but different meanings.
      */
     public static ContextBuilder context(String contextKey) {
         ensureInitialized();
-        return new ContextBuilder(contextKey, contextKey, messageSource, hashGenerator);
+        if (contextKey == null) {
+            return new ContextBuilder(null);
+        }
+        return contexts.computeIfAbsent(contextKey, ContextBuilder::new);
     }
 
     /**
      * Updates the current thread's locale, influencing features like text formatting and resource bundles.
      * Setting null forces default locale fallback, but should be avoided.
      *
+     * Locales that are neither supported nor part of a supported locale's fallback chain are
+     * not registered with the {@link LocaleRegistry}, so request headers cannot fill it; their
+     * messages resolve through their nearest supported parent, or the default locale, while
+     * formatting still uses the locale itself.
+     *
      * @param locale the Locale to set for this thread's context; ensure it's valid and supported in your application.
      */
     public static void setCurrentLocale(Locale locale) {
-        currentLocale.set(locale);
         if (locale == null) {
+          currentLocale.set(null);
           System.err.println("Warning: I18n.setCurrentLocale was set to null. To avoid potential issues, provide a Locale object.");
+          return;
+        }
+        // Requested locales are not registered; they share the ID of their nearest registered
+        // parent, or of the default locale every chain ends with
+        int id = LocaleRegistry.nearest(locale);
+        if (id == LocaleRegistry.UNREGISTERED && config != null) {
+            id = LocaleRegistry.idOf(config.getDefaultLocale());
         }
+        Locale registered = id == LocaleRegistry.UNREGISTERED ? null : LocaleRegistry.getLocale(id);
+        currentLocale.set(new CurrentLocale(locale.equals(registered) ? registered : locale, id));
     }
     
     /**
@@ -357,12 +772,31 @@ public final class I18n {
      * @return the thread-specific locale if set; otherwise, the system default locale.
      */
     public static Locale getCurrentLocale() {
-        Locale locale = currentLocale.get();
-        if (locale != null) return locale;
+        return current().locale();
+    }
+
+    /**
+     * Returns the current locale together with its {@link LocaleRegistry} ID, so lookups
+     * index the message source's catalogs directly instead of hashing the locale.
+     */
+    private static CurrentLocale current() {
+        CurrentLocale current = currentLocale.get();
+        if (current != null) return current;
         
-        // Fallback to system default locale
-        return Locale.getDefault();
+        // Fallback to system default locale, registered again only when it changes
+        Locale locale = Locale.getDefault();
+        CurrentLocale system = systemLocale;
+        if (system.locale() != locale) {
+            system = new CurrentLocale(locale, LocaleRegistry.register(locale));
+            systemLocale = system;
+        }
+        return system;
     }
+
+    /**
+     * A locale paired with its {@link LocaleRegistry} ID.
+     */
+    private record CurrentLocale(Locale locale, int id) {}
     
     /**
      * Clears the thread-local locale context to prevent it from unintentionally
@@ -401,6 +835,32 @@ public final class I18n {
         return hashCache.computeIfAbsent(naturalText, hashGenerator::generateHash);
     }
     
+    /**
+     * Chooses the hash of a literal whose hash was computed at build time, initializing the
+     * internationalization system first so the configured hash algorithm is in place.
+     * The precomputed hash is used, and recorded in the hash cache, when the generator is
+     * the built-in generator of the algorithm that computed it; otherwise the text is hashed
+     * by the generator.
+     *
+     * @param naturalText the literal natural text
+     * @param precomputedHash the hash computed by the build
+     * @param hashAlgorithmId the ID of the {@link HashAlgorithm} that computed {@code precomputedHash}
+     * @param generator the hash generator the hash is chosen for
+     * @return the hash to use for the literal
+     */
+    static String literalHash(String naturalText, String precomputedHash, int hashAlgorithmId, HashGenerator generator) {
+        ensureInitialized();
+        boolean installed = generator == hashGenerator;
+        HashAlgorithm runtimeAlgorithm = HashAlgorithm.of(generator);
+        if (precomputedHash != null && runtimeAlgorithm != null && runtimeAlgorithm.getId() == hashAlgorithmId) {
+            if (installed) {
+                hashCache.putIfAbsent(naturalText, precomputedHash);
+            }
+            return precomputedHash;
+        }
+        return installed ? getOrGenerateHash(naturalText) : generator.generateHash(naturalText);
+    }
+    
     /**
      * Formats a localized message template with arguments, handling both complex
      * locale-aware formatting and simple placeholder substitution for edge cases.
@@ -457,7 +917,40 @@ public final class I18n {
      * @return a copy of the current message hash cache mapping natural text to their unique hashes.
      */
     public static Map<String, String> getMessageHashes() {
-        return new ConcurrentHashMap<>(hashCache);
+        return new ConcurrentHashMap<>(hashCache.toMap());
+    }
+    
+    /**
+     * Reports how well the bounded hash cache serves lookups of natural text.
+     * The cache holds at most {@link FluentConfig#getHashCacheSize()} hashes and evicts
+     * rarely used texts first, so dynamic text cannot grow it without bound.
+     *
+     * @return a snapshot of the hit, miss and eviction counters of the hash cache
+     */
+    public static CacheStats getHashCacheStats() {
+        return hashCache.stats();
+    }
+    
+    /**
+     * Reports how well the bounded cache of compiled message templates serves formatting.
+     * The cache holds at most {@link FluentConfig#getFormatCacheSize()} templates, each
+     * compiled once per locale it is formatted for.
+     *
+     * @return a snapshot of the hit, miss and eviction counters of the template cache
+     */
+    public static CacheStats getFormatCacheStats() {
+        return MessageFormatter.getCacheStats();
+    }
+    
+    /**
+     * Reports how well the memo of formatted messages serves formatting calls. The memo is
+     * off by default; {@link FluentConfig#getFormatMemoMode()} selects the messages it holds,
+     * at most {@link FluentConfig#getFormatMemoSize()} of them.
+     *
+     * @return a snapshot of the hit, miss and eviction counters of the format memo
+     */
+    public static CacheStats getFormatMemoStats() {
+        return FormatMemo.getStats();
     }
     
     /**
@@ -472,6 +965,15 @@ public final class I18n {
     public static NaturalTextMessageSource getMessageSource() {
         return messageSource;
     }
+
+    /**
+     * Provides access to the hash generator used to identify natural text messages.
+     *
+     * @return the active {@code HashGenerator}
+     */
+    public static HashGenerator getHashGenerator() {
+        return hashGenerator;
+    }
     
     /**
      * Registers a natural language message by ensuring it is assigned a unique hash.
@@ -0,0 +1,101 @@
+package io.github.unattendedflight.fluent.i18n;
+
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import io.github.unattendedflight.fluent.i18n.core.MessageArguments;
+import io.github.unattendedflight.fluent.i18n.core.MessageDescriptor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Bootstrap methods for {@code invokedynamic} call sites produced by the {@code rewrite}
+ * goal of the Maven plugin.
+ *
+ * The goal replaces {@code I18n.t}, {@code I18n.translate} and {@code I18n.describe} calls
+ * whose natural text is a string literal with an {@code invokedynamic} instruction of the
+ * same descriptor, which for {@code translate} and {@code t} may be the one of the varargs
+ * method or of a fixed-arity or primitive overload. Its static arguments carry the literal,
+ * the hash computed at build time and the ID of the {@link HashAlgorithm} that computed it,
+ * so the linked site is a constant method handle bound to a {@link TranslationSlot}: the
+ * natural text argument still pushed by the caller is ignored, and no hash is looked up or
+ * generated when the site executes. A hash computed by an algorithm other than the runtime's
+ * is ignored and the natural text is hashed again on the first execution, and again whenever
+ * the hash generator of {@link I18n} changes.
+ *
+ * This class is part of the bytecode contract of rewritten classes; its name and the
+ * signature of the {@code bootstrap} method must not change.
+ */
+public final class LiteralCallSites {
+    private static final MethodHandle TRANSLATE;
+    private static final MethodHandle DESCRIBE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TRANSLATE = lookup.findStatic(I18n.class, "translate",
+                MethodType.methodType(String.class, TranslationSlot.class, MessageArguments.class));
+            DESCRIBE = lookup.findStatic(I18n.class, "describe",
+                MethodType.methodType(MessageDescriptor.class, TranslationSlot.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private LiteralCallSites() {
+        // Utility class
+    }
+
+    /**
+     * Links a rewritten call site.
+     *
+     * @param lookup the caller's lookup, unused
+     * @param name the rewritten method: {@code translate} (also used for {@code t}) or {@code describe}
+     * @param type the call site type, the descriptor of the original method
+     * @param naturalText the literal natural text of the call
+     * @param hash the hash of the natural text computed by the build
+     * @param hashAlgorithmId the ID of the {@link HashAlgorithm} that computed {@code hash}
+     * @return a constant call site bound to the message
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type,
+                                     String naturalText, String hash, int hashAlgorithmId) {
+        TranslationSlot slot = new TranslationSlot(naturalText, hash, hashAlgorithmId);
+        MethodHandle target = switch (name) {
+            case "translate" -> MethodHandles.collectArguments(
+                MethodHandles.insertArguments(TRANSLATE, 0, slot), 0, argumentsOf(type.dropParameterTypes(0, 1)));
+            case "describe" -> MethodHandles.insertArguments(DESCRIBE, 0, slot);
+            default -> throw new IllegalArgumentException("Unknown fluent i18n call site: " + name);
+        };
+        target = MethodHandles.dropArguments(target, 0, String.class);
+        return new ConstantCallSite(target.asType(type));
+    }
+
+    /**
+     * Returns the {@link MessageArguments#of} method taking the arguments of a
+     * {@code translate} overload: {@code int} arguments are widened to the {@code long}
+     * method and {@code char} arguments are boxed, as the overloads themselves do.
+     *
+     * @param arguments the parameter types following the natural text
+     * @return a handle from those arguments to the arguments of the call
+     * @throws IllegalArgumentException if no {@code of} method takes such arguments
+     */
+    private static MethodHandle argumentsOf(MethodType arguments) {
+        Class<?>[] types = arguments.parameterArray();
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == int.class) {
+                types[i] = long.class;
+            } else if (types[i] == char.class) {
+                types[i] = Object.class;
+            }
+        }
+        try {
+            MethodHandle of = MethodHandles.lookup().findStatic(MessageArguments.class, "of",
+                MethodType.methodType(MessageArguments.class, types));
+            return of.asType(arguments.changeReturnType(MessageArguments.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unsupported fluent i18n call site type: " + arguments, e);
+        }
+    }
+}
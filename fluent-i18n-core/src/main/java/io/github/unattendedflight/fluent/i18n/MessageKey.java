@@ -0,0 +1,250 @@
+package io.github.unattendedflight.fluent.i18n;
+
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+import io.github.unattendedflight.fluent.i18n.core.LocaleRegistry;
+import io.github.unattendedflight.fluent.i18n.core.MessageDescriptor;
+import io.github.unattendedflight.fluent.i18n.core.NaturalTextMessageSource;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A message bound once to its hash, meant to be held in a {@code static final} field:
+ * <pre>{@code
+ * private static final MessageKey WELCOME = I18n.key("Welcome {0}!");
+ * private static final MessageKey SAVE = I18n.key("button", "Save");
+ *
+ * String text = WELCOME.format(user.getName());
+ * }</pre>
+ *
+ * The hash is computed when the key is created, or again only if the hash generator of
+ * {@link I18n} changes. The translation found for each locale is remembered in a slot indexed
+ * by the locale's {@link LocaleRegistry} ID, so formatting a key costs no hashing and, after
+ * the first call per locale, no catalog lookup. Slots are discarded when the message source
+ * publishes a new generation, for example after a reload, or when {@code I18n} is initialized
+ * with another source; answers given while a locale's catalogs are still loading are not
+ * remembered.
+ *
+ * A key returned by {@link #memoized()} also opts its message in to the format memo, so
+ * with {@code caching.formatMemoMode} set to {@code keys} or {@code auto} the text formatted
+ * for each locale and set of immutable arguments is reused, see
+ * {@link io.github.unattendedflight.fluent.i18n.core.FormatMemo}.
+ *
+ * Keys are immutable as far as callers can tell and thread-safe. The extractor recognizes
+ * {@code I18n.key(...)} calls with literal text, so their messages reach the PO files like
+ * those of {@code I18n.translate}.
+ */
+public final class MessageKey {
+    /**
+     * Marks a slot whose locale has no translation for this key.
+     */
+    private static final String MISSING = new String("");
+
+    private final String naturalText;
+    private final String context;
+    private final String precomputedHash;
+    private final int hashAlgorithmId;
+    private final boolean memoized;
+    private volatile Binding binding;
+
+    MessageKey(String naturalText, String context, HashGenerator hashGenerator) {
+        this(naturalText, context, null, -1, hashGenerator, false);
+    }
+
+    private MessageKey(String naturalText, String context, String precomputedHash, int hashAlgorithmId,
+                       HashGenerator hashGenerator, boolean memoized) {
+        this.naturalText = naturalText;
+        this.context = context;
+        this.precomputedHash = precomputedHash;
+        this.hashAlgorithmId = hashAlgorithmId;
+        this.memoized = memoized;
+        this.binding = new Binding(null, 0, hashGenerator, hash(hashGenerator), new String[0]);
+    }
+
+    /**
+     * Creates a key whose hash was computed at build time, as the {@code Messages} classes
+     * generated by the {@code fluent-i18n-processor} annotation processor do.
+     * The precomputed hash is used as long as {@link I18n} hashes with the built-in generator
+     * of the same algorithm; otherwise the text is hashed once at runtime.
+     *
+     * @param contextKey the context disambiguating the message, or {@code null}
+     * @param naturalText the natural language text of the message
+     * @param precomputedHash the hash computed by the build
+     * @param hashAlgorithmId the ID of the {@link HashAlgorithm} that computed the hash
+     * @return a key bound to the message's hash
+     */
+    public static MessageKey of(String contextKey, String naturalText, String precomputedHash, int hashAlgorithmId) {
+        return new MessageKey(naturalText, contextKey, precomputedHash, hashAlgorithmId, I18n.getHashGenerator(), false);
+    }
+
+    /**
+     * Returns a key for the same message that opts in to the format memo, for messages
+     * formatted again and again with a few distinct arguments, such as status names or
+     * currency codes. Has no effect while {@code caching.formatMemoMode} is {@code off}.
+     *
+     * @return a memoized key for this message
+     */
+    public MessageKey memoized() {
+        if (memoized) {
+            return this;
+        }
+        return new MessageKey(naturalText, context, precomputedHash, hashAlgorithmId, binding.hashGenerator(), true);
+    }
+
+    /**
+     * Translates the message into the current locale and formats it with arguments.
+     *
+     * @param args the arguments replacing the placeholders of the message
+     * @return the translated and formatted text, or the formatted natural text if no translation exists
+     */
+    public String format(Object... args) {
+        return I18n.translate(this, args);
+    }
+
+    /**
+     * Translates and formats the message like {@link #format(Object...)} and appends the
+     * result to an output instead of returning it.
+     *
+     * @param out the output receiving the text
+     * @param args the arguments replacing the placeholders of the message
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    public void formatTo(Appendable out, Object... args) {
+        I18n.translateTo(out, this, args);
+    }
+
+    /**
+     * Creates a descriptor of this message for resolution at a later time.
+     *
+     * @param args the arguments stored with the descriptor
+     * @return a descriptor carrying the key's hash and natural text
+     */
+    public MessageDescriptor describe(Object... args) {
+        return new MessageDescriptor(getHash(), naturalText, args);
+    }
+
+    /**
+     * Returns the natural text of the message, used as fallback when no translation exists.
+     *
+     * @return the natural text
+     */
+    public String getNaturalText() {
+        return naturalText;
+    }
+
+    /**
+     * Returns the context that disambiguates the message.
+     *
+     * @return the context key, or {@code null} for a message without context
+     */
+    public String getContext() {
+        return context;
+    }
+
+    /**
+     * Returns the hash identifying the message in translation catalogs, as computed by the
+     * hash generator {@link I18n} currently uses.
+     *
+     * @return the message hash
+     */
+    public String getHash() {
+        return bind(null, I18n.getHashGenerator()).hash();
+    }
+
+    /**
+     * Returns whether the message is opted in to the format memo.
+     *
+     * @return {@code true} for keys returned by {@link #memoized()}
+     */
+    public boolean isMemoized() {
+        return memoized;
+    }
+
+    @Override
+    public String toString() {
+        return context != null ? context + ":" + naturalText : naturalText;
+    }
+
+    /**
+     * Returns the translation of the message for a locale, looking it up in the message
+     * source only the first time the locale is requested in the source's current generation.
+     *
+     * @param messageSource the source of translations
+     * @param hashGenerator the hash generator in use
+     * @param locale the requested locale
+     * @param localeId the locale's {@link LocaleRegistry} ID
+     * @return the translation, or {@code null} if the locale has none
+     */
+    String translation(NaturalTextMessageSource messageSource, HashGenerator hashGenerator, Locale locale, int localeId) {
+        Binding current = bind(messageSource, hashGenerator);
+        // Locales sharing the ID of a registered parent may translate differently in custom sources
+        if (localeId == LocaleRegistry.UNREGISTERED || !locale.equals(LocaleRegistry.getLocale(localeId))) {
+            return messageSource.lookup(current.hash(), locale, localeId);
+        }
+
+        String[] slots = current.slots();
+        String translation = localeId < slots.length ? slots[localeId] : null;
+        if (translation == null) {
+            boolean complete = messageSource.isComplete(locale, localeId);
+            translation = messageSource.lookup(current.hash(), locale, localeId);
+            if (translation == null) {
+                translation = MISSING;
+            }
+            if (complete) {
+                remember(current, localeId, translation);
+            }
+        }
+        return translation != MISSING ? translation : null;
+    }
+
+    /**
+     * Returns the binding for a message source and hash generator, starting a new one if
+     * either of them or the source's generation changed.
+     */
+    private Binding bind(NaturalTextMessageSource messageSource, HashGenerator hashGenerator) {
+        Binding current = binding;
+        long generation = messageSource != null ? messageSource.getGeneration() : current.generation();
+        if ((messageSource == null || current.source() == messageSource) && current.generation() == generation
+                && current.hashGenerator() == hashGenerator) {
+            return current;
+        }
+        String hash = current.hashGenerator() == hashGenerator ? current.hash() : hash(hashGenerator);
+        NaturalTextMessageSource source = messageSource != null ? messageSource : current.source();
+        Binding next = new Binding(source, generation, hashGenerator, hash, new String[0]);
+        binding = next;
+        return next;
+    }
+
+    /**
+     * Stores the translation of a locale, growing the slots when the locale ID is beyond them.
+     * Slots are written without locking: each holds an immutable string, so a racing writer
+     * can at worst make another thread look the same translation up again.
+     */
+    private void remember(Binding current, int localeId, String translation) {
+        String[] slots = current.slots();
+        if (localeId >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(localeId + 1, Math.min(slots.length * 2, LocaleRegistry.MAX_LOCALES)));
+            Binding grown = new Binding(current.source(), current.generation(), current.hashGenerator(), current.hash(), slots);
+            if (binding == current) {
+                binding = grown;
+            }
+        }
+        slots[localeId] = translation;
+    }
+
+    private String hash(HashGenerator hashGenerator) {
+        HashAlgorithm algorithm = HashAlgorithm.of(hashGenerator);
+        if (precomputedHash != null && algorithm != null && algorithm.getId() == hashAlgorithmId) {
+            return precomputedHash;
+        }
+        return context != null ? hashGenerator.generateHash(naturalText, context) : hashGenerator.generateHash(naturalText);
+    }
+
+    /**
+     * The hash of the message for a hash generator, and the translations remembered per
+     * locale ID for one generation of a message source.
+     */
+    private record Binding(NaturalTextMessageSource source, long generation, HashGenerator hashGenerator,
+                           String hash, String[] slots) {}
+}
@@ -0,0 +1,58 @@
+package io.github.unattendedflight.fluent.i18n;
+
+import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+
+/**
+ * The message bound to a single rewritten {@code I18n} call site.
+ *
+ * Holds the natural text of the literal together with the hash computed by the build and
+ * the hash used at runtime. The runtime hash is chosen on the first execution of the site,
+ * once {@link I18n} is initialized, and chosen again only if the hash generator of
+ * {@code I18n} changes, as {@link MessageKey} does: it is the build's hash when the installed
+ * generator is the built-in generator of the same algorithm, and the text hashed by the
+ * installed generator otherwise. Every execution of the call site reuses the slot, so
+ * literal lookups go straight to the message source without touching the hash cache.
+ */
+final class TranslationSlot {
+    private final String naturalText;
+    private final String precomputedHash;
+    private final int hashAlgorithmId;
+    private volatile Binding binding = new Binding(null, null);
+
+    TranslationSlot(String naturalText, String precomputedHash, int hashAlgorithmId) {
+        this.naturalText = naturalText;
+        this.precomputedHash = precomputedHash;
+        this.hashAlgorithmId = hashAlgorithmId;
+    }
+
+    /**
+     * Returns the hash identifying the message in translation catalogs, as computed by the
+     * hash generator {@link I18n} currently uses.
+     *
+     * @return the message hash
+     */
+    String getHash() {
+        HashGenerator hashGenerator = I18n.getHashGenerator();
+        Binding current = binding;
+        if (current.hashGenerator() == hashGenerator) {
+            return current.hash();
+        }
+        String hash = I18n.literalHash(naturalText, precomputedHash, hashAlgorithmId, hashGenerator);
+        binding = new Binding(hashGenerator, hash);
+        return hash;
+    }
+
+    /**
+     * Returns the literal natural text, used as fallback when no translation exists.
+     *
+     * @return the natural text
+     */
+    String getNaturalText() {
+        return naturalText;
+    }
+
+    /**
+     * The hash of the message for a hash generator.
+     */
+    private record Binding(HashGenerator hashGenerator, String hash) {}
+}
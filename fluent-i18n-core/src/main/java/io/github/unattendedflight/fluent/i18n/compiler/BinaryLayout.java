@@ -0,0 +1,27 @@
+package io.github.unattendedflight.fluent.i18n.compiler;
+
+/**
+ * Physical layout used by {@link BinaryOutputWriter} when producing FL18 catalogs.
+ *
+ * The layout only changes how entries are arranged inside the file; every layout
+ * carries the same hashes and translations and is recognised by the core runtime.
+ */
+public enum BinaryLayout {
+    /**
+     * Format version 2: entries are written sequentially with VLQ-encoded lengths and the
+     * file is usually gzip-compressed. Readers decode the whole file into memory on load.
+     */
+    STREAM,
+    /**
+     * Format version 3: an uncompressed file with a fixed-width index sorted by hash,
+     * followed by a data section holding the UTF-8 encoded translations. The runtime
+     * memory-maps these files and only decodes translations that are actually looked up.
+     */
+    INDEXED,
+    /**
+     * Format version 4: the indexed layout with its index records arranged by a minimal
+     * perfect hash over the message hashes. A lookup costs one read of the displacement
+     * table and one index record, for keys that are present as well as absent.
+     */
+    PERFECT_HASH
+}
@@ -1,13 +1,25 @@
 package io.github.unattendedflight.fluent.i18n.compiler;
 
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import io.github.unattendedflight.fluent.i18n.core.HashKeys;
+import io.github.unattendedflight.fluent.i18n.util.PerfectHash;
+
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPOutputStream;
 
 /**
@@ -16,7 +28,10 @@ import java.util.zip.GZIPOutputStream;
  * Binary format specification:
  * - Magic number: 4 bytes "FL18" (Fluent i18n)
  * - Version: 1 byte (currently 2)
- * - Flags: 1 byte (bit 0: compressed, bit 1: fixed hash length)
+ * - Flags: 1 byte (bit 0: compressed, bit 1: fixed hash length, bit 2: long keys, bit 3: hash algorithm,
+ *   bit 4: shared strings)
+ * - Hash algorithm: 1 byte {@link HashAlgorithm} ID (if bit 3 is set, otherwise SHA-256)
+ * - String table checksum: u32 CRC32 of the uncompressed shared string table (if bit 4 is set)
  * - Locale length: VLQ + locale string
  * - Hash length: 1 byte (if fixed) or omitted (if variable)
  * - Entry count: VLQ
@@ -25,6 +40,36 @@ import java.util.zip.GZIPOutputStream;
  *   - Hash string: variable length
  *   - Translation length: VLQ
  *   - Translation string: variable length
+ *   - or, if bit 4 is set, the VLQ index of the translation in the shared string table
+ *
+ * Shared string table ({@link CompilerConfig#sharedStringTable(boolean)}, {@value #STRING_TABLE_FILE_NAME},
+ * compressed like the catalogs):
+ * - Magic number: 4 bytes "FL18"
+ * - Version: 1 byte (5)
+ * - Flags: 1 byte (bit 0: compressed)
+ * - String count: VLQ
+ * - For each string, most referenced first: length VLQ + UTF-8 bytes
+ *
+ * Indexed layout ({@link BinaryLayout#INDEXED}, version 3, never compressed):
+ * - Magic number: 4 bytes "FL18"
+ * - Version: 1 byte (3)
+ * - Flags: 1 byte (bit 1 always set, keys are stored with a fixed width)
+ * - Hash algorithm: 1 byte (if bit 3 is set), as in version 2
+ * - Locale length: u16 + locale string
+ * - Key width: u8, hashes shorter than this are padded with zero bytes
+ * - Entry count, index offset, data offset, data length: u32 each
+ * - Index: entry count records of [key][u32 value offset][u32 value length],
+ *   sorted by the unsigned byte order of the keys
+ * - Data: UTF-8 translations, addressed relative to the data offset
+ *
+ * Perfect hash layout ({@link BinaryLayout#PERFECT_HASH}, version 4) extends the indexed header with:
+ * - Hash seed, bucket count, displacement table offset: u32 each
+ * - Displacement table: bucket count i32 values, see {@link PerfectHash}
+ * - Index records are stored at the slot assigned by the perfect hash instead of in sorted order
+ *
+ * With long keys ({@link CompilerConfig#longKeys(boolean)}) every layout stores the 64-bit key derived
+ * by {@link HashKeys} as 8 little-endian bytes in place of the hash string; indexed layouts then sort
+ * by the signed key value and hash the key itself for the perfect hash.
  */
 public class BinaryOutputWriter implements OutputWriter {
     /**
@@ -40,6 +85,26 @@ public class BinaryOutputWriter implements OutputWriter {
      * breaking changes to the binary format to prevent unintended parsing issues.
      */
     private static final byte VERSION = 2;
+    /**
+     * Format version written for {@link BinaryLayout#INDEXED} catalogs. The fixed-layout header and
+     * sorted index let readers memory-map the file and binary-search it without decoding entries.
+     */
+    private static final byte VERSION_INDEXED = 3;
+    /**
+     * Format version written for {@link BinaryLayout#PERFECT_HASH} catalogs, which add a minimal
+     * perfect hash displacement table to the indexed layout so lookups need no search at all.
+     */
+    private static final byte VERSION_PERFECT_HASH = 4;
+    /**
+     * Format version of the shared string table written next to stream catalogs when
+     * {@link CompilerConfig#isSharedStringTable()} is set.
+     */
+    private static final byte VERSION_STRING_TABLE = 5;
+    /**
+     * Name of the shared string table file. It contains a dot, so it can never collide with
+     * the catalog of a locale.
+     */
+    public static final String STRING_TABLE_FILE_NAME = "messages.strings.bin";
     /**
      * Defines the byte order (endianness) used when writing binary data.
      *
@@ -68,6 +133,21 @@ public class BinaryOutputWriter implements OutputWriter {
      * lead to unexpected data misalignment or errors in downstream processes.
      */
     private static final byte FLAG_FIXED_HASH_LENGTH = 0x02;
+    /**
+     * Indicates that keys are 8-byte little-endian {@code long} values derived from the message hashes
+     * rather than the hash strings themselves. Always combined with {@link #FLAG_FIXED_HASH_LENGTH}.
+     */
+    private static final byte FLAG_LONG_KEYS = 0x04;
+    /**
+     * Indicates that a byte holding the {@link HashAlgorithm} ID follows the flags. Only set when the
+     * catalog was keyed by an algorithm other than SHA-256, so default catalogs keep their layout.
+     */
+    private static final byte FLAG_HASH_ALGORITHM = 0x08;
+    /**
+     * Indicates that translations are stored as indexes into the shared string table, whose
+     * CRC32 follows the flags (after the hash algorithm, if present).
+     */
+    private static final byte FLAG_SHARED_STRINGS = 0x10;
     
     /**
      * Defines configuration used for generating binary translation outputs.
@@ -130,6 +210,12 @@ public class BinaryOutputWriter implements OutputWriter {
         Files.createDirectories(outputDirectory);
         Path outputFile = outputDirectory.resolve(OutputFormat.BINARY.getFileName(locale));
         
+        // Indexed catalogs are read in place, so they are never compressed
+        if (getLayout() != BinaryLayout.STREAM) {
+            replace(outputFile, generateIndexedData(data, locale));
+            return outputFile;
+        }
+        
         // Generate binary data
         byte[] binaryData = generateBinaryData(data, locale);
         
@@ -139,11 +225,116 @@ public class BinaryOutputWriter implements OutputWriter {
         }
         
         // Write to file
-        Files.write(outputFile, binaryData);
+        replace(outputFile, binaryData);
         
         return outputFile;
     }
     
+    /**
+     * Writes the catalogs of several locales. With {@link CompilerConfig#isSharedStringTable()}
+     * and the stream layout every distinct translation is written once, to
+     * {@value #STRING_TABLE_FILE_NAME}, and the catalogs refer to it by index; the most
+     * referenced translations get the smallest indexes. Otherwise every locale is written on
+     * its own.
+     *
+     * @param dataByLocale the translation data keyed by locale identifier
+     * @param outputDirectory the directory where the files will be written
+     * @return the catalog of every locale, keyed by locale identifier
+     * @throws IOException if an error occurs with file handling or directory creation
+     */
+    @Override
+    public Map<String, Path> writeAll(Map<String, TranslationData> dataByLocale, Path outputDirectory) throws IOException {
+        if (config == null || !config.isSharedStringTable() || getLayout() != BinaryLayout.STREAM) {
+            return OutputWriter.super.writeAll(dataByLocale, outputDirectory);
+        }
+        Files.createDirectories(outputDirectory);
+        
+        // Count references, keeping first-seen order among equally frequent strings
+        Map<String, Integer> references = new LinkedHashMap<>();
+        for (TranslationData data : dataByLocale.values()) {
+            for (TranslationEntry entry : data.getEntries().values()) {
+                references.merge(translationOf(entry), 1, Integer::sum);
+            }
+        }
+        List<String> strings = new ArrayList<>(references.keySet());
+        strings.sort((a, b) -> Integer.compare(references.get(b), references.get(a)));
+        Map<String, Integer> indexes = new HashMap<>(strings.size() * 2);
+        for (int i = 0; i < strings.size(); i++) {
+            indexes.put(strings.get(i), i);
+        }
+        
+        byte[] table = generateStringTable(strings);
+        CRC32 crc = new CRC32();
+        crc.update(table);
+        replace(outputDirectory.resolve(STRING_TABLE_FILE_NAME), enableCompression ? compress(table) : table);
+        
+        Map<String, Path> files = new LinkedHashMap<>();
+        for (Map.Entry<String, TranslationData> entry : dataByLocale.entrySet()) {
+            String locale = entry.getKey();
+            byte[] binaryData = generateBinaryData(entry.getValue(), locale, crc.getValue(), indexes);
+            if (enableCompression) {
+                binaryData = compress(binaryData);
+            }
+            Path outputFile = outputDirectory.resolve(OutputFormat.BINARY.getFileName(locale));
+            replace(outputFile, binaryData);
+            files.put(locale, outputFile);
+        }
+        return files;
+    }
+    
+    /**
+     * Writes a catalog file by moving a complete temporary file over it, atomically where the
+     * file system supports it. Running applications may have the previous file memory-mapped,
+     * and a file rewritten in place would be truncated underneath them; a moved file leaves
+     * their mapping on the previous contents until they reload.
+     *
+     * @param file the catalog file
+     * @param data the contents of the file
+     * @throws IOException if the file cannot be written
+     */
+    static void replace(Path file, byte[] data) throws IOException {
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, data);
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+    
+    /**
+     * Encodes the shared string table, uncompressed.
+     *
+     * @param strings the distinct translations in index order
+     * @return the table bytes
+     */
+    private byte[] generateStringTable(List<String> strings) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        baos.write(MAGIC);
+        baos.write(VERSION_STRING_TABLE);
+        baos.write(enableCompression ? FLAG_COMPRESSED : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(5).order(BYTE_ORDER);
+        writeVLQ(buffer, strings.size());
+        baos.write(buffer.array(), 0, buffer.position());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            buffer.clear();
+            writeVLQ(buffer, bytes.length);
+            baos.write(buffer.array(), 0, buffer.position());
+            baos.write(bytes);
+        }
+        return baos.toByteArray();
+    }
+    
+    private static String translationOf(TranslationEntry entry) {
+        String translation = entry.getTranslation();
+        return translation == null ? "" : translation;
+    }
+    
     /**
      * Generates a binary representation of translation data for efficient storage and retrieval.
      * Leverages locale-specific data and metadata to create a format optimized for fast lookups.
@@ -157,21 +348,204 @@ public class BinaryOutputWriter implements OutputWriter {
      * @throws IOException if any errors occur during binary data generation, such as I/O stream issues.
      */
     private byte[] generateBinaryData(TranslationData data, String locale) throws IOException {
+        return generateBinaryData(data, locale, null, null);
+    }
+    
+    /**
+     * Generates a stream catalog whose translations are either inline or indexes into a shared string table.
+     *
+     * @param data the translation data containing entries and metadata to be serialized.
+     * @param locale the target locale.
+     * @param stringTableChecksum the CRC32 of the shared string table, or {@code null} for inline translations.
+     * @param stringIndexes the index of every translation in the shared string table, or {@code null}.
+     * @return a byte array containing the serialized catalog.
+     * @throws IOException if any errors occur during binary data generation.
+     */
+    private byte[] generateBinaryData(TranslationData data, String locale, Long stringTableChecksum,
+                                      Map<String, Integer> stringIndexes) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Map<String, TranslationEntry> entries = data.getEntries();
+        checkKeyCollisions(entries, locale);
         
         // Analyze hash lengths to determine if they're all the same
         Integer fixedHashLength = getFixedHashLength(entries);
         
         // Write header
-        writeHeader(baos, locale, fixedHashLength, entries.size());
+        writeHeader(baos, locale, fixedHashLength, entries.size(), stringTableChecksum);
         
         // Write entries
-        writeEntries(baos, entries, fixedHashLength);
+        writeEntries(baos, entries, fixedHashLength, stringIndexes);
         
         return baos.toByteArray();
     }
     
+    /**
+     * Generates an indexed catalog: a fixed-layout header, an index of fixed-width records and a data section.
+     * Version 3 sorts the index by hash so readers can binary-search it; version 4 places every record
+     * at the slot chosen by a {@link PerfectHash} and stores the displacement table after the header.
+     * Either way readers work directly on a memory-mapped file and decode only the translations they need.
+     *
+     * @param data the translation data containing entries to be serialized.
+     * @param locale the target locale, recorded in the header.
+     * @return a byte array containing the indexed catalog.
+     * @throws IOException if a hash is too long to be stored in the index or no perfect hash can be built.
+     */
+    private byte[] generateIndexedData(TranslationData data, String locale) throws IOException {
+        checkKeyCollisions(data.getEntries(), locale);
+        boolean perfectHash = getLayout() == BinaryLayout.PERFECT_HASH;
+        List<byte[][]> records = new ArrayList<>(data.getEntries().size());
+        int keyWidth = 0;
+        long dataLength = 0;
+        
+        for (Map.Entry<String, TranslationEntry> entry : data.getEntries().entrySet()) {
+            String translation = entry.getValue().getTranslation();
+            if (translation == null) translation = "";
+            
+            byte[] hashBytes = encodeKey(entry.getKey());
+            byte[] translationBytes = translation.getBytes(StandardCharsets.UTF_8);
+            keyWidth = Math.max(keyWidth, hashBytes.length);
+            dataLength += translationBytes.length;
+            records.add(new byte[][] { hashBytes, translationBytes });
+        }
+        
+        if (keyWidth > 0xFF) {
+            throw new IOException("Hash too long for indexed binary catalog: " + keyWidth + " bytes");
+        }
+        
+        PerfectHash table = null;
+        if (perfectHash) {
+            try {
+                table = isLongKeys()
+                    ? PerfectHash.build(records.stream().mapToLong(record -> decodeKey(record[0])).toArray())
+                    : PerfectHash.build(records.stream().map(record -> record[0]).toList());
+            } catch (IllegalStateException e) {
+                throw new IOException("Failed to build perfect hash index for locale " + locale, e);
+            }
+            byte[][][] bySlot = new byte[records.size()][][];
+            for (int i = 0; i < records.size(); i++) {
+                bySlot[table.slotOf(i)] = records.get(i);
+            }
+            records = Arrays.asList(bySlot);
+        } else if (isLongKeys()) {
+            records.sort((a, b) -> Long.compare(decodeKey(a[0]), decodeKey(b[0])));
+        } else {
+            // Zero padding sorts before any hash byte, so the unpadded order equals the padded order
+            records.sort((a, b) -> Arrays.compareUnsigned(a[0], b[0]));
+        }
+        
+        byte[] localeBytes = locale.getBytes(StandardCharsets.UTF_8);
+        int headerSize = MAGIC.length + 2 + (getHashAlgorithm() != HashAlgorithm.SHA256 ? 1 : 0)
+            + 2 + localeBytes.length + 1 + 16 + (perfectHash ? 12 : 0);
+        long displacementSize = perfectHash ? 4L * table.getDisplacements().length : 0;
+        long indexSize = (long) records.size() * (keyWidth + 8);
+        long totalSize = headerSize + displacementSize + indexSize + dataLength;
+        if (totalSize > Integer.MAX_VALUE) {
+            throw new IOException("Indexed binary catalog too large for locale " + locale + ": " + totalSize + " bytes");
+        }
+        
+        int displacementOffset = headerSize;
+        int indexOffset = (int) (headerSize + displacementSize);
+        int dataOffset = (int) (indexOffset + indexSize);
+        ByteBuffer buffer = ByteBuffer.allocate((int) totalSize).order(BYTE_ORDER);
+        
+        // Header
+        buffer.put(MAGIC);
+        buffer.put(perfectHash ? VERSION_PERFECT_HASH : VERSION_INDEXED);
+        byte flags = FLAG_FIXED_HASH_LENGTH;
+        if (isLongKeys()) flags |= FLAG_LONG_KEYS;
+        if (getHashAlgorithm() != HashAlgorithm.SHA256) flags |= FLAG_HASH_ALGORITHM;
+        buffer.put(flags);
+        if (getHashAlgorithm() != HashAlgorithm.SHA256) {
+            buffer.put((byte) getHashAlgorithm().getId());
+        }
+        buffer.putShort((short) localeBytes.length);
+        buffer.put(localeBytes);
+        buffer.put((byte) keyWidth);
+        buffer.putInt(records.size());
+        buffer.putInt(indexOffset);
+        buffer.putInt(dataOffset);
+        buffer.putInt((int) dataLength);
+        
+        // Perfect hash parameters and displacement table
+        if (perfectHash) {
+            buffer.putInt(table.getSeed());
+            buffer.putInt(table.getDisplacements().length);
+            buffer.putInt(displacementOffset);
+            for (int displacement : table.getDisplacements()) {
+                buffer.putInt(displacement);
+            }
+        }
+        
+        // Index records and data section
+        int valueOffset = 0;
+        for (byte[][] record : records) {
+            buffer.put(record[0]);
+            buffer.position(buffer.position() + keyWidth - record[0].length);
+            buffer.putInt(valueOffset);
+            buffer.putInt(record[1].length);
+            buffer.put(dataOffset + valueOffset, record[1]);
+            valueOffset += record[1].length;
+        }
+        
+        return buffer.array();
+    }
+    
+    /**
+     * Encodes the key stored for a message hash: its UTF-8 bytes, or the 8-byte long key in long key mode.
+     *
+     * @param hash the message hash
+     * @return the key bytes written to the catalog
+     */
+    private byte[] encodeKey(String hash) {
+        if (!isLongKeys()) {
+            return hash.getBytes(StandardCharsets.UTF_8);
+        }
+        return ByteBuffer.allocate(Long.BYTES).order(BYTE_ORDER).putLong(HashKeys.toLong(hash)).array();
+    }
+    
+    private long decodeKey(byte[] key) {
+        return ByteBuffer.wrap(key).order(BYTE_ORDER).getLong();
+    }
+    
+    /**
+     * Fails the compilation when two message hashes map to the same long key, since the catalog could
+     * not tell them apart. Only relevant in long key mode; collisions are astronomically unlikely for
+     * the built-in hash generators but would otherwise silently return the wrong translation.
+     *
+     * @param entries the entries to be written
+     * @param locale the locale being compiled, for the error message
+     * @throws IOException if two hashes share a long key
+     */
+    private void checkKeyCollisions(Map<String, TranslationEntry> entries, String locale) throws IOException {
+        if (!isLongKeys()) {
+            return;
+        }
+        Map<Long, String> seen = new HashMap<>(entries.size() * 2);
+        for (String hash : entries.keySet()) {
+            String previous = seen.put(HashKeys.toLong(hash), hash);
+            if (previous != null) {
+                throw new IOException("Hashes " + previous + " and " + hash + " share a long key in locale " + locale);
+            }
+        }
+    }
+    
+    private boolean isLongKeys() {
+        return config != null && config.isLongKeys();
+    }
+    
+    private HashAlgorithm getHashAlgorithm() {
+        return config != null && config.getHashAlgorithm() != null ? config.getHashAlgorithm() : HashAlgorithm.SHA256;
+    }
+    
+    /**
+     * Resolves the layout to write, defaulting to {@link BinaryLayout#STREAM} when no configuration is present.
+     *
+     * @return the binary layout requested by the compiler configuration
+     */
+    private BinaryLayout getLayout() {
+        return config != null && config.getBinaryLayout() != null ? config.getBinaryLayout() : BinaryLayout.STREAM;
+    }
+    
     /**
      * Determines if all hash strings in the given map have a consistent byte length when encoded in UTF-8.
      * Returns the fixed length if all hashes are uniform, or null if hashes are of varying lengths.
@@ -186,6 +560,8 @@ public class BinaryOutputWriter implements OutputWriter {
     private Integer getFixedHashLength(Map<String, TranslationEntry> entries) {
         if (entries.isEmpty()) return null;
         
+        if (isLongKeys()) return Long.BYTES;
+        
         Integer hashLength = null;
         for (String hash : entries.keySet()) {
             byte[] hashBytes = hash.getBytes(StandardCharsets.UTF_8);
@@ -205,6 +581,7 @@ public class BinaryOutputWriter implements OutputWriter {
      * @param locale the locale identifier used for the translation data (e.g., "en", "fr")
      * @param fixedHashLength optional, specifies a fixed length for hash values if defined, or null for variable length
      * @param entryCount the number of entries in the translation dataset; affects header size
+     * @param stringTableChecksum the CRC32 of the shared string table the entries refer to, or null for inline translations
      * @throws IOException if an error occurs while writing to the output stream
      *
      * Flags and format are impacted by `enableCompression` and `fixedHashLength`.
@@ -212,7 +589,8 @@ public class BinaryOutputWriter implements OutputWriter {
      * Locale is UTF-8 encoded to support internationalization.
      * A fixedHashLength requires non-null to signal fixed-length entry encoding.
      */
-    private void writeHeader(ByteArrayOutputStream baos, String locale, Integer fixedHashLength, int entryCount) throws IOException {
+    private void writeHeader(ByteArrayOutputStream baos, String locale, Integer fixedHashLength, int entryCount,
+                             Long stringTableChecksum) throws IOException {
         ByteBuffer buffer = ByteBuffer.allocate(1024).order(BYTE_ORDER);
         
         // Magic number
@@ -225,8 +603,21 @@ public class BinaryOutputWriter implements OutputWriter {
         byte flags = 0;
         if (enableCompression) flags |= FLAG_COMPRESSED;
         if (fixedHashLength != null) flags |= FLAG_FIXED_HASH_LENGTH;
+        if (isLongKeys()) flags |= FLAG_LONG_KEYS;
+        if (getHashAlgorithm() != HashAlgorithm.SHA256) flags |= FLAG_HASH_ALGORITHM;
+        if (stringTableChecksum != null) flags |= FLAG_SHARED_STRINGS;
         buffer.put(flags);
         
+        // Hash algorithm (if not the default)
+        if (getHashAlgorithm() != HashAlgorithm.SHA256) {
+            buffer.put((byte) getHashAlgorithm().getId());
+        }
+        
+        // Shared string table checksum (if translations refer to it)
+        if (stringTableChecksum != null) {
+            buffer.putInt((int) stringTableChecksum.longValue());
+        }
+        
         // Locale
         byte[] localeBytes = locale.getBytes(StandardCharsets.UTF_8);
         writeVLQ(buffer, localeBytes.length);
@@ -256,22 +647,23 @@ public class BinaryOutputWriter implements OutputWriter {
      *                entries must be non-null, and empty translations are normalized to an empty string
      * @param fixedHashLength the fixed length for hash values, or null if the hash length is variable;
      *                        ensures compatibility with different hash length configurations
+     * @param stringIndexes the index of every translation in the shared string table, or null to write translations inline
      * @throws IOException if an error occurs during stream or buffer operations
      *
      * Handles edge cases like null translations by converting them to empty strings and ensures the buffer
      * is cleared before it overflows. `fixedHashLength` affects whether hash lengths are explicitly encoded,
      * optimizing storage for fixed-length configurations.
      */
-    private void writeEntries(ByteArrayOutputStream baos, Map<String, TranslationEntry> entries, Integer fixedHashLength) throws IOException {
+    private void writeEntries(ByteArrayOutputStream baos, Map<String, TranslationEntry> entries, Integer fixedHashLength,
+                              Map<String, Integer> stringIndexes) throws IOException {
         ByteBuffer buffer = ByteBuffer.allocate(8192).order(BYTE_ORDER);
         
         for (Map.Entry<String, TranslationEntry> entry : entries.entrySet()) {
             String hash = entry.getKey();
-            String translation = entry.getValue().getTranslation();
-            if (translation == null) translation = "";
+            String translation = translationOf(entry.getValue());
             
-            byte[] hashBytes = hash.getBytes(StandardCharsets.UTF_8);
-            byte[] translationBytes = translation.getBytes(StandardCharsets.UTF_8);
+            byte[] hashBytes = encodeKey(hash);
+            byte[] translationBytes = stringIndexes == null ? translation.getBytes(StandardCharsets.UTF_8) : new byte[0];
             
             // Ensure buffer has enough space
             int requiredSpace = 10 + hashBytes.length + translationBytes.length;
@@ -292,9 +684,13 @@ public class BinaryOutputWriter implements OutputWriter {
             // Hash
             buffer.put(hashBytes);
             
-            // Translation length and content
-            writeVLQ(buffer, translationBytes.length);
-            buffer.put(translationBytes);
+            // Translation length and content, or its index in the shared string table
+            if (stringIndexes != null) {
+                writeVLQ(buffer, stringIndexes.get(translation));
+            } else {
+                writeVLQ(buffer, translationBytes.length);
+                buffer.put(translationBytes);
+            }
         }
         
         // Flush remaining buffer
@@ -1,5 +1,6 @@
 package io.github.unattendedflight.fluent.i18n.compiler;
 
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -76,6 +77,37 @@ public class CompilerConfig {
      * Default value is {@code true}.
      */
     private boolean includeMetadata = true;
+    /**
+     * Physical layout of compiled binary catalogs. {@link BinaryLayout#STREAM} keeps the
+     * compact, compressed version 2 format; {@link BinaryLayout#INDEXED} produces
+     * uncompressed catalogs that the runtime can memory-map and search in place.
+     *
+     * Default value is {@link BinaryLayout#STREAM}.
+     */
+    private BinaryLayout binaryLayout = BinaryLayout.STREAM;
+    /**
+     * Whether {@link BinaryLayout#STREAM} catalogs of all locales store their translations
+     * once, in a shared string table next to them, and refer to it by index. Translations
+     * that several locales share are then written and decoded once.
+     *
+     * Default value is {@code false}.
+     */
+    private boolean sharedStringTable = false;
+    /**
+     * Whether binary catalogs store each message hash as an 8-byte {@code long} key
+     * (see {@code HashKeys}) instead of the hash string. Long keys shrink the catalog
+     * and let the runtime compare keys as primitives.
+     *
+     * Default value is {@code false}.
+     */
+    private boolean longKeys = false;
+    /**
+     * The algorithm that produced the message hashes of the PO files, recorded in compiled
+     * catalogs so the runtime can detect catalogs keyed by a different algorithm.
+     *
+     * Default value is {@link HashAlgorithm#SHA256}.
+     */
+    private HashAlgorithm hashAlgorithm = HashAlgorithm.SHA256;
     
     /**
      * Provides a new instance of `CompilerConfig` for building a customized configuration using the builder pattern.
@@ -159,6 +191,52 @@ public class CompilerConfig {
         return this;
     }
     
+    /**
+     * Selects the physical layout of generated binary catalogs.
+     * Indexed catalogs are never compressed, since they are read in place through a memory mapping.
+     *
+     * @param layout the binary layout to produce
+     * @return the current instance of {@code CompilerConfig} for method chaining
+     */
+    public CompilerConfig binaryLayout(BinaryLayout layout) {
+        this.binaryLayout = layout;
+        return this;
+    }
+    
+    /**
+     * Configures whether stream-layout binary catalogs share one string table across locales.
+     * Indexed layouts are read in place and always keep their translations inline.
+     *
+     * @param sharedStringTable true to write a shared string table
+     * @return the current instance of {@code CompilerConfig} for method chaining
+     */
+    public CompilerConfig sharedStringTable(boolean sharedStringTable) {
+        this.sharedStringTable = sharedStringTable;
+        return this;
+    }
+    
+    /**
+     * Configures whether binary catalogs are keyed by 8-byte {@code long} keys instead of hash strings.
+     *
+     * @param longKeys true to write long keys
+     * @return the current instance of {@code CompilerConfig} for method chaining
+     */
+    public CompilerConfig longKeys(boolean longKeys) {
+        this.longKeys = longKeys;
+        return this;
+    }
+    
+    /**
+     * Configures the algorithm that produced the message hashes being compiled.
+     *
+     * @param hashAlgorithm the hash algorithm recorded in compiled catalogs
+     * @return the current instance of {@code CompilerConfig} for method chaining
+     */
+    public CompilerConfig hashAlgorithm(HashAlgorithm hashAlgorithm) {
+        this.hashAlgorithm = hashAlgorithm;
+        return this;
+    }
+    
     /**
      * Retrieves the directory path where PO (Portable Object) files are stored.
      *
@@ -218,4 +296,28 @@ public class CompilerConfig {
      * @return true if metadata inclusion is enabled; false otherwise
      */
     public boolean isIncludeMetadata() { return includeMetadata; }
-}
\ No newline at end of file
+    /**
+     * Retrieves the physical layout used for binary catalogs.
+     *
+     * @return the configured {@link BinaryLayout}
+     */
+    public BinaryLayout getBinaryLayout() { return binaryLayout; }
+    /**
+     * Indicates whether stream-layout binary catalogs share one string table across locales.
+     *
+     * @return true if a shared string table is written
+     */
+    public boolean isSharedStringTable() { return sharedStringTable; }
+    /**
+     * Indicates whether binary catalogs are keyed by 8-byte {@code long} keys.
+     *
+     * @return true if long keys are written; false for hash strings
+     */
+    public boolean isLongKeys() { return longKeys; }
+    /**
+     * Retrieves the algorithm that produced the message hashes being compiled.
+     *
+     * @return the configured {@link HashAlgorithm}
+     */
+    public HashAlgorithm getHashAlgorithm() { return hashAlgorithm; }
+}
@@ -2,6 +2,7 @@ package io.github.unattendedflight.fluent.i18n.compiler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -80,6 +81,25 @@ public class JsonOutputWriter implements OutputWriter {
         
         ObjectNode root = objectMapper.createObjectNode();
         
+        // Metadata goes first, so the runtime knows the hash algorithm and entry count
+        // before it streams the entries
+        HashAlgorithm hashAlgorithm = config.getHashAlgorithm() != null ? config.getHashAlgorithm() : HashAlgorithm.SHA256;
+        if (config.isIncludeMetadata() || hashAlgorithm != HashAlgorithm.SHA256) {
+            ObjectNode metadata = objectMapper.createObjectNode();
+            if (config.isIncludeMetadata()) {
+                metadata.put("locale", locale);
+                metadata.put("entryCount", data.getEntryCount());
+                if (data.getMetadata().getRevisionDate() != null) {
+                    metadata.put("lastModified", data.getMetadata().getRevisionDate().toString());
+                }
+            }
+            // Catalogs keyed by a non-default algorithm always say so, so the runtime can re-key them
+            if (hashAlgorithm != HashAlgorithm.SHA256) {
+                metadata.put("hashAlgorithm", hashAlgorithm.name().toLowerCase());
+            }
+            root.set("_metadata", metadata);
+        }
+        
         for (Map.Entry<String, TranslationEntry> entry : data.getEntries().entrySet()) {
             String hash = entry.getKey();
             TranslationEntry translationEntry = entry.getValue();
@@ -95,16 +115,6 @@ public class JsonOutputWriter implements OutputWriter {
             root.set(hash, entryNode);
         }
         
-        if (config.isIncludeMetadata()) {
-            ObjectNode metadata = objectMapper.createObjectNode();
-            metadata.put("locale", locale);
-            metadata.put("entryCount", data.getEntryCount());
-            if (data.getMetadata().getRevisionDate() != null) {
-                metadata.put("lastModified", data.getMetadata().getRevisionDate().toString());
-            }
-            root.set("_metadata", metadata);
-        }
-        
         objectMapper.writeValue(outputFile.toFile(), root);
         return outputFile;
     }
@@ -2,6 +2,8 @@ package io.github.unattendedflight.fluent.i18n.compiler;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Interface for writing translation data to various output formats.
@@ -23,6 +25,23 @@ public interface OutputWriter {
      */
     Path write(TranslationData data, String locale, Path outputDirectory) throws IOException;
     
+    /**
+     * Writes the translation data of several locales at once. Formats that share data between
+     * locales override this; by default every locale is written on its own.
+     *
+     * @param dataByLocale the translation data keyed by locale identifier
+     * @param outputDirectory the directory where the output files should be written
+     * @return the created file of every locale, keyed by locale identifier
+     * @throws IOException if an I/O error occurs during file writing
+     */
+    default Map<String, Path> writeAll(Map<String, TranslationData> dataByLocale, Path outputDirectory) throws IOException {
+        Map<String, Path> files = new LinkedHashMap<>();
+        for (Map.Entry<String, TranslationData> entry : dataByLocale.entrySet()) {
+            files.put(entry.getKey(), write(entry.getValue(), entry.getKey(), outputDirectory));
+        }
+        return files;
+    }
+    
     /**
      * Retrieves the output format handled by the implementing class.
      *
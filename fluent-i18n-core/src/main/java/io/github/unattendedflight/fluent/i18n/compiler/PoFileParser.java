@@ -19,14 +19,15 @@ import java.util.regex.Pattern;
  * - Processing translations in both single and plural forms.
  * - Parsing comments, including source location and hash metadata.
  * - Handling continuation lines and message constructs that span multiple lines.
- * - Detecting and parsing ICU MessageFormat plural patterns.
+ * - Keeping ICU MessageFormat plural messages, such as those of {@code I18n.plural()}, as
+ *   regular entries whose translation is the whole ICU plural string.
  *
  * The output of the parser is a {@code TranslationData} object, which contains all parsed
  * translation entries along with metadata extracted from the file.
  *
  * Features:
  * - Automatically extracts hashes, source locations, and message content.
- * - Handles standard PO file constructs and extends support for ICU plural patterns.
+ * - Handles standard PO file constructs, including ICU plural messages of any shape.
  * - Maintains internal state to associate related lines in the file.
  *
  * Usage of this class involves passing the path of the `.po` file to the {@code parse()} method,
@@ -104,24 +105,6 @@ public class PoFileParser {
      */
     private static final Pattern CONTINUATION_PATTERN = Pattern.compile("^\"(.*)\"$");
     
-    /**
-     * Compiled regular expression pattern used to match ICU MessageFormat plural patterns.
-     *
-     * This pattern identifies strings containing plural formatting in ICU syntax, specifically
-     * patterns with "one" and "other" cases formatted as:
-     *
-     * {0, plural, one {text_for_one} other {text_for_other}}
-     *
-     * It captures the text content within the "one" and "other" cases of the plural structure
-     * as separate groups.
-     *
-     * Fields captured:
-     * - Group 1: Content inside the "one" case.
-     * - Group 2: Content inside the "other" case.
-     */
-    // ICU MessageFormat plural pattern
-    private static final Pattern ICU_PLURAL_PATTERN = Pattern.compile("\\{0,\\s*plural,\\s*one\\s*\\{([^}]*)\\}\\s*other\\s*\\{([^}]*)\\}\\}");
-
     /**
      * Parses a PO (Portable Object) file to extract translation entries and metadata.
      *
@@ -159,7 +142,7 @@ public class PoFileParser {
                     
                     if (currentMsgIdPlural != null) {
                         // This is a plural entry
-                        entries.put(currentHash, new TranslationEntry(currentMsgId, currentMsgIdPlural, currentPluralForms, sourceLocation));
+                        entries.put(currentHash, new TranslationEntry(currentMsgId, currentMsgIdPlural, new HashMap<>(currentPluralForms), sourceLocation));
                     } else {
                         // This is a regular entry
                         entries.put(currentHash, new TranslationEntry(currentMsgId, translation, sourceLocation));
@@ -193,17 +176,7 @@ public class PoFileParser {
                     inMsgStr = false;
                     inMsgId = true;
                     inPlural = false;
-                    
-                    // Check if this is an ICU plural format
-                    Matcher icuMatcher = ICU_PLURAL_PATTERN.matcher(msgId);
-                    if (icuMatcher.matches()) {
-                        // This is an ICU plural entry
-                        String oneForm = icuMatcher.group(1).trim();
-                        String otherForm = icuMatcher.group(2).trim();
-                        currentMsgId = oneForm; // Use one form as the main text
-                        currentMsgIdPlural = otherForm;
-                        inPlural = true;
-                    }
+                    // An ICU plural msgid is a regular entry: its msgstr is the translated ICU string
                 }
 
             } else if (line.startsWith("msgid_plural ")) {
@@ -226,18 +199,6 @@ public class PoFileParser {
                     inMsgId = false;
                     inPlural = false;
                     currentMsgId = currentMsgIdBuilder.toString();
-                    
-                    // If this is a plural entry and the msgstr is also in ICU format, parse it
-                    if (inPlural && currentMsgIdPlural != null) {
-                        Matcher icuMatcher = ICU_PLURAL_PATTERN.matcher(msgStr);
-                        if (icuMatcher.matches()) {
-                            // Parse the ICU plural translation
-                            String oneTranslation = icuMatcher.group(1).trim();
-                            String otherTranslation = icuMatcher.group(2).trim();
-                            currentPluralForms.put(0, oneTranslation);
-                            currentPluralForms.put(1, otherTranslation);
-                        }
-                    }
                 }
 
             } else if (line.matches("^msgstr\\[\\d+\\]\\s+\".*\"$")) {
@@ -274,7 +235,7 @@ public class PoFileParser {
             
             if (currentMsgIdPlural != null) {
                 // This is a plural entry
-                entries.put(currentHash, new TranslationEntry(currentMsgId, currentMsgIdPlural, currentPluralForms, sourceLocation));
+                entries.put(currentHash, new TranslationEntry(currentMsgId, currentMsgIdPlural, new HashMap<>(currentPluralForms), sourceLocation));
             } else {
                 // This is a regular entry
                 entries.put(currentHash, new TranslationEntry(currentMsgId, translation, sourceLocation));
@@ -5,6 +5,7 @@ import io.github.unattendedflight.fluent.i18n.extractor.ExtractionResult;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -69,7 +70,8 @@ public class TranslationCompiler {
      * Compiles the available PO files into specified runtime formats for the supported locales.
      * It processes each locale specified in the configuration, parses the respective PO files,
      * and generates output files in the configured formats. Translation statistics and details about
-     * missing files or processed locales are collected during the compilation.
+     * missing files or processed locales are collected during the compilation. All locales are
+     * parsed before any file is written, so writers can share data across locales.
      *
      * @return a {@link CompilationResult} containing details about the processed locales, generated files,
      *         translation statistics, and any missing PO files. This result provides a comprehensive
@@ -78,28 +80,30 @@ public class TranslationCompiler {
      */
     public CompilationResult compile() throws IOException {
         CompilationResult.Builder resultBuilder = CompilationResult.builder();
+        Map<String, TranslationData> dataByLocale = new LinkedHashMap<>();
         
         for (String locale : config.getSupportedLocales()) {
             Path poFile = config.getPoDirectory().resolve("messages_" + locale + ".po");
             
             if (Files.exists(poFile)) {
                 TranslationData data = poParser.parse(poFile);
+                dataByLocale.put(locale, data);
                 
                 // Add translation statistics
                 resultBuilder.addTranslationStats(locale, data);
-                
-                for (OutputFormat format : config.getOutputFormats()) {
-                    OutputWriter writer = writers.get(format);
-                    Path outputFile = writer.write(data, locale, config.getOutputDirectory());
-                    resultBuilder.addGeneratedFile(locale, format, outputFile);
-                }
-                
-                resultBuilder.addProcessedLocale(locale, data.getEntryCount());
             } else {
                 resultBuilder.addMissingPoFile(locale, poFile);
             }
         }
         
+        for (OutputFormat format : config.getOutputFormats()) {
+            OutputWriter writer = writers.get(format);
+            Map<String, Path> outputFiles = writer.writeAll(dataByLocale, config.getOutputDirectory());
+            outputFiles.forEach((locale, outputFile) -> resultBuilder.addGeneratedFile(locale, format, outputFile));
+        }
+        
+        dataByLocale.forEach((locale, data) -> resultBuilder.addProcessedLocale(locale, data.getEntryCount()));
+        
         return resultBuilder.build();
     }
     
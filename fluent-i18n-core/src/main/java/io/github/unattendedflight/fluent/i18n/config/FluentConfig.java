@@ -1,5 +1,7 @@
 package io.github.unattendedflight.fluent.i18n.config;
 
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -19,7 +21,7 @@ public class FluentConfig {
     
     /**
      * Set of supported locales for the application.
-     * Default includes English.
+     * Default includes English. Held unmodifiable so it can be handed out without copying.
      */
     private Set<Locale> supportedLocales = Set.of(Locale.ENGLISH);
     
@@ -77,6 +79,73 @@ public class FluentConfig {
      */
     private boolean logMissingTranslations = false;
     
+    /**
+     * Maximum number of natural texts whose hashes are cached by {@code I18n}.
+     * Default is 10000.
+     */
+    private int hashCacheSize = 10_000;
+    
+    /**
+     * Maximum number of compiled message templates cached by {@code MessageFormatter},
+     * counting each template once per locale it is formatted for.
+     * Default is 4096.
+     */
+    private int formatCacheSize = 4_096;
+    
+    /**
+     * Algorithm deriving message hashes from natural text.
+     * Default is SHA256.
+     */
+    private HashAlgorithm hashAlgorithm = HashAlgorithm.SHA256;
+    
+    /**
+     * How message identities are keyed in loaded catalogs.
+     * Default is STRING (the hash strings produced by the hash generator).
+     */
+    private KeyMode keyMode = KeyMode.STRING;
+    
+    /**
+     * What lookups do while the catalog of their locale is still loading.
+     * Default is WAIT.
+     */
+    private CatalogLoading catalogLoading = CatalogLoading.WAIT;
+    
+    /**
+     * How heap catalogs store their translations.
+     * Default is STRINGS.
+     */
+    private CatalogStorage catalogStorage = CatalogStorage.STRINGS;
+    
+    /**
+     * Number of decoded translations each arena catalog keeps; 0 disables the cache.
+     * Default is 256.
+     */
+    private int arenaCacheSize = 256;
+    
+    /**
+     * Which formatted messages are memoized by their arguments.
+     * Default is OFF.
+     */
+    private FormatMemoMode formatMemoMode = FormatMemoMode.OFF;
+    
+    /**
+     * Maximum number of formatted messages memoized when {@link #formatMemoMode} is not OFF.
+     * Default is 4096.
+     */
+    private int formatMemoSize = 4_096;
+    
+    /**
+     * Whether integrations preload catalogs at startup.
+     * Default is true.
+     */
+    private boolean enableWarmUp = true;
+    
+    /**
+     * Locales preloaded at startup; empty means all supported locales.
+     * Default is empty.
+     */
+    private Set<Locale> warmUpLocales = Set.of();
+    
     /**
      * Custom configuration properties.
      */
@@ -107,6 +176,80 @@ public class FluentConfig {
         PROPERTIES
     }
     
+    /**
+     * Representations of message identity inside loaded catalogs.
+     */
+    public enum KeyMode {
+        /**
+         * Key catalogs by the hash strings produced by the hash generator.
+         */
+        STRING,
+        
+        /**
+         * Key catalogs by the first 64 bits of the message hash, stored as primitive {@code long}
+         * values in open-addressing tables. Saves memory and avoids String comparisons on lookup.
+         */
+        LONG
+    }
+    
+    /**
+     * Behaviors of lookups that hit a locale whose catalog is still being loaded.
+     */
+    public enum CatalogLoading {
+        /**
+         * Load the catalog on the first requesting thread; concurrent requests wait for that load.
+         */
+        WAIT,
+        
+        /**
+         * Load the catalog in the background; requests made until it is ready are served
+         * from the locales of the fallback chain that are already loaded, or the natural text.
+         */
+        FALLBACK
+    }
+    
+    /**
+     * Selections of the formatted messages that are memoized, keyed by message hash, locale
+     * and argument values. Only calls whose arguments are all of immutable value types
+     * (strings, boxed primitives, {@code BigDecimal}, {@code BigInteger}, enums, {@code java.time}
+     * values and the like) are memoized.
+     */
+    public enum FormatMemoMode {
+        /**
+         * Format every call.
+         */
+        OFF,
+        
+        /**
+         * Memoize only the messages of keys opted in with {@code MessageKey.memoized()}.
+         */
+        KEYS,
+        
+        /**
+         * Memoize opted-in keys and every other message until it proves to be formatted with
+         * too many distinct argument sets for the memo to help.
+         */
+        AUTO
+    }
+    
+    /**
+     * Representations of translations in catalogs that are decoded onto the heap.
+     * Memory-mapped binary catalogs are always read in place.
+     */
+    public enum CatalogStorage {
+        /**
+         * Keep every translation as a {@link String}. Fastest lookups, largest heap.
+         */
+        STRINGS,
+        
+        /**
+         * Keep all keys and translations of a locale in one contiguous byte array, Latin-1
+         * where possible and UTF-8 otherwise, and create Strings only on lookup. Uses a
+         * fraction of the heap of {@link #STRINGS}; recently decoded translations are cached.
+         */
+        ARENA
+    }
+    
     /**
      * Creates a new FluentConfig with default settings.
      */
@@ -141,7 +284,7 @@ public class FluentConfig {
      * @return this config for method chaining
      */
     public FluentConfig supportedLocales(Set<Locale> locales) {
-        this.supportedLocales = new HashSet<>(locales);
+        this.supportedLocales = Collections.unmodifiableSet(new LinkedHashSet<>(locales));
         return this;
     }
     
@@ -152,11 +295,11 @@ public class FluentConfig {
      * @return this config for method chaining
      */
     public FluentConfig supportedLocales(String... localeStrings) {
-        Set<Locale> locales = new HashSet<>();
+        Set<Locale> locales = new LinkedHashSet<>();
         for (String localeStr : localeStrings) {
             locales.add(Locale.forLanguageTag(localeStr));
         }
-        this.supportedLocales = locales;
+        this.supportedLocales = Collections.unmodifiableSet(locales);
         return this;
     }
     
@@ -281,6 +424,204 @@ public class FluentConfig {
         return this;
     }
     
+    /**
+     * Sets the maximum number of natural texts whose hashes are cached.
+     * Texts beyond this bound are evicted by frequency of use and rehashed when needed again.
+     *
+     * @param hashCacheSize the maximum number of cached hashes, at least 1
+     * @return this config for method chaining
+     */
+    public FluentConfig hashCacheSize(int hashCacheSize) {
+        if (hashCacheSize < 1) {
+            throw new IllegalArgumentException("Hash cache size must be at least 1: " + hashCacheSize);
+        }
+        this.hashCacheSize = hashCacheSize;
+        return this;
+    }
+    
+    /**
+     * Sets the maximum number of compiled message templates that are cached.
+     * Templates beyond this bound are evicted by frequency of use and parsed again when needed.
+     *
+     * @param formatCacheSize the maximum number of cached templates, at least 1
+     * @return this config for method chaining
+     */
+    public FluentConfig formatCacheSize(int formatCacheSize) {
+        if (formatCacheSize < 1) {
+            throw new IllegalArgumentException("Format cache size must be at least 1: " + formatCacheSize);
+        }
+        this.formatCacheSize = formatCacheSize;
+        return this;
+    }
+    
+    /**
+     * Sets the algorithm deriving message hashes from natural text.
+     * Extraction, compilation and runtime must agree on it.
+     *
+     * @param hashAlgorithm the hash algorithm
+     * @return this config for method chaining
+     */
+    public FluentConfig hashAlgorithm(HashAlgorithm hashAlgorithm) {
+        this.hashAlgorithm = hashAlgorithm;
+        return this;
+    }
+    
+    /**
+     * Sets the hash algorithm from a string.
+     *
+     * @param hashAlgorithm the hash algorithm string (e.g., "sha256", "murmur3")
+     * @return this config for method chaining
+     */
+    public FluentConfig hashAlgorithm(String hashAlgorithm) {
+        this.hashAlgorithm = HashAlgorithm.fromString(hashAlgorithm);
+        return this;
+    }
+    
+    /**
+     * Sets how message identities are keyed in loaded catalogs.
+     *
+     * @param keyMode the key mode
+     * @return this config for method chaining
+     */
+    public FluentConfig keyMode(KeyMode keyMode) {
+        this.keyMode = keyMode;
+        return this;
+    }
+    
+    /**
+     * Sets the key mode from a string.
+     *
+     * @param keyMode the key mode string (e.g., "string", "long")
+     * @return this config for method chaining
+     */
+    public FluentConfig keyMode(String keyMode) {
+        this.keyMode = KeyMode.valueOf(keyMode.toUpperCase());
+        return this;
+    }
+    
+    /**
+     * Sets what lookups do while the catalog of their locale is still loading.
+     *
+     * @param catalogLoading the catalog loading behavior
+     * @return this config for method chaining
+     */
+    public FluentConfig catalogLoading(CatalogLoading catalogLoading) {
+        this.catalogLoading = catalogLoading;
+        return this;
+    }
+    
+    /**
+     * Sets the catalog loading behavior from a string.
+     *
+     * @param catalogLoading the catalog loading string (e.g., "wait", "fallback")
+     * @return this config for method chaining
+     */
+    public FluentConfig catalogLoading(String catalogLoading) {
+        this.catalogLoading = CatalogLoading.valueOf(catalogLoading.toUpperCase());
+        return this;
+    }
+    
+    /**
+     * Sets how heap catalogs store their translations.
+     *
+     * @param catalogStorage the catalog storage
+     * @return this config for method chaining
+     */
+    public FluentConfig catalogStorage(CatalogStorage catalogStorage) {
+        this.catalogStorage = catalogStorage;
+        return this;
+    }
+    
+    /**
+     * Sets the catalog storage from a string.
+     *
+     * @param catalogStorage the catalog storage string (e.g., "strings", "arena")
+     * @return this config for method chaining
+     */
+    public FluentConfig catalogStorage(String catalogStorage) {
+        this.catalogStorage = CatalogStorage.valueOf(catalogStorage.toUpperCase());
+        return this;
+    }
+    
+    /**
+     * Sets how many decoded translations each arena catalog keeps.
+     *
+     * @param arenaCacheSize the number of cached translations per locale, 0 to disable the cache
+     * @return this config for method chaining
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public FluentConfig arenaCacheSize(int arenaCacheSize) {
+        if (arenaCacheSize < 0) {
+            throw new IllegalArgumentException("Arena cache size must not be negative: " + arenaCacheSize);
+        }
+        this.arenaCacheSize = arenaCacheSize;
+        return this;
+    }
+    
+    /**
+     * Sets which formatted messages are memoized.
+     *
+     * @param formatMemoMode the memo mode
+     * @return this config for method chaining
+     */
+    public FluentConfig formatMemoMode(FormatMemoMode formatMemoMode) {
+        this.formatMemoMode = formatMemoMode;
+        return this;
+    }
+    
+    /**
+     * Sets which formatted messages are memoized from a string.
+     *
+     * @param formatMemoMode the memo mode string (e.g., "off", "keys", "auto")
+     * @return this config for method chaining
+     */
+    public FluentConfig formatMemoMode(String formatMemoMode) {
+        this.formatMemoMode = FormatMemoMode.valueOf(formatMemoMode.toUpperCase());
+        return this;
+    }
+    
+    /**
+     * Sets the maximum number of formatted messages that are memoized.
+     * Messages beyond this bound are evicted by frequency of use and formatted again when needed.
+     *
+     * @param formatMemoSize the maximum number of memoized messages, at least 1
+     * @return this config for method chaining
+     */
+    public FluentConfig formatMemoSize(int formatMemoSize) {
+        if (formatMemoSize < 1) {
+            throw new IllegalArgumentException("Format memo size must be at least 1: " + formatMemoSize);
+        }
+        this.formatMemoSize = formatMemoSize;
+        return this;
+    }
+    
+    /**
+     * Sets whether integrations preload catalogs at startup.
+     *
+     * @param enableWarmUp whether to warm up catalogs
+     * @return this config for method chaining
+     */
+    public FluentConfig enableWarmUp(boolean enableWarmUp) {
+        this.enableWarmUp = enableWarmUp;
+        return this;
+    }
+    
+    /**
+     * Sets the locales preloaded at startup from locale strings.
+     * An empty list warms up all supported locales.
+     *
+     * @param localeStrings the locale strings (e.g., "en", "fr", "de")
+     * @return this config for method chaining
+     */
+    public FluentConfig warmUpLocales(String... localeStrings) {
+        Set<Locale> locales = new HashSet<>();
+        for (String localeStr : localeStrings) {
+            locales.add(Locale.forLanguageTag(localeStr));
+        }
+        this.warmUpLocales = locales;
+        return this;
+    }
+    
     /**
      * Sets a custom property.
      *
@@ -296,7 +637,7 @@ public class FluentConfig {
     // Getters
     
     public String getBasePath() { return basePath; }
-    public Set<Locale> getSupportedLocales() { return new HashSet<>(supportedLocales); }
+    public Set<Locale> getSupportedLocales() { return supportedLocales; }
     public Locale getDefaultLocale() { return defaultLocale; }
     public Charset getEncoding() { return encoding; }
     public MessageSourceType getMessageSourceType() { return messageSourceType; }
@@ -306,6 +647,17 @@ public class FluentConfig {
     public long getAutoReloadIntervalSeconds() { return autoReloadIntervalSeconds; }
     public boolean isEnableFallback() { return enableFallback; }
     public boolean isLogMissingTranslations() { return logMissingTranslations; }
+    public int getHashCacheSize() { return hashCacheSize; }
+    public int getFormatCacheSize() { return formatCacheSize; }
+    public HashAlgorithm getHashAlgorithm() { return hashAlgorithm; }
+    public KeyMode getKeyMode() { return keyMode; }
+    public CatalogLoading getCatalogLoading() { return catalogLoading; }
+    public CatalogStorage getCatalogStorage() { return catalogStorage; }
+    public int getArenaCacheSize() { return arenaCacheSize; }
+    public FormatMemoMode getFormatMemoMode() { return formatMemoMode; }
+    public int getFormatMemoSize() { return formatMemoSize; }
+    public boolean isEnableWarmUp() { return enableWarmUp; }
+    public Set<Locale> getWarmUpLocales() { return new HashSet<>(warmUpLocales); }
     public Map<String, Object> getCustomProperties() { return new HashMap<>(customProperties); }
     
     /**
@@ -329,7 +681,7 @@ public class FluentConfig {
      */
     public FluentConfig copy() {
         FluentConfig copy = new FluentConfig(basePath);
-        copy.supportedLocales = new HashSet<>(supportedLocales);
+        copy.supportedLocales = supportedLocales;
         copy.defaultLocale = defaultLocale;
         copy.encoding = encoding;
         copy.messageSourceType = messageSourceType;
@@ -339,6 +691,17 @@ public class FluentConfig {
         copy.autoReloadIntervalSeconds = autoReloadIntervalSeconds;
         copy.enableFallback = enableFallback;
         copy.logMissingTranslations = logMissingTranslations;
+        copy.hashCacheSize = hashCacheSize;
+        copy.formatCacheSize = formatCacheSize;
+        copy.hashAlgorithm = hashAlgorithm;
+        copy.keyMode = keyMode;
+        copy.catalogLoading = catalogLoading;
+        copy.catalogStorage = catalogStorage;
+        copy.arenaCacheSize = arenaCacheSize;
+        copy.formatMemoMode = formatMemoMode;
+        copy.formatMemoSize = formatMemoSize;
+        copy.enableWarmUp = enableWarmUp;
+        copy.warmUpLocales = new HashSet<>(warmUpLocales);
         copy.customProperties.putAll(customProperties);
         return copy;
     }
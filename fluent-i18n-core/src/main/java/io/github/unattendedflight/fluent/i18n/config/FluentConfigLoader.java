@@ -170,6 +170,21 @@ public class FluentConfigLoader {
             if (cachingNode.has("timeoutSeconds")) {
                 config.cacheTimeoutSeconds(cachingNode.get("timeoutSeconds").asLong());
             }
+            if (cachingNode.has("hashCacheSize")) {
+                config.hashCacheSize(cachingNode.get("hashCacheSize").asInt());
+            }
+            if (cachingNode.has("formatCacheSize")) {
+                config.formatCacheSize(cachingNode.get("formatCacheSize").asInt());
+            }
+            if (cachingNode.has("arenaCacheSize")) {
+                config.arenaCacheSize(cachingNode.get("arenaCacheSize").asInt());
+            }
+            if (cachingNode.has("formatMemoMode")) {
+                config.formatMemoMode(cachingNode.get("formatMemoMode").asText());
+            }
+            if (cachingNode.has("formatMemoSize")) {
+                config.formatMemoSize(cachingNode.get("formatMemoSize").asInt());
+            }
         }
         
         if (root.has("autoReload")) {
@@ -182,6 +197,20 @@ public class FluentConfigLoader {
             }
         }
         
+        if (root.has("warmUp")) {
+            JsonNode warmUpNode = root.get("warmUp");
+            if (warmUpNode.has("enabled")) {
+                config.enableWarmUp(warmUpNode.get("enabled").asBoolean());
+            }
+            if (warmUpNode.has("locales") && warmUpNode.get("locales").isArray()) {
+                List<String> localeStrings = new ArrayList<>();
+                for (JsonNode localeNode : warmUpNode.get("locales")) {
+                    localeStrings.add(localeNode.asText());
+                }
+                config.warmUpLocales(localeStrings.toArray(new String[0]));
+            }
+        }
+        
         if (root.has("fallback")) {
             config.enableFallback(root.get("fallback").asBoolean());
         }
@@ -190,6 +219,22 @@ public class FluentConfigLoader {
             config.logMissingTranslations(root.get("logMissingTranslations").asBoolean());
         }
         
+        if (root.has("hashAlgorithm")) {
+            config.hashAlgorithm(root.get("hashAlgorithm").asText());
+        }
+        
+        if (root.has("keyMode")) {
+            config.keyMode(root.get("keyMode").asText());
+        }
+        
+        if (root.has("catalogLoading")) {
+            config.catalogLoading(root.get("catalogLoading").asText());
+        }
+        
+        if (root.has("catalogStorage")) {
+            config.catalogStorage(root.get("catalogStorage").asText());
+        }
+        
         return config;
     }
     
@@ -213,6 +258,11 @@ public class FluentConfigLoader {
         Map<String, Object> cachingMap = new HashMap<>();
         cachingMap.put("enabled", config.isEnableCaching());
         cachingMap.put("timeoutSeconds", config.getCacheTimeoutSeconds());
+        cachingMap.put("hashCacheSize", config.getHashCacheSize());
+        cachingMap.put("formatCacheSize", config.getFormatCacheSize());
+        cachingMap.put("arenaCacheSize", config.getArenaCacheSize());
+        cachingMap.put("formatMemoMode", config.getFormatMemoMode().name().toLowerCase());
+        cachingMap.put("formatMemoSize", config.getFormatMemoSize());
         configMap.put("caching", cachingMap);
         
         Map<String, Object> autoReloadMap = new HashMap<>();
@@ -220,8 +270,19 @@ public class FluentConfigLoader {
         autoReloadMap.put("intervalSeconds", config.getAutoReloadIntervalSeconds());
         configMap.put("autoReload", autoReloadMap);
         
+        Map<String, Object> warmUpMap = new HashMap<>();
+        warmUpMap.put("enabled", config.isEnableWarmUp());
+        warmUpMap.put("locales", config.getWarmUpLocales().stream()
+            .map(Locale::toLanguageTag)
+            .toList());
+        configMap.put("warmUp", warmUpMap);
+        
         configMap.put("fallback", config.isEnableFallback());
         configMap.put("logMissingTranslations", config.isLogMissingTranslations());
+        configMap.put("hashAlgorithm", config.getHashAlgorithm().name().toLowerCase());
+        configMap.put("keyMode", config.getKeyMode().name().toLowerCase());
+        configMap.put("catalogLoading", config.getCatalogLoading().name().toLowerCase());
+        configMap.put("catalogStorage", config.getCatalogStorage().name().toLowerCase());
         
         yamlMapper.writeValue(filePath.toFile(), configMap);
     }
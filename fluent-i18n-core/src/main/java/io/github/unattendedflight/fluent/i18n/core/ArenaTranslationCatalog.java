@@ -0,0 +1,403 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link TranslationCatalog} that keeps all keys and translations of a locale in one
+ * contiguous {@code byte[]} arena and creates a {@link String} only when a translation is
+ * looked up.
+ *
+ * Entry {@code i} occupies {@code arena[offsets[2i], offsets[2i+1])} for its key and
+ * {@code arena[offsets[2i+1], offsets[2i+2])} for its translation. Translations whose
+ * characters all fit into Latin-1 are stored with one byte per character, so decoding them
+ * is a plain copy into a compact String; the others are stored as UTF-8 and marked in a
+ * bitset. String keys are stored as UTF-8 and found through an open-addressing table of
+ * entry indexes probed with the key's cached {@code hashCode()}, so a lookup neither
+ * allocates nor encodes the key. Long-keyed catalogs store no key bytes and probe the
+ * {@link HashKeys} value instead.
+ *
+ * Compared with a map of Strings this saves the entry, String and array headers of every
+ * key and translation, which for short UI messages is most of the footprint, at the cost of
+ * decoding on each lookup. A small direct-mapped cache of recently decoded translations
+ * keeps hot messages from being decoded again; it is filled racily with immutable holders,
+ * so concurrent readers at worst decode the same translation twice.
+ *
+ * Catalogs are assembled by a {@link Builder} and immutable afterwards.
+ */
+final class ArenaTranslationCatalog implements TranslationCatalog {
+    private static final long FIBONACCI_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int MIN_CAPACITY = 16;
+
+    private final byte[] arena;
+    private final int[] offsets;
+    private final long[] keys;
+    private final long[] utf8;
+    private final int[] table;
+    private final int shift;
+    private final int size;
+    private final boolean longKeys;
+    private final Decoded[] cache;
+
+    private ArenaTranslationCatalog(byte[] arena, int[] offsets, long[] keys, long[] utf8, int size,
+                                    boolean longKeys, int cacheSize) {
+        this.arena = arena;
+        this.offsets = offsets;
+        this.keys = keys;
+        this.utf8 = utf8;
+        this.size = size;
+        this.longKeys = longKeys;
+        this.table = new int[capacityFor(size)];
+        this.shift = Long.numberOfLeadingZeros(table.length - 1);
+        int cacheCapacity = Math.min(cacheSize, size);
+        this.cache = cacheCapacity > 0 ? new Decoded[Math.max(1, Integer.highestOneBit(cacheCapacity - 1) << 1)] : null;
+        int mask = table.length - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int index = indexOf(keys[entry], shift);
+            while (table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            table[index] = entry + 1;
+        }
+    }
+
+    @Override
+    public String get(String hash) {
+        int entry = find(hash);
+        return entry < 0 ? null : translation(entry);
+    }
+
+    @Override
+    public boolean contains(String hash) {
+        return find(hash) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean hasLongKeys() {
+        return longKeys;
+    }
+
+    @Override
+    public void forEach(EntryVisitor visitor) {
+        for (int entry = 0; entry < size; entry++) {
+            String translation = decode(entry);
+            if (longKeys) {
+                visitor.visit(keys[entry], translation);
+            } else {
+                int start = offsets[entry << 1];
+                visitor.visit(new String(arena, start, offsets[(entry << 1) + 1] - start, StandardCharsets.UTF_8), translation);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes the arena holds, for diagnostics.
+     *
+     * @return the arena length in bytes
+     */
+    int arenaBytes() {
+        return arena.length;
+    }
+
+    private int find(String hash) {
+        if (longKeys) {
+            return findEntry(HashKeys.toLong(hash));
+        }
+        int mask = table.length - 1;
+        int hashCode = hash.hashCode();
+        int index = indexOf(hashCode, shift);
+        int slot;
+        while ((slot = table[index]) != 0) {
+            int entry = slot - 1;
+            if (keys[entry] == hashCode && keyEquals(arena, offsets, entry, hash)) {
+                return entry;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findEntry(long key) {
+        int mask = table.length - 1;
+        int index = indexOf(key, shift);
+        int slot;
+        while ((slot = table[index]) != 0) {
+            if (keys[slot - 1] == key) {
+                return slot - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private String translation(int entry) {
+        if (cache == null) {
+            return decode(entry);
+        }
+        int index = entry & (cache.length - 1);
+        Decoded decoded = cache[index];
+        if (decoded != null && decoded.entry == entry) {
+            return decoded.translation;
+        }
+        String translation = decode(entry);
+        cache[index] = new Decoded(entry, translation);
+        return translation;
+    }
+
+    private String decode(int entry) {
+        int start = offsets[(entry << 1) + 1];
+        int length = offsets[(entry << 1) + 2] - start;
+        boolean encoded = (utf8[entry >>> 6] & (1L << entry)) != 0;
+        return new String(arena, start, length, encoded ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Compares the UTF-8 key bytes of an entry with a key. ASCII keys, which every hash
+     * algorithm produces, are compared character by character without encoding them.
+     */
+    private static boolean keyEquals(byte[] arena, int[] offsets, int entry, String key) {
+        int start = offsets[entry << 1];
+        int byteLength = offsets[(entry << 1) + 1] - start;
+        int length = key.length();
+        if (byteLength == length) {
+            for (int i = 0; i < length; i++) {
+                char c = key.charAt(i);
+                if (c >= 0x80) {
+                    return utf8Equals(arena, start, byteLength, key);
+                }
+                if (arena[start + i] != c) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // UTF-8 never takes fewer bytes than the key has chars
+        return byteLength > length && utf8Equals(arena, start, byteLength, key);
+    }
+
+    private static boolean utf8Equals(byte[] arena, int start, int byteLength, String key) {
+        byte[] encoded = key.getBytes(StandardCharsets.UTF_8);
+        return Arrays.equals(arena, start, start + byteLength, encoded, 0, encoded.length);
+    }
+
+    private static int indexOf(long key, int shift) {
+        return (int) ((key * FIBONACCI_MULTIPLIER) >>> shift);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * A decoded translation together with the entry it was decoded from.
+     */
+    private record Decoded(int entry, String translation) {}
+
+    /**
+     * Appends entries to a growing arena while a catalog is loaded. A key that is added again
+     * replaces the earlier translation; the bytes of replaced entries are dropped when the
+     * catalog is built.
+     */
+    static final class Builder implements CatalogBuilder {
+        private final boolean longKeys;
+        private final int cacheSize;
+        private byte[] arena;
+        private int[] offsets;
+        private long[] keys;
+        private long[] utf8;
+        private long[] replaced;
+        private int[] table;
+        private int shift;
+        private int entries;
+        private int live;
+        private int position;
+
+        /**
+         * Creates a builder sized for the expected number of entries.
+         *
+         * @param longKeys whether the catalog is keyed by {@link HashKeys} values
+         * @param expectedSize the number of entries expected
+         * @param cacheSize the number of decoded translations the catalog keeps, 0 for none
+         */
+        Builder(boolean longKeys, int expectedSize, int cacheSize) {
+            this.longKeys = longKeys;
+            this.cacheSize = cacheSize;
+            int capacity = Math.max(expectedSize, 8);
+            this.arena = new byte[capacity * 32];
+            this.offsets = new int[capacity * 2 + 1];
+            this.keys = new long[capacity];
+            this.utf8 = new long[(capacity + 63) >>> 6];
+            this.replaced = new long[utf8.length];
+            allocateTable(capacityFor(capacity));
+        }
+
+        @Override
+        public void put(String hash, String translation) {
+            if (longKeys) {
+                put(HashKeys.toLong(hash), translation);
+                return;
+            }
+            int hashCode = hash.hashCode();
+            int entry = append(hashCode);
+            writeUtf8(hash);
+            offsets[(entry << 1) + 1] = position;
+            writeTranslation(entry, translation);
+            index(entry, hash);
+        }
+
+        @Override
+        public void put(long key, String translation) {
+            if (!longKeys) {
+                throw new IllegalStateException("Long-keyed entry in a string-keyed catalog");
+            }
+            int entry = append(key);
+            offsets[(entry << 1) + 1] = position;
+            writeTranslation(entry, translation);
+            index(entry, null);
+        }
+
+        @Override
+        public TranslationCatalog build() {
+            if (live == entries) {
+                return new ArenaTranslationCatalog(Arrays.copyOf(arena, position), Arrays.copyOf(offsets, entries * 2 + 1),
+                    Arrays.copyOf(keys, entries), Arrays.copyOf(utf8, (entries + 63) >>> 6), entries, longKeys, cacheSize);
+            }
+
+            // Drop the entries that were replaced by later ones
+            int liveBytes = 0;
+            for (int entry = 0; entry < entries; entry++) {
+                if (!isSet(replaced, entry)) {
+                    liveBytes += offsets[(entry << 1) + 2] - offsets[entry << 1];
+                }
+            }
+            byte[] compactArena = new byte[liveBytes];
+            int[] compactOffsets = new int[live * 2 + 1];
+            long[] compactKeys = new long[live];
+            long[] compactUtf8 = new long[(live + 63) >>> 6];
+            int target = 0;
+            int targetPosition = 0;
+            for (int entry = 0; entry < entries; entry++) {
+                if (isSet(replaced, entry)) {
+                    continue;
+                }
+                int start = offsets[entry << 1];
+                int end = offsets[(entry << 1) + 2];
+                System.arraycopy(arena, start, compactArena, targetPosition, end - start);
+                compactOffsets[target << 1] = targetPosition;
+                compactOffsets[(target << 1) + 1] = targetPosition + offsets[(entry << 1) + 1] - start;
+                targetPosition += end - start;
+                compactKeys[target] = keys[entry];
+                if (isSet(utf8, entry)) {
+                    compactUtf8[target >>> 6] |= 1L << target;
+                }
+                target++;
+            }
+            compactOffsets[live << 1] = targetPosition;
+            return new ArenaTranslationCatalog(compactArena, compactOffsets, compactKeys, compactUtf8, live, longKeys, cacheSize);
+        }
+
+        private int append(long key) {
+            if (entries == keys.length) {
+                int capacity = keys.length * 2;
+                offsets = Arrays.copyOf(offsets, capacity * 2 + 1);
+                keys = Arrays.copyOf(keys, capacity);
+                utf8 = Arrays.copyOf(utf8, (capacity + 63) >>> 6);
+                replaced = Arrays.copyOf(replaced, utf8.length);
+            }
+            int entry = entries++;
+            keys[entry] = key;
+            offsets[entry << 1] = position;
+            return entry;
+        }
+
+        /**
+         * Adds a new entry to the table, replacing an earlier entry with the same key.
+         *
+         * @param entry the entry index
+         * @param hash the string key, or {@code null} for long-keyed catalogs
+         */
+        private void index(int entry, String hash) {
+            if ((live + 1) * 2 > table.length) {
+                rehash();
+            }
+            int mask = table.length - 1;
+            int index = indexOf(keys[entry], shift);
+            int slot;
+            while ((slot = table[index]) != 0) {
+                int existing = slot - 1;
+                if (keys[existing] == keys[entry] && (hash == null || keyEquals(arena, offsets, existing, hash))) {
+                    replaced[existing >>> 6] |= 1L << existing;
+                    table[index] = entry + 1;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = entry + 1;
+            live++;
+        }
+
+        private void rehash() {
+            int[] old = table;
+            allocateTable(old.length * 2);
+            int mask = table.length - 1;
+            for (int slot : old) {
+                if (slot != 0) {
+                    int index = indexOf(keys[slot - 1], shift);
+                    while (table[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    table[index] = slot;
+                }
+            }
+        }
+
+        private void allocateTable(int capacity) {
+            table = new int[capacity];
+            shift = Long.numberOfLeadingZeros(capacity - 1);
+        }
+
+        private void writeTranslation(int entry, String translation) {
+            int length = translation.length();
+            boolean latin1 = true;
+            for (int i = 0; i < length && latin1; i++) {
+                latin1 = translation.charAt(i) <= 0xFF;
+            }
+            if (latin1) {
+                ensureCapacity(length);
+                for (int i = 0; i < length; i++) {
+                    arena[position++] = (byte) translation.charAt(i);
+                }
+            } else {
+                writeUtf8(translation);
+                utf8[entry >>> 6] |= 1L << entry;
+            }
+            offsets[(entry << 1) + 2] = position;
+        }
+
+        private void writeUtf8(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, arena, position, encoded.length);
+            position += encoded.length;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arena.length * 2, position + additional));
+            }
+        }
+
+        private static boolean isSet(long[] bits, int index) {
+            return (bits[index >>> 6] & (1L << index)) != 0;
+        }
+    }
+}
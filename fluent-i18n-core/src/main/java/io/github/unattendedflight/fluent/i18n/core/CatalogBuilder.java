@@ -0,0 +1,55 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+
+/**
+ * Collects the entries of a catalog while it is loaded and builds the
+ * {@link TranslationCatalog} representation selected by the key mode and
+ * {@link FluentConfig.CatalogStorage}.
+ *
+ * Loaders add entries in file order straight from their parser, without an intermediate
+ * map; an entry whose key was already added replaces the earlier translation. A builder is
+ * used by one thread and discarded after {@link #build()}.
+ */
+interface CatalogBuilder {
+    /**
+     * Adds an entry keyed by hash string. Long-keyed builders convert the hash with
+     * {@link HashKeys#toLong(String)}.
+     *
+     * @param hash the message hash
+     * @param translation the translation, never {@code null}
+     */
+    void put(String hash, String translation);
+
+    /**
+     * Adds an entry keyed by long key.
+     *
+     * @param key the message key
+     * @param translation the translation, never {@code null}
+     * @throws IllegalStateException if the builder is string-keyed
+     */
+    void put(long key, String translation);
+
+    /**
+     * Builds the catalog. The builder must not be used afterwards.
+     *
+     * @return the catalog holding every added entry
+     */
+    TranslationCatalog build();
+
+    /**
+     * Creates a builder for the given key representation and storage.
+     *
+     * @param longKeys whether the catalog is keyed by {@link HashKeys} values
+     * @param storage how translations are stored
+     * @param expectedSize the number of entries expected
+     * @param arenaCacheSize the number of decoded translations an arena catalog keeps
+     * @return the builder
+     */
+    static CatalogBuilder create(boolean longKeys, FluentConfig.CatalogStorage storage, int expectedSize, int arenaCacheSize) {
+        if (storage == FluentConfig.CatalogStorage.ARENA) {
+            return new ArenaTranslationCatalog.Builder(longKeys, expectedSize, arenaCacheSize);
+        }
+        return longKeys ? LongKeyTranslationCatalog.builder(expectedSize) : MapTranslationCatalog.builder(expectedSize);
+    }
+}
@@ -0,0 +1,578 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+/**
+ * Base class of the message sources that load one {@link TranslationCatalog} per locale
+ * from resources below a base path.
+ *
+ * Besides the catalog of every locale, the source keeps an effective view per requested
+ * locale in which its whole fallback chain is already resolved. The chain follows the
+ * BCP-47 parents of the locale and then the default locale and its parents, so
+ * {@code es-MX} resolves through {@code es-MX → es → en}. The view holds only the catalogs
+ * of the chain that have entries: when only one has, the view is that catalog itself and a
+ * lookup costs a single probe; otherwise the view probes them in order, so more specific
+ * locales win and blank translations never shadow a parent. Views never copy entries, so
+ * mapped catalogs stay lazily decoded and every catalog is held once however many chains
+ * it belongs to.
+ *
+ * Views are built on first use and cached, so subclasses only decide how a locale's
+ * catalog is loaded. Catalogs and views are indexed by {@link LocaleRegistry} ID; the
+ * supported locales and their chains are registered when the source is created, and
+ * {@link #resolve(String, String, Locale, int)} looks a view up without hashing the locale.
+ * Other requested locales are never registered and get neither a catalog nor a view of
+ * their own: they share the view of their nearest registered parent, so the number of
+ * views is bounded by the configuration rather than by the locales clients ask for.
+ *
+ * Catalogs are loaded through a shared {@link CompletableFuture} per locale that is
+ * published before any I/O starts, so no map lock is held while a resource is read and
+ * parsed and every locale is loaded once. With {@link FluentConfig.CatalogLoading#WAIT}
+ * the first requesting thread performs the load and concurrent requests wait on its
+ * future; with {@link FluentConfig.CatalogLoading#FALLBACK} the load runs on a virtual
+ * thread and requests made in the meantime probe the already loaded locales of their
+ * chain one by one, without caching that interim view.
+ *
+ * {@link #warmUpAsync} loads the catalogs of whole fallback chains in parallel on a given
+ * executor and then builds their views, so live requests never pay the parse cost.
+ *
+ * Every loaded catalog hands its translations to the {@link StringPool} of its generation
+ * before it is published, so a translation that several locales share is held once. The
+ * savings are logged when a warm-up or reload completes.
+ *
+ * All catalogs and views belong to one immutable-by-publication {@link Snapshot} held in a
+ * volatile field. {@link #reload()} loads every catalog of the current snapshot again into a
+ * fresh one, rebuilds the views that were in use and then publishes it with a single volatile
+ * write, so readers never take a lock and never see a half-loaded catalog: a lookup runs
+ * entirely against either the old or the new generation. With auto-reload enabled a
+ * {@link CatalogWatcher} triggers the reload when a catalog resource changes.
+ */
+abstract class CatalogMessageSource implements NaturalTextMessageSource, AutoCloseable {
+    private static final Logger logger = Logger.getLogger(CatalogMessageSource.class.getName());
+    private static final Executor LOADER = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("fluent-i18n-loader-", 0).factory());
+
+    protected final String basePath;
+    protected final Set<Locale> supportedLocales;
+    protected final Locale defaultLocale;
+    protected final FluentConfig.KeyMode keyMode;
+    protected final HashAlgorithm hashAlgorithm;
+    private final FluentConfig.CatalogLoading catalogLoading;
+    private final FluentConfig.CatalogStorage catalogStorage;
+    private final int arenaCacheSize;
+    private final Map<Locale, Duration> loadTimes = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(0);
+    private CatalogWatcher watcher;
+
+    /**
+     * Sets up the shared state of a catalog-backed message source.
+     *
+     * @param basePath the resource directory holding the catalogs
+     * @param supportedLocales the locales the source explicitly supports
+     * @param defaultLocale the locale every fallback chain ends with
+     * @param config the configuration providing the key mode, hash algorithm, catalog loading behavior and storage
+     */
+    protected CatalogMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+        this.basePath = basePath;
+        this.supportedLocales = supportedLocales;
+        this.defaultLocale = defaultLocale;
+        this.keyMode = config.getKeyMode();
+        this.hashAlgorithm = config.getHashAlgorithm();
+        this.catalogLoading = config.getCatalogLoading();
+        this.catalogStorage = config.getCatalogStorage();
+        this.arenaCacheSize = config.getArenaCacheSize();
+        for (Locale locale : supportedLocales) {
+            fallbackChain(locale, defaultLocale).forEach(LocaleRegistry::register);
+        }
+        fallbackChain(defaultLocale, defaultLocale).forEach(LocaleRegistry::register);
+    }
+
+    /**
+     * Loads the catalog of a single locale. Implementations must not throw; a missing or
+     * unreadable resource yields {@link TranslationCatalog#EMPTY}.
+     *
+     * @param locale the locale to load
+     * @return the catalog, never {@code null}
+     */
+    protected abstract TranslationCatalog loadTranslations(Locale locale);
+
+    /**
+     * Returns the resource path of a locale's catalog, relative to the class path root.
+     *
+     * @param locale the locale
+     * @return the path below {@link #basePath} the catalog is loaded from
+     */
+    protected abstract String getResourcePath(Locale locale);
+
+    /**
+     * Locates a catalog resource. Subclasses load through this method so the
+     * {@link CatalogWatcher} observes exactly the resources that are loaded.
+     *
+     * @param resourcePath the resource path, as returned by {@link #getResourcePath(Locale)}
+     * @return the resource URL, or {@code null} if the resource does not exist
+     */
+    protected URL findResource(String resourcePath) {
+        return getClass().getClassLoader().getResource(resourcePath);
+    }
+
+    /**
+     * Creates a builder for a catalog in the configured key mode and storage.
+     *
+     * @param expectedSize the number of entries expected
+     * @return the builder
+     */
+    protected CatalogBuilder newCatalogBuilder(int expectedSize) {
+        return newCatalogBuilder(keyMode == FluentConfig.KeyMode.LONG, expectedSize);
+    }
+
+    /**
+     * Creates a builder for a catalog in the configured storage, for resources whose key
+     * representation is fixed by their format.
+     *
+     * @param longKeys whether the catalog is keyed by {@link HashKeys} values
+     * @param expectedSize the number of entries expected
+     * @return the builder
+     */
+    protected CatalogBuilder newCatalogBuilder(boolean longKeys, int expectedSize) {
+        return CatalogBuilder.create(longKeys, catalogStorage, expectedSize, arenaCacheSize);
+    }
+
+    /**
+     * Resolves a translation through the resolved fallback chain of the locale.
+     * Blank translations count as missing, in which case the natural text is returned.
+     *
+     * @param hash the message hash
+     * @param naturalText the text returned when no translation is found
+     * @param locale the requested locale
+     * @return the translation found for the hash, or a not-found result carrying the natural text
+     */
+    @Override
+    public TranslationResult resolve(String hash, String naturalText, Locale locale) {
+        return resolve(hash, naturalText, locale, LocaleRegistry.nearest(locale));
+    }
+
+    /**
+     * Resolves a translation through the view indexed by the locale's registry ID.
+     *
+     * @param hash the message hash
+     * @param naturalText the text returned when no translation is found
+     * @param locale the requested locale
+     * @param localeId the locale's {@link LocaleRegistry} ID
+     * @return the translation found for the hash, or a not-found result carrying the natural text
+     */
+    @Override
+    public TranslationResult resolve(String hash, String naturalText, Locale locale, int localeId) {
+        String translation = lookup(hash, locale, localeId);
+        return translation != null ? TranslationResult.found(translation) : TranslationResult.notFound(naturalText);
+    }
+
+    /**
+     * Looks a translation up in the view indexed by the locale's registry ID. Blank
+     * translations count as missing.
+     *
+     * @param hash the message hash
+     * @param locale the requested locale
+     * @param localeId the locale's {@link LocaleRegistry} ID
+     * @return the translation found for the hash, or {@code null}
+     */
+    @Override
+    public String lookup(String hash, Locale locale, int localeId) {
+        String translation = getView(snapshot, localeId, locale).get(hash);
+        return translation != null && !translation.isBlank() ? translation : null;
+    }
+
+    /**
+     * Checks whether the catalog of exactly this locale holds the hash; fallbacks are not consulted.
+     *
+     * @param hash the message hash
+     * @param locale the locale whose catalog is checked
+     * @return {@code true} if the locale's own catalog contains the hash
+     */
+    @Override
+    public boolean exists(String hash, Locale locale) {
+        TranslationCatalog catalog = getTranslations(locale);
+        return catalog != null && catalog.contains(hash);
+    }
+
+    @Override
+    public Iterable<Locale> getSupportedLocales() {
+        return supportedLocales;
+    }
+
+    /**
+     * Returns the catalog loaded for exactly this locale, starting its load on first use.
+     * Locales that are not registered, because no supported locale's chain contains them,
+     * have no catalog of their own. In {@link FluentConfig.CatalogLoading#WAIT} mode this
+     * blocks until the catalog is loaded.
+     *
+     * @param locale the locale
+     * @return the locale's catalog, possibly empty, or {@code null} while it is still
+     *         loading in {@link FluentConfig.CatalogLoading#FALLBACK} mode
+     */
+    protected TranslationCatalog getTranslations(Locale locale) {
+        return getTranslations(snapshot, LocaleRegistry.idOf(locale), locale);
+    }
+
+    private TranslationCatalog getTranslations(Snapshot current, int localeId, Locale locale) {
+        if (localeId == LocaleRegistry.UNREGISTERED) {
+            return TranslationCatalog.EMPTY;
+        }
+        CompletableFuture<TranslationCatalog> load = current.catalogs.get(localeId);
+        if (load == null) {
+            CompletableFuture<TranslationCatalog> created = new CompletableFuture<>();
+            load = current.catalogs.putIfAbsent(localeId, created);
+            if (load == null) {
+                load = created;
+                if (catalogLoading == FluentConfig.CatalogLoading.FALLBACK) {
+                    LOADER.execute(() -> complete(current, created, locale));
+                } else {
+                    complete(current, created, locale);
+                }
+            }
+        }
+        if (catalogLoading == FluentConfig.CatalogLoading.FALLBACK) {
+            return load.getNow(null);
+        }
+        return load.join();
+    }
+
+    /**
+     * Loads a catalog for a generation, lets it share translations with the catalogs already
+     * loaded for that generation and completes its future.
+     */
+    private void complete(Snapshot target, CompletableFuture<TranslationCatalog> load, Locale locale) {
+        long start = System.nanoTime();
+        try {
+            TranslationCatalog catalog = loadTranslations(locale);
+            catalog.shareTranslations(target.strings);
+            load.complete(catalog);
+        } catch (RuntimeException | Error e) {
+            logger.warning("Error loading catalog for locale " + locale.toLanguageTag() + ": " + e);
+            load.complete(TranslationCatalog.EMPTY);
+        } finally {
+            loadTimes.put(locale, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Loads the given locales on the shared virtual-thread loader and waits for them.
+     *
+     * @param locales the locales to preload
+     */
+    @Override
+    public void warmUp(Iterable<Locale> locales) {
+        warmUpAsync(locales, LOADER).join();
+    }
+
+    /**
+     * Loads the catalogs of the given locales and of their fallback chains in parallel, then
+     * builds their effective views. Catalogs that are already loaded or loading are reused.
+     *
+     * @param locales the locales to preload
+     * @param executor the executor running one load per catalog
+     * @return a future completing with the load time of every catalog loaded by this call
+     */
+    @Override
+    public CompletableFuture<Map<Locale, Duration>> warmUpAsync(Iterable<Locale> locales, Executor executor) {
+        Set<Locale> requested = new LinkedHashSet<>();
+        locales.forEach(requested::add);
+        Set<Locale> chainLocales = new LinkedHashSet<>();
+        for (Locale locale : requested) {
+            chainLocales.addAll(fallbackChain(locale, defaultLocale));
+        }
+
+        Snapshot current = snapshot;
+        Map<Locale, CompletableFuture<TranslationCatalog>> started = new HashMap<>();
+        List<CompletableFuture<TranslationCatalog>> loads = new ArrayList<>();
+        for (Locale locale : chainLocales) {
+            int localeId = LocaleRegistry.register(locale);
+            if (localeId == LocaleRegistry.UNREGISTERED) {
+                continue;
+            }
+            CompletableFuture<TranslationCatalog> created = new CompletableFuture<>();
+            CompletableFuture<TranslationCatalog> existing = current.catalogs.putIfAbsent(localeId, created);
+            if (existing == null) {
+                started.put(locale, created);
+                loads.add(created);
+            } else {
+                loads.add(existing);
+            }
+        }
+        started.forEach((locale, load) -> execute(executor, current, load, locale));
+
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            requested.forEach(locale -> getView(current, LocaleRegistry.register(locale), locale));
+            logSharedStrings(current, "Preloaded " + loads.size() + " translation catalogs");
+            Map<Locale, Duration> timings = new LinkedHashMap<>();
+            for (Locale locale : started.keySet()) {
+                timings.put(locale, loadTimes.get(locale));
+            }
+            return timings;
+        });
+    }
+
+    private void execute(Executor executor, Snapshot target, CompletableFuture<TranslationCatalog> load, Locale locale) {
+        try {
+            executor.execute(() -> complete(target, load, locale));
+        } catch (RejectedExecutionException e) {
+            complete(target, load, locale);
+        }
+    }
+
+    /**
+     * Logs a completed warm-up or reload together with the memory the shared translations of
+     * its generation save.
+     */
+    private static void logSharedStrings(Snapshot target, String message) {
+        long sharedCount = target.strings.getSharedCount();
+        logger.info(message + (sharedCount == 0 ? "" : "; " + sharedCount
+            + " translations shared across locales save about " + (target.strings.getSharedBytes() + 1023) / 1024 + " KB"));
+    }
+
+    /**
+     * Loads every catalog of the current generation again, in parallel, and publishes the
+     * result as the next generation once all of them are loaded and the views that were in
+     * use are rebuilt. Until then lookups keep using the current generation.
+     *
+     * A catalog that was loaded with entries but now loads empty, typically because the
+     * resource is being rewritten or failed to parse, keeps its previous contents.
+     */
+    @Override
+    public synchronized void reload() {
+        Snapshot current = snapshot;
+        Snapshot next = new Snapshot(current.generation + 1);
+        List<CompletableFuture<TranslationCatalog>> loads = new ArrayList<>();
+        current.catalogs.forEach((future, localeId) -> {
+            Locale locale = LocaleRegistry.getLocale(localeId);
+            TranslationCatalog previous = future.getNow(null);
+            CompletableFuture<TranslationCatalog> load = new CompletableFuture<>();
+            execute(LOADER, next, load, locale);
+            CompletableFuture<TranslationCatalog> kept = load.thenApply(catalog -> {
+                if (catalog.size() == 0 && previous != null && previous.size() > 0) {
+                    logger.warning("Reloaded catalog for locale " + locale.toLanguageTag() + " is empty; keeping the previous one");
+                    return previous;
+                }
+                return catalog;
+            });
+            next.catalogs.putIfAbsent(localeId, kept);
+            loads.add(kept);
+        });
+        CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).join();
+        current.views.forEach((view, localeId) -> getView(next, localeId, LocaleRegistry.getLocale(localeId)));
+
+        snapshot = next;
+        logSharedStrings(next, "Reloaded " + loads.size() + " translation catalogs (generation " + next.generation + ")");
+    }
+
+    /**
+     * Returns the generation of the published catalogs, which starts at zero and increases
+     * with every {@link #reload()}. Caches derived from translations can key on it.
+     *
+     * @return the current generation
+     */
+    @Override
+    public long getGeneration() {
+        return snapshot.generation;
+    }
+
+    /**
+     * Returns whether the view of a locale is built, which happens once every catalog of its
+     * fallback chain is loaded. In {@link FluentConfig.CatalogLoading#WAIT} mode this is the
+     * case after the first lookup.
+     *
+     * @param locale the requested locale
+     * @param localeId the locale's {@link LocaleRegistry} ID
+     * @return {@code true} if lookups for the locale are final until the next reload
+     */
+    @Override
+    public boolean isComplete(Locale locale, int localeId) {
+        return localeId != LocaleRegistry.UNREGISTERED && snapshot.views.get(localeId) != null;
+    }
+
+    /**
+     * Starts watching the catalog resources and reloads whenever one of them changes.
+     * Has no effect when the watcher is already running.
+     *
+     * @param interval how often resources that cannot be watched are checked for changes
+     */
+    synchronized void startAutoReload(Duration interval) {
+        if (watcher == null) {
+            watcher = new CatalogWatcher(this, interval);
+            watcher.start();
+        }
+    }
+
+    /**
+     * Returns the locales whose catalogs are watched for changes: every supported locale
+     * and every locale loaded so far.
+     *
+     * @return the watched locales
+     */
+    Set<Locale> getWatchedLocales() {
+        Set<Locale> locales = new LinkedHashSet<>(supportedLocales);
+        snapshot.catalogs.forEach((future, localeId) -> locales.add(LocaleRegistry.getLocale(localeId)));
+        return locales;
+    }
+
+    /**
+     * Stops the resource watcher, if auto-reload was started.
+     */
+    @Override
+    public synchronized void close() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Returns the effective view of a locale, resolving its fallback chain on first use.
+     * The view is built outside of any map lock and cached only once every catalog of the
+     * chain is loaded. Views are kept per registered locale only; other locales share the
+     * view of their nearest registered parent.
+     *
+     * @param locale the requested locale
+     * @return a catalog that resolves every key of the chain
+     */
+    protected TranslationCatalog getView(Locale locale) {
+        return getView(snapshot, LocaleRegistry.nearest(locale), locale);
+    }
+
+    /**
+     * Returns the view of the registered locale with the given ID, built from that locale's
+     * chain; the requested locale is only consulted when the ID is {@link LocaleRegistry#UNREGISTERED}.
+     */
+    private TranslationCatalog getView(Snapshot current, int localeId, Locale locale) {
+        if (localeId == LocaleRegistry.UNREGISTERED) {
+            return getNearestRegisteredView(current, locale);
+        }
+        TranslationCatalog view = current.views.get(localeId);
+        if (view != null) {
+            return view;
+        }
+
+        List<TranslationCatalog> chain = new ArrayList<>();
+        boolean complete = true;
+        for (Locale candidate : fallbackChain(LocaleRegistry.getLocale(localeId), defaultLocale)) {
+            TranslationCatalog catalog = getTranslations(current, LocaleRegistry.register(candidate), candidate);
+            if (catalog == null) {
+                complete = false;
+            } else if (catalog.size() > 0) {
+                chain.add(catalog);
+            }
+        }
+        view = chain.isEmpty() ? TranslationCatalog.EMPTY : chain.size() == 1 ? chain.get(0) : new ChainCatalog(chain);
+        if (!complete) {
+            return view;
+        }
+        TranslationCatalog raced = current.views.putIfAbsent(localeId, view);
+        return raced != null ? raced : view;
+    }
+
+    /**
+     * Returns the view of the most specific registered locale of a chain, for requested
+     * locales that are not registered.
+     */
+    private TranslationCatalog getNearestRegisteredView(Snapshot current, Locale locale) {
+        for (Locale candidate : fallbackChain(locale, defaultLocale)) {
+            int candidateId = LocaleRegistry.idOf(candidate);
+            if (candidateId != LocaleRegistry.UNREGISTERED) {
+                return getView(current, candidateId, candidate);
+            }
+        }
+        return TranslationCatalog.EMPTY;
+    }
+
+    /**
+     * One generation of catalogs, of the views built from them and of the pool their
+     * translations share.
+     */
+    private static final class Snapshot {
+        private final long generation;
+        private final LocaleTable<CompletableFuture<TranslationCatalog>> catalogs = new LocaleTable<>();
+        private final LocaleTable<TranslationCatalog> views = new LocaleTable<>();
+        private final StringPool strings = new StringPool();
+
+        Snapshot(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * View over the non-empty catalogs of a chain, given from most to least specific;
+     * probes each catalog in turn and skips blank translations. Also serves as the interim
+     * view of a chain whose other catalogs are still loading.
+     */
+    private static final class ChainCatalog implements TranslationCatalog {
+        private final List<TranslationCatalog> chain;
+
+        ChainCatalog(List<TranslationCatalog> chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public String get(String hash) {
+            for (TranslationCatalog catalog : chain) {
+                String translation = catalog.get(hash);
+                if (translation != null && !translation.isBlank()) {
+                    return translation;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean contains(String hash) {
+            return get(hash) != null;
+        }
+
+        @Override
+        public int size() {
+            return chain.stream().mapToInt(TranslationCatalog::size).max().orElse(0);
+        }
+
+        @Override
+        public void forEach(EntryVisitor visitor) {
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                chain.get(i).forEach(visitor);
+            }
+        }
+    }
+
+    /**
+     * Computes the fallback chain of a locale: the locale and its BCP-47 parents, followed
+     * by the default locale and its parents, without duplicates.
+     *
+     * @param locale the requested locale
+     * @param defaultLocale the default locale
+     * @return the locales to consult, most specific first
+     */
+    static List<Locale> fallbackChain(Locale locale, Locale defaultLocale) {
+        Set<Locale> chain = new LinkedHashSet<>();
+        addWithParents(chain, locale);
+        addWithParents(chain, defaultLocale);
+        return new ArrayList<>(chain);
+    }
+
+    private static void addWithParents(Set<Locale> chain, Locale locale) {
+        for (Locale current = locale; current != null && !current.getLanguage().isEmpty(); current = LocaleRegistry.parentOf(current)) {
+            chain.add(current);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Watches the catalog resources of a {@link CatalogMessageSource} and reloads it when one
+ * of them changes.
+ *
+ * Resources on the file system are watched through a {@link WatchService} on their
+ * directories, so an edit is picked up almost immediately; resources elsewhere on the
+ * class path, such as inside a jar, are polled by checksum at the configured interval.
+ * Either way a reload is only triggered when the content of a catalog actually differs
+ * from what was last seen, or when a catalog appears or disappears. The watcher runs on a
+ * single daemon thread, never on a request thread.
+ */
+final class CatalogWatcher implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(CatalogWatcher.class.getName());
+    private static final long SETTLE_MILLIS = 100;
+    private static final long MISSING = -1;
+
+    private final CatalogMessageSource source;
+    private final Duration interval;
+    private final Map<String, Long> checksums = new HashMap<>();
+    private final Set<Path> directories = new HashSet<>();
+    private volatile boolean running = true;
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Creates a watcher for the catalogs of a message source.
+     *
+     * @param source the message source to reload
+     * @param interval how often resources that cannot be watched are checked
+     */
+    CatalogWatcher(CatalogMessageSource source, Duration interval) {
+        this.source = source;
+        this.interval = interval.isNegative() || interval.isZero() ? Duration.ofSeconds(1) : interval;
+    }
+
+    /**
+     * Records the current state of the catalogs and starts watching them.
+     */
+    void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warning("File system watching unavailable, polling catalogs instead: " + e.getMessage());
+        }
+        scan(true);
+        thread = Thread.ofPlatform().daemon().name("fluent-i18n-reload").start(this::run);
+    }
+
+    /**
+     * Stops watching; a reload that is in progress still completes.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.fine("Error closing watch service: " + e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                boolean fileChanged = awaitFileEvent();
+                if (running && scan(fileChanged)) {
+                    source.reload();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warning("Error reloading translation catalogs: " + e);
+            }
+        }
+    }
+
+    /**
+     * Waits up to one interval for a change below a watched directory. Once a change is seen,
+     * further events are drained until the directory is quiet, so a catalog that is being
+     * written is checked after the write.
+     *
+     * @return {@code true} if a file system change was seen
+     */
+    private boolean awaitFileEvent() throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(interval.toMillis());
+            return false;
+        }
+        WatchKey key = watchService.poll(interval.toMillis(), TimeUnit.MILLISECONDS);
+        boolean changed = false;
+        while (key != null) {
+            changed |= !key.pollEvents().isEmpty();
+            key.reset();
+            key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return changed;
+    }
+
+    /**
+     * Compares the catalogs with their last seen state. Class path resources are always
+     * checksummed; resources in watched directories only after a file system event.
+     *
+     * @param includeFiles whether to checksum resources in watched directories
+     * @return {@code true} if any catalog changed
+     */
+    private boolean scan(boolean includeFiles) {
+        boolean changed = false;
+        for (Locale locale : source.getWatchedLocales()) {
+            String resourcePath = source.getResourcePath(locale);
+            URL resource = source.findResource(resourcePath);
+            boolean file = resource != null && "file".equals(resource.getProtocol()) && watch(resource);
+            Long previous = checksums.get(resourcePath);
+            if (file && !includeFiles && previous != null && previous != MISSING) {
+                continue;
+            }
+            long checksum = resource == null ? MISSING : checksum(resource);
+            checksums.put(resourcePath, checksum);
+            if (previous != null && !Objects.equals(previous, checksum)) {
+                logger.fine("Translation catalog changed: " + resourcePath);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Registers the directory of a file resource with the watch service.
+     *
+     * @return {@code true} if the directory is watched
+     */
+    private boolean watch(URL resource) {
+        if (watchService == null) {
+            return false;
+        }
+        try {
+            Path directory = Path.of(resource.toURI()).getParent();
+            if (directories.add(directory)) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.fine("Cannot watch " + resource + ", polling it instead: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static long checksum(URL resource) {
+        try {
+            URLConnection connection = resource.openConnection();
+            connection.setUseCaches(false);
+            try (InputStream is = connection.getInputStream()) {
+                CRC32 crc = new CRC32();
+                byte[] buffer = new byte[8192];
+                for (int read = is.read(buffer); read != -1; read = is.read(buffer)) {
+                    crc.update(buffer, 0, read);
+                }
+                return crc.getValue();
+            }
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+}
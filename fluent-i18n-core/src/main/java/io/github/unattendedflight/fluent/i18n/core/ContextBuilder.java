@@ -2,14 +2,32 @@ package io.github.unattendedflight.fluent.i18n.core;
 
 import io.github.unattendedflight.fluent.i18n.I18n;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Builder class for creating and managing a context-based translation system.
  * This class provides methods to translate natural text and create message descriptors
  * within a specific context. It utilizes a message source for resolving translations
  * and a hash generator for generating unique identifiers for each natural text entry.
+ *
+ * Builders are immutable and thread-safe, and remember the contextual hash of each text they
+ * translated, so a builder held in a constant translates as cheaply as {@code I18n.t}:
+ * <pre>{@code
+ * private static final ContextBuilder BUTTONS = I18n.context("button");
+ *
+ * String label = BUTTONS.translate("Save");
+ * }</pre>
+ * Builders obtained from {@code I18n.context} use whichever message source and hash generator
+ * {@link I18n} is configured with when they translate, so they may be created before
+ * {@code I18n} is initialized.
  */
 public class ContextBuilder {
+    /**
+     * The number of contextual hashes a builder remembers before it starts over.
+     */
+    private static final int MAX_CACHED_HASHES = 1024;
+
     /**
      * Represents the context in which translations are resolved and message descriptors
      * are created. This context is used to disambiguate messages that may otherwise have
@@ -21,7 +39,7 @@ public class ContextBuilder {
      * It plays a critical role in the translation lifecycle by functioning as a namespace
      * for message resolution and generation.
      */
-    private String context;
+    private final String context;
 
     /**
      * Represents a unique identifier or qualifier to disambiguate translations
@@ -61,8 +79,21 @@ public class ContextBuilder {
      * natural text, enabling efficient translation and message resolution in a context-aware manner.
      * It plays a crucial role in the process of contextualizing and retrieving translations
      * or message descriptors in the {@code ContextBuilder}.
+     * A {@code null} generator, together with a {@code null} message source, means that the
+     * builder follows the configuration of {@link I18n}.
      */
     private final HashGenerator hashGenerator;
+
+    /**
+     * Whether the message source and hash generator are taken from {@link I18n} on each call.
+     */
+    private final boolean followsFacade;
+
+    /**
+     * The contextual hashes computed so far, keyed by natural text, together with the
+     * generator that computed them.
+     */
+    private volatile HashCache hashes = new HashCache(null, new ConcurrentHashMap<>());
     
     /**
      * Constructs a ContextBuilder with the specified context, message source,
@@ -81,11 +112,51 @@ public class ContextBuilder {
         this.context = context;
         this.messageSource = messageSource;
         this.hashGenerator = hashGenerator;
+        this.followsFacade = false;
     }
 
-    public ContextBuilder description(String context) {
+    /**
+     * Constructs a ContextBuilder that resolves translations with the message source and
+     * hash generator {@link I18n} is configured with at the time of each call.
+     *
+     * @param contextKey The context used to disambiguate translations and to compute their hashes.
+     */
+    public ContextBuilder(String contextKey) {
+        this.contextKey = contextKey;
+        this.context = contextKey;
+        this.messageSource = null;
+        this.hashGenerator = null;
+        this.followsFacade = true;
+    }
+
+    private ContextBuilder(ContextBuilder builder, String context) {
+        this.contextKey = builder.contextKey;
         this.context = context;
-        return this;
+        this.messageSource = builder.messageSource;
+        this.hashGenerator = builder.hashGenerator;
+        this.followsFacade = builder.followsFacade;
+        this.hashes = builder.hashes;
+    }
+
+    /**
+     * Returns a builder for the same context key with a human-readable description of the
+     * context. The description documents the context for translators; it does not take part
+     * in hashing, so both builders resolve the same translations.
+     *
+     * @param context the description of the context
+     * @return a builder carrying the description
+     */
+    public ContextBuilder description(String context) {
+        return new ContextBuilder(this, context);
+    }
+
+    /**
+     * Returns the key of this context.
+     *
+     * @return the context key used to compute contextual hashes
+     */
+    public String getContextKey() {
+        return contextKey;
     }
     
     /**
@@ -99,18 +170,156 @@ public class ContextBuilder {
      *         otherwise, the original text formatted with the supplied arguments
      */
     public String translate(String naturalText, Object... args) {
-        String contextualHash = hashGenerator.generateHash(naturalText, contextKey);
+        return translate(naturalText, MessageArguments.of(args));
+    }
+
+    /**
+     * Translates natural text in this context without arguments.
+     *
+     * @param naturalText the natural language text to be translated
+     * @return the translated text, or the natural text if no translation exists
+     */
+    public String translate(String naturalText) {
+        return translate(naturalText, MessageArguments.of());
+    }
+
+    /**
+     * Translates natural text in this context with one argument, without a varargs array.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, Object arg0) {
+        return translate(naturalText, MessageArguments.of(arg0));
+    }
+
+    /**
+     * Translates natural text in this context with two arguments, without a varargs array.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, Object arg0, Object arg1) {
+        return translate(naturalText, MessageArguments.of(arg0, arg1));
+    }
+
+    /**
+     * Translates natural text in this context with three arguments, without a varargs array.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, Object arg0, Object arg1, Object arg2) {
+        return translate(naturalText, MessageArguments.of(arg0, arg1, arg2));
+    }
+
+    /**
+     * Translates natural text in this context with four arguments, without a varargs array.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @param arg3 the argument {@code {3}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, Object arg0, Object arg1, Object arg2, Object arg3) {
+        return translate(naturalText, MessageArguments.of(arg0, arg1, arg2, arg3));
+    }
+
+    /**
+     * Translates natural text in this context with an {@code int} argument, formatted without boxing.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, int arg0) {
+        return translate(naturalText, MessageArguments.of((long) arg0));
+    }
+
+    /**
+     * Translates natural text in this context with a {@code long} argument, formatted without boxing.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, long arg0) {
+        return translate(naturalText, MessageArguments.of(arg0));
+    }
+
+    /**
+     * Translates natural text in this context with a {@code double} argument, formatted without boxing.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, double arg0) {
+        return translate(naturalText, MessageArguments.of(arg0));
+    }
+
+    /**
+     * Translates natural text in this context with a {@code char} argument, formatted as the
+     * character rather than widened to the {@code int} overload's number.
+     *
+     * @param naturalText the natural language text to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted text
+     */
+    public String translate(String naturalText, char arg0) {
+        return translate(naturalText, MessageArguments.of((Object) arg0));
+    }
+
+    private String translate(String naturalText, MessageArguments args) {
+        try {
+            String contextualHash = hash(naturalText);
+            Locale locale = I18n.getCurrentLocale();
+            NaturalTextMessageSource messageSource = messageSource();
+
+            if (messageSource != null) {
+                String translation = messageSource.lookup(contextualHash, locale);
+                if (translation != null) {
+                    return MessageFormatter.format(translation, args, locale);
+                }
+            }
+
+            // Fallback to original text
+            return MessageFormatter.format(naturalText, args, locale);
+        } finally {
+            args.release();
+        }
+    }
+    
+    /**
+     * Translates natural text in this context like {@link #translate(String, Object...)} and
+     * appends the result to an output instead of returning it.
+     *
+     * @param out the output receiving the translated and formatted text
+     * @param naturalText the natural language text to be translated
+     * @param args optional arguments to be applied to the translated text
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    public void translateTo(Appendable out, String naturalText, Object... args) {
+        String contextualHash = hash(naturalText);
         Locale locale = I18n.getCurrentLocale();
+        NaturalTextMessageSource messageSource = messageSource();
+        String template = naturalText;
         
         if (messageSource != null) {
-            TranslationResult result = messageSource.resolve(contextualHash, naturalText, locale);
-            if (result.isFound()) {
-                return MessageFormatter.format(result.getTranslation(), args, locale);
+            String translation = messageSource.lookup(contextualHash, locale);
+            if (translation != null) {
+                template = translation;
             }
         }
-        
-        // Fallback to original text
-        return MessageFormatter.format(naturalText, args, locale);
+        MessageFormatter.formatTo(out, template, args, locale);
     }
     
     /**
@@ -125,7 +334,41 @@ public class ContextBuilder {
      *         and the provided arguments.
      */
     public MessageDescriptor describe(String naturalText, Object... args) {
-        String contextualHash = hashGenerator.generateHash(naturalText, contextKey);
+        String contextualHash = hash(naturalText);
         return new MessageDescriptor(contextualHash, naturalText, args);
     }
+
+    /**
+     * Returns the contextual hash of a natural text, computing it only the first time the
+     * text is seen by this builder, or after the hash generator changed.
+     *
+     * @param naturalText the natural text
+     * @return the hash of the text within this builder's context
+     */
+    private String hash(String naturalText) {
+        HashGenerator generator = followsFacade ? I18n.getHashGenerator() : hashGenerator;
+        HashCache cache = hashes;
+        if (cache.generator() != generator) {
+            cache = new HashCache(generator, new ConcurrentHashMap<>());
+            hashes = cache;
+        }
+        String hash = cache.hashes().get(naturalText);
+        if (hash == null) {
+            hash = generator.generateHash(naturalText, contextKey);
+            if (cache.hashes().size() >= MAX_CACHED_HASHES) {
+                cache.hashes().clear();
+            }
+            cache.hashes().put(naturalText, hash);
+        }
+        return hash;
+    }
+
+    private NaturalTextMessageSource messageSource() {
+        return followsFacade ? I18n.getMessageSource() : messageSource;
+    }
+
+    /**
+     * Contextual hashes by natural text, valid for the generator that computed them.
+     */
+    private record HashCache(HashGenerator generator, Map<String, String> hashes) {}
 }
\ No newline at end of file
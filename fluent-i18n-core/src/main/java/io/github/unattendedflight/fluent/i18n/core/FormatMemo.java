@@ -0,0 +1,229 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig.FormatMemoMode;
+import io.github.unattendedflight.fluent.i18n.util.CacheStats;
+import io.github.unattendedflight.fluent.i18n.util.TinyLfuCache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded memo of formatted messages, keyed by message hash, locale ID, generation of the
+ * message source and argument values. Messages formatted with a small set of arguments, such
+ * as status names, currency codes or small counts, are then formatted once per argument set
+ * and locale instead of on every call.
+ *
+ * Which messages are memoized is selected by {@link FluentConfig#getFormatMemoMode()}:
+ * none, only the keys opted in with {@code MessageKey.memoized()}, or every message until
+ * a cardinality detector finds it is formatted with too many distinct argument sets. A call
+ * is only memoized when all its arguments are of immutable value types, its locale is
+ * registered with the {@link LocaleRegistry} itself, rather than sharing the ID of a
+ * registered parent that formats differently, and the message source answers with final
+ * results for the locale, see {@link NaturalTextMessageSource#isComplete(Locale, int)}.
+ *
+ * A memoized call is served in three steps, so the translation lookup is skipped on a hit:
+ * <pre>{@code
+ * FormatMemo.Key key = FormatMemo.keyFor(source, hash, locale, localeId, args, optedIn);
+ * String text = key != null ? FormatMemo.get(key) : null;
+ * if (text == null) {
+ *     text = MessageFormatter.format(template, args, locale);
+ *     FormatMemo.put(key, text);
+ * }
+ * }</pre>
+ */
+public final class FormatMemo {
+    /**
+     * Misses of a message after which the detector of {@link FormatMemoMode#AUTO} compares
+     * its hits and misses.
+     */
+    static final int DETECTOR_SAMPLE = 64;
+
+    private static volatile FormatMemoMode mode = new FluentConfig().getFormatMemoMode();
+    private static final TinyLfuCache<Key, String> memo = new TinyLfuCache<>(new FluentConfig().getFormatMemoSize());
+    private static final TinyLfuCache<String, Cardinality> cardinalities =
+        new TinyLfuCache<>(new FluentConfig().getFormatMemoSize());
+
+    private FormatMemo() {
+    }
+
+    /**
+     * Sets which messages are memoized and how many formatted messages are kept, discarding
+     * everything memoized so far.
+     *
+     * @param memoMode the memo mode
+     * @param maximumSize the maximum number of memoized messages, at least 1
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public static void configure(FormatMemoMode memoMode, int maximumSize) {
+        memo.setMaximumSize(maximumSize);
+        cardinalities.setMaximumSize(maximumSize);
+        mode = memoMode;
+        clear();
+    }
+
+    /**
+     * Returns the key a formatting call is memoized under, or {@code null} if the call must
+     * be formatted without the memo.
+     *
+     * @param source the message source the template is looked up in, or {@code null}
+     * @param hash the message hash
+     * @param locale the locale the message is formatted for
+     * @param localeId the locale's {@link LocaleRegistry} ID
+     * @param args the arguments of the call; they are copied, not released
+     * @param optedIn whether the message was opted in to memoization
+     * @return the memo key, or {@code null} if the call is not memoized
+     */
+    public static Key keyFor(NaturalTextMessageSource source, String hash, Locale locale, int localeId,
+                             MessageArguments args, boolean optedIn) {
+        FormatMemoMode current = mode;
+        if (current == FormatMemoMode.OFF || args.size() == 0 || localeId == LocaleRegistry.UNREGISTERED
+            || !locale.equals(LocaleRegistry.getLocale(localeId))) {
+            return null;
+        }
+
+        Cardinality cardinality = null;
+        if (!optedIn) {
+            if (current != FormatMemoMode.AUTO) {
+                return null;
+            }
+            cardinality = cardinalities.computeIfAbsent(hash, h -> new Cardinality());
+            if (cardinality.rejected) {
+                return null;
+            }
+        }
+
+        Object[] values = args.toArray();
+        for (Object value : values) {
+            if (!isImmutable(value)) {
+                return null;
+            }
+        }
+        if (source != null && !source.isComplete(locale, localeId)) {
+            return null;
+        }
+        long generation = source != null ? source.getGeneration() : 0;
+        return new Key(hash, localeId, generation, values, cardinality);
+    }
+
+    /**
+     * Returns the memoized text of a call. Counts as a hit or a miss, both in the memo
+     * statistics and for the cardinality detector.
+     *
+     * @param key the key returned by {@link #keyFor}
+     * @return the formatted text, or {@code null} if it was not memoized
+     */
+    public static String get(Key key) {
+        String text = memo.getIfPresent(key);
+        Cardinality cardinality = key.cardinality;
+        if (cardinality != null) {
+            if (text != null) {
+                cardinality.hits.incrementAndGet();
+            } else {
+                int misses = cardinality.misses.incrementAndGet();
+                if (misses >= DETECTOR_SAMPLE && cardinality.hits.get() < misses) {
+                    cardinality.rejected = true;
+                }
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Memoizes the formatted text of a call.
+     *
+     * @param key the key returned by {@link #keyFor}, or {@code null} to do nothing
+     * @param text the formatted text
+     */
+    public static void put(Key key, String text) {
+        if (key != null && text != null) {
+            memo.putIfAbsent(key, text);
+        }
+    }
+
+    /**
+     * Reports how well the memo serves formatting calls. Calls that are not memoized, because
+     * of the mode, their arguments or the detector, are not counted.
+     *
+     * @return a snapshot of the hit, miss and eviction counters of the memo
+     */
+    public static CacheStats getStats() {
+        return memo.stats();
+    }
+
+    /**
+     * Discards all memoized messages and what the cardinality detector learned.
+     */
+    public static void clear() {
+        memo.clear();
+        cardinalities.clear();
+    }
+
+    /**
+     * Returns whether an argument is of a type whose instances cannot change, so the text
+     * formatted from it can be reused for an equal argument.
+     */
+    static boolean isImmutable(Object value) {
+        return value == null
+            || value instanceof String
+            || value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte
+            || value instanceof Double || value instanceof Float
+            || value instanceof Character || value instanceof Boolean
+            || value instanceof Enum<?>
+            || value.getClass() == BigDecimal.class || value.getClass() == BigInteger.class
+            || value instanceof Locale || value instanceof Currency || value instanceof UUID
+            || value.getClass().getPackageName().equals("java.time");
+    }
+
+    /**
+     * Identifies a formatted message: hash, locale ID, source generation and arguments.
+     * The cardinality record of the message travels with the key but is not part of it.
+     */
+    public static final class Key {
+        private final String hash;
+        private final int localeId;
+        private final long generation;
+        private final Object[] values;
+        private final Cardinality cardinality;
+        private final int hashCode;
+
+        private Key(String hash, int localeId, long generation, Object[] values, Cardinality cardinality) {
+            this.hash = hash;
+            this.localeId = localeId;
+            this.generation = generation;
+            this.values = values;
+            this.cardinality = cardinality;
+            this.hashCode = 31 * (31 * (31 * hash.hashCode() + localeId) + Long.hashCode(generation))
+                + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return hashCode == other.hashCode && localeId == other.localeId && generation == other.generation
+                && hash.equals(other.hash) && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Hits and misses of one message, counted in {@link FormatMemoMode#AUTO} until the
+     * message is rejected for missing more often than it hits.
+     */
+    private static final class Cardinality {
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+        private volatile boolean rejected;
+    }
+}
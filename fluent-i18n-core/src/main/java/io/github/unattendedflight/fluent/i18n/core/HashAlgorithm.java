@@ -0,0 +1,95 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+/**
+ * Built-in algorithms for deriving message hashes from natural text.
+ *
+ * The algorithm is chosen in {@code fluent.yml} and must be the same for extraction,
+ * compilation and runtime, since catalogs are keyed by the hashes it produces. Compiled
+ * catalogs record the {@link #getId() ID} of the algorithm that keyed them, which lets the
+ * runtime detect catalogs built with a different algorithm.
+ */
+public enum HashAlgorithm {
+    /**
+     * The first 64 bits of the SHA-256 digest of the UTF-8 text, Base64url-encoded.
+     * The historical default; every catalog without a recorded algorithm uses it.
+     */
+    SHA256(0),
+    
+    /**
+     * The 64-bit MurmurHash3 (x64) value of the UTF-8 text, Base64url-encoded.
+     * Produces hashes of the same shape as {@link #SHA256} at a fraction of the cost.
+     */
+    MURMUR3(1);
+    
+    private final int id;
+    
+    HashAlgorithm(int id) {
+        this.id = id;
+    }
+    
+    /**
+     * Returns the stable identifier recorded in compiled catalogs.
+     *
+     * @return the algorithm ID
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * Creates a generator implementing this algorithm.
+     *
+     * @return a new hash generator
+     */
+    public HashGenerator newGenerator() {
+        return switch (this) {
+            case SHA256 -> new Sha256HashGenerator();
+            case MURMUR3 -> new Murmur3HashGenerator();
+        };
+    }
+    
+    /**
+     * Looks up an algorithm by the identifier recorded in a catalog.
+     *
+     * @param id the algorithm ID
+     * @return the algorithm, or {@code null} if the ID is unknown
+     */
+    public static HashAlgorithm fromId(int id) {
+        for (HashAlgorithm algorithm : values()) {
+            if (algorithm.id == id) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Parses an algorithm name, ignoring case and dashes (e.g. "sha-256", "murmur3").
+     *
+     * @param name the algorithm name
+     * @return the algorithm
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static HashAlgorithm fromString(String name) {
+        return valueOf(name.trim().toUpperCase().replace("-", "").replace("_", ""));
+    }
+    
+    /**
+     * Determines which built-in algorithm a generator implements.
+     *
+     * @param generator the generator
+     * @return the algorithm, or {@code null} for custom generators
+     */
+    public static HashAlgorithm of(HashGenerator generator) {
+        if (generator == null) {
+            return null;
+        }
+        if (generator.getClass() == Sha256HashGenerator.class) {
+            return SHA256;
+        }
+        if (generator.getClass() == Murmur3HashGenerator.class) {
+            return MURMUR3;
+        }
+        return null;
+    }
+}
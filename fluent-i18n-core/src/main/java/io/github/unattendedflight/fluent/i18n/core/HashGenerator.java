@@ -28,4 +28,15 @@ public interface HashGenerator {
     default String generateHash(String naturalText, String context) {
         return generateHash(context + ":" + naturalText);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Generates the 64-bit key of the given natural text, used when catalogs are keyed by
+     * primitive {@code long} values instead of hash strings.
+     *
+     * @param naturalText the natural language text input
+     * @return the key derived from {@link #generateHash(String)} by {@link HashKeys#toLong(String)}
+     */
+    default long generateKey(String naturalText) {
+        return HashKeys.toLong(generateHash(naturalText));
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.util.Murmur3;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts message hashes into primitive {@code long} keys.
+ *
+ * Hashes produced by the built-in generators are Base64url strings carrying at least
+ * 64 bits, so the key is simply the first 64 bits those characters encode: no hashing,
+ * no allocation, and the same value on every JVM. Any other hash string (custom
+ * generators, shorter or non-Base64url hashes) is mapped through {@link Murmur3}.
+ *
+ * The compiler and the runtime both derive keys with this class, which is what lets a
+ * catalog written with 8-byte keys be queried with the String hashes used throughout the API.
+ */
+public final class HashKeys {
+    private static final int BASE64_CHARS_PER_KEY = 11;
+    private static final byte[] BASE64URL_VALUES = new byte[128];
+
+    static {
+        java.util.Arrays.fill(BASE64URL_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private HashKeys() {
+        // Utility class
+    }
+
+    /**
+     * Derives the 64-bit key of a message hash.
+     *
+     * @param hash the message hash, as produced by a {@link HashGenerator}
+     * @return the key identifying the message
+     */
+    public static long toLong(String hash) {
+        if (hash.length() >= BASE64_CHARS_PER_KEY) {
+            long key = 0;
+            for (int i = 0; i < BASE64_CHARS_PER_KEY; i++) {
+                char c = hash.charAt(i);
+                int value = c < BASE64URL_VALUES.length ? BASE64URL_VALUES[c] : -1;
+                if (value < 0) {
+                    return fallback(hash);
+                }
+                // Ten characters carry 60 bits; the eleventh contributes its top four
+                key = i < BASE64_CHARS_PER_KEY - 1 ? (key << 6) | value : (key << 4) | (value >>> 2);
+            }
+            return key;
+        }
+        return fallback(hash);
+    }
+
+    private static long fallback(String hash) {
+        byte[] bytes = hash.getBytes(StandardCharsets.UTF_8);
+        return Murmur3.hash64(bytes, 0, bytes.length, 0);
+    }
+}
@@ -0,0 +1,332 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.util.PerfectHash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link TranslationCatalog} that reads an indexed (version 3 or 4) FL18 catalog in place.
+ *
+ * The catalog keeps a single buffer over the file, memory-mapped when the resource
+ * lives on the file system. Version 3 catalogs binary-search their sorted index;
+ * version 4 catalogs locate the only candidate record through a {@link PerfectHash}
+ * displacement table, so every lookup costs two reads from the buffer.
+ * Hashes are compared byte by byte against the buffer and only the translations that
+ * are actually hit get decoded into Strings, so loading a locale costs neither a heap
+ * copy of the file nor an object per entry.
+ *
+ * Catalogs written with long keys store the 64-bit {@link HashKeys} value of each hash;
+ * their lookups convert the requested hash once and compare primitive values.
+ *
+ * See {@code BinaryOutputWriter} for the layout. Only absolute reads are performed on
+ * the shared buffer, which keeps concurrent lookups safe.
+ */
+final class IndexedBinaryCatalog implements TranslationCatalog {
+    private static final byte[] MAGIC = "FL18".getBytes(StandardCharsets.UTF_8);
+    private static final int VERSION_INDEXED = 3;
+    private static final int VERSION_PERFECT_HASH = 4;
+    private static final int VALUE_POINTER_SIZE = 8;
+    private static final byte FLAG_LONG_KEYS = 0x04;
+    private static final byte FLAG_HASH_ALGORITHM = 0x08;
+
+    private final ByteBuffer buffer;
+    private final int keyWidth;
+    private final int recordSize;
+    private final int entryCount;
+    private final int indexOffset;
+    private final int dataOffset;
+    private final int hashSeed;
+    private final int bucketCount;
+    private final int displacementOffset;
+    private final boolean longKeys;
+    private final int hashAlgorithmId;
+
+    private IndexedBinaryCatalog(ByteBuffer buffer, int keyWidth, int entryCount, int indexOffset, int dataOffset,
+                                 int hashSeed, int bucketCount, int displacementOffset, boolean longKeys,
+                                 int hashAlgorithmId) {
+        this.buffer = buffer;
+        this.longKeys = longKeys;
+        this.hashAlgorithmId = hashAlgorithmId;
+        this.keyWidth = keyWidth;
+        this.recordSize = keyWidth + VALUE_POINTER_SIZE;
+        this.entryCount = entryCount;
+        this.indexOffset = indexOffset;
+        this.dataOffset = dataOffset;
+        this.hashSeed = hashSeed;
+        this.bucketCount = bucketCount;
+        this.displacementOffset = displacementOffset;
+    }
+
+    /**
+     * Memory-maps a catalog file if it uses the indexed layout.
+     * The mapping stays valid after the channel is closed and is released when the catalog is collected.
+     *
+     * @param file the catalog file
+     * @return the mapped catalog, or {@code null} if the file is not an indexed catalog
+     * @throws IOException if the file cannot be mapped or its index is malformed
+     */
+    static IndexedBinaryCatalog map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return isIndexed(mapped) ? parse(mapped, file.toString()) : null;
+        }
+    }
+
+    /**
+     * Wraps catalog bytes that were read from a resource which cannot be mapped, such as a jar entry.
+     *
+     * @param data the uncompressed catalog bytes
+     * @param resourcePath the resource path, used in error messages
+     * @return the catalog
+     * @throws IOException if the header or index is malformed
+     */
+    static IndexedBinaryCatalog wrap(byte[] data, String resourcePath) throws IOException {
+        return parse(ByteBuffer.wrap(data), resourcePath);
+    }
+
+    /**
+     * Checks whether the buffer starts with an FL18 header of the indexed layout.
+     *
+     * @param buffer the catalog bytes
+     * @return {@code true} for version 3 and 4 catalogs
+     */
+    static boolean isIndexed(ByteBuffer buffer) {
+        if (buffer.limit() < MAGIC.length + 1) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        byte version = buffer.get(MAGIC.length);
+        return version == VERSION_INDEXED || version == VERSION_PERFECT_HASH;
+    }
+
+    private static IndexedBinaryCatalog parse(ByteBuffer source, String resourcePath) throws IOException {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            boolean perfectHash = buffer.get(MAGIC.length) == VERSION_PERFECT_HASH;
+            byte flags = buffer.get(MAGIC.length + 1);
+            boolean longKeys = (flags & FLAG_LONG_KEYS) != 0;
+            buffer.position(MAGIC.length + 2);
+            int hashAlgorithmId = (flags & FLAG_HASH_ALGORITHM) != 0
+                ? Byte.toUnsignedInt(buffer.get())
+                : HashAlgorithm.SHA256.getId();
+            int localeLength = Short.toUnsignedInt(buffer.getShort());
+            buffer.position(buffer.position() + localeLength);
+            int keyWidth = Byte.toUnsignedInt(buffer.get());
+            int entryCount = buffer.getInt();
+            int indexOffset = buffer.getInt();
+            int dataOffset = buffer.getInt();
+            int dataLength = buffer.getInt();
+            int hashSeed = perfectHash ? buffer.getInt() : 0;
+            int bucketCount = perfectHash ? buffer.getInt() : 0;
+            int displacementOffset = perfectHash ? buffer.getInt() : -1;
+
+            long indexEnd = indexOffset + (long) entryCount * (keyWidth + VALUE_POINTER_SIZE);
+            if (entryCount < 0 || indexOffset < buffer.position() || indexEnd > dataOffset
+                    || (long) dataOffset + dataLength > buffer.limit()) {
+                throw new IOException("Corrupt index in binary catalog: " + resourcePath);
+            }
+            if (longKeys && keyWidth != Long.BYTES) {
+                throw new IOException("Invalid key width " + keyWidth + " for long keys in binary catalog: " + resourcePath);
+            }
+            if (perfectHash && (bucketCount <= 0 || displacementOffset < buffer.position()
+                    || displacementOffset + 4L * bucketCount > indexOffset)) {
+                throw new IOException("Corrupt perfect hash table in binary catalog: " + resourcePath);
+            }
+            return new IndexedBinaryCatalog(buffer, keyWidth, entryCount, indexOffset, dataOffset,
+                hashSeed, bucketCount, displacementOffset, longKeys, hashAlgorithmId);
+        } catch (RuntimeException e) {
+            throw new IOException("Truncated header in binary catalog: " + resourcePath, e);
+        }
+    }
+
+    @Override
+    public String get(String hash) {
+        int record = find(hash);
+        return record < 0 ? null : readValue(record);
+    }
+
+    private String readValue(int record) {
+        int offset = buffer.getInt(record + keyWidth);
+        int length = buffer.getInt(record + keyWidth + 4);
+        if (length == 0) {
+            return "";
+        }
+        byte[] value = new byte[length];
+        buffer.get(dataOffset + offset, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean contains(String hash) {
+        return find(hash) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return entryCount;
+    }
+
+    @Override
+    public boolean hasLongKeys() {
+        return longKeys;
+    }
+
+    /**
+     * Decodes every entry of the catalog. Unlike lookups this materializes all keys and
+     * translations, so it is meant for one-off work such as merging fallback chains.
+     */
+    @Override
+    public void forEach(EntryVisitor visitor) {
+        byte[] key = new byte[keyWidth];
+        for (int i = 0; i < entryCount; i++) {
+            int record = indexOffset + i * recordSize;
+            if (longKeys) {
+                visitor.visit(buffer.getLong(record), readValue(record));
+                continue;
+            }
+            buffer.get(record, key);
+            int length = keyWidth;
+            while (length > 0 && key[length - 1] == 0) {
+                length--;
+            }
+            visitor.visit(new String(key, 0, length, StandardCharsets.UTF_8), readValue(record));
+        }
+    }
+
+    /**
+     * Returns the ID of the {@link HashAlgorithm} that keyed this catalog.
+     *
+     * @return the recorded algorithm ID, {@link HashAlgorithm#SHA256} when none was recorded
+     */
+    int getHashAlgorithmId() {
+        return hashAlgorithmId;
+    }
+
+    /**
+     * Locates the index record of a hash, through the perfect hash table when present
+     * and by binary search otherwise.
+     *
+     * @param hash the message hash
+     * @return the absolute position of the matching index record, or -1 if absent
+     */
+    private int find(String hash) {
+        if (longKeys) {
+            return find(HashKeys.toLong(hash));
+        }
+        byte[] encoded = isAscii(hash) ? null : hash.getBytes(StandardCharsets.UTF_8);
+        int length = encoded == null ? hash.length() : encoded.length;
+        if (length > keyWidth || entryCount == 0) {
+            return -1;
+        }
+
+        if (displacementOffset >= 0) {
+            long keyHash = encoded == null
+                ? PerfectHash.hashAscii(hash, hashSeed)
+                : PerfectHash.hash(encoded, 0, encoded.length, hashSeed);
+            int displacement = buffer.getInt(displacementOffset + 4 * PerfectHash.bucket(keyHash, bucketCount));
+            int slot = PerfectHash.slot(keyHash, displacement, entryCount);
+            if (slot >= entryCount) {
+                return -1;
+            }
+            int record = indexOffset + slot * recordSize;
+            int cmp = encoded == null ? compareKey(record, hash) : compareKey(record, encoded);
+            return cmp == 0 ? record : -1;
+        }
+
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int record = indexOffset + mid * recordSize;
+            int cmp = encoded == null ? compareKey(record, hash) : compareKey(record, encoded);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Locates the index record of a long key in a catalog written with long keys.
+     *
+     * @param key the message key
+     * @return the absolute position of the matching index record, or -1 if absent
+     */
+    private int find(long key) {
+        if (entryCount == 0) {
+            return -1;
+        }
+
+        if (displacementOffset >= 0) {
+            long keyHash = PerfectHash.hash(key, hashSeed);
+            int displacement = buffer.getInt(displacementOffset + 4 * PerfectHash.bucket(keyHash, bucketCount));
+            int slot = PerfectHash.slot(keyHash, displacement, entryCount);
+            if (slot >= entryCount) {
+                return -1;
+            }
+            int record = indexOffset + slot * recordSize;
+            return buffer.getLong(record) == key ? record : -1;
+        }
+
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int record = indexOffset + mid * recordSize;
+            int cmp = Long.compare(buffer.getLong(record), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKey(int record, String hash) {
+        for (int i = 0; i < keyWidth; i++) {
+            int expected = i < hash.length() ? hash.charAt(i) : 0;
+            int actual = Byte.toUnsignedInt(buffer.get(record + i));
+            if (actual != expected) {
+                return actual - expected;
+            }
+        }
+        return 0;
+    }
+
+    private int compareKey(int record, byte[] hash) {
+        for (int i = 0; i < keyWidth; i++) {
+            int expected = i < hash.length ? Byte.toUnsignedInt(hash[i]) : 0;
+            int actual = Byte.toUnsignedInt(buffer.get(record + i));
+            if (actual != expected) {
+                return actual - expected;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
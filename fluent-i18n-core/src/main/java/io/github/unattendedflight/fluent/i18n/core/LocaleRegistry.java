@@ -0,0 +1,176 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.util.Arrays;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Interns canonical {@link Locale} instances and assigns each a dense int ID.
+ *
+ * Message sources register their supported locales, the default locale and every locale
+ * of their fallback chains at startup, and warm-ups register the locales they preload.
+ * Catalogs and views are then kept in plain arrays indexed by locale ID, and the current
+ * locale of {@link io.github.unattendedflight.fluent.i18n.I18n} carries its ID, so a lookup
+ * never hashes or compares a {@code Locale}.
+ *
+ * Requested locales can originate from user input such as an {@code Accept-Language}
+ * header, so they are never registered: {@link #nearest(Locale)} maps them to the ID of
+ * their most specific registered ancestor, whose view they share. IDs are global and never
+ * reused, and the registry holds at most {@value #MAX_LOCALES} locales; beyond that
+ * {@link #register(Locale)} returns {@link #UNREGISTERED}.
+ */
+public final class LocaleRegistry {
+    private static final Logger logger = Logger.getLogger(LocaleRegistry.class.getName());
+
+    /**
+     * The ID returned for locales that could not be registered.
+     */
+    public static final int UNREGISTERED = -1;
+
+    /**
+     * The maximum number of registered locales.
+     */
+    public static final int MAX_LOCALES = 1024;
+
+    private static final Map<Locale, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile Locale[] locales = new Locale[0];
+    private static volatile boolean fullReported;
+
+    private LocaleRegistry() {} // Utility class
+
+    /**
+     * Returns the ID of a locale, registering it on first use.
+     *
+     * @param locale the locale
+     * @return the locale's ID, or {@link #UNREGISTERED} if the locale is {@code null} or the registry is full
+     */
+    public static int register(Locale locale) {
+        if (locale == null) {
+            return UNREGISTERED;
+        }
+        Integer id = ids.get(locale);
+        if (id != null) {
+            return id;
+        }
+        return locales.length < MAX_LOCALES ? add(locale) : full(locale);
+    }
+
+    /**
+     * Returns the ID of a locale if it is registered, without registering it.
+     *
+     * @param locale the locale
+     * @return the locale's ID, or {@link #UNREGISTERED} if the locale is {@code null} or not registered
+     */
+    public static int idOf(Locale locale) {
+        if (locale == null) {
+            return UNREGISTERED;
+        }
+        Integer id = ids.get(locale);
+        return id != null ? id : UNREGISTERED;
+    }
+
+    /**
+     * Returns the ID of the most specific registered locale among a locale and its BCP-47
+     * parents, without registering anything. This is how requested locales are resolved.
+     *
+     * @param locale the requested locale
+     * @return the ID of the locale or of its nearest registered parent, or {@link #UNREGISTERED} if there is none
+     */
+    public static int nearest(Locale locale) {
+        for (Locale current = locale; current != null && !current.getLanguage().isEmpty(); current = parentOf(current)) {
+            int id = idOf(current);
+            if (id != UNREGISTERED) {
+                return id;
+            }
+        }
+        return UNREGISTERED;
+    }
+
+    private static synchronized int add(Locale locale) {
+        Integer id = ids.get(locale);
+        if (id != null) {
+            return id;
+        }
+        Locale[] current = locales;
+        if (current.length >= MAX_LOCALES) {
+            return full(locale);
+        }
+        Locale[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = locale;
+        // Publish the array before the ID, so whoever sees the ID can look the locale up
+        locales = next;
+        ids.put(locale, current.length);
+        return current.length;
+    }
+
+    private static int full(Locale locale) {
+        if (!fullReported) {
+            fullReported = true;
+            logger.warning("Locale registry is full; locales such as " + locale.toLanguageTag()
+                + " resolve through their nearest registered parent");
+        }
+        return UNREGISTERED;
+    }
+
+    /**
+     * Returns the canonical instance of a locale, registering it on first use.
+     *
+     * @param locale the locale
+     * @return the registered instance equal to the locale, or the locale itself if it cannot be registered
+     */
+    public static Locale intern(Locale locale) {
+        int id = register(locale);
+        return id == UNREGISTERED ? locale : locales[id];
+    }
+
+    /**
+     * Returns the locale registered under an ID.
+     *
+     * @param id the locale ID
+     * @return the locale
+     * @throws IndexOutOfBoundsException if no locale is registered under the ID
+     */
+    public static Locale getLocale(int id) {
+        return locales[id];
+    }
+
+    /**
+     * Returns the number of registered locales, which is one more than the highest ID.
+     *
+     * @return the number of registered locales
+     */
+    public static int size() {
+        return locales.length;
+    }
+
+    /**
+     * Drops the most specific subtag of a locale: the variant, then the region, then the script.
+     * Extensions and private use subtags are dropped along with it, or on their own when the
+     * locale has no other subtag to drop, so {@code es-x-foo} falls back to {@code es}.
+     *
+     * @param locale the locale
+     * @return the parent locale, or {@code null} for a bare language
+     */
+    static Locale parentOf(Locale locale) {
+        try {
+            Locale.Builder builder = new Locale.Builder().setLocale(locale).clearExtensions();
+            if (!locale.getVariant().isEmpty()) {
+                return builder.setVariant("").build();
+            }
+            if (!locale.getCountry().isEmpty()) {
+                return builder.setRegion("").build();
+            }
+            if (!locale.getScript().isEmpty()) {
+                return builder.setScript("").build();
+            }
+            return locale.hasExtensions() ? builder.build() : null;
+        } catch (IllformedLocaleException e) {
+            // Legacy locales such as ja_JP_JP cannot be rebuilt; fall back to their language
+            Locale language = Locale.of(locale.getLanguage());
+            return language.equals(locale) ? null : language;
+        }
+    }
+}
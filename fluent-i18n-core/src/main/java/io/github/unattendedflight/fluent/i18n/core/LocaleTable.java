@@ -0,0 +1,63 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Values indexed by {@link LocaleRegistry} ID, kept in a plain array.
+ *
+ * Reads are a volatile array read plus an index, without hashing a locale or taking a lock.
+ * Writes happen once per locale and generation and copy the array, so an array is never
+ * modified after it has been published.
+ *
+ * @param <T> the type of the values
+ */
+final class LocaleTable<T> {
+    private volatile Object[] values = new Object[LocaleRegistry.size()];
+
+    /**
+     * Returns the value stored for a locale.
+     *
+     * @param localeId the locale ID
+     * @return the value, or {@code null} if none is stored
+     */
+    @SuppressWarnings("unchecked")
+    T get(int localeId) {
+        Object[] current = values;
+        return localeId < current.length ? (T) current[localeId] : null;
+    }
+
+    /**
+     * Stores a value for a locale unless one is already stored.
+     *
+     * @param localeId the locale ID
+     * @param value the value to store
+     * @return the value already stored, or {@code null} if the given value was stored
+     */
+    @SuppressWarnings("unchecked")
+    synchronized T putIfAbsent(int localeId, T value) {
+        Object[] current = values;
+        if (localeId < current.length && current[localeId] != null) {
+            return (T) current[localeId];
+        }
+        Object[] next = Arrays.copyOf(current, Math.max(current.length, Math.max(localeId + 1, LocaleRegistry.size())));
+        next[localeId] = value;
+        values = next;
+        return null;
+    }
+
+    /**
+     * Visits every stored value with its locale ID.
+     *
+     * @param action the action receiving each value and its locale ID
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(ObjIntConsumer<T> action) {
+        Object[] current = values;
+        for (int id = 0; id < current.length; id++) {
+            if (current[id] != null) {
+                action.accept((T) current[id], id);
+            }
+        }
+    }
+}
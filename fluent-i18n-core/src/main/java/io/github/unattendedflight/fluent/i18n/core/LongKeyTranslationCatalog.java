@@ -0,0 +1,183 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.util.Map;
+
+/**
+ * {@link TranslationCatalog} keyed by primitive {@code long} keys (see {@link HashKeys}).
+ *
+ * Entries live in two parallel arrays addressed by linear probing, so a lookup is a
+ * multiply, a shift and a few primitive comparisons: no boxing, no entry objects and
+ * no String equality checks. A {@code null} value marks a free slot, which is why
+ * stored translations are never {@code null}.
+ *
+ * The table is filled through {@link #put(long, String)} while a catalog is loaded and
+ * must not be modified once it has been published to other threads.
+ */
+final class LongKeyTranslationCatalog implements TranslationCatalog {
+    private static final long FIBONACCI_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private String[] values;
+    private int size;
+    private int shift;
+
+    /**
+     * Creates an empty table sized for the expected number of entries.
+     *
+     * @param expectedSize the number of entries the table should hold without resizing
+     */
+    LongKeyTranslationCatalog(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Converts a map keyed by hash strings into a long-keyed catalog.
+     *
+     * @param translations the translations keyed by message hash
+     * @return the equivalent long-keyed catalog
+     */
+    static LongKeyTranslationCatalog fromMap(Map<String, String> translations) {
+        LongKeyTranslationCatalog catalog = new LongKeyTranslationCatalog(translations.size());
+        translations.forEach((hash, translation) -> catalog.put(HashKeys.toLong(hash), translation));
+        return catalog;
+    }
+
+    /**
+     * Creates a builder that fills a long-keyed catalog, converting hash strings with
+     * {@link HashKeys#toLong(String)}.
+     *
+     * @param expectedSize the number of entries expected
+     * @return the builder
+     */
+    static CatalogBuilder builder(int expectedSize) {
+        LongKeyTranslationCatalog catalog = new LongKeyTranslationCatalog(expectedSize);
+        return new CatalogBuilder() {
+            @Override
+            public void put(String hash, String translation) {
+                catalog.put(HashKeys.toLong(hash), translation);
+            }
+
+            @Override
+            public void put(long key, String translation) {
+                catalog.put(key, translation);
+            }
+
+            @Override
+            public TranslationCatalog build() {
+                return catalog;
+            }
+        };
+    }
+
+    /**
+     * Adds or replaces the translation stored for a key.
+     *
+     * @param key the message key
+     * @param translation the translation, never {@code null}
+     */
+    void put(long key, String translation) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int index = indexOf(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                values[index] = translation;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = translation;
+        size++;
+    }
+
+    /**
+     * Looks up the translation stored for a key.
+     *
+     * @param key the message key
+     * @return the translation, or {@code null} if absent
+     */
+    String get(long key) {
+        int mask = keys.length - 1;
+        int index = indexOf(key);
+        String value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public String get(String hash) {
+        return get(HashKeys.toLong(hash));
+    }
+
+    @Override
+    public boolean contains(String hash) {
+        return get(HashKeys.toLong(hash)) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean hasLongKeys() {
+        return true;
+    }
+
+    @Override
+    public void shareTranslations(StringPool pool) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                values[i] = pool.intern(values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(EntryVisitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        return (int) ((key * FIBONACCI_MULTIPLIER) >>> shift);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        String[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new String[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link TranslationCatalog} backed by an in-memory map, used for formats that are
+ * fully decoded on load (JSON, properties and the streamed binary layouts).
+ */
+final class MapTranslationCatalog implements TranslationCatalog {
+    private final Map<String, String> translations;
+
+    /**
+     * Wraps a fully populated map. The map must not be modified afterwards.
+     *
+     * @param translations the translations keyed by message hash
+     */
+    MapTranslationCatalog(Map<String, String> translations) {
+        this.translations = translations;
+    }
+
+    /**
+     * Creates a builder that collects string-keyed entries into a map.
+     *
+     * @param expectedSize the number of entries expected
+     * @return the builder
+     */
+    static CatalogBuilder builder(int expectedSize) {
+        Map<String, String> translations = HashMap.newHashMap(expectedSize);
+        return new CatalogBuilder() {
+            @Override
+            public void put(String hash, String translation) {
+                translations.put(hash, translation);
+            }
+
+            @Override
+            public void put(long key, String translation) {
+                throw new IllegalStateException("Long-keyed entry in a string-keyed catalog");
+            }
+
+            @Override
+            public TranslationCatalog build() {
+                return new MapTranslationCatalog(translations);
+            }
+        };
+    }
+
+    @Override
+    public String get(String hash) {
+        return translations.get(hash);
+    }
+
+    @Override
+    public boolean contains(String hash) {
+        return translations.containsKey(hash);
+    }
+
+    @Override
+    public int size() {
+        return translations.size();
+    }
+
+    @Override
+    public void shareTranslations(StringPool pool) {
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            String pooled = pool.intern(entry.getValue());
+            if (pooled != entry.getValue()) {
+                entry.setValue(pooled);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(EntryVisitor visitor) {
+        translations.forEach(visitor::visit);
+    }
+}
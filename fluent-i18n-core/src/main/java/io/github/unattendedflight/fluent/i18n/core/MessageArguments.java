@@ -0,0 +1,250 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.util.Arrays;
+
+/**
+ * The arguments of one formatting call, passed from the fixed-arity and primitive overloads
+ * of {@code I18n.translate} to the {@link MessageFormatter} without a varargs array and
+ * without boxing {@code int}, {@code long} or {@code double} values.
+ *
+ * Up to {@value #MAX_FIXED} arguments are held in a per-thread instance that is reused
+ * by every call on the thread, and an array of arguments is wrapped as it is. A primitive
+ * argument is read as such by {@code number}, {@code choice} and {@code plural} arguments
+ * and by arguments without a type; only a {@code date}, {@code time} or {@code select}
+ * argument boxes it.
+ *
+ * An instance obtained from the {@code of} methods belongs to a single formatting call: it is
+ * released by the {@link MessageFormatter} method it is passed to, or by {@link #release()},
+ * and must not be used afterwards. A call made while the thread's instance is in use, for
+ * example from an argument's {@code toString()}, gets a new instance.
+ */
+public final class MessageArguments {
+    /**
+     * The number of arguments held without an array.
+     */
+    public static final int MAX_FIXED = 4;
+
+    private static final MessageArguments NONE = new MessageArguments();
+    private static final byte OBJECT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final ThreadLocal<MessageArguments> reusable = ThreadLocal.withInitial(MessageArguments::new);
+
+    private final Object[] values = new Object[MAX_FIXED];
+    private final long[] longs = new long[MAX_FIXED];
+    private final double[] doubles = new double[MAX_FIXED];
+    private final byte[] kinds = new byte[MAX_FIXED];
+    private Object[] array;
+    private int size;
+    private boolean inUse;
+
+    private MessageArguments() {
+    }
+
+    /**
+     * Returns an empty argument list.
+     *
+     * @return arguments of size 0
+     */
+    public static MessageArguments of() {
+        return NONE;
+    }
+
+    /**
+     * Holds one argument.
+     *
+     * @param arg0 the argument {@code {0}}
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(Object arg0) {
+        MessageArguments args = acquire(1);
+        args.values[0] = arg0;
+        return args;
+    }
+
+    /**
+     * Holds two arguments.
+     *
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(Object arg0, Object arg1) {
+        MessageArguments args = acquire(2);
+        args.values[0] = arg0;
+        args.values[1] = arg1;
+        return args;
+    }
+
+    /**
+     * Holds three arguments.
+     *
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(Object arg0, Object arg1, Object arg2) {
+        MessageArguments args = acquire(3);
+        args.values[0] = arg0;
+        args.values[1] = arg1;
+        args.values[2] = arg2;
+        return args;
+    }
+
+    /**
+     * Holds four arguments.
+     *
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @param arg3 the argument {@code {3}}
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(Object arg0, Object arg1, Object arg2, Object arg3) {
+        MessageArguments args = acquire(4);
+        args.values[0] = arg0;
+        args.values[1] = arg1;
+        args.values[2] = arg2;
+        args.values[3] = arg3;
+        return args;
+    }
+
+    /**
+     * Holds one integral argument without boxing it.
+     *
+     * @param arg0 the argument {@code {0}}
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(long arg0) {
+        MessageArguments args = acquire(1);
+        args.kinds[0] = LONG;
+        args.longs[0] = arg0;
+        return args;
+    }
+
+    /**
+     * Holds one floating-point argument without boxing it.
+     *
+     * @param arg0 the argument {@code {0}}
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(double arg0) {
+        MessageArguments args = acquire(1);
+        args.kinds[0] = DOUBLE;
+        args.doubles[0] = arg0;
+        return args;
+    }
+
+    /**
+     * Wraps an array of arguments without copying it.
+     *
+     * @param args the arguments, or {@code null} for none
+     * @return the arguments of the call
+     */
+    public static MessageArguments of(Object[] args) {
+        if (args == null || args.length == 0) {
+            return NONE;
+        }
+        MessageArguments wrapped = acquire(args.length);
+        wrapped.array = args;
+        return wrapped;
+    }
+
+    /**
+     * Returns the number of arguments.
+     *
+     * @return the number of arguments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an argument, boxing it if it is held as a primitive.
+     *
+     * @param index the argument number
+     * @return the argument
+     * @throws IndexOutOfBoundsException if there is no such argument
+     */
+    public Object get(int index) {
+        if (array != null) {
+            return array[index];
+        }
+        return switch (kind(index)) {
+            case LONG -> longs[index];
+            case DOUBLE -> doubles[index];
+            default -> values[index];
+        };
+    }
+
+    /**
+     * Returns the arguments as a new array, boxing primitives.
+     *
+     * @return a copy of the arguments
+     */
+    public Object[] toArray() {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length);
+        }
+        Object[] copy = new Object[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = get(i);
+        }
+        return copy;
+    }
+
+    boolean isLong(int index) {
+        return array == null && kind(index) == LONG;
+    }
+
+    boolean isDouble(int index) {
+        return array == null && kind(index) == DOUBLE;
+    }
+
+    long getLong(int index) {
+        return longs[index];
+    }
+
+    double getDouble(int index) {
+        return doubles[index];
+    }
+
+    /**
+     * Ends the call these arguments belong to, making the thread's instance available again.
+     * {@link MessageFormatter} releases the arguments it formats; a caller only needs to
+     * release them when it fails before passing them on. Releasing twice does nothing.
+     */
+    public void release() {
+        if (!inUse) {
+            return;
+        }
+        array = null;
+        Arrays.fill(values, 0, Math.min(size, MAX_FIXED), null);
+        Arrays.fill(kinds, 0, Math.min(size, MAX_FIXED), OBJECT);
+        size = 0;
+        inUse = false;
+    }
+
+    private byte kind(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return kinds[index];
+    }
+
+    private static MessageArguments acquire(int size) {
+        MessageArguments args = reusable.get();
+        if (args.inUse) {
+            args = new MessageArguments();
+        }
+        args.inUse = true;
+        args.size = size;
+        return args;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -35,6 +35,8 @@ public class MessageDescriptor {
      */
     private final Object[] args;
     
+    private static final Object[] NO_ARGS = new Object[0];
+    
     /**
      * Constructs a new MessageDescriptor instance with the specified hash, natural text,
      * and optional arguments.
@@ -44,9 +46,16 @@ public class MessageDescriptor {
      * @param args an array of objects representing optional arguments that can be applied to the message
      */
     public MessageDescriptor(String hash, String naturalText, Object[] args) {
+        this(hash, naturalText, args != null && args.length > 0 ? Arrays.copyOf(args, args.length) : NO_ARGS, true);
+    }
+    
+    /**
+     * Constructs a descriptor that takes ownership of an argument array no caller can modify.
+     */
+    private MessageDescriptor(String hash, String naturalText, Object[] ownedArgs, boolean owned) {
         this.hash = hash;
         this.naturalText = naturalText;
-        this.args = args != null ? Arrays.copyOf(args, args.length) : new Object[0];
+        this.args = ownedArgs;
     }
     
     /**
@@ -95,13 +104,15 @@ public class MessageDescriptor {
     
     /**
      * Checks whether a translation exists for the message identified by this descriptor's hash
-     * in the specified locale.
+     * in the specified locale or one of its fallbacks, that is, whether {@link #resolve(Locale)}
+     * returns a translation rather than the natural text.
      *
      * @param locale the locale for which to check the existence of the translation
      * @return true if a translation exists for the specified locale, false otherwise
      */
     public boolean hasTranslation(Locale locale) {
-        return I18n.getMessageSource().exists(hash, locale);
+        NaturalTextMessageSource source = I18n.getMessageSource();
+        return source != null && source.lookup(hash, locale) != null;
     }
     
     /**
@@ -113,10 +124,13 @@ public class MessageDescriptor {
      * @return a new MessageDescriptor with the combined arguments
      */
     public MessageDescriptor withArgs(Object... additionalArgs) {
+        if (additionalArgs == null || additionalArgs.length == 0) {
+            return this;
+        }
         Object[] combinedArgs = new Object[args.length + additionalArgs.length];
         System.arraycopy(args, 0, combinedArgs, 0, args.length);
         System.arraycopy(additionalArgs, 0, combinedArgs, args.length, additionalArgs.length);
-        return new MessageDescriptor(hash, naturalText, combinedArgs);
+        return new MessageDescriptor(hash, naturalText, combinedArgs, true);
     }
     
     /**
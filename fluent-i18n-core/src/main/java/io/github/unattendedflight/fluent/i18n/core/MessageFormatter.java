@@ -1,20 +1,41 @@
 package io.github.unattendedflight.fluent.i18n.core;
 
-import java.text.MessageFormat;
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import io.github.unattendedflight.fluent.i18n.util.CacheStats;
+import io.github.unattendedflight.fluent.i18n.util.TinyLfuCache;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Locale;
 
 /**
  * Utility class for formatting messages using templates and arguments.
- * Supports both locale-aware formatting through MessageFormat and
- * basic string replacement as a fallback.
+ * Templates are compiled into {@link MessagePattern}s, which support ICU plural and select
+ * arguments as well as the number, date and choice formats of
+ * {@link java.text.MessageFormat}, and basic string replacement is used as a fallback.
+ *
+ * Each template is parsed once per locale: compiled patterns are kept in a bounded
+ * W-TinyLFU cache keyed by template and locale, holding at most
+ * {@link FluentConfig#getFormatCacheSize()} patterns. Messages are formatted into a
+ * per-thread builder that is reused across calls, so formatting a cached template allocates
+ * little beyond the resulting string. {@link #formatTo(Appendable, String, Object[], Locale)}
+ * skips the resulting string as well and writes straight into the caller's output.
  */
 public class MessageFormatter {
-    
+    private static final TinyLfuCache<PatternKey, Compiled> patterns =
+        new TinyLfuCache<>(new FluentConfig().getFormatCacheSize());
+    private static final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final ThreadLocal<char[]> chunk = ThreadLocal.withInitial(() -> new char[1024]);
+
+    /**
+     * Builders that grew beyond this capacity are not kept for reuse.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
     /**
      * Formats a template string using the specified arguments and a given locale.
      * If the template or arguments are invalid, basic string replacement is used
-     * as a fallback mechanism. This method leverages {@link MessageFormat} for
-     * locale-aware formatting.
+     * as a fallback mechanism. The template is compiled once per locale and cached.
      *
      * @param template the template string containing placeholders, such as {0}, {1}, etc.
      * @param args an array of objects to be used as arguments to replace placeholders in the template
@@ -25,17 +46,238 @@ public class MessageFormatter {
     public static String format(String template, Object[] args, Locale locale) {
         if (template == null) return null;
         if (args == null || args.length == 0) return template;
-        
+        return format(template, MessageArguments.of(args), locale);
+    }
+
+    /**
+     * Formats a template like {@link #format(String, Object[], Locale)} with arguments held by
+     * a {@link MessageArguments}, as the fixed-arity and primitive overloads of
+     * {@code I18n.translate} pass them. The arguments are released once the message is formatted.
+     *
+     * @param template the template string containing placeholders
+     * @param args the arguments replacing the placeholders
+     * @param locale the {@link Locale} to apply during formatting
+     * @return the formatted string, or the original template if there are no arguments
+     */
+    public static String format(String template, MessageArguments args, Locale locale) {
+        try {
+            if (template == null) return null;
+            if (args.size() == 0) return template;
+
+            MessagePattern pattern = lookup(template, locale).pattern();
+            if (pattern == null) {
+                return simpleFormat(template, args.toArray());
+            }
+
+            // A nested call, e.g. from an argument's toString(), must not reuse a builder in use
+            StringBuilder shared = buffer.get();
+            StringBuilder out = shared.isEmpty() ? shared : new StringBuilder(template.length() + 16);
+            try {
+                pattern.format(args, out);
+                return out.toString();
+            } catch (RuntimeException e) {
+                // Fallback to simple string replacement
+                return simpleFormat(template, args.toArray());
+            } finally {
+                if (out == shared) {
+                    if (shared.capacity() > MAX_RETAINED_CAPACITY) {
+                        buffer.remove();
+                    } else {
+                        shared.setLength(0);
+                    }
+                }
+            }
+        } finally {
+            args.release();
+        }
+    }
+
+    /**
+     * Formats a template like {@link #format(String, Object[], Locale)} and appends the result
+     * to an {@link Appendable} instead of returning it. A {@link StringBuilder} receives the
+     * literal text and formatted arguments directly; other appendables, such as a
+     * {@link Writer}, receive the message from a reused per-thread buffer, without an
+     * intermediate {@code String}.
+     *
+     * @param out the output receiving the formatted message
+     * @param template the template string containing placeholders; nothing is appended if it is {@code null}
+     * @param args the arguments replacing the placeholders; the template is appended as is if there are none
+     * @param locale the {@link Locale} to apply during formatting
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    public static void formatTo(Appendable out, String template, Object[] args, Locale locale) {
+        formatTo(out, template, MessageArguments.of(args), locale);
+    }
+
+    /**
+     * Formats a template like {@link #formatTo(Appendable, String, Object[], Locale)} with
+     * arguments held by a {@link MessageArguments}, which are released once the message is
+     * appended.
+     *
+     * @param out the output receiving the formatted message
+     * @param template the template string containing placeholders; nothing is appended if it is {@code null}
+     * @param args the arguments replacing the placeholders
+     * @param locale the {@link Locale} to apply during formatting
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    public static void formatTo(Appendable out, String template, MessageArguments args, Locale locale) {
+        try {
+            if (template == null) return;
+            if (args.size() == 0) {
+                append(out, template, 0, template.length());
+                return;
+            }
+
+            MessagePattern pattern = lookup(template, locale).pattern();
+            if (pattern == null) {
+                append(out, simpleFormat(template, args.toArray()));
+                return;
+            }
+            if (out instanceof StringBuilder builder) {
+                int start = builder.length();
+                try {
+                    pattern.format(args, builder);
+                } catch (RuntimeException e) {
+                    builder.setLength(start);
+                    builder.append(simpleFormat(template, args.toArray()));
+                }
+                return;
+            }
+
+            StringBuilder shared = buffer.get();
+            StringBuilder formatted = shared.isEmpty() ? shared : new StringBuilder(template.length() + 16);
+            try {
+                try {
+                    pattern.format(args, formatted);
+                } catch (RuntimeException e) {
+                    append(out, simpleFormat(template, args.toArray()));
+                    return;
+                }
+                append(out, formatted, 0, formatted.length());
+            } finally {
+                if (formatted == shared) {
+                    if (shared.capacity() > MAX_RETAINED_CAPACITY) {
+                        buffer.remove();
+                    } else {
+                        shared.setLength(0);
+                    }
+                }
+            }
+        } finally {
+            args.release();
+        }
+    }
+
+    /**
+     * Appends text to an {@link Appendable}. Writers are written to directly rather than
+     * through {@link Writer#append(CharSequence, int, int)}, which copies into a new string.
+     *
+     * @param out the output
+     * @param text the text to append
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    static void append(Appendable out, CharSequence text) {
+        append(out, text, 0, text.length());
+    }
+
+    /**
+     * Appends a range of text to an {@link Appendable}.
+     *
+     * @param out the output
+     * @param text the text holding the range
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    static void append(Appendable out, CharSequence text, int start, int end) {
         try {
-            // Use MessageFormat for proper locale-aware formatting
-            MessageFormat format = new MessageFormat(template, locale);
-            return format.format(args);
-        } catch (Exception e) {
-            // Fallback to simple string replacement
-            return simpleFormat(template, args);
+            if (!(out instanceof Writer writer)) {
+                out.append(text, start, end);
+            } else if (text instanceof String string) {
+                writer.write(string, start, end - start);
+            } else {
+                char[] chars = chunk.get();
+                for (int i = start; i < end; i += chars.length) {
+                    int length = Math.min(chars.length, end - i);
+                    if (text instanceof StringBuilder builder) {
+                        builder.getChars(i, i + length, chars, 0);
+                    } else {
+                        for (int j = 0; j < length; j++) {
+                            chars[j] = text.charAt(i + j);
+                        }
+                    }
+                    writer.write(chars, 0, length);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the compiled pattern of a template, compiling and caching it on first use.
+     *
+     * @param template the message template
+     * @param locale the locale to format for
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the template cannot be compiled; the failure is
+     *         cached as well, so malformed templates are not parsed again on every call
+     */
+    public static MessagePattern compile(String template, Locale locale) {
+        Compiled compiled = lookup(template, locale);
+        if (compiled.pattern() == null) {
+            throw new IllegalArgumentException(compiled.error());
         }
+        return compiled.pattern();
+    }
+
+    /**
+     * Sets how many compiled patterns are cached.
+     *
+     * @param maximumSize the maximum number of cached patterns, at least 1
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public static void setCacheSize(int maximumSize) {
+        patterns.setMaximumSize(maximumSize);
     }
-    
+
+    /**
+     * Reports how well the pattern cache serves formatting calls.
+     *
+     * @return a snapshot of the hit, miss and eviction counters of the pattern cache
+     */
+    public static CacheStats getCacheStats() {
+        return patterns.stats();
+    }
+
+    /**
+     * Discards all compiled patterns.
+     */
+    public static void clearCache() {
+        patterns.clear();
+    }
+
+    private static Compiled lookup(String template, Locale locale) {
+        Locale formatLocale = locale != null ? locale : Locale.getDefault(Locale.Category.FORMAT);
+        return patterns.computeIfAbsent(new PatternKey(template, formatLocale), key -> {
+            try {
+                return new Compiled(MessagePattern.compile(key.template(), key.locale()), null);
+            } catch (IllegalArgumentException e) {
+                return new Compiled(null, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Cache key of a compiled pattern.
+     */
+    private record PatternKey(String template, Locale locale) {}
+
+    /**
+     * A cached compilation result: the pattern, or the reason the template could not be compiled.
+     */
+    private record Compiled(MessagePattern pattern, String error) {}
+
     /**
      * Formats a string template by replacing placeholders with specified arguments.
      * Supports both indexed placeholders (e.g., {0}, {1}) and unindexed placeholders (e.g., {}).
@@ -59,4 +301,4 @@ public class MessageFormatter {
         }
         return result;
     }
-}
\ No newline at end of file
+}
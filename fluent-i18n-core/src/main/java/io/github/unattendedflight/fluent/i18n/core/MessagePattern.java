@@ -0,0 +1,841 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A message template compiled once for a locale into an immutable tree of literal text and
+ * arguments, which can then be formatted any number of times from any thread.
+ *
+ * The syntax is the ICU MessageFormat syntax with numbered arguments:
+ * <ul>
+ *   <li>{@code {0}} formats numbers and dates with the locale's default formats and other
+ *       values with {@code toString()};</li>
+ *   <li>{@code {0,number}}, {@code {0,number,integer|currency|percent|<pattern>}},
+ *       {@code {0,date|time}}, {@code {0,date|time,short|medium|long|full|<pattern>}} and
+ *       {@code {0,choice,<pattern>}} behave as in {@link java.text.MessageFormat};</li>
+ *   <li>{@code {0,plural,[offset:n] =n{...} one{...} other{...}}} selects a branch by exact
+ *       value or by the locale's CLDR {@link PluralRules}, and {@code #} inside it stands for
+ *       the formatted count minus the offset; a {@code zero} branch also takes a count of
+ *       exactly 0, as the messages of {@code I18n.plural(count).zero(...)} expect;</li>
+ *   <li>{@code {0,select,male{...} female{...} other{...}}} selects a branch by the
+ *       argument's string value.</li>
+ * </ul>
+ * Plural and select branches may nest further arguments. As in ICU, an apostrophe only starts
+ * quoted text when it precedes a brace, or a {@code #} inside a plural branch, and
+ * {@code ''} is a literal apostrophe, so {@code "l'utilisateur {0}"} keeps its apostrophe
+ * where {@link java.text.MessageFormat} would drop it and stop formatting.
+ *
+ * Compiling validates every sub-format once; formatting walks the tree and appends to a
+ * caller-supplied builder. Number and date formats are not thread-safe, so each argument
+ * keeps a small pool of copies shared by all threads, cloned from a prototype; a call
+ * borrows a copy for the time it formats the argument.
+ */
+public final class MessagePattern {
+    private final String template;
+    private final Locale locale;
+    private final Part[] parts;
+
+    private MessagePattern(String template, Locale locale, Part[] parts) {
+        this.template = template;
+        this.locale = locale;
+        this.parts = parts;
+    }
+
+    /**
+     * Compiles a template for a locale.
+     *
+     * @param template the message template
+     * @param locale the locale whose number, date and plural rules are used
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the template is malformed, uses named arguments or an
+     *         unsupported argument type, or contains an invalid sub-format pattern
+     */
+    public static MessagePattern compile(String template, Locale locale) {
+        Parser parser = new Parser(template, locale);
+        Part[] parts = parser.parseMessage(false, false);
+        return new MessagePattern(template, locale, parts);
+    }
+
+    /**
+     * Formats the message and appends it to a builder. Arguments beyond the end of the array
+     * are written back as {@code {n}}, as {@link java.text.MessageFormat} does.
+     *
+     * @param args the arguments, indexed by argument number
+     * @param out the builder receiving the formatted message
+     * @throws IllegalArgumentException if an argument does not fit its format, such as text
+     *         for a {@code number} argument; part of the message may already be appended
+     */
+    public void format(Object[] args, StringBuilder out) {
+        MessageArguments wrapped = MessageArguments.of(args);
+        try {
+            format(wrapped, out);
+        } finally {
+            wrapped.release();
+        }
+    }
+
+    /**
+     * Formats the message with arguments held by a {@link MessageArguments} and appends it to
+     * a builder. Primitive arguments are formatted without boxing where the argument's format
+     * allows it. The arguments are not released.
+     *
+     * @param args the arguments, indexed by argument number
+     * @param out the builder receiving the formatted message
+     * @throws IllegalArgumentException if an argument does not fit its format
+     */
+    public void format(MessageArguments args, StringBuilder out) {
+        appendParts(parts, args, null, out);
+    }
+
+    /**
+     * Formats the message into a new string.
+     *
+     * @param args the arguments, indexed by argument number
+     * @return the formatted message
+     * @throws IllegalArgumentException if an argument does not fit its format
+     */
+    public String format(Object[] args) {
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        format(args, out);
+        return out.toString();
+    }
+
+    /**
+     * Returns the template this pattern was compiled from.
+     *
+     * @return the template
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Returns the locale this pattern was compiled for.
+     *
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static void appendParts(Part[] parts, MessageArguments args, String pound, StringBuilder out) {
+        for (Part part : parts) {
+            part.appendTo(args, pound, out);
+        }
+    }
+
+    private static void appendMissing(int index, StringBuilder out) {
+        out.append('{').append(index).append('}');
+    }
+
+    /**
+     * A node of the compiled message.
+     */
+    private interface Part {
+        /**
+         * Appends this part.
+         *
+         * @param args the message arguments
+         * @param pound the text replacing {@code #}, or {@code null} outside plural branches
+         * @param out the builder receiving the text
+         */
+        void appendTo(MessageArguments args, String pound, StringBuilder out);
+    }
+
+    private record Text(String text) implements Part {
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            out.append(text);
+        }
+    }
+
+    private enum Pound implements Part {
+        INSTANCE;
+
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            out.append(pound != null ? pound : "#");
+        }
+    }
+
+    /**
+     * An argument without a type, formatted like {@link java.text.MessageFormat} formats one.
+     */
+    private static final class SimpleArgument implements Part {
+        private final int index;
+        private final FormatPool numberFormat;
+        private final FormatPool dateFormat;
+
+        SimpleArgument(int index, Locale locale) {
+            this.index = index;
+            this.numberFormat = new FormatPool(() -> NumberFormat.getInstance(locale));
+            this.dateFormat = new FormatPool(
+                () -> DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale));
+        }
+
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            if (index >= args.size()) {
+                appendMissing(index, out);
+                return;
+            }
+            if (args.isLong(index)) {
+                out.append(numberFormat.format(args.getLong(index)));
+                return;
+            }
+            if (args.isDouble(index)) {
+                out.append(numberFormat.format(args.getDouble(index)));
+                return;
+            }
+            Object arg = args.get(index);
+            if (arg instanceof String text) {
+                out.append(text);
+            } else if (arg instanceof Number number) {
+                out.append(numberFormat.format(number));
+            } else if (arg instanceof Date date) {
+                out.append(dateFormat.format(date));
+            } else {
+                out.append(arg);
+            }
+        }
+    }
+
+    /**
+     * A {@code number}, {@code date} or {@code time} argument.
+     */
+    private static final class FormattedArgument implements Part {
+        private final int index;
+        private final boolean numeric;
+        private final FormatPool format;
+
+        FormattedArgument(int index, Format prototype) {
+            this.index = index;
+            this.numeric = prototype instanceof NumberFormat;
+            this.format = new FormatPool(() -> prototype);
+        }
+
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            if (index >= args.size()) {
+                appendMissing(index, out);
+                return;
+            }
+            String formatted;
+            if (args.isLong(index) && numeric) {
+                formatted = format.format(args.getLong(index));
+            } else if (args.isDouble(index) && numeric) {
+                formatted = format.format(args.getDouble(index));
+            } else {
+                Object arg = args.get(index);
+                if (arg == null) {
+                    out.append("null");
+                    return;
+                }
+                formatted = format.format(arg);
+            }
+            out.append(formatted);
+        }
+    }
+
+    /**
+     * A {@code choice} argument. Like {@link java.text.MessageFormat}, a branch containing
+     * arguments is formatted in turn; branches are compiled together with the pattern, so
+     * they are not parsed again on every call.
+     */
+    private static final class Choice implements Part {
+        private final int index;
+        private final double[] limits;
+        private final Part[][] branches;
+
+        Choice(int index, ChoiceFormat format, Locale locale) {
+            this.index = index;
+            this.limits = format.getLimits();
+            Object[] formats = format.getFormats();
+            this.branches = new Part[formats.length][];
+            for (int i = 0; i < formats.length; i++) {
+                String branch = (String) formats[i];
+                branches[i] = branch.indexOf('{') >= 0
+                    ? new Parser(branch, locale).parseMessage(false, false)
+                    : new Part[] {new Text(branch)};
+            }
+        }
+
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            if (index >= args.size()) {
+                appendMissing(index, out);
+                return;
+            }
+            double value;
+            if (args.isLong(index)) {
+                value = args.getLong(index);
+            } else if (args.isDouble(index)) {
+                value = args.getDouble(index);
+            } else {
+                Object arg = args.get(index);
+                if (arg == null) {
+                    out.append("null");
+                    return;
+                }
+                if (!(arg instanceof Number number)) {
+                    throw new IllegalArgumentException("Cannot format given Object as a Number");
+                }
+                value = number.doubleValue();
+            }
+            if (branches.length > 0) {
+                appendParts(branches[select(value)], args, null, out);
+            }
+        }
+
+        /**
+         * Selects the branch of the last limit not above the value, or the first branch, as
+         * {@link ChoiceFormat#format(double)} does.
+         */
+        private int select(double value) {
+            int i = 0;
+            while (i < limits.length && value >= limits[i]) {
+                i++;
+            }
+            return Math.max(0, i - 1);
+        }
+    }
+
+    /**
+     * A {@code plural} argument.
+     */
+    private static final class Plural implements Part {
+        private final int index;
+        private final double offset;
+        private final double[] exactValues;
+        private final Part[][] exactMessages;
+        private final Map<PluralForm, Part[]> forms;
+        private final Part[] other;
+        private final PluralRules rules;
+        private final FormatPool numberFormat;
+
+        Plural(int index, double offset, double[] exactValues, Part[][] exactMessages,
+               Map<PluralForm, Part[]> forms, Part[] other, Locale locale) {
+            this.index = index;
+            this.offset = offset;
+            this.exactValues = exactValues;
+            this.exactMessages = exactMessages;
+            this.forms = forms;
+            this.other = other;
+            this.rules = PluralRules.forLocale(locale);
+            this.numberFormat = new FormatPool(() -> NumberFormat.getInstance(locale));
+        }
+
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            if (index >= args.size()) {
+                appendMissing(index, out);
+                return;
+            }
+            if (args.isLong(index) && offset == 0) {
+                long count = args.getLong(index);
+                appendBranch(args, count, numberFormat.format(count), rules.select(count), out);
+                return;
+            }
+            if (args.isDouble(index)) {
+                double count = args.getDouble(index) - offset;
+                appendBranch(args, args.getDouble(index), numberFormat.format(count), rules.select(count), out);
+                return;
+            }
+            Object arg = args.get(index);
+            if (!(arg instanceof Number number)) {
+                appendParts(other, args, String.valueOf(arg), out);
+                return;
+            }
+            double value = number.doubleValue();
+            Number count = offset == 0 ? number : Double.valueOf(value - offset);
+            appendBranch(args, value, numberFormat.format(count), rules.select(count), out);
+        }
+
+        /**
+         * Appends the branch of an exact value, or else of the plural form of the count.
+         *
+         * @param value the argument's value, compared with the exact values and the offset
+         * @param formattedCount the count minus the offset, as formatted for {@code #}
+         * @param form the plural form the rules select for the count
+         */
+        private void appendBranch(MessageArguments args, double value, String formattedCount, PluralForm form,
+                                  StringBuilder out) {
+            for (int i = 0; i < exactValues.length; i++) {
+                if (exactValues[i] == value) {
+                    appendParts(exactMessages[i], args, formattedCount, out);
+                    return;
+                }
+            }
+            // A zero branch is kept for exactly 0 even where the rules put 0 in another category
+            if (value == offset && forms.containsKey(PluralForm.ZERO)) {
+                form = PluralForm.ZERO;
+            }
+            Part[] message = forms.getOrDefault(form, other);
+            appendParts(message, args, formattedCount, out);
+        }
+    }
+
+    /**
+     * A {@code select} argument.
+     */
+    private record Select(int index, Map<String, Part[]> cases, Part[] other) implements Part {
+        @Override
+        public void appendTo(MessageArguments args, String pound, StringBuilder out) {
+            if (index >= args.size()) {
+                appendMissing(index, out);
+                return;
+            }
+            Part[] message = cases.getOrDefault(String.valueOf(args.get(index)), other);
+            appendParts(message, args, pound, out);
+        }
+    }
+
+    /**
+     * Copies of a format shared by all threads formatting one argument. A format is not
+     * thread-safe, so each call borrows a copy from one of a few slots and puts it back
+     * afterwards; a call finding every slot empty clones a new copy, which is kept if a slot
+     * is free by then. Unlike per-thread copies, the pool does not build formats again for
+     * every virtual thread, and leaves nothing behind on the threads that used it.
+     */
+    private static final class FormatPool {
+        private static final int SLOTS =
+            Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+        private final Supplier<Format> factory;
+        private final AtomicReferenceArray<Format> idle = new AtomicReferenceArray<>(SLOTS);
+        private volatile Format prototype;
+
+        /**
+         * Creates a pool of copies of a format.
+         *
+         * @param factory creates the prototype that copies are cloned from, on first use
+         */
+        FormatPool(Supplier<Format> factory) {
+            this.factory = factory;
+        }
+
+        String format(Object value) {
+            Format format = borrow();
+            try {
+                return format.format(value);
+            } finally {
+                release(format);
+            }
+        }
+
+        String format(long value) {
+            Format format = borrow();
+            try {
+                return ((NumberFormat) format).format(value);
+            } finally {
+                release(format);
+            }
+        }
+
+        String format(double value) {
+            Format format = borrow();
+            try {
+                return ((NumberFormat) format).format(value);
+            } finally {
+                release(format);
+            }
+        }
+
+        private Format borrow() {
+            int start = (int) Thread.currentThread().threadId();
+            for (int i = 0; i < SLOTS; i++) {
+                int slot = (start + i) & (SLOTS - 1);
+                if (idle.get(slot) != null) {
+                    Format format = idle.getAndSet(slot, null);
+                    if (format != null) {
+                        return format;
+                    }
+                }
+            }
+            Format source = prototype;
+            if (source == null) {
+                source = factory.get();
+                prototype = source;
+            }
+            return (Format) source.clone();
+        }
+
+        private void release(Format format) {
+            int start = (int) Thread.currentThread().threadId();
+            for (int i = 0; i < SLOTS; i++) {
+                if (idle.compareAndSet((start + i) & (SLOTS - 1), null, format)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recursive-descent parser producing the parts of a template.
+     */
+    private static final class Parser {
+        private static final Part[] NO_PARTS = new Part[0];
+
+        private final String template;
+        private final Locale locale;
+        private int position;
+
+        Parser(String template, Locale locale) {
+            this.template = template;
+            this.locale = locale;
+        }
+
+        /**
+         * Parses message text up to the end of the template or, in a nested message, up to
+         * the closing brace, which is left for the caller.
+         */
+        Part[] parseMessage(boolean nested, boolean inPlural) {
+            List<Part> parts = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            int length = template.length();
+            while (position < length) {
+                char c = template.charAt(position);
+                if (c == '\'') {
+                    parseApostrophe(text, inPlural);
+                } else if (c == '{') {
+                    flush(text, parts);
+                    parts.add(parseArgument(inPlural));
+                } else if (c == '}') {
+                    if (nested) {
+                        break;
+                    }
+                    throw error("Unmatched '}'");
+                } else if (c == '#' && inPlural) {
+                    flush(text, parts);
+                    parts.add(Pound.INSTANCE);
+                    position++;
+                } else {
+                    text.append(c);
+                    position++;
+                }
+            }
+            if (nested && position >= length) {
+                throw error("Unmatched '{'");
+            }
+            flush(text, parts);
+            return parts.isEmpty() ? NO_PARTS : parts.toArray(NO_PARTS);
+        }
+
+        private void parseApostrophe(StringBuilder text, boolean inPlural) {
+            int length = template.length();
+            char next = position + 1 < length ? template.charAt(position + 1) : 0;
+            if (next == '\'') {
+                text.append('\'');
+                position += 2;
+                return;
+            }
+            if (next != '{' && next != '}' && !(next == '#' && inPlural)) {
+                text.append('\'');
+                position++;
+                return;
+            }
+            // Quoted literal text up to the next single apostrophe, or to the end
+            position++;
+            while (position < length) {
+                char c = template.charAt(position++);
+                if (c != '\'') {
+                    text.append(c);
+                } else if (position < length && template.charAt(position) == '\'') {
+                    text.append('\'');
+                    position++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private Part parseArgument(boolean inPlural) {
+            position++;
+            skipWhitespace();
+            int index = parseIndex();
+            skipWhitespace();
+            if (consume('}')) {
+                return new SimpleArgument(index, locale);
+            }
+            expect(',');
+            skipWhitespace();
+            String type = parseIdentifier();
+            skipWhitespace();
+            switch (type) {
+                case "plural" -> {
+                    expect(',');
+                    return parsePlural(index);
+                }
+                case "select" -> {
+                    expect(',');
+                    return parseSelect(index, inPlural);
+                }
+                case "number", "date", "time", "choice" -> {
+                    String style = consume(',') ? parseStyle() : null;
+                    expect('}');
+                    Format format = createFormat(type, style);
+                    return format instanceof ChoiceFormat choice
+                        ? new Choice(index, choice, locale)
+                        : new FormattedArgument(index, format);
+                }
+                default -> throw error("Unsupported argument type '" + type + "'");
+            }
+        }
+
+        private Part parsePlural(int index) {
+            skipWhitespace();
+            double offset = 0;
+            if (template.startsWith("offset:", position)) {
+                position += "offset:".length();
+                skipWhitespace();
+                offset = parseNumber();
+            }
+            List<Double> exactValues = new ArrayList<>();
+            List<Part[]> exactMessages = new ArrayList<>();
+            Map<PluralForm, Part[]> forms = new EnumMap<>(PluralForm.class);
+            Part[] other = null;
+            while (true) {
+                skipWhitespace();
+                if (consume('}')) {
+                    break;
+                }
+                if (consume('=')) {
+                    double value = parseNumber();
+                    exactValues.add(value);
+                    exactMessages.add(parseBranch(true));
+                    continue;
+                }
+                String keyword = parseIdentifier();
+                PluralForm form;
+                try {
+                    form = PluralForm.valueOf(keyword.toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw error("Unknown plural keyword '" + keyword + "'");
+                }
+                Part[] message = parseBranch(true);
+                forms.put(form, message);
+                if (form == PluralForm.OTHER) {
+                    other = message;
+                }
+            }
+            if (other == null) {
+                throw error("Plural argument without an 'other' branch");
+            }
+            double[] values = new double[exactValues.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = exactValues.get(i);
+            }
+            return new Plural(index, offset, values, exactMessages.toArray(new Part[0][]), forms, other, locale);
+        }
+
+        private Part parseSelect(int index, boolean inPlural) {
+            Map<String, Part[]> cases = new HashMap<>();
+            while (true) {
+                skipWhitespace();
+                if (consume('}')) {
+                    break;
+                }
+                String keyword = parseIdentifier();
+                cases.put(keyword, parseBranch(inPlural));
+            }
+            Part[] other = cases.get("other");
+            if (other == null) {
+                throw error("Select argument without an 'other' branch");
+            }
+            return new Select(index, Map.copyOf(cases), other);
+        }
+
+        private Part[] parseBranch(boolean inPlural) {
+            skipWhitespace();
+            expect('{');
+            Part[] message = parseMessage(true, inPlural);
+            expect('}');
+            return message;
+        }
+
+        /**
+         * Reads a sub-format style verbatim up to the argument's closing brace, keeping quotes
+         * for the sub-format's own pattern syntax.
+         */
+        private String parseStyle() {
+            int start = position;
+            int depth = 0;
+            int length = template.length();
+            while (position < length) {
+                char c = template.charAt(position);
+                if (c == '\'') {
+                    int end = template.indexOf('\'', position + 1);
+                    position = end < 0 ? length : end + 1;
+                    continue;
+                }
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    if (depth == 0) {
+                        return template.substring(start, position).trim();
+                    }
+                    depth--;
+                }
+                position++;
+            }
+            throw error("Unmatched '{'");
+        }
+
+        private Format createFormat(String type, String style) {
+            try {
+                return switch (type) {
+                    case "number" -> createNumberFormat(style);
+                    case "date" -> createDateFormat(style, false);
+                    case "time" -> createDateFormat(style, true);
+                    default -> {
+                        if (style == null) {
+                            throw error("Choice argument without a pattern");
+                        }
+                        yield new ChoiceFormat(style);
+                    }
+                };
+            } catch (IllegalArgumentException e) {
+                if (e instanceof PatternException) {
+                    throw e;
+                }
+                throw error("Invalid " + type + " style '" + style + "': " + e.getMessage());
+            }
+        }
+
+        private Format createNumberFormat(String style) {
+            if (style == null) {
+                return NumberFormat.getInstance(locale);
+            }
+            return switch (style) {
+                case "integer" -> NumberFormat.getIntegerInstance(locale);
+                case "currency" -> NumberFormat.getCurrencyInstance(locale);
+                case "percent" -> NumberFormat.getPercentInstance(locale);
+                default -> new DecimalFormat(style, DecimalFormatSymbols.getInstance(locale));
+            };
+        }
+
+        private Format createDateFormat(String style, boolean time) {
+            int dateStyle;
+            if (style == null) {
+                dateStyle = DateFormat.DEFAULT;
+            } else {
+                switch (style) {
+                    case "short" -> dateStyle = DateFormat.SHORT;
+                    case "medium" -> dateStyle = DateFormat.MEDIUM;
+                    case "long" -> dateStyle = DateFormat.LONG;
+                    case "full" -> dateStyle = DateFormat.FULL;
+                    default -> {
+                        return new SimpleDateFormat(style, locale);
+                    }
+                }
+            }
+            return time ? DateFormat.getTimeInstance(dateStyle, locale) : DateFormat.getDateInstance(dateStyle, locale);
+        }
+
+        private int parseIndex() {
+            int start = position;
+            while (position < template.length() && Character.isDigit(template.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error("Expected an argument number");
+            }
+            try {
+                return Integer.parseInt(template, start, position, 10);
+            } catch (NumberFormatException e) {
+                throw error("Argument number too large");
+            }
+        }
+
+        private double parseNumber() {
+            int start = position;
+            while (position < template.length()) {
+                char c = template.charAt(position);
+                if (!Character.isDigit(c) && c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+                    break;
+                }
+                position++;
+            }
+            try {
+                return Double.parseDouble(template.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("Expected a number");
+            }
+        }
+
+        private String parseIdentifier() {
+            int start = position;
+            while (position < template.length()) {
+                char c = template.charAt(position);
+                if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                    break;
+                }
+                position++;
+            }
+            if (start == position) {
+                throw error("Expected a keyword");
+            }
+            return template.substring(start, position);
+        }
+
+        private void skipWhitespace() {
+            while (position < template.length() && Character.isWhitespace(template.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (position < template.length() && template.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consume(expected)) {
+                throw error(position < template.length() ? "Expected '" + expected + "'" : "Unmatched '{'");
+            }
+        }
+
+        private static void flush(StringBuilder text, List<Part> parts) {
+            if (!text.isEmpty()) {
+                parts.add(new Text(text.toString()));
+                text.setLength(0);
+            }
+        }
+
+        private PatternException error(String message) {
+            return new PatternException(message + " at position " + position + " in \"" + template + "\"");
+        }
+    }
+
+    /**
+     * Reports a malformed template; distinguishes parser errors from sub-format errors.
+     */
+    private static final class PatternException extends IllegalArgumentException {
+        PatternException(String message) {
+            super(message);
+        }
+    }
+}
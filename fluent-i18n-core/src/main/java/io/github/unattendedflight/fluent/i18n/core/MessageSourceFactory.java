@@ -1,14 +1,21 @@
 package io.github.unattendedflight.fluent.i18n.core;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import io.github.unattendedflight.fluent.i18n.util.PropertiesReader;
 
 import java.io.*;
+import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -38,6 +45,8 @@ public class MessageSourceFactory {
         if (messageSource == null) {
             logger.warning(String.format("No suitable message source found for base path: %s. Using fallback.", basePath));
             messageSource = createFallbackMessageSource(config);
+        } else if (config.isEnableAutoReload() && messageSource instanceof CatalogMessageSource catalogSource) {
+            catalogSource.startAutoReload(Duration.ofSeconds(config.getAutoReloadIntervalSeconds()));
         }
         
         return messageSource;
@@ -60,19 +69,19 @@ public class MessageSourceFactory {
             // Try binary format first (most efficient)
             if (hasBinaryFiles(basePath, supportedLocales)) {
                 logger.fine(String.format("Creating binary message source for base path: %s", basePath));
-                return createBinaryMessageSource(basePath, supportedLocales, defaultLocale);
+                return createBinaryMessageSource(basePath, supportedLocales, defaultLocale, config);
             }
             
             // Try JSON format
             if (hasJsonFiles(basePath, supportedLocales)) {
                 logger.fine(String.format("Creating JSON message source for base path: %s", basePath));
-                return createJsonMessageSource(basePath, supportedLocales, defaultLocale);
+                return createJsonMessageSource(basePath, supportedLocales, defaultLocale, config);
             }
             
             // Try properties format
             if (hasPropertiesFiles(basePath, supportedLocales)) {
                 logger.fine(String.format("Creating properties message source for base path: %s", basePath));
-                return createPropertiesMessageSource(basePath, supportedLocales, defaultLocale);
+                return createPropertiesMessageSource(basePath, supportedLocales, defaultLocale, config);
             }
         } else {
             // Use the specifically configured type
@@ -80,19 +89,19 @@ public class MessageSourceFactory {
                 case BINARY:
                     if (hasBinaryFiles(basePath, supportedLocales)) {
                         logger.fine(String.format("Creating binary message source for base path: %s", basePath));
-                        return createBinaryMessageSource(basePath, supportedLocales, defaultLocale);
+                        return createBinaryMessageSource(basePath, supportedLocales, defaultLocale, config);
                     }
                     break;
                 case JSON:
                     if (hasJsonFiles(basePath, supportedLocales)) {
                         logger.fine(String.format("Creating JSON message source for base path: %s", basePath));
-                        return createJsonMessageSource(basePath, supportedLocales, defaultLocale);
+                        return createJsonMessageSource(basePath, supportedLocales, defaultLocale, config);
                     }
                     break;
                 case PROPERTIES:
                     if (hasPropertiesFiles(basePath, supportedLocales)) {
                         logger.fine(String.format("Creating properties message source for base path: %s", basePath));
-                        return createPropertiesMessageSource(basePath, supportedLocales, defaultLocale);
+                        return createPropertiesMessageSource(basePath, supportedLocales, defaultLocale, config);
                     }
                     break;
             }
@@ -114,6 +123,11 @@ public class MessageSourceFactory {
                 return TranslationResult.notFound(naturalText);
             }
             
+            @Override
+            public String lookup(String hash, Locale locale, int localeId) {
+                return null;
+            }
+            
             @Override
             public boolean exists(String hash, Locale locale) {
                 return false;
@@ -201,10 +215,11 @@ public class MessageSourceFactory {
      * @param basePath the base path
      * @param supportedLocales the supported locales
      * @param defaultLocale the default locale
+     * @param config the configuration of the message source
      * @return a binary message source
      */
-    private static NaturalTextMessageSource createBinaryMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale) {
-        return new CoreBinaryMessageSource(basePath, supportedLocales, defaultLocale);
+    private static NaturalTextMessageSource createBinaryMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+        return new CoreBinaryMessageSource(basePath, supportedLocales, defaultLocale, config);
     }
     
     /**
@@ -213,10 +228,11 @@ public class MessageSourceFactory {
      * @param basePath the base path
      * @param supportedLocales the supported locales
      * @param defaultLocale the default locale
+     * @param config the configuration of the message source
      * @return a JSON message source
      */
-    private static NaturalTextMessageSource createJsonMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale) {
-        return new CoreJsonMessageSource(basePath, supportedLocales, defaultLocale);
+    private static NaturalTextMessageSource createJsonMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+        return new CoreJsonMessageSource(basePath, supportedLocales, defaultLocale, config);
     }
     
     /**
@@ -225,10 +241,11 @@ public class MessageSourceFactory {
      * @param basePath the base path
      * @param supportedLocales the supported locales
      * @param defaultLocale the default locale
+     * @param config the configuration of the message source
      * @return a properties message source
      */
-    private static NaturalTextMessageSource createPropertiesMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale) {
-        return new CorePropertiesMessageSource(basePath, supportedLocales, defaultLocale);
+    private static NaturalTextMessageSource createPropertiesMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+        return new CorePropertiesMessageSource(basePath, supportedLocales, defaultLocale, config);
     }
 
     /**
@@ -237,7 +254,7 @@ public class MessageSourceFactory {
      *
      * Business Context:
      * - Designed for performance in high-traffic applications requiring i18n support.
-     * - Ensures fallback behavior to a default locale when requested locale lacks a translation.
+     * - Resolves through the fallback chain of the requested locale (see {@link CatalogMessageSource}).
      * - Handles compressed and uncompressed binary resource files, validating file integrity.
      *
      * Edge Cases:
@@ -245,19 +262,24 @@ public class MessageSourceFactory {
      * - Safeguards against invalid version headers or corrupt entries during parsing.
      *
      * Key Considerations:
-     * - Fallback to default locale only occurs when the hash is missing, even if natural text exists.
      * - Uses VLQ encoding for flexibility in binary formats; errors are logged, not thrown, for resilience.
+     * - Indexed (version 3) catalogs on the file system are memory-mapped instead of copied onto the heap,
+     *   unless auto-reload is enabled.
      */
-    private static class CoreBinaryMessageSource implements NaturalTextMessageSource {
+    private static class CoreBinaryMessageSource extends CatalogMessageSource {
         private static final byte[] MAGIC = "FL18".getBytes(StandardCharsets.UTF_8);
         private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
         private static final byte FLAG_COMPRESSED = 0x01;
         private static final byte FLAG_FIXED_HASH_LENGTH = 0x02;
+        private static final byte FLAG_LONG_KEYS = 0x04;
+        private static final byte FLAG_HASH_ALGORITHM = 0x08;
+        private static final byte FLAG_SHARED_STRINGS = 0x10;
+        private static final byte VERSION_STRING_TABLE = 5;
+        private static final String STRING_TABLE_FILE_NAME = "messages.strings.bin";
+        private static final int DEFAULT_EXPECTED_SIZE = 64;
         
-        private final String basePath;
-        private final Set<Locale> supportedLocales;
-        private final Locale defaultLocale;
-        private final Map<Locale, Map<String, String>> cache = new ConcurrentHashMap<>();
+        private final boolean mapFiles;
+        private StringTable stringTable;
         
         /**
          * Sets up the message source for resolving translations from binary files.
@@ -265,129 +287,70 @@ public class MessageSourceFactory {
          * @param basePath the root directory for locating binary message files; critical for resolving resources.
          * @param supportedLocales the set of locales the message source explicitly supports; ensures fallback logic when a requested locale isn't available.
          * @param defaultLocale the locale to fall back on when a translation is missing or unsupported; ensures predictable behavior in edge cases.
+         * @param config the configuration providing the key mode (catalogs written with long keys are always long-keyed)
+         *               and the hash algorithm (catalogs keyed by another algorithm are ignored).
          */
-        public CoreBinaryMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale) {
-            this.basePath = basePath;
-            this.supportedLocales = supportedLocales;
-            this.defaultLocale = defaultLocale;
+        public CoreBinaryMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+            super(basePath, supportedLocales, defaultLocale, config);
+            this.mapFiles = !config.isEnableAutoReload();
         }
         
-        /**
-         * Resolves a translation for the given hash and locale, falling back to the default locale if necessary.
-         * If no translation is available, uses the provided natural text as a fallback.
-         *
-         * Business logic ensures consistent behavior for missing or incomplete translations,
-         * prioritizing locale-specific results while maintaining a reasonable fallback strategy.
-         * Assumes translations for unsupported locales are pre-validated, reducing redundant checks.
-         *
-         * @param hash the unique identifier for the translation entry; must match the precomputed translation hash
-         * @param naturalText the fallback text to use if neither locale-specific nor default translations are available
-         * @param locale the desired locale for the translation, determines both primary and fallback lookup paths
-         * @return a TranslationResult representing either the translation found or a fallback with natural text
-         */
         @Override
-        public TranslationResult resolve(String hash, String naturalText, Locale locale) {
-            Map<String, String> translations = getTranslations(locale);
-            String translation = translations.get(hash);
-            
-            if (translation != null && !translation.isBlank()) {
-                return TranslationResult.found(translation);
-            }
-            
-            // Try default locale fallback
-            if (!locale.equals(defaultLocale)) {
-                Map<String, String> defaultTranslations = getTranslations(defaultLocale);
-                String defaultTranslation = defaultTranslations.get(hash);
-                if (defaultTranslation != null && !defaultTranslation.isBlank()) {
-                    return TranslationResult.found(defaultTranslation);
-                }
-            }
-            
-            return TranslationResult.notFound(naturalText);
-        }
-        
-        /**
-         * Checks if a translation identified by the given hash exists for the specified locale.
-         *
-         * This leverages cached translations to avoid redundant lookups and ensures that missing
-         * resources or unsupported locales do not cause errors. The fallback behavior relies on
-         * translation validity being guaranteed during cache initialization.
-         *
-         * Edge Cases:
-         * - If the locale is unsupported, an empty map is returned from {@code getTranslations()},
-         *   causing this method to return {@code false}.
-         * - Hash lookup is strictly case-sensitive and depends on exact matching.
-         *
-         * @param hash the unique identifier for the translation entry, typically a precomputed hash value
-         * @param locale the locale in which the translation is sought
-         * @return {@code true} if the translation exists for the given hash and locale; {@code false} otherwise
-         */
-        @Override
-        public boolean exists(String hash, Locale locale) {
-            Map<String, String> translations = getTranslations(locale);
-            return translations.containsKey(hash);
-        }
-        
-        /**
-         * Provides the set of locales explicitly supported by this message source.
-         *
-         * Ensures downstream processes (e.g., translation resolution, fallback logic) can validate
-         * or restrict operations to supported locales. Critical for avoiding redundant lookups and
-         * enforcing predictable resource availability. Returns an empty collection if no locales are supported.
-         *
-         * @return an iterable containing supported locales; may be empty but never null
-         */
-        @Override
-        public Iterable<Locale> getSupportedLocales() {
-            return supportedLocales;
-        }
-        
-        /**
-         * Retrieves cached translations for the specified locale, loading them if not already cached.
-         *
-         * Ensures efficient access to localized resources by leveraging an in-memory cache. Automatically
-         * invokes a loading mechanism if translations for the given locale are missing, minimizing I/O overhead
-         * in subsequent calls.
-         *
-         * Business Rules:
-         * - Returns an empty map if the locale is unsupported or the resource fails to load.
-         * - The input locale must not be null; use the default locale fallback logic for missing data upstream.
-         *
-         * @param locale the locale for which translations are requested; determines the resource lookup path.
-         * @return a map of translation keys to localized strings for the requested locale, or an empty map if unavailable.
-         */
-        private Map<String, String> getTranslations(Locale locale) {
-            return cache.computeIfAbsent(locale, this::loadTranslations);
+        protected String getResourcePath(Locale locale) {
+            return basePath + "/messages_" + locale.toLanguageTag() + ".bin";
         }
         
         /**
          * Loads translations for the specified locale from a binary resource file.
          *
          * Prioritizes fetching resources for locale-specific translations, gracefully
-         * handling missing files or corrupted contents by returning an empty map.
+         * handling missing files or corrupted contents by returning an empty catalog.
          * Logs detailed warnings for issues like missing files or read errors.
          * Guarantees non-null output to ensure stability in downstream translation logic.
          *
+         * Indexed catalogs that live on the file system are memory-mapped and searched in place;
+         * every other resource is read fully and handed to {@link #parseBinaryFile(byte[], String)}.
+         * A mapped catalog must only be replaced by moving a new file over it, as the compiler
+         * does, so that a {@link #reload()} maps the new file while the readers of the current
+         * generation keep the previous one; a file rewritten in place would be truncated
+         * underneath them. With auto-reload enabled catalogs are never mapped, since the files
+         * it watches may be edited by any tool.
+         *
          * @param locale the locale for which translations are being loaded; strongly affects
          *               resource lookup by constructing a path using the locale's language tag.
-         * @return a map containing translation entries for the specified locale;
-         *         returns an empty map if the resource cannot be found or fails to load.
+         * @return the catalog for the specified locale;
+         *         returns an empty catalog if the resource cannot be found or fails to load.
          */
-        private Map<String, String> loadTranslations(Locale locale) {
-            String resourcePath = basePath + "/messages_" + locale.toLanguageTag() + ".bin";
+        @Override
+        protected TranslationCatalog loadTranslations(Locale locale) {
+            String resourcePath = getResourcePath(locale);
             
-            try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
-                if (is == null) {
+            try {
+                URL resource = findResource(resourcePath);
+                if (resource == null) {
                     logger.fine("Binary resource not found: " + resourcePath);
-                    return new HashMap<>();
+                    return TranslationCatalog.EMPTY;
                 }
                 
-                byte[] data = is.readAllBytes();
-                return parseBinaryFile(data, resourcePath);
+                if (mapFiles && "file".equals(resource.getProtocol())) {
+                    IndexedBinaryCatalog mapped = IndexedBinaryCatalog.map(Path.of(resource.toURI()));
+                    if (mapped != null) {
+                        if (!isKeyedByRuntimeAlgorithm(mapped.getHashAlgorithmId(), resourcePath)) {
+                            return TranslationCatalog.EMPTY;
+                        }
+                        logger.fine("Memory-mapped " + mapped.size() + " translations from binary resource: " + resourcePath);
+                        return mapped;
+                    }
+                }
+                
+                try (InputStream is = resource.openStream()) {
+                    byte[] data = is.readAllBytes();
+                    return parseBinaryFile(data, resourcePath);
+                }
                 
             } catch (Exception e) {
                 logger.warning("Error loading binary resource: " + resourcePath + " - " + e.getMessage());
-                return new HashMap<>();
+                return TranslationCatalog.EMPTY;
             }
         }
         
@@ -396,7 +359,7 @@ public class MessageSourceFactory {
          *
          * @param data the raw binary file data; may be GZIP-compressed and must follow expected header and format rules
          * @param resourcePath the resource identifier for the file, used for logging/debugging in case of errors
-         * @return a map of translation keys to their corresponding translations; guaranteed to be non-null, potentially empty
+         * @return the catalog holding the translations; guaranteed to be non-null, potentially empty
          * @throws IOException if decompression fails, the file format is invalid, or unsupported versions are encountered
          *
          * Business Notes:
@@ -405,7 +368,7 @@ public class MessageSourceFactory {
          * - Header structure and entry limits are strictly enforced to avoid processing malformed data.
          * - Logs processing success or detailed failure reasons for traceability.
          */
-        private Map<String, String> parseBinaryFile(byte[] data, String resourcePath) throws IOException {
+        private TranslationCatalog parseBinaryFile(byte[] data, String resourcePath) throws IOException {
             // Check for GZIP compression
             boolean isCompressed = data.length >= 2 && 
                 (data[0] & 0xFF) == 0x1F && (data[1] & 0xFF) == 0x8B;
@@ -421,18 +384,43 @@ public class MessageSourceFactory {
             
             ByteBuffer buffer = ByteBuffer.wrap(data).order(BYTE_ORDER);
             
+            // Indexed catalogs are searched in place rather than decoded into a map
+            if (IndexedBinaryCatalog.isIndexed(buffer)) {
+                IndexedBinaryCatalog catalog = IndexedBinaryCatalog.wrap(data, resourcePath);
+                return isKeyedByRuntimeAlgorithm(catalog.getHashAlgorithmId(), resourcePath) ? catalog : TranslationCatalog.EMPTY;
+            }
+            
             // Read and validate header
             BinaryHeader header = readAndValidateHeader(buffer, resourcePath);
             if (header == null) {
                 throw new IOException("Invalid binary file format for resource: " + resourcePath);
             }
+            if (!isKeyedByRuntimeAlgorithm(header.hashAlgorithmId, resourcePath)) {
+                return TranslationCatalog.EMPTY;
+            }
+            
+            // Catalogs compiled with a shared string table reference its strings by index
+            String[] strings = null;
+            if (header.version == 2 && (header.flags & FLAG_SHARED_STRINGS) != 0) {
+                strings = getStringTable(header.stringTableChecksum, resourcePath);
+                if (strings == null) {
+                    return TranslationCatalog.EMPTY;
+                }
+            }
+            
+            // Catalogs written with long keys carry no hash strings to build a map from
+            if (header.version == 2 && (header.flags & FLAG_LONG_KEYS) != 0) {
+                TranslationCatalog catalog = readLongKeyEntriesV2(buffer, header, strings);
+                logger.fine("Successfully parsed " + catalog.size() + " long-keyed translations from binary resource: " + resourcePath);
+                return catalog;
+            }
             
             // Read entries based on version
-            Map<String, String> translations;
+            TranslationCatalog translations;
             if (header.version == 1) {
                 translations = readEntriesV1(buffer);
             } else if (header.version == 2) {
-                translations = readEntriesV2(buffer, header);
+                translations = readEntriesV2(buffer, header, strings);
             } else {
                 throw new IOException("Unsupported binary file version: " + header.version);
             }
@@ -441,6 +429,26 @@ public class MessageSourceFactory {
             return translations;
         }
         
+        /**
+         * Checks that a catalog was keyed by the hash algorithm the runtime uses. Binary catalogs
+         * do not carry the natural text needed to re-key them, so mismatching catalogs are refused
+         * with a warning and lookups fall back to the natural text.
+         *
+         * @param hashAlgorithmId the algorithm ID recorded in the catalog
+         * @param resourcePath the resource path, used in the warning
+         * @return {@code true} if the catalog can be used
+         */
+        private boolean isKeyedByRuntimeAlgorithm(int hashAlgorithmId, String resourcePath) {
+            if (hashAlgorithmId == hashAlgorithm.getId()) {
+                return true;
+            }
+            HashAlgorithm recorded = HashAlgorithm.fromId(hashAlgorithmId);
+            logger.warning("Ignoring binary resource " + resourcePath + ": it is keyed by "
+                + (recorded != null ? recorded : "unknown hash algorithm " + hashAlgorithmId)
+                + " but the runtime uses " + hashAlgorithm + "; recompile it with the configured hashAlgorithm");
+            return false;
+        }
+        
         /**
          * Parses and validates the binary file header for structural integrity and version compatibility.
          *
@@ -485,10 +493,22 @@ public class MessageSourceFactory {
             byte flags = 0;
             Integer fixedHashLength = null;
             int entryCount = 0;
+            int hashAlgorithmId = HashAlgorithm.SHA256.getId();
+            long stringTableChecksum = -1;
             
             if (version >= 2) {
                 flags = buffer.get();
                 
+                // Read hash algorithm if it is not the default
+                if ((flags & FLAG_HASH_ALGORITHM) != 0) {
+                    hashAlgorithmId = Byte.toUnsignedInt(buffer.get());
+                }
+                
+                // Read the checksum of the shared string table the entries refer to
+                if ((flags & FLAG_SHARED_STRINGS) != 0) {
+                    stringTableChecksum = Integer.toUnsignedLong(buffer.getInt());
+                }
+                
                 // Skip locale (VLQ length + string)
                 int localeLength = readVLQ(buffer);
                 buffer.position(buffer.position() + localeLength);
@@ -502,7 +522,7 @@ public class MessageSourceFactory {
                 entryCount = readVLQ(buffer);
             }
             
-            return new BinaryHeader(version, flags, fixedHashLength, entryCount);
+            return new BinaryHeader(version, flags, fixedHashLength, entryCount, hashAlgorithmId, stringTableChecksum);
         }
         
         /**
@@ -524,10 +544,10 @@ public class MessageSourceFactory {
          * - Does not attempt retries or rollback on malformed entries.
          *
          * @param buffer a {@link ByteBuffer} containing raw V1 translation data; must not be null or empty.
-         * @return a map of hash keys to their corresponding translations. Only valid entries are included.
+         * @return a catalog of hash keys to their corresponding translations. Only valid entries are included.
          */
-        private Map<String, String> readEntriesV1(ByteBuffer buffer) {
-            Map<String, String> translations = new HashMap<>();
+        private TranslationCatalog readEntriesV1(ByteBuffer buffer) {
+            CatalogBuilder translations = newCatalogBuilder(DEFAULT_EXPECTED_SIZE);
             
             while (buffer.hasRemaining()) {
                 try {
@@ -558,7 +578,7 @@ public class MessageSourceFactory {
                 }
             }
             
-            return translations;
+            return translations.build();
         }
         
         /**
@@ -571,10 +591,11 @@ public class MessageSourceFactory {
          *
          * @param buffer the binary buffer containing translation data; must be positioned correctly to read entries
          * @param header metadata describing the entry structure and format; defines limits and parsing logic
-         * @return a map of hash keys to translated strings; may be incomplete if errors occur during reading
+         * @param strings the shared string table the entries refer to, or {@code null} if translations are inline
+         * @return a catalog of hash keys to translated strings; may be incomplete if errors occur during reading
          */
-        private Map<String, String> readEntriesV2(ByteBuffer buffer, BinaryHeader header) {
-            Map<String, String> translations = new HashMap<>();
+        private TranslationCatalog readEntriesV2(ByteBuffer buffer, BinaryHeader header, String[] strings) {
+            CatalogBuilder translations = newCatalogBuilder(header.entryCount);
             boolean hasFixedHashLength = (header.flags & FLAG_FIXED_HASH_LENGTH) != 0;
             
             for (int i = 0; i < header.entryCount && buffer.hasRemaining(); i++) {
@@ -592,15 +613,11 @@ public class MessageSourceFactory {
                     String hash = new String(hashBytes, StandardCharsets.UTF_8);
                     
                     // Read translation
-                    int translationLength = readVLQ(buffer);
-                    if (translationLength < 0 || translationLength > buffer.remaining()) {
+                    String translation = readTranslation(buffer, strings);
+                    if (translation == null) {
                         break;
                     }
                     
-                    byte[] translationBytes = new byte[translationLength];
-                    buffer.get(translationBytes);
-                    String translation = new String(translationBytes, StandardCharsets.UTF_8);
-                    
                     translations.put(hash, translation);
                 } catch (Exception e) {
                     logger.warning("Error reading V2 entry: " + e.getMessage());
@@ -608,7 +625,124 @@ public class MessageSourceFactory {
                 }
             }
             
-            return translations;
+            return translations.build();
+        }
+        
+        /**
+         * Reads entries from a v2-formatted buffer whose keys are 8-byte long keys instead of hash strings.
+         * Stops at the first malformed entry, like {@link #readEntriesV2(ByteBuffer, BinaryHeader, String[])}.
+         *
+         * @param buffer the binary buffer, positioned at the first entry
+         * @param header metadata describing the entry count
+         * @param strings the shared string table the entries refer to, or {@code null} if translations are inline
+         * @return a long-keyed catalog holding the successfully read entries
+         */
+        private TranslationCatalog readLongKeyEntriesV2(ByteBuffer buffer, BinaryHeader header, String[] strings) {
+            CatalogBuilder translations = newCatalogBuilder(true, header.entryCount);
+            
+            for (int i = 0; i < header.entryCount && buffer.remaining() >= Long.BYTES; i++) {
+                try {
+                    long key = buffer.getLong();
+                    String translation = readTranslation(buffer, strings);
+                    if (translation == null) {
+                        break;
+                    }
+                    translations.put(key, translation);
+                } catch (Exception e) {
+                    logger.warning("Error reading V2 entry: " + e.getMessage());
+                    break;
+                }
+            }
+            
+            return translations.build();
+        }
+        
+        /**
+         * Reads the translation of a v2 entry: an index into the shared string table, or a
+         * VLQ length followed by the UTF-8 bytes, decoded straight from the backing array.
+         *
+         * @param buffer the buffer, positioned at the translation
+         * @param strings the shared string table, or {@code null} if translations are inline
+         * @return the translation, or {@code null} if the entry is malformed
+         */
+        private String readTranslation(ByteBuffer buffer, String[] strings) {
+            int value = readVLQ(buffer);
+            if (strings != null) {
+                return value >= 0 && value < strings.length ? strings[value] : null;
+            }
+            if (value < 0 || value > buffer.remaining()) {
+                return null;
+            }
+            String translation = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), value, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + value);
+            return translation;
+        }
+        
+        /**
+         * Returns the shared string table that catalogs compiled with
+         * {@code CompilerConfig.sharedStringTable(true)} refer to. The table is decoded once
+         * and reused by every locale, so each of its strings exists once no matter how many
+         * catalogs reference it. When the catalog expects a different table than the one
+         * cached, typically after the catalogs were recompiled, the table is read again.
+         *
+         * @param checksum the CRC32 of the table recorded in the catalog header
+         * @param resourcePath the catalog's resource path, used in warnings
+         * @return the table's strings, or {@code null} if the table is missing or does not match
+         */
+        private synchronized String[] getStringTable(long checksum, String resourcePath) {
+            if (stringTable == null || stringTable.checksum != checksum) {
+                stringTable = loadStringTable();
+            }
+            if (stringTable == null || stringTable.checksum != checksum) {
+                logger.warning("Ignoring binary resource " + resourcePath + ": the shared string table "
+                    + basePath + "/" + STRING_TABLE_FILE_NAME + (stringTable == null ? " is missing or invalid" : " belongs to another compilation"));
+                return null;
+            }
+            return stringTable.strings;
+        }
+        
+        /**
+         * Reads the shared string table: the FL18 magic, version 5, a flags byte, a VLQ string
+         * count and every string as a VLQ length followed by UTF-8 bytes, usually gzip-compressed.
+         *
+         * @return the decoded table with the CRC32 of its uncompressed bytes, or {@code null} on failure
+         */
+        private StringTable loadStringTable() {
+            String resourcePath = basePath + "/" + STRING_TABLE_FILE_NAME;
+            URL resource = findResource(resourcePath);
+            if (resource == null) {
+                return null;
+            }
+            try (InputStream is = resource.openStream()) {
+                byte[] data = is.readAllBytes();
+                if (data.length >= 2 && (data[0] & 0xFF) == 0x1F && (data[1] & 0xFF) == 0x8B) {
+                    try (GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                        data = gzis.readAllBytes();
+                    }
+                }
+                if (data.length < MAGIC.length + 2 || !Arrays.equals(data, 0, MAGIC.length, MAGIC, 0, MAGIC.length)
+                    || data[MAGIC.length] != VERSION_STRING_TABLE) {
+                    logger.warning("Invalid shared string table: " + resourcePath);
+                    return null;
+                }
+                // Skip magic, version and flags
+                ByteBuffer buffer = ByteBuffer.wrap(data, MAGIC.length + 2, data.length - MAGIC.length - 2).order(BYTE_ORDER);
+                String[] strings = new String[readVLQ(buffer)];
+                for (int i = 0; i < strings.length; i++) {
+                    strings[i] = readTranslation(buffer, null);
+                    if (strings[i] == null) {
+                        logger.warning("Truncated shared string table: " + resourcePath);
+                        return null;
+                    }
+                }
+                CRC32 crc = new CRC32();
+                crc.update(data);
+                logger.fine("Loaded " + strings.length + " shared strings from " + resourcePath);
+                return new StringTable(crc.getValue(), strings);
+            } catch (Exception e) {
+                logger.warning("Error loading shared string table: " + resourcePath + " - " + e.getMessage());
+                return null;
+            }
         }
         
         /**
@@ -649,6 +783,7 @@ public class MessageSourceFactory {
          * `flags` can denote optional settings or features for the binary data.
          * `fixedHashLength`, if non-null, imposes strict hash length validation.
          * `entryCount` provides a quick reference to the total entries, aiding in efficient allocation or validation.
+         * `hashAlgorithmId` identifies the {@link HashAlgorithm} that keyed the entries.
          *
          * Assumes inputs are validated upstream to preserve runtime performance.
          */
@@ -657,186 +792,181 @@ public class MessageSourceFactory {
             final byte flags;
             final Integer fixedHashLength;
             final int entryCount;
+            final int hashAlgorithmId;
+            
+            final long stringTableChecksum;
             
-            BinaryHeader(int version, byte flags, Integer fixedHashLength, int entryCount) {
+            BinaryHeader(int version, byte flags, Integer fixedHashLength, int entryCount, int hashAlgorithmId,
+                         long stringTableChecksum) {
                 this.version = version;
                 this.flags = flags;
                 this.fixedHashLength = fixedHashLength;
                 this.entryCount = entryCount;
+                this.hashAlgorithmId = hashAlgorithmId;
+                this.stringTableChecksum = stringTableChecksum;
             }
         }
+        
+        /**
+         * A decoded shared string table and the CRC32 that catalogs referring to it record.
+         */
+        private record StringTable(long checksum, String[] strings) {}
     }
     
     /**
      * Framework-agnostic JSON message source implementation.
+     *
+     * Catalogs are parsed in a single streaming pass with Jackson's {@link JsonParser}, straight
+     * from the resource stream into the final catalog: no copy of the file, no tree of nodes and,
+     * in long key mode, no intermediate map. Jackson handles the full JSON escape set, including
+     * Unicode escapes and surrogate pairs. Catalogs written with metadata first are
+     * pre-sized from their {@code entryCount}.
      */
-    private static class CoreJsonMessageSource implements NaturalTextMessageSource {
-        private final String basePath;
-        private final Set<Locale> supportedLocales;
-        private final Locale defaultLocale;
-        private final Map<Locale, Map<String, String>> cache = new ConcurrentHashMap<>();
+    private static class CoreJsonMessageSource extends CatalogMessageSource {
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+        private static final int DEFAULT_EXPECTED_SIZE = 64;
         
-        public CoreJsonMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale) {
-            this.basePath = basePath;
-            this.supportedLocales = supportedLocales;
-            this.defaultLocale = defaultLocale;
+        public CoreJsonMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+            super(basePath, supportedLocales, defaultLocale, config);
         }
         
         @Override
-        public TranslationResult resolve(String hash, String naturalText, Locale locale) {
-            Map<String, String> translations = getTranslations(locale);
-            String translation = translations.get(hash);
-            
-            if (translation != null && !translation.isBlank()) {
-                return TranslationResult.found(translation);
-            }
-            
-            // Try default locale fallback
-            if (!locale.equals(defaultLocale)) {
-                Map<String, String> defaultTranslations = getTranslations(defaultLocale);
-                String defaultTranslation = defaultTranslations.get(hash);
-                if (defaultTranslation != null && !defaultTranslation.isBlank()) {
-                    return TranslationResult.found(defaultTranslation);
-                }
-            }
-            
-            return TranslationResult.notFound(naturalText);
-        }
-        
-        @Override
-        public boolean exists(String hash, Locale locale) {
-            Map<String, String> translations = getTranslations(locale);
-            return translations.containsKey(hash);
+        protected String getResourcePath(Locale locale) {
+            return basePath + "/messages_" + locale.toLanguageTag() + ".json";
         }
         
         @Override
-        public Iterable<Locale> getSupportedLocales() {
-            return supportedLocales;
-        }
-        
-        private Map<String, String> getTranslations(Locale locale) {
-            return cache.computeIfAbsent(locale, this::loadTranslations);
-        }
-        
-        private Map<String, String> loadTranslations(Locale locale) {
-            String resourcePath = basePath + "/messages_" + locale.toLanguageTag() + ".json";
+        protected TranslationCatalog loadTranslations(Locale locale) {
+            String resourcePath = getResourcePath(locale);
+            URL resource = findResource(resourcePath);
+            if (resource == null) {
+                logger.fine("JSON resource not found: " + resourcePath);
+                return TranslationCatalog.EMPTY;
+            }
             
-            try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
-                if (is == null) {
-                    logger.fine("JSON resource not found: " + resourcePath);
-                    return new HashMap<>();
-                }
-                
-                String content = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-                return parseJsonContent(content, resourcePath);
-                
+            try {
+                TranslationCatalog catalog = parseJson(resource, resourcePath, null);
+                logger.fine("Successfully parsed " + catalog.size() + " translations from JSON resource: " + resourcePath);
+                return catalog;
             } catch (Exception e) {
                 logger.warning("Error loading JSON resource: " + resourcePath + " - " + e.getMessage());
-                return new HashMap<>();
+                return TranslationCatalog.EMPTY;
             }
         }
         
-        private Map<String, String> parseJsonContent(String content, String resourcePath) {
-            Map<String, String> translations = new HashMap<>();
-            
-            try {
-                // Simple JSON parsing without external dependencies
-                content = content.trim();
-                if (!content.startsWith("{") || !content.endsWith("}")) {
+        /**
+         * Parses a JSON catalog as written by {@code JsonOutputWriter}. Values are either plain
+         * translation strings or objects carrying {@code translation} and {@code original}.
+         *
+         * When the {@code _metadata} node records a hash algorithm other than the one the runtime
+         * uses, entries are re-keyed from their {@code original} text; entries without it cannot be
+         * re-keyed and are dropped. Catalogs written by older versions carry their metadata last;
+         * if such a catalog turns out to be keyed by another algorithm, it is parsed a second time
+         * with the recorded algorithm known up front.
+         *
+         * @param resource the catalog resource
+         * @param resourcePath the resource path, for logging
+         * @param recordedAlgorithm the algorithm the catalog is known to be keyed by, or {@code null}
+         *                          to take it from the metadata, assuming SHA-256 until it is seen
+         * @return the catalog, empty if the file is not a JSON object or records an unknown algorithm
+         */
+        private TranslationCatalog parseJson(URL resource, String resourcePath, HashAlgorithm recordedAlgorithm) throws IOException {
+            try (InputStream is = resource.openStream(); JsonParser parser = JSON_FACTORY.createParser(is)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
                     logger.warning("Invalid JSON format in: " + resourcePath);
-                    return translations;
+                    return TranslationCatalog.EMPTY;
                 }
                 
-                // Remove outer braces
-                content = content.substring(1, content.length() - 1).trim();
-                
-                // Parse key-value pairs
-                boolean inString = false;
-                boolean escapeNext = false;
-                StringBuilder currentKey = new StringBuilder();
-                StringBuilder currentValue = new StringBuilder();
-                boolean parsingKey = true;
-                boolean foundColon = false;
+                HashAlgorithm recorded = recordedAlgorithm != null ? recordedAlgorithm : HashAlgorithm.SHA256;
+                HashGenerator rekeyGenerator = recorded != hashAlgorithm ? hashAlgorithm.newGenerator() : null;
+                int expectedSize = DEFAULT_EXPECTED_SIZE;
+                CatalogBuilder translations = null;
                 
-                for (int i = 0; i < content.length(); i++) {
-                    char c = content.charAt(i);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.currentName();
+                    JsonToken token = parser.nextToken();
                     
-                    if (escapeNext) {
-                        if (parsingKey && foundColon == false) {
-                            currentKey.append(c);
-                        } else if (foundColon) {
-                            currentValue.append(c);
+                    if ("_metadata".equals(key) && token == JsonToken.START_OBJECT) {
+                        String algorithmName = null;
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String field = parser.currentName();
+                            JsonToken fieldToken = parser.nextToken();
+                            if ("hashAlgorithm".equals(field) && fieldToken == JsonToken.VALUE_STRING) {
+                                algorithmName = parser.getText();
+                            } else if ("entryCount".equals(field) && fieldToken == JsonToken.VALUE_NUMBER_INT) {
+                                expectedSize = Math.max(parser.getIntValue(), 0);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        HashAlgorithm algorithm = algorithmName != null ? HashAlgorithm.fromString(algorithmName) : HashAlgorithm.SHA256;
+                        if (algorithm == null) {
+                            logger.warning("Unknown hash algorithm '" + algorithmName + "' in: " + resourcePath);
+                            return TranslationCatalog.EMPTY;
+                        }
+                        if (algorithm != recorded) {
+                            if (translations != null) {
+                                // Trailing metadata: the entries read so far were keyed under a wrong assumption
+                                return parseJson(resource, resourcePath, algorithm);
+                            }
+                            recorded = algorithm;
+                            rekeyGenerator = recorded != hashAlgorithm ? hashAlgorithm.newGenerator() : null;
+                        }
+                        if (rekeyGenerator != null) {
+                            logger.fine("Re-keying JSON resource " + resourcePath + " from " + recorded + " to " + hashAlgorithm);
                         }
-                        escapeNext = false;
-                        continue;
-                    }
-                    
-                    if (c == '\\') {
-                        escapeNext = true;
                         continue;
                     }
-                    
-                    if (c == '"') {
-                        inString = !inString;
+                    if (key.startsWith("_")) {
+                        parser.skipChildren();
                         continue;
                     }
                     
-                    if (!inString) {
-                        if (c == ':' && parsingKey) {
-                            foundColon = true;
-                            parsingKey = false;
-                            continue;
-                        } else if (c == ',' && foundColon) {
-                            // End of current pair
-                            String key = currentKey.toString().trim();
-                            String value = currentValue.toString().trim();
-                            if (!key.isEmpty() && !value.isEmpty()) {
-                                translations.put(key, value);
+                    String translation = null;
+                    String original = null;
+                    if (token == JsonToken.VALUE_STRING) {
+                        translation = parser.getText();
+                    } else if (token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String field = parser.currentName();
+                            JsonToken fieldToken = parser.nextToken();
+                            if ("translation".equals(field) && fieldToken == JsonToken.VALUE_STRING) {
+                                translation = parser.getText();
+                            } else if ("original".equals(field) && fieldToken == JsonToken.VALUE_STRING) {
+                                original = parser.getText();
+                            } else {
+                                parser.skipChildren();
                             }
-                            
-                            currentKey.setLength(0);
-                            currentValue.setLength(0);
-                            parsingKey = true;
-                            foundColon = false;
-                            continue;
-                        } else if (Character.isWhitespace(c)) {
-                            continue;
                         }
+                    } else {
+                        parser.skipChildren();
                     }
                     
-                    if (parsingKey && !foundColon) {
-                        currentKey.append(c);
-                    } else if (foundColon) {
-                        currentValue.append(c);
+                    if (translation == null || translation.isEmpty()) {
+                        continue;
                     }
-                }
-                
-                // Handle last pair
-                if (foundColon) {
-                    String key = currentKey.toString().trim();
-                    String value = currentValue.toString().trim();
-                    if (!key.isEmpty() && !value.isEmpty()) {
-                        translations.put(key, value);
+                    if (rekeyGenerator != null) {
+                        if (original == null) {
+                            continue;
+                        }
+                        key = rekeyGenerator.generateHash(original);
                     }
+                    if (translations == null) {
+                        translations = newCatalogBuilder(expectedSize);
+                    }
+                    translations.put(key, translation);
                 }
                 
-            } catch (Exception e) {
-                logger.warning("Error parsing JSON content in: " + resourcePath + " - " + e.getMessage());
+                return translations != null ? translations.build() : TranslationCatalog.EMPTY;
             }
-            
-            logger.fine("Successfully parsed " + translations.size() + " translations from JSON resource: " + resourcePath);
-            return translations;
         }
     }
     
     /**
      * Framework-agnostic properties message source implementation.
      */
-    private static class CorePropertiesMessageSource implements NaturalTextMessageSource {
-        private final String basePath;
-        private final Set<Locale> supportedLocales;
-        private final Locale defaultLocale;
-        private final Map<Locale, Map<String, String>> cache = new ConcurrentHashMap<>();
+    private static class CorePropertiesMessageSource extends CatalogMessageSource {
+        private static final int DEFAULT_EXPECTED_SIZE = 64;
         
         /**
          * Constructs a message source to load and manage translations based on properties files.
@@ -847,131 +977,53 @@ public class MessageSourceFactory {
          *                         specified languages are handled, avoiding unintended fallback behavior.
          * @param defaultLocale the default locale to fall back on when a translation is missing;
          *                      minimizes unexpected failures or inconsistent UX in unsupported languages.
+         * @param config the configuration providing the key mode and hash algorithm.
          */
-        public CorePropertiesMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale) {
-            this.basePath = basePath;
-            this.supportedLocales = supportedLocales;
-            this.defaultLocale = defaultLocale;
-        }
-        
-        /**
-         * Resolves a translation for the given hash and locale. If no matching translation is found
-         * for the specified locale, attempts to fall back to the default locale. If no translation
-         * exists in either, the naturalText is returned as a fallback message.
-         *
-         * @param hash the identifier for the desired translation; must be non-null and valid.
-         * @param naturalText the fallback text to use when no translation is found; ensures UX continuity.
-         * @param locale the locale to search for the translation; determines the targeted language.
-         * @return a TranslationResult encapsulating the found translation or fallback values.
-         *
-         * Handles edge cases like:
-         * - Missing translations in both the requested and default locales.
-         * - Blank or invalid translations in the source files.
-         * Guarantees a meaningful result is always returned, minimizing user-facing errors.
-         */
-        @Override
-        public TranslationResult resolve(String hash, String naturalText, Locale locale) {
-            Map<String, String> translations = getTranslations(locale);
-            String translation = translations.get(hash);
-            
-            if (translation != null && !translation.isBlank()) {
-                return TranslationResult.found(translation);
-            }
-            
-            // Try default locale fallback
-            if (!locale.equals(defaultLocale)) {
-                Map<String, String> defaultTranslations = getTranslations(defaultLocale);
-                String defaultTranslation = defaultTranslations.get(hash);
-                if (defaultTranslation != null && !defaultTranslation.isBlank()) {
-                    return TranslationResult.found(defaultTranslation);
-                }
-            }
-            
-            return TranslationResult.notFound(naturalText);
-        }
-        
-        /**
-         * Checks if a translation exists for the given hash in the specified locale.
-         *
-         * This method verifies the presence of a translation key (hash) in the translations
-         * for the given locale. Since translations are cached, changes to the underlying
-         * properties files won't reflect unless the cache is refreshed. Edge cases include
-         * unsupported locales, which would typically return an empty translation map, causing
-         * the method to return false.
-         *
-         * @param hash the unique key representing the translation
-         * @param locale the locale to look up the translation in
-         * @return true if the translation exists for the given hash and locale; false otherwise
-         */
-        @Override
-        public boolean exists(String hash, Locale locale) {
-            Map<String, String> translations = getTranslations(locale);
-            return translations.containsKey(hash);
+        public CorePropertiesMessageSource(String basePath, Set<Locale> supportedLocales, Locale defaultLocale, FluentConfig config) {
+            super(basePath, supportedLocales, defaultLocale, config);
         }
         
-        /**
-         * Returns an iterable of locales explicitly supported by this message source.
-         *
-         * @return a collection of locales that are available for translation, ensuring
-         *         strict adherence to defined languages and preventing fallback behavior
-         *         into undesirable or unsupported locales. This enforces quality control
-         *         in internationalized applications where supported locales are pre-defined.
-         */
         @Override
-        public Iterable<Locale> getSupportedLocales() {
-            return supportedLocales;
-        }
-        
-        /**
-         * Fetches translations for the specified locale, leveraging a cache for efficiency.
-         * Falls back to loading translations from properties if not already cached.
-         *
-         * Ensures thread-safe, lazy initialization of translations via `computeIfAbsent`.
-         *
-         * @param locale the desired locale for which translations are fetched; must match a
-         *               supported locale to retrieve meaningful data.
-         * @return a map of message keys to their translated values for the given locale.
-         *         Returns an empty map if the locale is unsupported, the resource is missing,
-         *         or an error occurs during loading.
-         */
-        private Map<String, String> getTranslations(Locale locale) {
-            return cache.computeIfAbsent(locale, this::loadTranslations);
+        protected String getResourcePath(Locale locale) {
+            return basePath + "/messages_" + locale.toLanguageTag() + ".properties";
         }
         
         /**
          * Loads translation key-value pairs for a specific locale from a properties file, ensuring fallback and resilience.
          *
          * @param locale the target locale to load translations for; must match the naming conventions of the properties file.
-         * @return a map containing translation keys and their corresponding localized values; returns an empty map if the
+         * @return the catalog containing the localized values; returns an empty catalog if the
          *         resource is missing or an error occurs.
          *
          * Fails gracefully by logging warnings if the resource is missing or can't be loaded, avoiding unexpected crashes.
          * Assumes UTF-8 encoding for property files to support comprehensive internationalization.
          * Be mindful of cases where no translations exist for a locale, resulting in an empty map rather than null.
+         *
+         * The file is parsed in one streaming pass by {@link PropertiesReader}, straight into the
+         * catalog selected by the key mode and storage, instead of through a {@code Properties} table and a copy.
          */
-        private Map<String, String> loadTranslations(Locale locale) {
-            String resourcePath = basePath + "/messages_" + locale.toLanguageTag() + ".properties";
+        @Override
+        protected TranslationCatalog loadTranslations(Locale locale) {
+            String resourcePath = getResourcePath(locale);
+            URL resource = findResource(resourcePath);
             
-            try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
+            try (InputStream is = resource == null ? null : resource.openStream()) {
                 if (is == null) {
                     logger.fine("Properties resource not found: " + resourcePath);
-                    return new HashMap<>();
+                    return TranslationCatalog.EMPTY;
                 }
                 
-                Properties properties = new Properties();
-                properties.load(new InputStreamReader(is, StandardCharsets.UTF_8));
-                
-                Map<String, String> translations = new HashMap<>();
-                for (String key : properties.stringPropertyNames()) {
-                    translations.put(key, properties.getProperty(key));
-                }
+                Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
+                CatalogBuilder translations = newCatalogBuilder(DEFAULT_EXPECTED_SIZE);
+                PropertiesReader.read(reader, translations::put);
+                TranslationCatalog catalog = translations.build();
                 
-                logger.fine("Successfully parsed " + translations.size() + " translations from properties resource: " + resourcePath);
-                return translations;
+                logger.fine("Successfully parsed " + catalog.size() + " translations from properties resource: " + resourcePath);
+                return catalog;
                 
             } catch (Exception e) {
                 logger.warning("Error loading properties resource: " + resourcePath + " - " + e.getMessage());
-                return new HashMap<>();
+                return TranslationCatalog.EMPTY;
             }
         }
     }
@@ -0,0 +1,54 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.util.Murmur3;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementation of the {@link HashGenerator} interface based on the 64-bit MurmurHash3
+ * (x64) value of the UTF-8 encoded text.
+ *
+ * Hashes have the same shape as those of {@link Sha256HashGenerator}: 11 Base64url
+ * characters carrying 64 bits. ASCII text is hashed straight from its characters and the
+ * result is encoded into a single character array, so a call allocates nothing but the
+ * returned String. Not suitable where hashes must resist deliberate collisions.
+ */
+public class Murmur3HashGenerator implements HashGenerator {
+    private static final int HASH_LENGTH = 11;
+    private static final char[] BASE64URL =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    
+    @Override
+    public String generateHash(String naturalText) {
+        long hash = generateKey(naturalText);
+        char[] encoded = new char[HASH_LENGTH];
+        // Ten characters take 60 bits; the last one holds the remaining four, shifted left like Base64 padding
+        for (int i = 0; i < HASH_LENGTH - 1; i++) {
+            encoded[i] = BASE64URL[(int) (hash >>> (58 - 6 * i)) & 0x3F];
+        }
+        encoded[HASH_LENGTH - 1] = BASE64URL[(int) (hash & 0xF) << 2];
+        return new String(encoded);
+    }
+    
+    /**
+     * Returns the 64-bit hash directly, which equals {@link HashKeys#toLong(String)} of
+     * {@link #generateHash(String)} without encoding and decoding it.
+     */
+    @Override
+    public long generateKey(String naturalText) {
+        if (isAscii(naturalText)) {
+            return Murmur3.hash64Ascii(naturalText, 0);
+        }
+        byte[] bytes = naturalText.getBytes(StandardCharsets.UTF_8);
+        return Murmur3.hash64(bytes, 0, bytes.length, 0);
+    }
+    
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
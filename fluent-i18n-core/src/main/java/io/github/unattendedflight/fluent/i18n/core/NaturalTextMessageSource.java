@@ -1,6 +1,10 @@
 package io.github.unattendedflight.fluent.i18n.core;
 
+import java.time.Duration;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * An interface for managing translations based on natural text inputs.
@@ -30,6 +34,55 @@ public interface NaturalTextMessageSource {
      * @return true if a translation exists for the given hash and locale, false otherwise
      */
     boolean exists(String hash, Locale locale);
+
+    /**
+     * Resolves a translation for a locale whose {@link LocaleRegistry} ID is already known.
+     * Sources that index their catalogs by locale ID override this to avoid hashing the locale;
+     * the default implementation delegates to {@link #resolve(String, String, Locale)}.
+     *
+     * @param hash the message hash
+     * @param naturalText the text returned when no translation is found
+     * @param locale the requested locale
+     * @param localeId the locale's ID, or {@link LocaleRegistry#UNREGISTERED}
+     * @return the translation result
+     */
+    default TranslationResult resolve(String hash, String naturalText, Locale locale, int localeId) {
+        return resolve(hash, naturalText, locale);
+    }
+
+    /**
+     * Looks a translation up in a single probe and returns it as is, without wrapping it in a
+     * {@link TranslationResult}. This is the method the {@code I18n} facade and the builders
+     * call on every translation; {@link #resolve(String, String, Locale)} and
+     * {@link #exists(String, Locale)} remain for callers that need a result object or an
+     * exact-locale check.
+     *
+     * The default implementation adapts {@link #resolve(String, String, Locale, int)}, so
+     * custom sources keep working unchanged; sources that can probe their catalogs directly
+     * override it to avoid the allocation.
+     *
+     * @param hash the message hash
+     * @param locale the requested locale
+     * @param localeId the locale's ID, or {@link LocaleRegistry#UNREGISTERED}
+     * @return the translation, or {@code null} if none is found
+     */
+    default String lookup(String hash, Locale locale, int localeId) {
+        TranslationResult result = resolve(hash, null, locale, localeId);
+        return result.isFound() ? result.getTranslation() : null;
+    }
+
+    /**
+     * Looks a translation up for a locale whose {@link LocaleRegistry} ID is not known yet,
+     * using the ID of its nearest registered parent.
+     *
+     * @param hash the message hash
+     * @param locale the requested locale
+     * @return the translation, or {@code null} if none is found
+     * @see #lookup(String, Locale, int)
+     */
+    default String lookup(String hash, Locale locale) {
+        return lookup(hash, locale, LocaleRegistry.nearest(locale));
+    }
     
     /**
      * Retrieves the locales supported by this message source for translations.
@@ -53,6 +106,35 @@ public interface NaturalTextMessageSource {
         // Default implementation does nothing
     }
 
+    /**
+     * Returns the generation of the translations currently served. The generation changes
+     * whenever {@link #reload()} publishes new translations, so caches of translated or
+     * formatted messages can use it to detect stale entries.
+     *
+     * The default implementation never reloads and always returns zero.
+     *
+     * @return the current generation
+     */
+    default long getGeneration() {
+        return 0;
+    }
+
+    /**
+     * Returns whether lookups for a locale return their final results for the current
+     * generation. Sources that serve fallback locales while a catalog is still loading
+     * return {@code false} until the catalogs of the locale are loaded, so callers that
+     * remember translations know not to remember those answers.
+     *
+     * The default implementation returns {@code true}.
+     *
+     * @param locale the requested locale
+     * @param localeId the locale's {@link LocaleRegistry} ID
+     * @return {@code true} if lookups for the locale are final until the generation changes
+     */
+    default boolean isComplete(Locale locale, int localeId) {
+        return true;
+    }
+
     /**
      * Initializes or preloads data for the specified locales to optimize performance
      * for subsequent operations, such as translation lookups.
@@ -64,4 +146,20 @@ public interface NaturalTextMessageSource {
     default void warmUp(Iterable<Locale> locales) {
         // Default implementation does nothing
     }
+
+    /**
+     * Preloads the specified locales in the background and reports how long each one took.
+     * The default implementation runs {@link #warmUp(Iterable)} on the executor and reports no timings.
+     *
+     * @param locales the locales to be prepared
+     * @param executor the executor running the loads
+     * @return a future completing once every locale is loaded, with the load time of each
+     *         locale that was loaded for the first time
+     */
+    default CompletableFuture<Map<Locale, Duration>> warmUpAsync(Iterable<Locale> locales, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            warmUp(locales);
+            return Map.of();
+        }, executor);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,6 @@
 package io.github.unattendedflight.fluent.i18n.core;
 
-import io.github.unattendedflight.fluent.i18n.util.IcuPluralExtractor;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -76,17 +73,7 @@ public class PluralBuilder {
      * Being final, the map itself cannot be reassigned, but its content
      * may be modified (e.g., adding or updating entries per plural form).
      */
-    private final Map<PluralForm, String> forms = new HashMap<>();
-    /**
-     * A final instance of the `IcuPluralExtractor` used for processing ICU plural formatted strings.
-     * This field is responsible for extracting plural forms and their corresponding content
-     * from provided ICU strings. It serves as a utility to interpret plural-related
-     * logic based on CLDR rules, aiding in the construction of localized pluralized messages.
-     *
-     * This field is immutable and initialized within the `PluralBuilder`, ensuring consistency
-     * during the lifetime of the builder and its associated operations.
-     */
-    private final IcuPluralExtractor extractor = new IcuPluralExtractor();
+    private final Map<PluralForm, String> forms = new EnumMap<>(PluralForm.class);
     
     /**
      * Constructs a new PluralBuilder instance.
@@ -107,7 +94,8 @@ public class PluralBuilder {
     
     /**
      * Associates a natural language text with the ZERO plural form
-     * and stores it in the plural forms map.
+     * and stores it in the plural forms map. The text is used for a count of exactly 0
+     * in every language, and for the ZERO category of languages that have one.
      *
      * @param naturalText the text representing the ZERO plural form
      * @return the current instance of PluralBuilder for method chaining
@@ -184,122 +172,31 @@ public class PluralBuilder {
      * @return a formatted and localized pluralized string based on the count, locale, and available translations
      */
     public String format() {
-        PluralForm form = PluralRules.determine(count, locale);
-        String naturalText = forms.getOrDefault(form, forms.get(PluralForm.OTHER));
-        
-        if (naturalText == null) {
-            return String.valueOf(count);
-        }
-        
-        // Generate the complete ICU MessageFormat string
-        String icuPluralFormat = generateIcuPluralFormat();
-        
-        // Generate hash from the complete ICU MessageFormat string
-        String hash = hashGenerator.generateHash(icuPluralFormat);
-        
-        // Try to get translation
-        String result = naturalText;
-        if (messageSource != null) {
-            TranslationResult translation = messageSource.resolve(hash, naturalText, locale);
-            result = translation.getTranslation();
-            
-            // If the translation is an ICU format string, parse it to extract the appropriate form
-            if (result.startsWith("{0, plural,")) {
-                result = extractPluralFormFromIcu(result, form);
-            }
-        }
-        
-        // Replace placeholders
-        return result.replace("{0}", String.valueOf(count))
-                    .replace("{}", String.valueOf(count))
-                    .replace("#", String.valueOf(count));
-    }
-    
-    /**
-     * Generates an ICU plural format string based on the plural forms and their associated values.
-     * The resulting format adheres to the ICU MessageFormat syntax for pluralization,
-     * where each plural form (e.g., zero, one, two, few, many, other) is mapped to a specific string value.
-     * The method ensures the plural forms are listed in a consistent order as defined by the `PluralForm` enumeration.
-     * Null or empty values for any plural form are ignored in the resulting format.
-     *
-     * @return a string representing the ICU plural format, constructed from available plural forms and their values
-     */
-    private String generateIcuPluralFormat() {
-        StringBuilder sb = new StringBuilder("{0, plural, ");
-        
-        // Add all available forms in the order they were added
-        boolean first = true;
-        List<Map.Entry<PluralForm, String>> sortedForms = new ArrayList<>(forms.entrySet());
-        // Force sort so zero, one, two, few, many, other are always in the same order
-        sortedForms.sort((s1, s2) -> {
-            int index1 = PluralForm.valueOf(s1.getKey().name()).ordinal();
-            int index2 = PluralForm.valueOf(s2.getKey().name()).ordinal();
-            return Integer.compare(index1, index2);
-        });
-        for (Map.Entry<PluralForm, String> entry : sortedForms) {
-            // Skip null or empty forms
-            if (entry.getValue() == null || entry.getValue().isEmpty()) {
-                continue;
-            }
-            if (!first) {
-                sb.append(" ");
-            }
-            sb.append(entry.getKey().name().toLowerCase())
-              .append(" {")
-              .append(entry.getValue())
-              .append("}");
-            first = false;
-        }
-        
-        sb.append("}");
-        return sb.toString();
+        StringBuilder out = new StringBuilder();
+        formatTo(out);
+        return out.toString();
     }
     
     /**
-     * Extracts the content associated with a specific plural form from a given ICU formatted string.
-     * If the target plural form is not found, it falls back to the content for the "OTHER" plural form.
-     * If neither the target form nor the "OTHER" form is available, it defaults to a string representation of the count.
+     * Formats the count like {@link #format()} and appends the result to an output instead of
+     * returning it. The selected text is copied around its placeholders, which are replaced by
+     * the count as they are reached.
      *
-     * @param icuString The ICU formatted string containing plural forms.
-     * @param targetForm The desired {@link PluralForm} to extract from the ICU string.
-     * @return The text content corresponding to the specified plural form, or a fallback as described above.
+     * @param out the output receiving the pluralized text
+     * @throws java.io.UncheckedIOException if appending to the output fails
      */
-    private String extractPluralFormFromIcu(String icuString, PluralForm targetForm) {
-        try {
-            Map<PluralForm, String> icuForms = extractor.extractAllPluralForms(icuString);
-            return icuForms.getOrDefault(targetForm, icuForms.getOrDefault(PluralForm.OTHER, String.valueOf(count)));
-
-        } catch (Exception e) {
-            // If parsing fails, fallback to original natural text
-            return forms.getOrDefault(targetForm, forms.getOrDefault(PluralForm.OTHER, String.valueOf(count)));
-        }
+    public void formatTo(Appendable out) {
+        template().formatTo(out, count, locale, messageSource);
     }
     
     /**
-     * Finds the index of the closing brace '}' that corresponds to the opening
-     * brace '{' starting at the specified position in the given text.
-     *
-     * The method assumes that the input text contains a well-formed set of braces.
-     * If the starting position does not point to an opening brace, or if no
-     * closing brace is found, the method returns -1.
+     * Returns the reusable template of the forms defined so far. Templates of forms formatted
+     * before are cached, so their ICU plural string is hashed only once; callers formatting the
+     * same forms repeatedly can also keep the returned template and skip this builder.
      *
-     * @param text the input string containing braces
-     * @param start the index of the starting position where to begin the search
-     * @return the index of the corresponding closing brace if found; -1 otherwise
+     * @return the template of the defined forms
      */
-    private int findClosingBrace(String text, int start) {
-        int braceCount = 0;
-        for (int i = start; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (c == '{') {
-                braceCount++;
-            } else if (c == '}') {
-                braceCount--;
-                if (braceCount == 0) {
-                    return i;
-                }
-            }
-        }
-        return -1;
+    public PluralTemplate template() {
+        return PluralTemplate.of(forms, hashGenerator);
     }
-}
\ No newline at end of file
+}
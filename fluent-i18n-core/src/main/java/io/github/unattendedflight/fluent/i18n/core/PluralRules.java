@@ -1,72 +1,338 @@
 package io.github.unattendedflight.fluent.i18n.core;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Provides utilities for determining the appropriate plural form
- * based on a given count and locale.
+ * Determines the plural form of a count according to the cardinal plural rules of CLDR.
  *
- * This class supports the selection of plural forms using simple linguistic rules
- * that can be extended to accommodate specific languages or locales. The rules help
- * facilitate internationalization by identifying how quantities are expressed
- * grammatically in different languages.
+ * Every rule set of {@link CldrPluralData} is compiled once into an evaluator: an array of
+ * plain relations per plural category, checked in CLDR order against the operands of the
+ * count. The evaluator of a locale is resolved once, by language and region and then by
+ * language alone, and cached per {@link Locale}; locales CLDR does not list use the root
+ * rules, which put every count in the OTHER category.
+ *
+ * Counts are evaluated with the CLDR operands, so decimals are no longer truncated:
+ * <ul>
+ *   <li>{@code n}: the absolute value, {@code i}: its integer digits</li>
+ *   <li>{@code v}, {@code w}: the number of visible fraction digits, with and without trailing zeros</li>
+ *   <li>{@code f}, {@code t}: the visible fraction digits, with and without trailing zeros</li>
+ * </ul>
+ * A {@link BigDecimal} keeps its scale, so {@code 1.0} has one visible fraction digit and is
+ * OTHER in English, while a {@code double} shows the shortest digits that identify it, as
+ * {@link Double#toString(double)} does. Integral and {@code double} counts are evaluated
+ * without allocating.
+ *
+ * The ZERO form is only selected in languages that have such a category, such as Arabic or
+ * Latvian. Messages that define an explicit zero text, like {@code I18n.plural(count).zero(...)},
+ * still use it for a count of exactly 0; that is handled by the message, not by these rules.
  */
-public class PluralRules {
-    
+public final class PluralRules {
+    private static final PluralForm[] NO_FORMS = new PluralForm[0];
+
     /**
-     * Determines the appropriate plural form for a given count and locale
-     * based on predefined linguistic pluralization rules.
+     * The number of fraction digits a {@code double} is examined for before falling back to
+     * {@link BigDecimal}.
+     */
+    private static final int MAX_DOUBLE_FRACTION_DIGITS = 15;
+
+    /**
+     * Integer operands are taken modulo this power of ten, which keeps every modulus of the
+     * CLDR rules intact for counts beyond the range of {@code long}.
+     */
+    private static final long INTEGER_LIMIT = 1_000_000_000_000_000_000L;
+    private static final BigInteger BIG_INTEGER_LIMIT = BigInteger.valueOf(INTEGER_LIMIT);
+
+    private static final double[] POWERS_OF_TEN = new double[MAX_DOUBLE_FRACTION_DIGITS + 1];
+
+    static {
+        double power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private static final Map<String, PluralRules> byLocaleName = new HashMap<>();
+    private static final PluralRules ROOT;
+
+    static {
+        for (String[] row : CldrPluralData.RULES) {
+            PluralRules rules = new PluralRules(row);
+            for (String name : row[0].split(" ")) {
+                byLocaleName.put(name, rules);
+            }
+        }
+        ROOT = byLocaleName.get(CldrPluralData.ROOT);
+    }
+
+    private static final Map<Locale, PluralRules> byLocale = new ConcurrentHashMap<>();
+
+    private final String localeNames;
+    private final PluralForm[] categories;
+    private final Relation[][][] conditions;
+
+    private PluralRules(String[] row) {
+        this.localeNames = row[0];
+        this.categories = row.length > 1 ? new PluralForm[row.length - 1] : NO_FORMS;
+        this.conditions = new Relation[categories.length][][];
+        for (int k = 1; k < row.length; k++) {
+            int colon = row[k].indexOf(':');
+            categories[k - 1] = PluralForm.valueOf(row[k].substring(0, colon).trim().toUpperCase(Locale.ROOT));
+            conditions[k - 1] = parseCondition(row[k].substring(colon + 1));
+        }
+    }
+
+    /**
+     * Returns the plural rules of a locale.
      *
-     * Pluralization logic varies by language, especially for non-singular forms like "few" or "many."
-     * Handles edge cases like zero or locale-specific nuances (e.g., Arabic dual forms). Defaults to
-     * English-like rules when the locale is not explicitly covered.
+     * @param locale the locale, or {@code null} for the root rules
+     * @return the rules of the locale's language and region, of its language, or the root rules
+     */
+    public static PluralRules forLocale(Locale locale) {
+        if (locale == null) {
+            return ROOT;
+        }
+        PluralRules rules = byLocale.get(locale);
+        if (rules == null) {
+            rules = resolve(locale);
+            // Requested locales may come from user input, so the cache is kept to registry size
+            if (byLocale.size() < LocaleRegistry.MAX_LOCALES) {
+                byLocale.put(locale, rules);
+            }
+        }
+        return rules;
+    }
+
+    private static PluralRules resolve(Locale locale) {
+        String language = locale.getLanguage();
+        if (!locale.getCountry().isEmpty()) {
+            PluralRules regional = byLocaleName.get(language + "_" + locale.getCountry());
+            if (regional != null) {
+                return regional;
+            }
+        }
+        return byLocaleName.getOrDefault(language, ROOT);
+    }
+
+    /**
+     * Determines the appropriate plural form for a given count and locale
+     * based on the CLDR plural rules of the locale.
      *
      * @param count  The numerical count to evaluate, from which the plural form will be derived.
-     *               Non-integer values are truncated to their integer component.
+     *               Decimals are evaluated with their visible fraction digits.
      * @param locale The locale specifying the language context for the pluralization rules.
      *               Determines language-specific behavior and rule application.
      * @return The calculated plural form (e.g., ONE, FEW, MANY) matching the count and locale.
      */
     public static PluralForm determine(Number count, Locale locale) {
-        int n = count.intValue();
-        String language = locale.getLanguage();
-        
-        // Zero form
-        if (n == 0) return PluralForm.ZERO;
-        
-        // Language-specific rules
-        switch (language) {
-            case "en": // English
-                return n == 1 ? PluralForm.ONE : PluralForm.OTHER;
-                
-            case "fr": // French
-                return n <= 1 ? PluralForm.ONE : PluralForm.OTHER;
-                
-            case "ru": // Russian
-                if (n % 10 == 1 && n % 100 != 11) return PluralForm.ONE;
-                if (n % 10 >= 2 && n % 10 <= 4 && (n % 100 < 10 || n % 100 >= 20)) return PluralForm.FEW;
-                return PluralForm.MANY;
-                
-            case "pl": // Polish
-                if (n == 1) return PluralForm.ONE;
-                if (n % 10 >= 2 && n % 10 <= 4 && (n % 100 < 10 || n % 100 >= 20)) return PluralForm.FEW;
-                return PluralForm.MANY;
-                
-            case "ar": // Arabic
-                if (n == 1) return PluralForm.ONE;
-                if (n == 2) return PluralForm.TWO;
-                if (n % 100 >= 3 && n % 100 <= 10) return PluralForm.FEW;
-                if (n % 100 >= 11) return PluralForm.MANY;
-                return PluralForm.OTHER;
-                
-            case "cs": // Czech
-            case "sk": // Slovak
-                if (n == 1) return PluralForm.ONE;
-                if (n >= 2 && n <= 4) return PluralForm.FEW;
-                return PluralForm.MANY;
-                
-            default: // Default Germanic/English-like rules
-                return n == 1 ? PluralForm.ONE : PluralForm.OTHER;
+        return forLocale(locale).select(count);
+    }
+
+    /**
+     * Selects the plural form of a count.
+     *
+     * @param count the count; {@code null} and non-finite values are OTHER
+     * @return the plural form
+     */
+    public PluralForm select(Number count) {
+        if (count instanceof Integer || count instanceof Long || count instanceof Short
+                || count instanceof Byte || count instanceof AtomicInteger || count instanceof AtomicLong) {
+            return select(count.longValue());
+        }
+        if (count instanceof BigDecimal decimal) {
+            return select(decimal);
+        }
+        if (count instanceof BigInteger integer) {
+            return select(new BigDecimal(integer));
+        }
+        return count != null ? select(count.doubleValue()) : PluralForm.OTHER;
+    }
+
+    /**
+     * Selects the plural form of an integral count.
+     *
+     * @param count the count
+     * @return the plural form
+     */
+    public PluralForm select(long count) {
+        long i = count == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(count);
+        if (i >= INTEGER_LIMIT) {
+            i = i % INTEGER_LIMIT + INTEGER_LIMIT;
+        }
+        return evaluate(Math.abs((double) count), i, 0, 0, 0, 0);
+    }
+
+    /**
+     * Selects the plural form of a count with the shortest fraction digits that identify it.
+     *
+     * @param count the count; non-finite values are OTHER
+     * @return the plural form
+     */
+    public PluralForm select(double count) {
+        double n = Math.abs(count);
+        if (!Double.isFinite(n)) {
+            return PluralForm.OTHER;
+        }
+        if (n == Math.rint(n)) {
+            return n < INTEGER_LIMIT ? evaluate(n, (long) n, 0, 0, 0, 0) : select(BigDecimal.valueOf(n));
+        }
+        for (int v = 1; v <= MAX_DOUBLE_FRACTION_DIGITS; v++) {
+            double scale = POWERS_OF_TEN[v];
+            double scaled = Math.rint(n * scale);
+            if (scaled >= 0x1p53) {
+                break;
+            }
+            if (scaled / scale == n) {
+                long digits = (long) scaled;
+                long power = (long) scale;
+                return evaluateFraction(n, digits / power, v, digits % power);
+            }
+        }
+        return select(BigDecimal.valueOf(n));
+    }
+
+    /**
+     * Selects the plural form of a decimal count, keeping its scale as visible fraction digits.
+     *
+     * @param count the count
+     * @return the plural form
+     */
+    public PluralForm select(BigDecimal count) {
+        BigDecimal n = count.abs();
+        if (n.scale() > 18) {
+            n = n.setScale(18, RoundingMode.DOWN);
+        }
+        int v = Math.max(n.scale(), 0);
+        BigInteger integer = n.toBigInteger();
+        long i = integer.bitLength() < 63 && integer.longValue() < INTEGER_LIMIT
+            ? integer.longValue()
+            : integer.mod(BIG_INTEGER_LIMIT).longValue() + INTEGER_LIMIT;
+        long f = v == 0 ? 0 : n.subtract(new BigDecimal(integer)).movePointRight(v).longValue();
+        return evaluateFraction(n.doubleValue(), i, v, f);
+    }
+
+    private PluralForm evaluateFraction(double n, long i, int v, long f) {
+        long t = f;
+        int w = v;
+        while (t != 0 && t % 10 == 0) {
+            t /= 10;
+            w--;
+        }
+        return evaluate(n, i, v, t == 0 ? 0 : w, f, t);
+    }
+
+    private PluralForm evaluate(double n, long i, int v, int w, long f, long t) {
+        for (int k = 0; k < categories.length; k++) {
+            for (Relation[] conjunction : conditions[k]) {
+                boolean matches = true;
+                for (Relation relation : conjunction) {
+                    if (!relation.test(n, i, v, w, f, t)) {
+                        matches = false;
+                        break;
+                    }
+                }
+                if (matches) {
+                    return categories[k];
+                }
+            }
+        }
+        return PluralForm.OTHER;
+    }
+
+    @Override
+    public String toString() {
+        return "PluralRules[" + localeNames + "]";
+    }
+
+    /**
+     * Parses a CLDR condition into alternatives of conjunctions of relations.
+     */
+    private static Relation[][] parseCondition(String condition) {
+        String[] alternatives = condition.trim().split(" or ");
+        Relation[][] parsed = new Relation[alternatives.length][];
+        for (int a = 0; a < alternatives.length; a++) {
+            String[] relations = alternatives[a].trim().split(" and ");
+            parsed[a] = new Relation[relations.length];
+            for (int r = 0; r < relations.length; r++) {
+                parsed[a][r] = Relation.parse(relations[r].trim());
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * A relation such as {@code i % 100 != 12..14}: an operand, an optional modulus and the
+     * values and ranges the result must, or must not, be one of.
+     */
+    private static final class Relation {
+        private final char operand;
+        private final long modulus;
+        private final long[] bounds;
+        private final boolean negated;
+
+        private Relation(char operand, long modulus, long[] bounds, boolean negated) {
+            this.operand = operand;
+            this.modulus = modulus;
+            this.bounds = bounds;
+            this.negated = negated;
+        }
+
+        static Relation parse(String relation) {
+            int equals = relation.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Invalid plural relation: " + relation);
+            }
+            boolean negated = relation.charAt(equals - 1) == '!';
+            String expression = relation.substring(0, negated ? equals - 1 : equals).trim();
+            int percent = expression.indexOf('%');
+            long modulus = percent < 0 ? 0 : Long.parseLong(expression.substring(percent + 1).trim());
+
+            String[] items = relation.substring(equals + 1).trim().split(",");
+            long[] bounds = new long[items.length * 2];
+            for (int k = 0; k < items.length; k++) {
+                String item = items[k].trim();
+                int dots = item.indexOf("..");
+                bounds[2 * k] = Long.parseLong(dots < 0 ? item : item.substring(0, dots));
+                bounds[2 * k + 1] = Long.parseLong(dots < 0 ? item : item.substring(dots + 2));
+            }
+            return new Relation(expression.charAt(0), modulus, bounds, negated);
+        }
+
+        boolean test(double n, long i, int v, int w, long f, long t) {
+            boolean contained;
+            if (operand == 'n') {
+                double value = modulus != 0 ? n % modulus : n;
+                // n only equals integral values, so 1.5 is not in 1..2
+                contained = value == Math.rint(value) && contains((long) value);
+            } else {
+                long value = switch (operand) {
+                    case 'i' -> i;
+                    case 'v' -> v;
+                    case 'w' -> w;
+                    case 'f' -> f;
+                    case 't' -> t;
+                    default -> 0; // Compact exponent operands c and e; counts are never compact
+                };
+                contained = contains(modulus != 0 ? value % modulus : value);
+            }
+            return contained != negated;
+        }
+
+        private boolean contains(long value) {
+            for (int k = 0; k < bounds.length; k += 2) {
+                if (value >= bounds[k] && value <= bounds[k + 1]) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
-}
\ No newline at end of file
+}
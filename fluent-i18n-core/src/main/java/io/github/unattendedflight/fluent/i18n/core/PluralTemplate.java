@@ -0,0 +1,453 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.I18n;
+import io.github.unattendedflight.fluent.i18n.util.TinyLfuCache;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A reusable plural message: the natural text of each plural form together with the ICU
+ * plural string and hash that identify it in translation catalogs, all computed once.
+ *
+ * Formatting a count takes one catalog lookup by the precomputed hash and one array index by
+ * {@link PluralForm}. Natural texts are pre-split into a slot per plural form when the
+ * template is built, and a translated ICU plural string is split the first time it is seen
+ * and then kept with the template, so neither regular expressions nor string rebuilding run
+ * per call. A form without text of its own uses the OTHER text. Within the selected text,
+ * {@code {0}}, {@code {}} and {@code #} are replaced by the count.
+ *
+ * Templates are immutable and thread-safe; hold one in a constant for messages formatted often:
+ * <pre>{@code
+ * private static final PluralTemplate FILES = I18n.pluralTemplate()
+ *     .one("{} file")
+ *     .other("{} files")
+ *     .build();
+ *
+ * String text = FILES.format(count);
+ * }</pre>
+ */
+public final class PluralTemplate {
+    private static final PluralForm[] FORMS = PluralForm.values();
+
+    /**
+     * The slot holding the explicitly defined ZERO text, used for a count of exactly 0 in
+     * every language, whatever plural category the language's rules assign to 0.
+     */
+    private static final int EXACT_ZERO = FORMS.length;
+
+    /**
+     * Templates built by {@link PluralBuilder}, keyed by their ICU plural string.
+     */
+    private static final TinyLfuCache<String, PluralTemplate> builderTemplates = new TinyLfuCache<>(1024);
+
+    /**
+     * Translations split per plural form. Bounded, since every catalog generation brings new
+     * translation instances and reloads would otherwise accumulate them.
+     */
+    private static final int MAX_SPLIT_TRANSLATIONS = 32;
+
+    private final Map<PluralForm, String> forms;
+    private final String icuPattern;
+    private final String hash;
+    private final HashGenerator hashGenerator;
+    private final String[] naturalTexts;
+    private final Map<String, String[]> translatedTexts = new ConcurrentHashMap<>();
+
+    private PluralTemplate(Map<PluralForm, String> forms, String icuPattern, HashGenerator hashGenerator) {
+        this.forms = Collections.unmodifiableMap(forms);
+        this.icuPattern = icuPattern;
+        this.hash = hashGenerator.generateHash(icuPattern);
+        this.hashGenerator = hashGenerator;
+        this.naturalTexts = slots(forms);
+    }
+
+    /**
+     * Creates a builder of templates hashed with the given generator.
+     *
+     * @param hashGenerator the generator deriving the template's hash from its ICU plural string;
+     *                      it must be the one the catalogs were compiled with
+     * @return a new builder
+     */
+    public static Builder builder(HashGenerator hashGenerator) {
+        return new Builder(hashGenerator);
+    }
+
+    /**
+     * Returns the template of a builder's forms, reusing a cached one when the same forms were
+     * formatted before with the same hash generator.
+     *
+     * @param forms the natural text of each plural form
+     * @param hashGenerator the hash generator
+     * @return the template
+     */
+    static PluralTemplate of(Map<PluralForm, String> forms, HashGenerator hashGenerator) {
+        String icuPattern = icuPattern(forms);
+        PluralTemplate template = builderTemplates.computeIfAbsent(icuPattern,
+            pattern -> new PluralTemplate(new EnumMap<>(forms), pattern, hashGenerator));
+        if (template.hashGenerator != hashGenerator) {
+            return new PluralTemplate(new EnumMap<>(forms), icuPattern, hashGenerator);
+        }
+        return template;
+    }
+
+    /**
+     * Formats a count in the current locale with the translations of the current message source.
+     *
+     * @param count the count selecting the plural form
+     * @return the text of the count's plural form, with placeholders replaced by the count
+     */
+    public String format(Number count) {
+        return format(count, I18n.getCurrentLocale());
+    }
+
+    /**
+     * Formats a count in the given locale with the translations of the current message source.
+     *
+     * @param count the count selecting the plural form
+     * @param locale the locale whose plural rules and translations are used
+     * @return the text of the count's plural form, with placeholders replaced by the count
+     */
+    public String format(Number count, Locale locale) {
+        StringBuilder out = new StringBuilder();
+        formatTo(out, count, locale, I18n.getMessageSource());
+        return out.toString();
+    }
+
+    /**
+     * Formats a count in the current locale and appends the result to an output.
+     *
+     * @param out the output receiving the text
+     * @param count the count selecting the plural form
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    public void formatTo(Appendable out, Number count) {
+        formatTo(out, count, I18n.getCurrentLocale(), I18n.getMessageSource());
+    }
+
+    /**
+     * Formats a count and appends the result to an output.
+     *
+     * @param out the output receiving the text
+     * @param count the count selecting the plural form
+     * @param locale the locale whose plural rules and translations are used
+     * @param messageSource the source of translations, or {@code null} to use the natural texts
+     */
+    void formatTo(Appendable out, Number count, Locale locale, NaturalTextMessageSource messageSource) {
+        int form = PluralRules.forLocale(locale).select(count).ordinal();
+        boolean zero = count.doubleValue() == 0;
+        String text = select(naturalTexts, form, zero);
+        if (text != null && messageSource != null) {
+            String translation = messageSource.lookup(hash, locale);
+            if (translation != null) {
+                String translated = select(translatedSlots(translation), form, zero);
+                if (translated != null) {
+                    text = translated;
+                }
+            }
+        }
+
+        String formattedCount = String.valueOf(count);
+        if (text == null) {
+            MessageFormatter.append(out, formattedCount);
+            return;
+        }
+        int copied = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            int placeholderLength;
+            if (text.charAt(i) == '#') {
+                placeholderLength = 1;
+            } else if (text.startsWith("{}", i)) {
+                placeholderLength = 2;
+            } else if (text.startsWith("{0}", i)) {
+                placeholderLength = 3;
+            } else {
+                continue;
+            }
+            MessageFormatter.append(out, text, copied, i);
+            MessageFormatter.append(out, formattedCount);
+            i += placeholderLength - 1;
+            copied = i + 1;
+        }
+        MessageFormatter.append(out, text, copied, length);
+    }
+
+    /**
+     * Returns the natural text of each plural form that was defined.
+     *
+     * @return an unmodifiable map of the forms
+     */
+    public Map<PluralForm, String> getForms() {
+        return forms;
+    }
+
+    /**
+     * Returns the ICU plural string the extractor writes to PO files for these forms.
+     *
+     * @return the ICU plural string
+     */
+    public String getIcuPattern() {
+        return icuPattern;
+    }
+
+    /**
+     * Returns the hash translations of this template are looked up by.
+     *
+     * @return the hash of the ICU plural string
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    private String[] translatedSlots(String translation) {
+        String[] slots = translatedTexts.get(translation);
+        if (slots == null) {
+            if (translatedTexts.size() >= MAX_SPLIT_TRANSLATIONS) {
+                translatedTexts.clear();
+            }
+            slots = slots(split(translation));
+            translatedTexts.put(translation, slots);
+        }
+        return slots;
+    }
+
+    /**
+     * Resolves the text of every plural form, falling back to OTHER for forms without one,
+     * followed by the explicit ZERO text, if any.
+     */
+    private static String[] slots(Map<PluralForm, String> forms) {
+        String[] slots = new String[FORMS.length + 1];
+        String other = forms.get(PluralForm.OTHER);
+        for (PluralForm form : FORMS) {
+            String text = forms.get(form);
+            slots[form.ordinal()] = text != null ? text : other;
+        }
+        slots[EXACT_ZERO] = forms.get(PluralForm.ZERO);
+        return slots;
+    }
+
+    private static String select(String[] slots, int form, boolean zero) {
+        return zero && slots[EXACT_ZERO] != null ? slots[EXACT_ZERO] : slots[form];
+    }
+
+    /**
+     * Builds the ICU plural string of a set of forms, listing non-empty forms in
+     * {@link PluralForm} order, exactly as the extractor does.
+     *
+     * @param forms the natural text of each plural form
+     * @return the ICU plural string
+     */
+    static String icuPattern(Map<PluralForm, String> forms) {
+        StringBuilder sb = new StringBuilder("{0, plural, ");
+        boolean first = true;
+        for (PluralForm form : FORMS) {
+            String text = forms.get(form);
+            // Skip null or empty forms
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            if (!first) {
+                sb.append(' ');
+            }
+            sb.append(form.name().toLowerCase(Locale.ROOT)).append(" {").append(text).append('}');
+            first = false;
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Splits an ICU plural string such as {@code {0, plural, one {# file} other {# files}}}
+     * into the text of each plural form. Branch texts may contain balanced braces; an
+     * {@code =0} branch counts as the ZERO form and other exact values are ignored. A
+     * translation that is not an ICU plural string applies to every form.
+     *
+     * @param translation the translated text
+     * @return the text of each plural form found
+     */
+    static Map<PluralForm, String> split(String translation) {
+        Map<PluralForm, String> forms = new EnumMap<>(PluralForm.class);
+        String text = translation.trim();
+        int position = skipPluralPrefix(text);
+        if (position < 0) {
+            forms.put(PluralForm.OTHER, translation);
+            return forms;
+        }
+
+        int length = text.length();
+        while (true) {
+            position = skipWhitespace(text, position);
+            if (position >= length || text.charAt(position) == '}') {
+                break;
+            }
+            int keywordStart = position;
+            while (position < length && text.charAt(position) != '{' && !Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            String keyword = text.substring(keywordStart, position);
+            position = skipWhitespace(text, position);
+            int end = closingBrace(text, position);
+            if (end < 0) {
+                break;
+            }
+            String branch = text.substring(position + 1, end).trim();
+            position = end + 1;
+
+            if (keyword.equals("=0")) {
+                forms.putIfAbsent(PluralForm.ZERO, branch);
+            } else if (!keyword.startsWith("=")) {
+                try {
+                    forms.put(PluralForm.valueOf(keyword.toUpperCase(Locale.ROOT)), branch);
+                } catch (IllegalArgumentException e) {
+                    // Unknown keyword, such as an offset; ignored
+                }
+            }
+        }
+        if (forms.isEmpty()) {
+            forms.put(PluralForm.OTHER, translation);
+        }
+        return forms;
+    }
+
+    /**
+     * Returns the position after {@code {n, plural,}}, or -1 if the text does not start with it.
+     */
+    private static int skipPluralPrefix(String text) {
+        if (!text.startsWith("{")) {
+            return -1;
+        }
+        int position = skipWhitespace(text, 1);
+        int digits = position;
+        while (position < text.length() && Character.isDigit(text.charAt(position))) {
+            position++;
+        }
+        if (position == digits) {
+            return -1;
+        }
+        position = skipWhitespace(text, position);
+        if (!text.startsWith(",", position)) {
+            return -1;
+        }
+        position = skipWhitespace(text, position + 1);
+        if (!text.startsWith("plural", position)) {
+            return -1;
+        }
+        position = skipWhitespace(text, position + "plural".length());
+        return text.startsWith(",", position) ? position + 1 : -1;
+    }
+
+    private static int skipWhitespace(String text, int position) {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the index of the brace closing the one at {@code start}, or -1.
+     */
+    private static int closingBrace(String text, int start) {
+        if (start >= text.length() || text.charAt(start) != '{') {
+            return -1;
+        }
+        int depth = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects the natural text of each plural form of a {@link PluralTemplate}.
+     */
+    public static final class Builder {
+        private final HashGenerator hashGenerator;
+        private final Map<PluralForm, String> forms = new EnumMap<>(PluralForm.class);
+
+        private Builder(HashGenerator hashGenerator) {
+            this.hashGenerator = hashGenerator;
+        }
+
+        /**
+         * Sets the text of the ZERO form.
+         *
+         * @param naturalText the text
+         * @return this builder for method chaining
+         */
+        public Builder zero(String naturalText) {
+            forms.put(PluralForm.ZERO, naturalText);
+            return this;
+        }
+
+        /**
+         * Sets the text of the ONE form.
+         *
+         * @param naturalText the text
+         * @return this builder for method chaining
+         */
+        public Builder one(String naturalText) {
+            forms.put(PluralForm.ONE, naturalText);
+            return this;
+        }
+
+        /**
+         * Sets the text of the TWO form.
+         *
+         * @param naturalText the text
+         * @return this builder for method chaining
+         */
+        public Builder two(String naturalText) {
+            forms.put(PluralForm.TWO, naturalText);
+            return this;
+        }
+
+        /**
+         * Sets the text of the FEW form.
+         *
+         * @param naturalText the text
+         * @return this builder for method chaining
+         */
+        public Builder few(String naturalText) {
+            forms.put(PluralForm.FEW, naturalText);
+            return this;
+        }
+
+        /**
+         * Sets the text of the MANY form.
+         *
+         * @param naturalText the text
+         * @return this builder for method chaining
+         */
+        public Builder many(String naturalText) {
+            forms.put(PluralForm.MANY, naturalText);
+            return this;
+        }
+
+        /**
+         * Sets the text of the OTHER form, used by every form without text of its own.
+         *
+         * @param naturalText the text
+         * @return this builder for method chaining
+         */
+        public Builder other(String naturalText) {
+            forms.put(PluralForm.OTHER, naturalText);
+            return this;
+        }
+
+        /**
+         * Builds the template, computing its ICU plural string and hash.
+         *
+         * @return the template
+         */
+        public PluralTemplate build() {
+            return new PluralTemplate(new EnumMap<>(forms), icuPattern(forms), hashGenerator);
+        }
+    }
+}
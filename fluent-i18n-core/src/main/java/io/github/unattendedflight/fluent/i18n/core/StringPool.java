@@ -0,0 +1,100 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+/**
+ * Pool of translation strings shared by all catalogs of one generation of a
+ * {@link CatalogMessageSource}, so a translation that several locales contain, such as a
+ * brand name, {@code "OK"} or most of {@code en-US} and {@code en-GB}, is held once
+ * instead of once per locale.
+ *
+ * Catalogs hand their translations to the pool right after they are loaded and before they
+ * are published, and keep whichever instance the pool returns. The pool itself is an
+ * open-addressing table of references probed with the strings' cached hash codes, which
+ * costs a few bytes per distinct translation; it lives as long as its generation, so a
+ * reload starts with a fresh pool and never pins translations that are no longer loaded.
+ */
+final class StringPool {
+    private static final int MIN_CAPACITY = 64;
+
+    private String[] table = new String[MIN_CAPACITY];
+    private int size;
+    private long sharedCount;
+    private long sharedBytes;
+
+    /**
+     * Returns the pooled instance equal to a string, adding the string if none is pooled.
+     *
+     * @param value the string
+     * @return the pooled instance, which is {@code value} itself if it was not pooled before
+     */
+    synchronized String intern(String value) {
+        int mask = table.length - 1;
+        int index = spread(value.hashCode()) & mask;
+        String pooled;
+        while ((pooled = table[index]) != null) {
+            if (pooled.equals(value)) {
+                sharedCount++;
+                sharedBytes += footprint(value);
+                return pooled;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size * 2 > table.length) {
+            resize();
+        }
+        return value;
+    }
+
+    /**
+     * Returns how many translations were found in the pool, that is, how many translations
+     * are held by reference to a string another catalog entry already holds.
+     *
+     * @return the number of shared translations
+     */
+    synchronized long getSharedCount() {
+        return sharedCount;
+    }
+
+    /**
+     * Returns the approximate heap the shared translations would otherwise occupy.
+     *
+     * @return the saved bytes, counting the String object and its backing array
+     */
+    synchronized long getSharedBytes() {
+        return sharedBytes;
+    }
+
+    private void resize() {
+        String[] old = table;
+        table = new String[old.length * 2];
+        int mask = table.length - 1;
+        for (String value : old) {
+            if (value != null) {
+                int index = spread(value.hashCode()) & mask;
+                while (table[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Estimates the heap footprint of a string with compressed class pointers: the String
+     * object and its byte array, Latin-1 or UTF-16 coded, aligned to 8 bytes.
+     */
+    private static long footprint(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + ((16L + (long) value.length() * bytesPerChar + 7) & ~7L);
+    }
+}
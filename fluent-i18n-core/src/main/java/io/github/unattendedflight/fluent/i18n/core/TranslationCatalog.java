@@ -0,0 +1,87 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+/**
+ * Read-only view of the translations loaded for a single locale.
+ *
+ * Message sources keep one catalog per locale and query it on every lookup, so
+ * implementations must be safe for concurrent reads and should avoid allocating
+ * on the lookup path. Values may be blank; callers decide whether a blank
+ * translation counts as a hit.
+ */
+interface TranslationCatalog {
+    /**
+     * A catalog without entries, used when a locale has no resource or fails to load.
+     */
+    TranslationCatalog EMPTY = new MapTranslationCatalog(java.util.Map.of());
+
+    /**
+     * Looks up the translation stored for a message hash.
+     *
+     * @param hash the message hash
+     * @return the stored translation, or {@code null} if the hash is not in the catalog
+     */
+    String get(String hash);
+
+    /**
+     * Checks whether the catalog holds an entry for a message hash, even if its translation is blank.
+     *
+     * @param hash the message hash
+     * @return {@code true} if an entry exists
+     */
+    boolean contains(String hash);
+
+    /**
+     * Returns the number of entries in the catalog.
+     *
+     * @return the entry count
+     */
+    int size();
+
+    /**
+     * Tells whether the catalog stores 64-bit {@link HashKeys} values instead of hash strings.
+     *
+     * @return {@code true} for long-keyed catalogs
+     */
+    default boolean hasLongKeys() {
+        return false;
+    }
+
+    /**
+     * Replaces the stored translations by the instances of a pool shared with the catalogs
+     * of other locales. Called once, after loading and before the catalog is published.
+     * Catalogs that do not keep {@link String} instances ignore the pool.
+     *
+     * @param pool the pool of the catalog's generation
+     */
+    default void shareTranslations(StringPool pool) {
+    }
+
+    /**
+     * Passes every entry of the catalog, including blank ones, to a visitor.
+     * Long-keyed catalogs report their entries through {@link EntryVisitor#visit(long, String)}.
+     *
+     * @param visitor the visitor receiving the entries
+     */
+    void forEach(EntryVisitor visitor);
+
+    /**
+     * Receives the entries of a catalog, keyed either by hash string or by long key.
+     */
+    interface EntryVisitor {
+        /**
+         * Receives an entry keyed by hash string.
+         *
+         * @param hash the message hash
+         * @param translation the translation
+         */
+        void visit(String hash, String translation);
+
+        /**
+         * Receives an entry keyed by long key.
+         *
+         * @param key the message key
+         * @param translation the translation
+         */
+        void visit(long key, String translation);
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.unattendedflight.fluent.i18n.extractor;
 
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -14,6 +15,12 @@ import java.util.*;
  * other sources.
  */
 public class ExtractionConfig {
+    /**
+     * The class output resource the {@code MessageProcessor} annotation processor of
+     * {@code fluent-i18n-processor} records annotated messages in.
+     */
+    public static final String PROCESSED_MESSAGES_RESOURCE = "META-INF/fluent-i18n/messages.json";
+
     /**
      * Represents the root directory of the project.
      * This path serves as the base location for resolving relative paths within the project's configuration and operations.
@@ -55,6 +62,12 @@ public class ExtractionConfig {
      */
     private Charset sourceEncoding = StandardCharsets.UTF_8;
     
+    /**
+     * The algorithm used to derive message hashes from the extracted natural text.
+     * Must match the algorithm configured for the runtime.
+     */
+    private HashAlgorithm hashAlgorithm = HashAlgorithm.SHA256;
+    
     /**
      * Defines a list of regular expression patterns to match file types for processing.
      * These patterns are used as part of the configuration to specify which source code
@@ -87,11 +100,14 @@ public class ExtractionConfig {
      * method calls for extracting translatable text. The recognized method call
      * patterns include:
      *
-     * 1. Pattern for `I18n.translate("key")` calls.
+     * 1. Pattern for `I18n.translate("key")` calls. Arguments of translate, describe and
+     *    t calls may hold one level of parentheses, such as the cast in
+     *    `I18n.translate("{0} files", (long) count)` or a getter call.
      * 2. Pattern for `I18n.describe("key")` calls.
      * 3. Pattern for `I18n.t("key")` calls.
      * 4. Pattern for context-specific calls such as
      *    `I18n.context(...).translate("key")`.
+     * 5. Patterns for `I18n.key("context", "key")` and `I18n.key("key")` calls.
      *
      * The extracted strings from these patterns can be used for further processing
      * in translation workflows, localization file generation, or analytical tools.
@@ -102,17 +118,21 @@ public class ExtractionConfig {
     // Extraction patterns
     private List<String> methodCallPatterns = new ArrayList<>(Arrays.asList(
         // Context with description
-        "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*description\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+        "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*description\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
 
         // Context only
-        "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+        "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
 
         // Regular translate
-        "(?s)I18n\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+        "(?s)I18n\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
 
         // Other methods
-        "(?s)I18n\\s*\\.\\s*describe\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
-        "(?s)I18n\\s*\\.\\s*t\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)"
+        "(?s)I18n\\s*\\.\\s*describe\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
+        "(?s)I18n\\s*\\.\\s*t\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
+
+        // Message keys: context and text, then text alone (no top-level comma)
+        "(?s)I18n\\s*\\.\\s*key\\s*\\((\\s*\"[^\"]*\"\\s*),((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+        "(?s)I18n\\s*\\.\\s*key\\s*\\(((?:[^(),\"']|\"[^\"]*\"|'[^']*')+)\\)"
     ));
     
     /**
@@ -189,6 +209,12 @@ public class ExtractionConfig {
      */
     private List<SourceExtractor> customExtractors = new ArrayList<>();
     
+    /**
+     * Files listing messages the {@code MessageProcessor} annotation processor recorded while
+     * compiling, merged into the extraction result when they exist.
+     */
+    private List<Path> processedMessageFiles = new ArrayList<>();
+    
     /**
      * Initializes a new instance of the {@code ExtractionConfig} class using the builder pattern.
      * This method creates a new configuration object that can be customized using other
@@ -247,6 +273,17 @@ public class ExtractionConfig {
         return this;
     }
     
+    /**
+     * Sets the algorithm used to derive message hashes and returns the updated configuration.
+     *
+     * @param hashAlgorithm the hash algorithm, which must match the runtime configuration
+     * @return the updated instance of {@code ExtractionConfig}
+     */
+    public ExtractionConfig hashAlgorithm(HashAlgorithm hashAlgorithm) {
+        this.hashAlgorithm = hashAlgorithm;
+        return this;
+    }
+    
     /**
      * Adds a method call pattern to the extraction configuration.
      * The specified pattern is appended to the existing list of method call patterns.
@@ -335,6 +372,19 @@ public class ExtractionConfig {
         return this;
     }
     
+    /**
+     * Adds a file written by the {@code MessageProcessor} annotation processor, such as
+     * {@code target/classes/META-INF/fluent-i18n/messages.json}, whose messages are merged
+     * into the extraction result. Missing files are skipped.
+     *
+     * @param file the path of the processor's output
+     * @return the current instance of {@code ExtractionConfig} for method chaining
+     */
+    public ExtractionConfig addProcessedMessageFile(Path file) {
+        this.processedMessageFiles.add(file);
+        return this;
+    }
+    
     /**
      * Retrieves the root directory of the project.
      *
@@ -362,6 +412,13 @@ public class ExtractionConfig {
      * @return the character set representing the source file encoding
      */
     public Charset getSourceEncoding() { return sourceEncoding; }
+    
+    /**
+     * Retrieves the algorithm used to derive message hashes.
+     *
+     * @return the configured hash algorithm
+     */
+    public HashAlgorithm getHashAlgorithm() { return hashAlgorithm; }
     /**
      * Retrieves the list of file patterns used for matching source files to be processed.
      *
@@ -404,6 +461,13 @@ public class ExtractionConfig {
      *         extractors used for message extraction
      */
     public List<SourceExtractor> getCustomExtractors() { return customExtractors; }
+    
+    /**
+     * Retrieves the files of annotation processor output merged into the extraction result.
+     *
+     * @return a list of paths to the processor's output files
+     */
+    public List<Path> getProcessedMessageFiles() { return processedMessageFiles; }
 
     /**
      * Returns a string representation of the ExtractionConfig object, including its
@@ -422,7 +486,8 @@ public class ExtractionConfig {
           "  annotationPatterns=" + annotationPatterns + ",\n" +
           "  templatePatterns=" + templatePatterns + ",\n" +
           "  pluralPatterns=" + pluralPatterns + ",\n" +
-          "  customExtractors=" + customExtractors + "\n" +
+          "  customExtractors=" + customExtractors + ",\n" +
+          "  processedMessageFiles=" + processedMessageFiles + "\n" +
           '}';
     }
 }
\ No newline at end of file
@@ -27,6 +27,15 @@ public class JavaMethodCallExtractor implements SourceExtractor {
      * containing object.
      */
     private final List<Pattern> patterns;
+
+    /**
+     * Matches a {@code ContextBuilder} handle held in a variable or field, such as
+     * {@code ContextBuilder BUTTONS = I18n.context("button").description("Buttons")}, capturing
+     * the variable name, the context key and the optional description.
+     */
+    private static final Pattern CONTEXT_HANDLE_PATTERN = Pattern.compile(
+        "(?s)ContextBuilder\\s+(\\w+)\\s*=\\s*I18n\\s*\\.\\s*context\\s*\\(\\s*(\"(?:[^\"\\\\]|\\\\.)*\")\\s*\\)"
+            + "(?:\\s*\\.\\s*description\\s*\\(\\s*(\"(?:[^\"\\\\]|\\\\.)*\")\\s*\\))?");
     
     /**
      * Constructs a new instance of JavaMethodCallExtractor, which compiles a list of
@@ -142,6 +151,41 @@ public class JavaMethodCallExtractor implements SourceExtractor {
             }
         }
         
+        messages.addAll(extractContextHandleCalls(content, filePath));
+        return messages;
+    }
+
+    /**
+     * Extracts the messages translated through {@code ContextBuilder} handles declared in the
+     * same source file, such as {@code BUTTONS.translate("Save")} or
+     * {@code BUTTONS.translateTo(out, "Save")} after
+     * {@code static final ContextBuilder BUTTONS = I18n.context("button")}.
+     *
+     * @param content the source content to scan
+     * @param filePath the path of the source file, used for source locations
+     * @return the contextual messages translated or described through the handles
+     */
+    private List<ExtractedMessage> extractContextHandleCalls(String content, String filePath) {
+        List<ExtractedMessage> messages = new ArrayList<>();
+        Matcher handleMatcher = CONTEXT_HANDLE_PATTERN.matcher(content);
+        while (handleMatcher.find()) {
+            String contextKey = parseStringValue(handleMatcher.group(2));
+            String description = handleMatcher.group(3) != null ? parseStringValue(handleMatcher.group(3)) : contextKey;
+            Pattern callPattern = Pattern.compile("(?s)\\b" + Pattern.quote(handleMatcher.group(1))
+                + "\\s*\\.\\s*(?:(?:translate|describe)\\s*\\(|translateTo\\s*\\(\\s*[\\w.]+\\s*,)((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)");
+            Matcher callMatcher = callPattern.matcher(content);
+            while (callMatcher.find()) {
+                String naturalText = parseStringValue(callMatcher.group(1));
+                if (naturalText != null && !naturalText.trim().isEmpty()) {
+                    ExtractedMessage message = new ExtractedMessage(naturalText);
+                    message.addLocation(new SourceLocation(filePath, findLineNumber(content, callMatcher.start())));
+                    message.setType(MessageType.CONTEXTUAL);
+                    message.setContextKey(contextKey);
+                    message.setContext(description);
+                    messages.add(message);
+                }
+            }
+        }
         return messages;
     }
     
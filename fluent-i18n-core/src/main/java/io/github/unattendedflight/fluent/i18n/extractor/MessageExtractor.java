@@ -1,9 +1,11 @@
 package io.github.unattendedflight.fluent.i18n.extractor;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
-import io.github.unattendedflight.fluent.i18n.core.Sha256HashGenerator;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -63,7 +65,7 @@ public class MessageExtractor {
      */
     public MessageExtractor(ExtractionConfig config) {
         this.config = config;
-        this.hashGenerator = new Sha256HashGenerator();
+        this.hashGenerator = config.getHashAlgorithm().newGenerator();
         this.extractors = createExtractors();
     }
     
@@ -90,6 +92,12 @@ public class MessageExtractor {
             }
         }
         
+        for (Path processedFile : config.getProcessedMessageFiles()) {
+            if (Files.isRegularFile(processedFile)) {
+                mergeProcessedMessages(processedFile);
+            }
+        }
+        
         return new ExtractionResult(
             new HashMap<>(discoveredMessages),
             config.getSupportedLocales()
@@ -162,6 +170,50 @@ public class MessageExtractor {
         }
     }
     
+    /**
+     * Merges the messages recorded by the {@code MessageProcessor} annotation processor into
+     * the discovered messages. Hashes are recomputed with the configured algorithm, in case the
+     * compiler ran with another one, and source paths are made relative to the project root.
+     *
+     * @param file the processor's output file
+     * @throws IOException if the file cannot be read or parsed
+     */
+    private void mergeProcessedMessages(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(Files.readString(file, StandardCharsets.UTF_8));
+        Path projectRoot = config.getProjectRoot().toAbsolutePath().normalize();
+        for (JsonNode node : root.path("messages")) {
+            String naturalText = node.path("naturalText").asText(null);
+            if (naturalText == null || naturalText.isBlank()) {
+                continue;
+            }
+            String contextKey = node.hasNonNull("contextKey") ? node.get("contextKey").asText() : null;
+            String context = node.hasNonNull("context") ? node.get("context").asText() : contextKey;
+            String hash = contextKey != null ?
+                hashGenerator.generateHash(naturalText, contextKey) :
+                hashGenerator.generateHash(naturalText);
+            
+            String filePath = node.path("file").asText("");
+            Path source = Path.of(filePath);
+            if (source.isAbsolute() && source.normalize().startsWith(projectRoot)) {
+                filePath = projectRoot.relativize(source.normalize()).toString();
+            }
+            SourceLocation location = new SourceLocation(filePath, node.path("line").asInt(0));
+            
+            ExtractedMessage existing = discoveredMessages.get(hash);
+            if (existing == null) {
+                ExtractedMessage message = new ExtractedMessage(naturalText, context,
+                    contextKey != null ? MessageType.CONTEXTUAL : MessageType.SIMPLE);
+                message.setHash(hash);
+                message.setContextKey(contextKey);
+                message.addLocation(location);
+                discoveredMessages.put(hash, message);
+            } else if (existing.getLocations().stream().noneMatch(l ->
+                    l.getFilePath().equals(location.getFilePath()) && l.getLineNumber() == location.getLineNumber())) {
+                existing.addLocation(location);
+            }
+        }
+    }
+    
     /**
      * Creates and returns a list of source extractors used for extracting messages
      * from various file types based on the configured patterns.
@@ -0,0 +1,47 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+/**
+ * Immutable snapshot of the counters of a {@link TinyLfuCache}.
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param hitCount the number of lookups that found a cached value
+     * @param missCount the number of lookups that had to compute a value
+     * @param evictionCount the number of entries evicted to respect the maximum size
+     * @param size the number of entries cached when the snapshot was taken
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    public long getHitCount() { return hitCount; }
+    public long getMissCount() { return missCount; }
+    public long getEvictionCount() { return evictionCount; }
+    public long getSize() { return size; }
+
+    /**
+     * Returns the ratio of lookups that found a cached value.
+     *
+     * @return the hit rate in {@code [0, 1]}, or {@code 1} if no lookup happened yet
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, evictions=%d, size=%d, hitRate=%.3f}",
+            hitCount, missCount, evictionCount, size, getHitRate());
+    }
+}
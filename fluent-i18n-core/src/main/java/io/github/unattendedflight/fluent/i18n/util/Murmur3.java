@@ -0,0 +1,153 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+/**
+ * MurmurHash3 (x64, 128-bit variant) reduced to its first 64 bits.
+ *
+ * Used wherever the library needs a fast, well-distributed, non-cryptographic hash that
+ * is stable across JVMs and releases, such as the perfect-hash index of binary catalogs.
+ * Changing the output of these methods breaks every catalog written with them.
+ */
+public final class Murmur3 {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private Murmur3() {
+        // Utility class
+    }
+
+    /**
+     * Hashes a range of bytes.
+     *
+     * @param data the bytes to hash
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param seed the hash seed
+     * @return the first 64 bits of the 128-bit MurmurHash3 value
+     */
+    public static long hash64(byte[] data, int offset, int length, long seed) {
+        long h1 = seed;
+        long h2 = seed;
+        int blockEnd = offset + (length & ~15);
+
+        for (int i = offset; i < blockEnd; i += 16) {
+            long k1 = 0;
+            long k2 = 0;
+            for (int b = 7; b >= 0; b--) {
+                k1 = (k1 << 8) | (data[i + b] & 0xFFL);
+                k2 = (k2 << 8) | (data[i + 8 + b] & 0xFFL);
+            }
+            h1 = mixH1(h1, h2, k1);
+            h2 = mixH2(h1, h2, k2);
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = offset + length - 1; i >= blockEnd; i--) {
+            int index = i - blockEnd;
+            if (index >= 8) {
+                k2 |= (data[i] & 0xFFL) << ((index - 8) * 8);
+            } else {
+                k1 |= (data[i] & 0xFFL) << (index * 8);
+            }
+        }
+        return finish(h1, h2, k1, k2, length);
+    }
+
+    /**
+     * Hashes the characters of a string as if each were a single byte holding its low 8 bits.
+     * For ASCII text this equals hashing its UTF-8 encoding, without encoding it first.
+     *
+     * @param text the text to hash; callers are responsible for ensuring it is ASCII
+     * @param seed the hash seed
+     * @return the first 64 bits of the 128-bit MurmurHash3 value
+     */
+    public static long hash64Ascii(CharSequence text, long seed) {
+        int length = text.length();
+        long h1 = seed;
+        long h2 = seed;
+        int blockEnd = length & ~15;
+
+        for (int i = 0; i < blockEnd; i += 16) {
+            long k1 = 0;
+            long k2 = 0;
+            for (int b = 7; b >= 0; b--) {
+                k1 = (k1 << 8) | (text.charAt(i + b) & 0xFFL);
+                k2 = (k2 << 8) | (text.charAt(i + 8 + b) & 0xFFL);
+            }
+            h1 = mixH1(h1, h2, k1);
+            h2 = mixH2(h1, h2, k2);
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = length - 1; i >= blockEnd; i--) {
+            int index = i - blockEnd;
+            if (index >= 8) {
+                k2 |= (text.charAt(i) & 0xFFL) << ((index - 8) * 8);
+            } else {
+                k1 |= (text.charAt(i) & 0xFFL) << (index * 8);
+            }
+        }
+        return finish(h1, h2, k1, k2, length);
+    }
+
+    /**
+     * The MurmurHash3 64-bit finalizer; a cheap bijective mix for deriving well-distributed values.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    public static long fmix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static long mixH1(long h1, long h2, long k1) {
+        h1 ^= mixK1(k1);
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        return h1 * 5 + 0x52dce729;
+    }
+
+    private static long mixH2(long h1, long h2, long k2) {
+        h2 ^= mixK2(k2);
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        return h2 * 5 + 0x38495ab5;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long finish(long h1, long h2, long k1, long k2, int length) {
+        int tail = length & 15;
+        if (tail > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (tail > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        return h1;
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal perfect hash over a fixed key set, built with the hash-and-displace (CHD) scheme.
+ *
+ * Keys are hashed once with {@link Murmur3} and distributed into buckets of about
+ * {@value #KEYS_PER_BUCKET} keys. Each bucket stores a single displacement value: a
+ * non-negative value is mixed into the key hash to pick the slot, a negative value
+ * {@code -(slot + 1)} names the slot of a single-key bucket directly. A lookup
+ * therefore costs one key hash, one read of the displacement table and one read of
+ * the slot, whether or not the key is part of the set; callers must compare the key
+ * stored in the slot to reject non-members.
+ *
+ * The bucket and slot functions are shared between {@code BinaryOutputWriter} and the
+ * runtime reader, so changing them breaks existing catalogs.
+ */
+public final class PerfectHash {
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final int MAX_SEEDS = 32;
+    private static final int MAX_DISPLACEMENT = 1 << 24;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int seed;
+    private final int[] displacements;
+    private final int[] slots;
+
+    private PerfectHash(int seed, int[] displacements, int[] slots) {
+        this.seed = seed;
+        this.displacements = displacements;
+        this.slots = slots;
+    }
+
+    /**
+     * Builds a minimal perfect hash for the given keys.
+     *
+     * @param keys distinct keys
+     * @return the table, mapping key {@code i} to slot {@link #slotOf(int)} in {@code [0, keys.size())}
+     * @throws IllegalStateException if no perfect hash is found, which in practice only happens for duplicate keys
+     */
+    public static PerfectHash build(List<byte[]> keys) {
+        return build(keys.size(), (index, seed) -> {
+            byte[] key = keys.get(index);
+            return hash(key, 0, key.length, seed);
+        });
+    }
+
+    /**
+     * Builds a minimal perfect hash for the given primitive keys.
+     *
+     * @param keys distinct keys
+     * @return the table, mapping key {@code i} to slot {@link #slotOf(int)} in {@code [0, keys.length)}
+     * @throws IllegalStateException if no perfect hash is found, which in practice only happens for duplicate keys
+     */
+    public static PerfectHash build(long[] keys) {
+        return build(keys.length, (index, seed) -> hash(keys[index], seed));
+    }
+
+    private static PerfectHash build(int size, KeyHasher hasher) {
+        for (int seed = 0; seed < MAX_SEEDS; seed++) {
+            long[] hashes = new long[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = hasher.hash(i, seed);
+            }
+            PerfectHash table = tryBuild(hashes, seed);
+            if (table != null) {
+                return table;
+            }
+        }
+        throw new IllegalStateException("Unable to build a perfect hash for " + size + " keys; are the keys distinct?");
+    }
+
+    private static PerfectHash tryBuild(long[] hashes, int seed) {
+        int size = hashes.length;
+        int bucketCount = bucketCount(size);
+        List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>(KEYS_PER_BUCKET));
+        }
+        for (int i = 0; i < size; i++) {
+            buckets.get(bucket(hashes[i], bucketCount)).add(i);
+        }
+
+        // Place the largest buckets first, while the table still has room to spare
+        Integer[] order = new Integer[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        int[] displacements = new int[bucketCount];
+        int[] slots = new int[size];
+        boolean[] taken = new boolean[size];
+        int freeCursor = 0;
+
+        for (int bucketIndex : order) {
+            List<Integer> bucket = buckets.get(bucketIndex);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            if (bucket.size() == 1) {
+                while (taken[freeCursor]) {
+                    freeCursor++;
+                }
+                taken[freeCursor] = true;
+                slots[bucket.get(0)] = freeCursor;
+                displacements[bucketIndex] = -(freeCursor + 1);
+                continue;
+            }
+
+            int[] candidate = new int[bucket.size()];
+            int displacement = findDisplacement(bucket, hashes, taken, candidate);
+            if (displacement < 0) {
+                return null;
+            }
+            for (int i = 0; i < candidate.length; i++) {
+                taken[candidate[i]] = true;
+                slots[bucket.get(i)] = candidate[i];
+            }
+            displacements[bucketIndex] = displacement;
+        }
+        return new PerfectHash(seed, displacements, slots);
+    }
+
+    private static int findDisplacement(List<Integer> bucket, long[] hashes, boolean[] taken, int[] candidate) {
+        int size = taken.length;
+        search:
+        for (int displacement = 0; displacement < MAX_DISPLACEMENT; displacement++) {
+            for (int i = 0; i < candidate.length; i++) {
+                int slot = slot(hashes[bucket.get(i)], displacement, size);
+                if (taken[slot]) {
+                    continue search;
+                }
+                for (int j = 0; j < i; j++) {
+                    if (candidate[j] == slot) {
+                        continue search;
+                    }
+                }
+                candidate[i] = slot;
+            }
+            return displacement;
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the number of buckets used for a key set of the given size.
+     *
+     * @param size the number of keys
+     * @return the bucket count, at least one
+     */
+    public static int bucketCount(int size) {
+        return Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+    }
+
+    /**
+     * Hashes a key for bucket and slot selection.
+     *
+     * @param key the key bytes
+     * @param offset the index of the first key byte
+     * @param length the number of key bytes
+     * @param seed the seed recorded alongside the table
+     * @return the key hash
+     */
+    public static long hash(byte[] key, int offset, int length, int seed) {
+        return Murmur3.hash64(key, offset, length, seed);
+    }
+
+    /**
+     * Hashes an ASCII key for bucket and slot selection without encoding it.
+     *
+     * @param key the key, which must only contain ASCII characters
+     * @param seed the seed recorded alongside the table
+     * @return the key hash, equal to {@link #hash(byte[], int, int, int)} of its UTF-8 bytes
+     */
+    public static long hashAscii(CharSequence key, int seed) {
+        return Murmur3.hash64Ascii(key, seed);
+    }
+
+    /**
+     * Hashes a primitive key for bucket and slot selection.
+     *
+     * @param key the key
+     * @param seed the seed recorded alongside the table
+     * @return the key hash
+     */
+    public static long hash(long key, int seed) {
+        return Murmur3.fmix64(key + seed * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Selects the bucket of a key hash.
+     *
+     * @param hash the key hash
+     * @param bucketCount the number of buckets
+     * @return the bucket index
+     */
+    public static int bucket(long hash, int bucketCount) {
+        return (int) Long.remainderUnsigned(hash >>> 32, bucketCount);
+    }
+
+    /**
+     * Selects the slot of a key hash given its bucket's displacement.
+     *
+     * @param hash the key hash
+     * @param displacement the displacement stored for the key's bucket
+     * @param size the number of slots
+     * @return the slot index
+     */
+    public static int slot(long hash, int displacement, int size) {
+        if (displacement < 0) {
+            return -displacement - 1;
+        }
+        return (int) Long.remainderUnsigned(Murmur3.fmix64(hash + displacement * GOLDEN_GAMMA), size);
+    }
+
+    /**
+     * Returns the seed to record alongside the table.
+     *
+     * @return the hash seed
+     */
+    public int getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the displacement table, one value per bucket.
+     *
+     * @return the displacements
+     */
+    public int[] getDisplacements() {
+        return displacements;
+    }
+
+    /**
+     * Returns the slot assigned to the key at the given position of the input list.
+     *
+     * @param keyIndex the position of the key in the list passed to {@link #build(List)}
+     * @return the key's slot
+     */
+    public int slotOf(int keyIndex) {
+        return slots[keyIndex];
+    }
+
+    @FunctionalInterface
+    private interface KeyHasher {
+        long hash(int index, int seed);
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Streaming reader for the {@code .properties} format, with the exact semantics of
+ * {@link java.util.Properties#load(Reader)}.
+ *
+ * Unlike {@code Properties}, which collects everything into a synchronized {@code Hashtable}
+ * that callers then copy out of, this reader hands every key/value pair to a consumer as soon
+ * as it is parsed, so translations can go straight into their final catalog. It supports
+ * comment lines starting with {@code #} or {@code !}, {@code =}, {@code :} and whitespace as
+ * separators, line continuations with a trailing backslash, and the escapes {@code \t},
+ * {@code \n}, {@code \r}, {@code \f} and {@code \}{@code uXXXX}. Keys and values without
+ * escapes are copied out of the line buffer once, without an intermediate builder.
+ */
+public final class PropertiesReader {
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private char[] line = new char[256];
+    private final StringBuilder unescaped = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+
+    private PropertiesReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads every key/value pair from a reader. Pairs are reported in file order; a key that
+     * appears twice is reported twice, so consumers that keep the last value behave like
+     * {@code Properties}.
+     *
+     * @param reader the properties source; it is not closed
+     * @param consumer receives each key and value
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if the input contains a malformed {@code \}{@code uXXXX} escape
+     */
+    public static void read(Reader reader, BiConsumer<String, String> consumer) throws IOException {
+        PropertiesReader properties = new PropertiesReader(reader);
+        int length;
+        while ((length = properties.readLogicalLine()) >= 0) {
+            properties.parsePair(length, consumer);
+        }
+    }
+
+    /**
+     * Reads the next logical line into {@link #line}, dropping comments, blank lines, leading
+     * whitespace and line continuations.
+     *
+     * @return the length of the line, or {@code -1} at the end of the input
+     */
+    private int readLogicalLine() throws IOException {
+        int length = 0;
+        boolean skipWhitespace = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+        boolean newLine = true;
+        boolean commentLine = false;
+
+        while (true) {
+            if (position >= limit) {
+                limit = reader.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (length == 0 || commentLine) {
+                        return -1;
+                    }
+                    return precedingBackslash ? length - 1 : length;
+                }
+            }
+            char c = buffer[position++];
+
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (skipWhitespace) {
+                if (c == ' ' || c == '\t' || c == '\f') {
+                    continue;
+                }
+                if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+                    continue;
+                }
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+            if (newLine) {
+                newLine = false;
+                if (c == '#' || c == '!') {
+                    commentLine = true;
+                    continue;
+                }
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (commentLine) {
+                    continue;
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                continue;
+            }
+
+            // End of a natural line
+            if (c == '\r') {
+                skipLineFeed = true;
+            }
+            if (commentLine || length == 0) {
+                commentLine = false;
+                newLine = true;
+                skipWhitespace = true;
+                length = 0;
+                continue;
+            }
+            if (precedingBackslash) {
+                // Continuation: drop the backslash and the next line's leading whitespace
+                length--;
+                skipWhitespace = true;
+                appendedLineBegin = true;
+                precedingBackslash = false;
+                continue;
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Splits a logical line into key and value at the first unescaped separator.
+     */
+    private void parsePair(int length, BiConsumer<String, String> consumer) {
+        int keyLength = 0;
+        int valueStart = length;
+        boolean hasSeparator = false;
+        boolean precedingBackslash = false;
+
+        while (keyLength < length) {
+            char c = line[keyLength];
+            if ((c == '=' || c == ':') && !precedingBackslash) {
+                valueStart = keyLength + 1;
+                hasSeparator = true;
+                break;
+            }
+            if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+                valueStart = keyLength + 1;
+                break;
+            }
+            precedingBackslash = c == '\\' && !precedingBackslash;
+            keyLength++;
+        }
+        while (valueStart < length) {
+            char c = line[valueStart];
+            if (c != ' ' && c != '\t' && c != '\f') {
+                if (!hasSeparator && (c == '=' || c == ':')) {
+                    hasSeparator = true;
+                } else {
+                    break;
+                }
+            }
+            valueStart++;
+        }
+
+        String key = unescape(0, keyLength);
+        String value = unescape(valueStart, length - valueStart);
+        consumer.accept(key, value);
+    }
+
+    private String unescape(int offset, int length) {
+        int end = offset + length;
+        int firstEscape = offset;
+        while (firstEscape < end && line[firstEscape] != '\\') {
+            firstEscape++;
+        }
+        if (firstEscape == end) {
+            return new String(line, offset, length);
+        }
+
+        unescaped.setLength(0);
+        unescaped.append(line, offset, firstEscape - offset);
+        int i = firstEscape;
+        while (i < end) {
+            char c = line[i++];
+            if (c != '\\') {
+                unescaped.append(c);
+                continue;
+            }
+            if (i == end) {
+                // A lone trailing backslash is dropped, as Properties does
+                break;
+            }
+            c = line[i++];
+            switch (c) {
+                case 't' -> unescaped.append('\t');
+                case 'r' -> unescaped.append('\r');
+                case 'n' -> unescaped.append('\n');
+                case 'f' -> unescaped.append('\f');
+                case 'u' -> {
+                    if (end - i < 4) {
+                        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                    }
+                    int value = 0;
+                    for (int digit = 0; digit < 4; digit++) {
+                        int hex = hexValue(line[i++]);
+                        if (hex < 0) {
+                            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                        }
+                        value = (value << 4) | hex;
+                    }
+                    unescaped.append((char) value);
+                }
+                default -> unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
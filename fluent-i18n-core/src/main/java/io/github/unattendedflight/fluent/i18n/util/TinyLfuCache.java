@@ -0,0 +1,525 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache with a W-TinyLFU admission and eviction policy.
+ *
+ * Entries live in a {@link ConcurrentHashMap}, so lookups never block. The policy keeps
+ * a small LRU admission window (about 1% of the capacity) in front of a segmented LRU
+ * main space split into probation and protected segments. When the cache is full, the
+ * entry leaving the window only replaces the least recently used probation entry if a
+ * count-min sketch of recent access frequencies rates it higher. A burst of one-off keys
+ * therefore churns through the window and probation segment without displacing the
+ * frequently used working set, unlike a plain LRU.
+ *
+ * Policy bookkeeping happens under a lock that reads never take. A read records its entry
+ * in a striped, lossy read buffer, as Caffeine does: each thread appends to one of several
+ * small ring buffers with a single compare-and-set and drops the record when its stripe is
+ * contended or full. The buffered reads are replayed against the sketch and the LRU queues
+ * under the lock, by the reader that fills a stripe if the lock is free and by every write
+ * before it updates the policy. Values must not be {@code null}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class TinyLfuCache<K, V> {
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protectedSegment = new AccessQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReadStripe<K, V>[] readBuffer = newReadBuffer();
+
+    private FrequencySketch sketch;
+    private volatile int maximumSize;
+    private int windowMaximum;
+    private int protectedMaximum;
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries, at least 1
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public TinyLfuCache(int maximumSize) {
+        applyMaximumSize(maximumSize);
+    }
+
+    /**
+     * Returns the cached value of a key, computing and caching it on a miss.
+     * Concurrent misses on the same key may compute the value more than once; only one result is kept.
+     *
+     * @param key the key
+     * @param mappingFunction computes the value of a missing key; a {@code null} result is returned but not cached
+     * @return the cached or computed value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+        misses.increment();
+        V value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        return putIfAbsent(key, value);
+    }
+
+    /**
+     * Caches a value unless the key is already present. Does not count as a hit or a miss.
+     *
+     * @param key the key
+     * @param value the value, not {@code null}
+     * @return the value cached for the key after the call
+     */
+    public V putIfAbsent(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> existing = data.putIfAbsent(key, node);
+        if (existing != null) {
+            afterRead(existing);
+            return existing.value;
+        }
+        afterWrite(node);
+        return value;
+    }
+
+    /**
+     * Returns the cached value of a key without computing it. Counts as a hit or a miss.
+     *
+     * @param key the key
+     * @return the cached value, or {@code null} if absent
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    /**
+     * Changes the maximum number of entries, evicting entries if the cache is now too large.
+     * Access frequencies recorded so far are discarded when the size actually changes.
+     *
+     * @param maximumSize the maximum number of entries, at least 1
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public void setMaximumSize(int maximumSize) {
+        if (maximumSize == this.maximumSize) {
+            return;
+        }
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            applyMaximumSize(maximumSize);
+            evict();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the size
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Copies the cached entries into a new map.
+     *
+     * @return a snapshot of the cache content
+     */
+    public Map<K, V> toMap() {
+        Map<K, V> snapshot = new HashMap<>(data.size());
+        data.forEach((key, node) -> snapshot.put(key, node.value));
+        return snapshot;
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public void clear() {
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the hit, miss and eviction counters.
+     *
+     * @return the current statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), data.size());
+    }
+
+    private void applyMaximumSize(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum cache size must be at least 1: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, (int) (maximumSize * WINDOW_RATIO));
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadStripe<K, V> stripe = readBuffer[ReadStripe.indexOf(Thread.currentThread()) & (readBuffer.length - 1)];
+        if (stripe.offer(node) && policyLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replays the buffered reads against the policy. Called under the policy lock.
+     */
+    private void drainReadBuffer() {
+        for (ReadStripe<K, V> stripe : readBuffer) {
+            stripe.drainTo(this);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        switch (node.segment) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.segment = Segment.PROTECTED;
+                protectedSegment.addLast(node);
+                // Keep the protected segment within bounds by demoting its least recent entry
+                while (protectedSegment.size > protectedMaximum) {
+                    Node<K, V> demoted = protectedSegment.removeFirst();
+                    demoted.segment = Segment.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case PROTECTED -> protectedSegment.moveToBack(node);
+            default -> {
+                // Not yet linked by its writer, or already evicted
+            }
+        }
+    }
+
+    private void afterWrite(Node<K, V> node) {
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(node.key);
+            if (data.get(node.key) != node) {
+                return; // Removed by clear() before it could be linked
+            }
+            node.segment = Segment.WINDOW;
+            window.addLast(node);
+            evict();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void evict() {
+        // Entries overflowing the window become admission candidates at the back of probation
+        while (window.size > windowMaximum) {
+            Node<K, V> candidate = window.removeFirst();
+            candidate.segment = Segment.PROBATION;
+            probation.addLast(candidate);
+        }
+
+        while (window.size + probation.size + protectedSegment.size > maximumSize) {
+            Node<K, V> victim = probation.first();
+            Node<K, V> candidate = probation.last();
+            if (victim == null) {
+                evict(protectedSegment.size > 0 ? protectedSegment.first() : window.first());
+            } else if (victim == candidate || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedSegment.remove(node);
+            default -> throw new IllegalStateException("Evicting an unlinked entry");
+        }
+        node.segment = Segment.NONE;
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> ReadStripe<K, V>[] newReadBuffer() {
+        ReadStripe<K, V>[] stripes = new ReadStripe[ReadStripe.COUNT];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReadStripe<>();
+        }
+        return stripes;
+    }
+
+    private enum Segment { NONE, WINDOW, PROBATION, PROTECTED }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        Segment segment = Segment.NONE;
+        Node<K, V> previous;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * One stripe of the read buffer: a ring of recently read entries that any thread appends
+     * to without waiting and that is drained under the policy lock. An append claims a slot
+     * by advancing the write counter and only then publishes the entry, so the drain stops
+     * at a claimed slot that is still empty and picks it up the next time.
+     */
+    private static final class ReadStripe<K, V> {
+        static final int COUNT =
+            Math.min(64, Integer.highestOneBit(Math.max(1, 4 * Runtime.getRuntime().availableProcessors() - 1)) << 1);
+        private static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<Node<K, V>> entries = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writes = new AtomicLong();
+        private volatile long reads;
+
+        /**
+         * Returns the stripe index of a thread, before masking.
+         */
+        static int indexOf(Thread thread) {
+            long id = thread.threadId() * 0x9E3779B97F4A7C15L;
+            return (int) (id >>> 32);
+        }
+
+        /**
+         * Records a read, unless the stripe is full or another thread is appending to it.
+         *
+         * @param node the entry read
+         * @return {@code true} if the stripe is full and should be drained
+         */
+        boolean offer(Node<K, V> node) {
+            long head = reads;
+            long tail = writes.get();
+            if (tail - head >= SIZE) {
+                return true;
+            }
+            if (writes.compareAndSet(tail, tail + 1)) {
+                entries.lazySet((int) tail & MASK, node);
+                return tail + 1 - head >= SIZE;
+            }
+            return false;
+        }
+
+        /**
+         * Replays the published reads of the stripe against the policy of a cache, oldest
+         * first. Called under the policy lock.
+         *
+         * @param cache the cache owning the stripe
+         */
+        void drainTo(TinyLfuCache<K, V> cache) {
+            long head = reads;
+            long tail = writes.get();
+            for (; head < tail; head++) {
+                int index = (int) head & MASK;
+                Node<K, V> node = entries.get(index);
+                if (node == null) {
+                    break;
+                }
+                entries.lazySet(index, null);
+                cache.onAccess(node);
+            }
+            reads = head;
+        }
+    }
+
+    /**
+     * Doubly linked list ordered from least to most recently used. Guarded by the policy lock.
+     */
+    private static final class AccessQueue<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        int size;
+
+        Node<K, V> first() {
+            return head;
+        }
+
+        Node<K, V> last() {
+            return tail;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node<K, V> removeFirst() {
+            Node<K, V> node = head;
+            remove(node);
+            return node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            for (Node<K, V> node = head; node != null; node = node.next) {
+                node.segment = Segment.NONE;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters estimating how often keys were accessed recently.
+     * Once the number of recorded accesses reaches ten times the cache size, every counter
+     * is halved so that the estimates follow changes in popularity. Guarded by the policy lock.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int MAX_COUNT = 15;
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 26)) - 1) << 1;
+            this.table = new long[length];
+            this.mask = length - 1;
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offsetOf(hash, i)) & 0xF));
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                int offset = offsetOf(hash, i);
+                if (((table[index] >>> offset) & 0xF) < MAX_COUNT) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            long value = (hash + SEEDS[row]) * SEEDS[row];
+            value += value >>> 32;
+            return (int) value & mask;
+        }
+
+        private static int offsetOf(int hash, int row) {
+            // Each row uses a different nibble of the hash to pick one of the 16 counters in a word
+            return ((hash >>> (row << 3)) & 0xF) << 2;
+        }
+
+        private static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.unattendedflight.fluent.i18n;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import io.github.unattendedflight.fluent.i18n.core.Sha256HashGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiteralCallSitesTest {
+
+  @AfterEach
+  void reset() {
+    I18n.clearCurrentLocale();
+    I18n.setHashGenerator(new Sha256HashGenerator());
+  }
+
+  @Test
+  void testSitesLinkedBeforeInitializationFollowTheConfiguredAlgorithm() throws Throwable {
+    // The build hashed with SHA-256, the site links while the default generator is installed
+    I18n.setHashGenerator(new Sha256HashGenerator());
+    MethodHandle site = LiteralCallSites.bootstrap(MethodHandles.lookup(), "translate",
+        MethodType.methodType(String.class, String.class), "Hello",
+        new Sha256HashGenerator().generateHash("Hello"), HashAlgorithm.SHA256.getId()).dynamicInvoker();
+
+    I18n.initialize(new FluentConfig("i18n-murmur3")
+        .supportedLocales("en", "fr")
+        .defaultLocale("en")
+        .messageSourceType(FluentConfig.MessageSourceType.PROPERTIES)
+        .hashAlgorithm(HashAlgorithm.MURMUR3));
+    I18n.setCurrentLocale(Locale.FRENCH);
+    assertEquals("Bonjour", (String) site.invokeExact("Hello"));
+    assertEquals("Bonjour", I18n.t(new String("Hello")));
+
+    // A generator installed after linking is picked up as well
+    I18n.setHashGenerator(new Sha256HashGenerator());
+    assertEquals("Hello", (String) site.invokeExact("Hello"));
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.unattendedflight.fluent.i18n;
+
+import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+import io.github.unattendedflight.fluent.i18n.core.LocaleRegistry;
+import io.github.unattendedflight.fluent.i18n.core.NaturalTextMessageSource;
+import io.github.unattendedflight.fluent.i18n.core.Sha256HashGenerator;
+import io.github.unattendedflight.fluent.i18n.core.TranslationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageKeyTest {
+  private static final HashGenerator HASHES = new Sha256HashGenerator();
+
+  @Test
+  void testHashesOnceWithOrWithoutContext() {
+    assertEquals(HASHES.generateHash("Save"), new MessageKey("Save", null, HASHES).describe().getHash());
+    assertEquals(HASHES.generateHash("Save", "button"), new MessageKey("Save", "button", HASHES).describe().getHash());
+  }
+
+  @Test
+  void testRemembersTranslationsPerLocaleUntilTheGenerationChanges() {
+    CountingSource source = new CountingSource();
+    MessageKey key = new MessageKey("Save", null, HASHES);
+    int french = LocaleRegistry.register(Locale.FRENCH);
+    int german = LocaleRegistry.register(Locale.GERMAN);
+
+    assertEquals("Enregistrer", key.translation(source, HASHES, Locale.FRENCH, french));
+    assertEquals("Enregistrer", key.translation(source, HASHES, Locale.FRENCH, french));
+    assertNull(key.translation(source, HASHES, Locale.GERMAN, german));
+    assertNull(key.translation(source, HASHES, Locale.GERMAN, german));
+    assertEquals(2, source.lookups);
+
+    source.generation++;
+    assertEquals("Enregistrer", key.translation(source, HASHES, Locale.FRENCH, french));
+    assertEquals(3, source.lookups);
+
+    source.complete = false;
+    source.generation++;
+    key.translation(source, HASHES, Locale.FRENCH, french);
+    key.translation(source, HASHES, Locale.FRENCH, french);
+    assertEquals(5, source.lookups);
+  }
+
+  @Test
+  void testDoesNotShareTranslationsBetweenLocalesSharingAnId() {
+    CountingSource source = new CountingSource();
+    MessageKey key = new MessageKey("Save", null, HASHES);
+    int french = LocaleRegistry.register(Locale.FRENCH);
+    Locale canadian = Locale.CANADA_FRENCH;
+
+    assertEquals(french, LocaleRegistry.nearest(canadian));
+    assertEquals("Enregistrer", key.translation(source, HASHES, Locale.FRENCH, french));
+    assertNull(key.translation(source, HASHES, canadian, french));
+    assertNull(key.translation(source, HASHES, canadian, french));
+    assertEquals("Enregistrer", key.translation(source, HASHES, Locale.FRENCH, french));
+    assertEquals(3, source.lookups);
+  }
+
+  private static final class CountingSource implements NaturalTextMessageSource {
+    int lookups;
+    long generation;
+    boolean complete = true;
+
+    @Override
+    public String lookup(String hash, Locale locale, int localeId) {
+      lookups++;
+      return locale.equals(Locale.FRENCH) && hash.equals(HASHES.generateHash("Save")) ? "Enregistrer" : null;
+    }
+
+    @Override
+    public TranslationResult resolve(String hash, String naturalText, Locale locale) {
+      String translation = lookup(hash, locale, LocaleRegistry.nearest(locale));
+      return translation != null ? TranslationResult.found(translation) : TranslationResult.notFound(naturalText);
+    }
+
+    @Override
+    public boolean exists(String hash, Locale locale) {
+      return resolve(hash, null, locale).isFound();
+    }
+
+    @Override
+    public Iterable<Locale> getSupportedLocales() {
+      return List.of(Locale.FRENCH, Locale.GERMAN);
+    }
+
+    @Override
+    public long getGeneration() {
+      return generation;
+    }
+
+    @Override
+    public boolean isComplete(Locale locale, int localeId) {
+      return complete;
+    }
+  }
+}
@@ -8,12 +8,16 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +27,7 @@ class BinaryOutputWriterTest {
   private static final byte[] MAGIC = "FL18".getBytes();
   private static final byte FLAG_COMPRESSED = 0x01;
   private static final byte FLAG_FIXED_HASH_LENGTH = 0x02;
+  private static final byte FLAG_SHARED_STRINGS = 0x10;
 
   @Test
   void testBinaryOutputWriterUncompressed(@TempDir Path tempDir) throws IOException {
@@ -335,6 +340,52 @@ class BinaryOutputWriterTest {
     assertTrue(compressionRatio > 20, "Should achieve at least 20% compression on repetitive text data");
   }
 
+  @Test
+  void testSharedStringTableStoresEachTranslationOnce(@TempDir Path tempDir) throws IOException {
+    Map<String, TranslationData> dataByLocale = new LinkedHashMap<>();
+    for (String locale : new String[] {"en", "en-GB", "en-AU"}) {
+      Map<String, TranslationEntry> entries = new HashMap<>();
+      entries.put("hash1", new TranslationEntry("OK", "OK", "test.java:1"));
+      entries.put("hash2", new TranslationEntry("Color", locale.equals("en") ? "Color" : "Colour", "test.java:2"));
+      dataByLocale.put(locale, new TranslationData(entries, new PoMetadata()));
+    }
+    CompilerConfig config = CompilerConfig.builder()
+        .outputFormats(OutputFormat.BINARY)
+        .sharedStringTable(true);
+
+    Map<String, Path> files = new BinaryOutputWriter(config, false).writeAll(dataByLocale, tempDir);
+
+    assertEquals(dataByLocale.keySet(), files.keySet());
+    ByteBuffer table = ByteBuffer.wrap(Files.readAllBytes(tempDir.resolve(BinaryOutputWriter.STRING_TABLE_FILE_NAME)));
+    table.position(MAGIC.length + 2);
+    assertEquals(3, readVLQ(table));
+    // The most referenced string comes first
+    assertEquals(2, readVLQ(table));
+    assertEquals("OK", StandardCharsets.UTF_8.decode(table.slice(table.position(), 2)).toString());
+
+    ByteBuffer catalog = ByteBuffer.wrap(Files.readAllBytes(files.get("en-GB"))).order(ByteOrder.LITTLE_ENDIAN);
+    catalog.position(MAGIC.length + 1);
+    assertEquals(FLAG_FIXED_HASH_LENGTH | FLAG_SHARED_STRINGS, catalog.get());
+  }
+
+  @Test
+  void testReplaceLeavesMappedCatalogIntact(@TempDir Path tempDir) throws IOException {
+    Path file = tempDir.resolve("messages_en.bin");
+    Files.write(file, "first".getBytes(StandardCharsets.US_ASCII));
+
+    ByteBuffer mapped;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    BinaryOutputWriter.replace(file, "second!".getBytes(StandardCharsets.US_ASCII));
+
+    assertEquals("first", StandardCharsets.US_ASCII.decode(mapped).toString());
+    assertEquals("second!", Files.readString(file, StandardCharsets.US_ASCII));
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertEquals(1, files.count());
+    }
+  }
+
   @Test
   void testGetOutputFormat() {
     CompilerConfig config = CompilerConfig.builder()
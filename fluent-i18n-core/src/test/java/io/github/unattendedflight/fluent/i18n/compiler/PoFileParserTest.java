@@ -0,0 +1,44 @@
+package io.github.unattendedflight.fluent.i18n.compiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoFileParserTest {
+
+  @Test
+  void testKeepsIcuPluralMessagesAsRegularEntries(@TempDir Path tempDir) throws IOException {
+    Path poFile = tempDir.resolve("messages_fr.po");
+    Files.writeString(poFile, """
+        #. hash: plural1
+        msgid "{0, plural, one {One file} other {{} files}}"
+        msgstr "{0, plural, one {Un fichier} other {{} fichiers}}"
+
+        #. hash: plural2
+        msgid "{0, plural, one {# item} other {# items}}"
+        msgstr "{0, plural, one {# élément} other {# éléments}}"
+
+        #. hash: gettext
+        msgid "apple"
+        msgid_plural "apples"
+        msgstr[0] "pomme"
+        msgstr[1] "pommes"
+
+        #. hash: next
+        msgid "Hello"
+        msgstr "Bonjour"
+        """);
+
+    TranslationData data = new PoFileParser().parse(poFile);
+
+    assertEquals("{0, plural, one {Un fichier} other {{} fichiers}}", data.getEntries().get("plural1").getTranslation());
+    assertEquals("{0, plural, one {# élément} other {# éléments}}", data.getEntries().get("plural2").getTranslation());
+    assertEquals("pommes", data.getEntries().get("gettext").getPluralForms().get(1));
+    assertEquals("Bonjour", data.getEntries().get("next").getTranslation());
+  }
+}
@@ -0,0 +1,89 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArenaTranslationCatalogTest {
+
+  @Test
+  void testStringKeyedArenaMatchesMap() {
+    Map<String, String> expected = new HashMap<>();
+    ArenaTranslationCatalog.Builder builder = new ArenaTranslationCatalog.Builder(false, 4, 8);
+    for (int i = 0; i < 1000; i++) {
+      String hash = String.format("h%06d", i);
+      String translation = switch (i % 4) {
+        case 0 -> "Plain " + i;
+        case 1 -> "Grüße aus München " + i;
+        case 2 -> "Привет " + i + " 👋";
+        default -> "";
+      };
+      builder.put(hash, translation);
+      expected.put(hash, translation);
+    }
+    builder.put("ключ", "Non-ASCII key");
+    expected.put("ключ", "Non-ASCII key");
+
+    ArenaTranslationCatalog catalog = (ArenaTranslationCatalog) builder.build();
+
+    assertEquals(expected.size(), catalog.size());
+    assertFalse(catalog.hasLongKeys());
+    for (int pass = 0; pass < 2; pass++) {
+      expected.forEach((hash, translation) -> assertEquals(translation, catalog.get(hash), hash));
+    }
+    assertTrue(catalog.contains("h000003"));
+    assertNull(catalog.get("h999999"));
+    assertNull(catalog.get("ключи"));
+    assertFalse(catalog.contains("missing"));
+
+    Map<String, String> visited = new HashMap<>();
+    catalog.forEach(new TranslationCatalog.EntryVisitor() {
+      @Override
+      public void visit(String hash, String translation) {
+        visited.put(hash, translation);
+      }
+
+      @Override
+      public void visit(long key, String translation) {
+        fail("String-keyed catalog reported a long key");
+      }
+    });
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  void testLaterEntriesReplaceEarlierOnesAndAreCompacted() {
+    ArenaTranslationCatalog.Builder builder = new ArenaTranslationCatalog.Builder(false, 16, 0);
+    builder.put("a", "first");
+    builder.put("b", "Bee");
+    builder.put("a", "second");
+
+    ArenaTranslationCatalog catalog = (ArenaTranslationCatalog) builder.build();
+
+    assertEquals(2, catalog.size());
+    assertEquals("second", catalog.get("a"));
+    assertEquals("Bee", catalog.get("b"));
+    assertEquals("a".length() + "second".length() + "b".length() + "Bee".length(), catalog.arenaBytes());
+  }
+
+  @Test
+  void testLongKeyedArenaConvertsHashStrings() {
+    HashGenerator hashes = new Murmur3HashGenerator();
+    String hello = hashes.generateHash("Hello");
+    String bye = hashes.generateHash("Bye");
+    ArenaTranslationCatalog.Builder builder = new ArenaTranslationCatalog.Builder(true, 0, 256);
+    builder.put(hello, "Hallo");
+    builder.put(HashKeys.toLong(bye), "Tschüss");
+
+    TranslationCatalog catalog = builder.build();
+
+    assertTrue(catalog.hasLongKeys());
+    assertEquals("Hallo", catalog.get(hello));
+    assertEquals("Tschüss", catalog.get(bye));
+    assertNull(catalog.get(hashes.generateHash("Other")));
+    assertThrows(IllegalStateException.class, () -> new ArenaTranslationCatalog.Builder(false, 0, 0).put(1L, "x"));
+  }
+}
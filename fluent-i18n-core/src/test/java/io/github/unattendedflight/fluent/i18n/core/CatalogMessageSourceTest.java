@@ -0,0 +1,358 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogMessageSourceTest {
+  private static final Locale EN = Locale.ENGLISH;
+  private static final Locale ES = Locale.forLanguageTag("es");
+  private static final Locale ES_MX = Locale.forLanguageTag("es-MX");
+
+  @Test
+  void testFallbackChainFollowsParentsThenDefault() {
+    assertEquals(List.of(ES_MX, ES, EN), CatalogMessageSource.fallbackChain(ES_MX, EN));
+    assertEquals(
+        List.of(Locale.forLanguageTag("zh-Hant-TW"), Locale.forLanguageTag("zh-Hant"), Locale.forLanguageTag("zh"),
+            Locale.forLanguageTag("en-US"), EN),
+        CatalogMessageSource.fallbackChain(Locale.forLanguageTag("zh-Hant-TW"), Locale.forLanguageTag("en-US")));
+    assertEquals(List.of(EN), CatalogMessageSource.fallbackChain(EN, EN));
+  }
+
+  @Test
+  void testFallbackChainDropsExtensionsAndPrivateUse() {
+    assertEquals(List.of(Locale.forLanguageTag("es-x-foo"), ES, EN),
+        CatalogMessageSource.fallbackChain(Locale.forLanguageTag("es-x-foo"), EN));
+    assertEquals(List.of(Locale.forLanguageTag("es-u-nu-latn"), ES, EN),
+        CatalogMessageSource.fallbackChain(Locale.forLanguageTag("es-u-nu-latn"), EN));
+    assertEquals(List.of(Locale.forLanguageTag("es-MX-x-foo"), ES, EN),
+        CatalogMessageSource.fallbackChain(Locale.forLanguageTag("es-MX-x-foo"), EN));
+  }
+
+  @Test
+  void testViewPrefersMostSpecificNonBlankTranslation() {
+    HashGenerator hashes = new Sha256HashGenerator();
+    String hello = hashes.generateHash("Hello");
+    String bye = hashes.generateHash("Bye");
+    String car = hashes.generateHash("Car");
+    Map<Locale, Map<String, String>> resources = Map.of(
+        EN, Map.of(hello, "Hello", bye, "Bye", car, "Car"),
+        ES, Map.of(hello, "Hola", bye, "Adiós"),
+        ES_MX, Map.of(hello, "Quiubo", bye, " "));
+
+    for (FluentConfig.KeyMode keyMode : FluentConfig.KeyMode.values()) {
+      for (FluentConfig.CatalogStorage storage : FluentConfig.CatalogStorage.values()) {
+        TestSource source = new TestSource(resources, new FluentConfig().keyMode(keyMode).catalogStorage(storage), null);
+
+        assertEquals("Quiubo", source.resolve(hello, "Hello", ES_MX).getTranslation());
+        assertEquals("Adiós", source.resolve(bye, "Bye", ES_MX).getTranslation());
+        assertEquals("Car", source.resolve(car, "Car", ES_MX).getTranslation());
+        assertFalse(source.resolve(hashes.generateHash("Other"), "Other", ES_MX).isFound());
+        assertEquals("Hello", source.resolve(hello, "Hello", Locale.FRENCH).getTranslation());
+        assertTrue(source.exists(bye, ES_MX));
+        assertFalse(source.exists(car, ES_MX));
+        assertEquals("Adiós", source.lookup(bye, ES_MX));
+        assertEquals("Car", source.lookup(car, ES_MX, LocaleRegistry.register(ES_MX)));
+        assertNull(source.lookup(hashes.generateHash("Other"), ES_MX));
+      }
+    }
+  }
+
+  @Test
+  void testDefaultLookupAdaptsResolveOfCustomSources() {
+    NaturalTextMessageSource custom = new NaturalTextMessageSource() {
+      @Override
+      public TranslationResult resolve(String hash, String naturalText, Locale locale) {
+        return "known".equals(hash) ? TranslationResult.found("Bekannt") : TranslationResult.notFound(naturalText);
+      }
+
+      @Override
+      public boolean exists(String hash, Locale locale) {
+        return "known".equals(hash);
+      }
+
+      @Override
+      public Iterable<Locale> getSupportedLocales() {
+        return List.of(Locale.GERMAN);
+      }
+    };
+
+    assertEquals("Bekannt", custom.lookup("known", Locale.GERMAN));
+    assertNull(custom.lookup("unknown", Locale.GERMAN));
+  }
+
+  @Test
+  void testIdenticalTranslationsAreSharedAcrossLocales() {
+    HashGenerator hashes = new Sha256HashGenerator();
+    String ok = hashes.generateHash("OK");
+    String email = hashes.generateHash("Email");
+    Map<Locale, Map<String, String>> resources = Map.of(
+        EN, Map.of(ok, new String("OK"), email, "Email"),
+        ES, Map.of(ok, new String("OK"), email, "Correo"));
+
+    for (FluentConfig.KeyMode keyMode : FluentConfig.KeyMode.values()) {
+      TestSource source = new TestSource(resources, keyMode);
+      source.warmUp(List.of(EN, ES));
+
+      assertNotSame(resources.get(EN).get(ok), resources.get(ES).get(ok));
+      assertSame(source.getTranslations(EN).get(ok), source.getTranslations(ES).get(ok));
+      assertEquals("Correo", source.getTranslations(ES).get(email));
+    }
+  }
+
+  @Test
+  void testViewsAreIndexedByRegisteredLocaleId() {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    TestSource source = new TestSource(Map.of(EN, Map.of(hello, "Hello"), ES, Map.of(hello, "Hola")),
+        FluentConfig.KeyMode.STRING);
+
+    int id = LocaleRegistry.register(ES_MX);
+    assertEquals(id, LocaleRegistry.register(Locale.forLanguageTag("es-MX")));
+    assertSame(LocaleRegistry.getLocale(id), LocaleRegistry.intern(Locale.forLanguageTag("es-MX")));
+    assertEquals("Hola", source.resolve(hello, "Hello", ES_MX, id).getTranslation());
+    assertEquals("Hola", source.resolve(hello, "Hello", ES_MX).getTranslation());
+    assertEquals(LocaleRegistry.UNREGISTERED, LocaleRegistry.register(null));
+  }
+
+  @Test
+  void testUnsupportedLocalesShareTheViewOfTheirNearestRegisteredParent() {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    TestSource source = new TestSource(Map.of(EN, Map.of(hello, "Hello"), ES, Map.of(hello, "Hola")),
+        FluentConfig.KeyMode.STRING);
+    int registered = LocaleRegistry.size();
+
+    for (String tag : List.of("es-AA", "es-AB", "es-x-foo")) {
+      Locale requested = Locale.forLanguageTag(tag);
+      assertEquals(LocaleRegistry.idOf(ES), LocaleRegistry.nearest(requested));
+      assertEquals("Hola", source.resolve(hello, "Hello", requested).getTranslation());
+      assertSame(source.getView(ES), source.getView(requested));
+      assertEquals(LocaleRegistry.UNREGISTERED, LocaleRegistry.idOf(requested));
+      assertNull(source.loads.get(requested));
+    }
+    assertEquals("Hello", source.resolve(hello, "Hello", Locale.forLanguageTag("xx-YY")).getTranslation());
+    assertEquals(registered, LocaleRegistry.size());
+  }
+
+  @Test
+  void testConcurrentFirstRequestsShareOneLoadWithoutBlockingOtherLocales() throws Exception {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    Map<Locale, Map<String, String>> resources = Map.of(
+        EN, Map.of(hello, "Hello"),
+        Locale.GERMAN, Map.of(hello, "Hallo"),
+        ES_MX, Map.of(hello, "Quiubo"));
+    TestSource source = new TestSource(resources, new FluentConfig(), ES_MX);
+
+    List<Future<String>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 200; i++) {
+        results.add(executor.submit(() -> source.resolve(hello, "Hello", ES_MX).getTranslation()));
+      }
+      assertTrue(source.loading.await(5, TimeUnit.SECONDS));
+
+      // While es-MX is stuck in I/O, other locales load and resolve normally
+      Future<String> german = executor.submit(() -> source.resolve(hello, "Hello", Locale.GERMAN).getTranslation());
+      assertEquals("Hallo", german.get(5, TimeUnit.SECONDS));
+      assertFalse(results.get(0).isDone());
+
+      source.gate.countDown();
+      for (Future<String> result : results) {
+        assertEquals("Quiubo", result.get(5, TimeUnit.SECONDS));
+      }
+    }
+    assertEquals(1, source.loads.get(ES_MX).get());
+    assertEquals(1, source.loads.get(EN).get());
+  }
+
+  @Test
+  void testFallbackModeServesLoadedLocalesWhileLoading() throws Exception {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    Map<Locale, Map<String, String>> resources = Map.of(
+        EN, Map.of(hello, "Hello"),
+        ES, Map.of(hello, "Hola"),
+        ES_MX, Map.of(hello, "Quiubo"));
+    TestSource source = new TestSource(resources,
+        new FluentConfig().catalogLoading(FluentConfig.CatalogLoading.FALLBACK), ES_MX);
+
+    // Returns at once although the es-MX catalog cannot finish loading yet
+    assertNotEquals("Quiubo", source.resolve(hello, "Hello", ES_MX).getTranslation());
+    assertTrue(source.loading.await(5, TimeUnit.SECONDS));
+    assertEquals("Hola", awaitTranslation(source, hello, "Hola"));
+
+    source.gate.countDown();
+    assertEquals("Quiubo", awaitTranslation(source, hello, "Quiubo"));
+    assertEquals(1, source.loads.get(ES_MX).get());
+  }
+
+  @Test
+  void testWarmUpLoadsWholeChainsInParallel() throws Exception {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    Map<Locale, Map<String, String>> resources = Map.of(
+        EN, Map.of(hello, "Hello"),
+        ES, Map.of(hello, "Hola"));
+    TestSource source = new TestSource(resources, new FluentConfig(), null);
+
+    Map<Locale, Duration> timings;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      timings = source.warmUpAsync(List.of(ES_MX, EN), executor).get(5, TimeUnit.SECONDS);
+    }
+
+    assertEquals(Set.of(ES_MX, ES, EN), timings.keySet());
+    assertEquals("Hola", source.resolve(hello, "Hello", ES_MX).getTranslation());
+    assertTrue(source.warmUpAsync(List.of(ES_MX), Runnable::run).get().isEmpty());
+    for (Locale locale : List.of(ES_MX, ES, EN)) {
+      assertEquals(1, source.loads.get(locale).get());
+    }
+  }
+
+  @Test
+  void testReloadPublishesNewGenerationAndKeepsCatalogsThatLoadEmpty() {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    Map<Locale, Map<String, String>> resources = new ConcurrentHashMap<>(Map.of(
+        EN, Map.of(hello, "Hello"),
+        ES, Map.of(hello, "Hola")));
+    TestSource source = new TestSource(resources, FluentConfig.KeyMode.STRING);
+    assertEquals("Hola", source.resolve(hello, "Hello", ES_MX).getTranslation());
+    assertEquals(0, source.getGeneration());
+
+    resources.put(ES, Map.of(hello, "Buenas"));
+    resources.remove(EN);
+    source.reload();
+
+    assertEquals(1, source.getGeneration());
+    assertEquals("Buenas", source.resolve(hello, "Hello", ES_MX).getTranslation());
+    assertEquals("Hello", source.resolve(hello, "Hello", Locale.FRENCH).getTranslation());
+    assertEquals(2, source.loads.get(ES_MX).get());
+  }
+
+  @Test
+  void testAutoReloadPicksUpChangedFiles(@TempDir Path dir) throws Exception {
+    String hello = new Sha256HashGenerator().generateHash("Hello");
+    Files.writeString(dir.resolve("messages_es.txt"), "Hola");
+    TestSource source = new TestSource(Map.of(), FluentConfig.KeyMode.STRING);
+    source.directory = dir;
+    assertEquals("Hola", source.resolve(hello, "Hello", ES).getTranslation());
+
+    source.startAutoReload(Duration.ofSeconds(1));
+    try {
+      Files.writeString(dir.resolve("messages_es.txt"), "Buenas");
+      Files.writeString(dir.resolve("messages_en.txt"), "Hi");
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (!"Hi".equals(source.resolve(hello, "Hello", Locale.FRENCH).getTranslation())
+          && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals("Hi", source.resolve(hello, "Hello", Locale.FRENCH).getTranslation());
+      assertEquals("Buenas", source.resolve(hello, "Hello", ES).getTranslation());
+      assertTrue(source.getGeneration() > 0);
+    } finally {
+      source.close();
+    }
+  }
+
+  private static String awaitTranslation(TestSource source, String hash, String expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    String translation;
+    do {
+      translation = source.resolve(hash, "Hello", ES_MX).getTranslation();
+      if (expected.equals(translation)) {
+        return translation;
+      }
+      Thread.sleep(1);
+    } while (System.nanoTime() < deadline);
+    return translation;
+  }
+
+  private static class TestSource extends CatalogMessageSource {
+    private final Map<Locale, Map<String, String>> resources;
+    private final Locale slowLocale;
+    private final Map<Locale, AtomicInteger> loads = new ConcurrentHashMap<>();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private Path directory;
+
+    TestSource(Map<Locale, Map<String, String>> resources, FluentConfig.KeyMode keyMode) {
+      this(resources, new FluentConfig().keyMode(keyMode), null);
+    }
+
+    TestSource(Map<Locale, Map<String, String>> resources, FluentConfig config, Locale slowLocale) {
+      super("i18n", Set.of(EN, ES, ES_MX), EN, config);
+      this.resources = resources;
+      this.slowLocale = slowLocale;
+    }
+
+    @Override
+    protected String getResourcePath(Locale locale) {
+      return basePath + "/messages_" + locale.toLanguageTag() + ".txt";
+    }
+
+    @Override
+    protected URL findResource(String resourcePath) {
+      if (directory == null) {
+        return super.findResource(resourcePath);
+      }
+      Path file = directory.resolve(resourcePath.substring(resourcePath.lastIndexOf('/') + 1));
+      try {
+        return Files.exists(file) ? file.toUri().toURL() : null;
+      } catch (MalformedURLException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    protected TranslationCatalog loadTranslations(Locale locale) {
+      loads.computeIfAbsent(locale, l -> new AtomicInteger()).incrementAndGet();
+      if (locale.equals(slowLocale)) {
+        loading.countDown();
+        try {
+          gate.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      Map<String, String> translations = directory == null ? resources.get(locale) : readFile(locale);
+      if (translations == null) {
+        return TranslationCatalog.EMPTY;
+      }
+      CatalogBuilder catalog = newCatalogBuilder(translations.size());
+      translations.forEach(catalog::put);
+      return catalog.build();
+    }
+
+    private Map<String, String> readFile(Locale locale) {
+      URL resource = findResource(getResourcePath(locale));
+      if (resource == null) {
+        return null;
+      }
+      try (InputStream is = resource.openStream()) {
+        String translation = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        return Map.of(new Sha256HashGenerator().generateHash("Hello"), translation);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+  }
+}
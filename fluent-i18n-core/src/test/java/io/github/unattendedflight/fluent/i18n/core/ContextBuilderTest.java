@@ -0,0 +1,33 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextBuilderTest {
+
+  @Test
+  void testHashesEachTextOncePerContext() {
+    AtomicInteger hashed = new AtomicInteger();
+    Sha256HashGenerator sha256 = new Sha256HashGenerator();
+    HashGenerator counting = naturalText -> {
+      hashed.incrementAndGet();
+      return sha256.generateHash(naturalText);
+    };
+    ContextBuilder buttons = new ContextBuilder("button", "button", null, counting);
+
+    String hash = buttons.describe("Save").getHash();
+    assertEquals(sha256.generateHash("Save", "button"), hash);
+    assertEquals(hash, buttons.describe("Save", 1).getHash());
+    assertEquals("Save", buttons.translate("Save"));
+    assertEquals(1, hashed.get());
+
+    ContextBuilder described = buttons.description("Buttons of the editor");
+    assertNotSame(buttons, described);
+    assertEquals("button", described.getContextKey());
+    assertEquals(hash, described.describe("Save").getHash());
+    assertEquals(1, hashed.get());
+  }
+}
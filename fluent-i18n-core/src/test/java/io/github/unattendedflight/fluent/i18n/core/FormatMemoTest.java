@@ -0,0 +1,76 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig.FormatMemoMode;
+import io.github.unattendedflight.fluent.i18n.util.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatMemoTest {
+  private static final int ENGLISH = LocaleRegistry.register(Locale.ENGLISH);
+
+  @AfterEach
+  void reset() {
+    FormatMemo.configure(FormatMemoMode.OFF, 4_096);
+  }
+
+  @Test
+  void testMemoizesOptedInMessagesWithImmutableArguments() {
+    FormatMemo.configure(FormatMemoMode.KEYS, 16);
+    CacheStats before = FormatMemo.getStats();
+
+    assertNull(key("status", false, MessageArguments.of("shipped")));
+    assertNull(key("status", true, MessageArguments.of(new StringBuilder("shipped"))));
+    assertNull(key("status", true, MessageArguments.of()));
+
+    FormatMemo.Key first = key("status", true, MessageArguments.of("shipped", 3L));
+    assertNull(FormatMemo.get(first));
+    FormatMemo.put(first, "Order shipped (3)");
+    assertEquals("Order shipped (3)", FormatMemo.get(key("status", true, MessageArguments.of("shipped", 3L))));
+    assertNull(FormatMemo.get(key("status", true, MessageArguments.of("shipped", 4L))));
+
+    assertEquals(1, FormatMemo.getStats().getHitCount() - before.getHitCount());
+    assertEquals(2, FormatMemo.getStats().getMissCount() - before.getMissCount());
+  }
+
+  @Test
+  void testSkipsLocalesSharingTheIdOfARegisteredParent() {
+    FormatMemo.configure(FormatMemoMode.KEYS, 16);
+    MessageArguments args = MessageArguments.of(1_000L);
+    try {
+      assertNull(FormatMemo.keyFor(null, "count", Locale.UK, ENGLISH, args, true));
+      assertNotNull(FormatMemo.keyFor(null, "count", Locale.ENGLISH, ENGLISH, args, true));
+    } finally {
+      args.release();
+    }
+  }
+
+  @Test
+  void testAutoModeStopsMemoizingHighCardinalityMessages() {
+    FormatMemo.configure(FormatMemoMode.AUTO, 1_024);
+
+    for (int i = 0; i < FormatMemo.DETECTOR_SAMPLE; i++) {
+      FormatMemo.Key status = key("status", false, MessageArguments.of(i % 4L));
+      if (FormatMemo.get(status) == null) {
+        FormatMemo.put(status, "status " + (i % 4));
+      }
+      FormatMemo.Key id = key("id", false, MessageArguments.of((long) i));
+      assertNotNull(id);
+      assertNull(FormatMemo.get(id));
+    }
+
+    assertNull(key("id", false, MessageArguments.of(0L)));
+    assertEquals("status 1", FormatMemo.get(key("status", false, MessageArguments.of(1L))));
+  }
+
+  private static FormatMemo.Key key(String hash, boolean optedIn, MessageArguments args) {
+    try {
+      return FormatMemo.keyFor(null, hash, Locale.ENGLISH, ENGLISH, args, optedIn);
+    } finally {
+      args.release();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.compiler.BinaryLayout;
+import io.github.unattendedflight.fluent.i18n.compiler.BinaryOutputWriter;
+import io.github.unattendedflight.fluent.i18n.compiler.CompilerConfig;
+import io.github.unattendedflight.fluent.i18n.compiler.PoMetadata;
+import io.github.unattendedflight.fluent.i18n.compiler.TranslationData;
+import io.github.unattendedflight.fluent.i18n.compiler.TranslationEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedBinaryCatalogTest {
+
+  @Test
+  void testMappedCatalogResolvesEveryEntry(@TempDir Path tempDir) throws IOException {
+    Map<String, TranslationEntry> entries = new HashMap<>();
+    for (int i = 0; i < 500; i++) {
+      entries.put(String.format("h%010d", i), new TranslationEntry("Text " + i, "Tekst " + i + " æøå", "test.java:" + i));
+    }
+    entries.put("short", new TranslationEntry("Short", "Kort", "test.java:1"));
+    entries.put("blank", new TranslationEntry("Blank", "", "test.java:2"));
+
+    IndexedBinaryCatalog catalog = IndexedBinaryCatalog.map(write(tempDir, entries));
+
+    assertNotNull(catalog);
+    assertEquals(entries.size(), catalog.size());
+    for (int i = 0; i < 500; i++) {
+      assertEquals("Tekst " + i + " æøå", catalog.get(String.format("h%010d", i)));
+    }
+    assertEquals("Kort", catalog.get("short"));
+    assertEquals("", catalog.get("blank"));
+    assertTrue(catalog.contains("blank"));
+
+    Map<String, String> visited = new HashMap<>();
+    catalog.forEach(new TranslationCatalog.EntryVisitor() {
+      @Override
+      public void visit(String hash, String translation) {
+        visited.put(hash, translation);
+      }
+
+      @Override
+      public void visit(long key, String translation) {
+        fail("String-keyed catalog reported a long key");
+      }
+    });
+    assertEquals(entries.size(), visited.size());
+    assertEquals("Kort", visited.get("short"));
+    assertEquals("Tekst 7 æøå", visited.get(String.format("h%010d", 7)));
+  }
+
+  @Test
+  void testMissingKeysAreNotFound(@TempDir Path tempDir) throws IOException {
+    Map<String, TranslationEntry> entries = new HashMap<>();
+    entries.put("abc", new TranslationEntry("A", "B", "test.java:1"));
+
+    IndexedBinaryCatalog catalog = IndexedBinaryCatalog.map(write(tempDir, entries));
+
+    assertNull(catalog.get("ab"));
+    assertNull(catalog.get("abd"));
+    assertNull(catalog.get("abcd"));
+    assertNull(catalog.get("ünïcode"));
+    assertFalse(catalog.contains(""));
+  }
+
+  @Test
+  void testPerfectHashCatalogResolvesEntriesAndRejectsMisses(@TempDir Path tempDir) throws IOException {
+    Map<String, TranslationEntry> entries = new HashMap<>();
+    for (int i = 0; i < 20_000; i++) {
+      entries.put(Integer.toString(i * 7919, 36), new TranslationEntry("Text " + i, "Tekst " + i, "test.java:" + i));
+    }
+
+    CompilerConfig config = CompilerConfig.builder().binaryLayout(BinaryLayout.PERFECT_HASH);
+    Path file = new BinaryOutputWriter(config).write(new TranslationData(entries, new PoMetadata()), "nb", tempDir);
+    IndexedBinaryCatalog catalog = IndexedBinaryCatalog.map(file);
+
+    assertNotNull(catalog);
+    assertEquals(4, Files.readAllBytes(file)[4]);
+    for (int i = 0; i < 20_000; i++) {
+      assertEquals("Tekst " + i, catalog.get(Integer.toString(i * 7919, 36)));
+    }
+    for (int i = 0; i < 1_000; i++) {
+      assertNull(catalog.get("missing" + i));
+    }
+  }
+
+  @Test
+  void testLongKeyCatalogsResolveEntries(@TempDir Path tempDir) throws IOException {
+    HashGenerator hashes = new Sha256HashGenerator();
+    Map<String, TranslationEntry> entries = new HashMap<>();
+    for (int i = 0; i < 1_000; i++) {
+      entries.put(hashes.generateHash("Text " + i), new TranslationEntry("Text " + i, "Tekst " + i, "test.java:" + i));
+    }
+    TranslationData data = new TranslationData(entries, new PoMetadata());
+
+    for (BinaryLayout layout : new BinaryLayout[] {BinaryLayout.INDEXED, BinaryLayout.PERFECT_HASH}) {
+      CompilerConfig config = CompilerConfig.builder().binaryLayout(layout).longKeys(true);
+      Path file = new BinaryOutputWriter(config).write(data, "nb", tempDir.resolve(layout.name()));
+      IndexedBinaryCatalog catalog = IndexedBinaryCatalog.map(file);
+
+      assertNotNull(catalog);
+      for (int i = 0; i < 1_000; i++) {
+        assertEquals("Tekst " + i, catalog.get(hashes.generateHash("Text " + i)));
+      }
+      assertNull(catalog.get("missing"));
+    }
+
+    LongKeyTranslationCatalog table = LongKeyTranslationCatalog.fromMap(Map.of("abc", "B", "def", ""));
+    assertEquals("B", table.get("abc"));
+    assertTrue(table.contains("def"));
+    assertFalse(table.contains("ghi"));
+  }
+
+  @Test
+  void testMurmur3CatalogsRecordTheirAlgorithm(@TempDir Path tempDir) throws IOException {
+    Murmur3HashGenerator hashes = new Murmur3HashGenerator();
+    Map<String, TranslationEntry> entries = new HashMap<>();
+    for (int i = 0; i < 1_000; i++) {
+      String text = i % 2 == 0 ? "Text " + i : "Tëxt " + i;
+      assertEquals(hashes.generateKey(text), HashKeys.toLong(hashes.generateHash(text)));
+      entries.put(hashes.generateHash(text), new TranslationEntry(text, "Tekst " + i, "test.java:" + i));
+    }
+    TranslationData data = new TranslationData(entries, new PoMetadata());
+
+    for (boolean longKeys : new boolean[] {false, true}) {
+      CompilerConfig config = CompilerConfig.builder().binaryLayout(BinaryLayout.PERFECT_HASH)
+          .longKeys(longKeys).hashAlgorithm(HashAlgorithm.MURMUR3);
+      Path file = new BinaryOutputWriter(config).write(data, "nb", tempDir.resolve("long-" + longKeys));
+      IndexedBinaryCatalog catalog = IndexedBinaryCatalog.map(file);
+
+      assertNotNull(catalog);
+      assertEquals(HashAlgorithm.MURMUR3.getId(), catalog.getHashAlgorithmId());
+      assertEquals("Tekst 10", catalog.get(hashes.generateHash("Text 10")));
+      assertEquals("Tekst 11", catalog.get(hashes.generateHash("Tëxt 11")));
+    }
+    assertEquals(HashAlgorithm.SHA256.getId(), IndexedBinaryCatalog.map(write(tempDir, entries)).getHashAlgorithmId());
+  }
+
+  @Test
+  void testStreamLayoutIsNotMapped(@TempDir Path tempDir) throws IOException {
+    Map<String, TranslationEntry> entries = new HashMap<>();
+    entries.put("abc", new TranslationEntry("A", "B", "test.java:1"));
+
+    CompilerConfig config = CompilerConfig.builder().binaryLayout(BinaryLayout.STREAM);
+    Path file = new BinaryOutputWriter(config, false).write(new TranslationData(entries, new PoMetadata()), "en", tempDir);
+
+    assertNull(IndexedBinaryCatalog.map(file));
+    assertFalse(IndexedBinaryCatalog.isIndexed(java.nio.ByteBuffer.wrap(Files.readAllBytes(file))));
+  }
+
+  private Path write(Path dir, Map<String, TranslationEntry> entries) throws IOException {
+    CompilerConfig config = CompilerConfig.builder().binaryLayout(BinaryLayout.INDEXED);
+    return new BinaryOutputWriter(config).write(new TranslationData(entries, new PoMetadata()), "nb", dir);
+  }
+}
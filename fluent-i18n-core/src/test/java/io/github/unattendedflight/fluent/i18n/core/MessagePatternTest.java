@@ -0,0 +1,141 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessagePatternTest {
+  private static final Locale EN = Locale.ENGLISH;
+
+  @Test
+  void testFormatsLikeMessageFormatForClassicArguments() {
+    Date date = new Date(1_700_000_000_000L);
+    String[] templates = {
+        "{0} has {1} new messages",
+        "Total: {1,number,integer} ({2,number,percent}) on {3,date,short} at {3,time,short}",
+        "Price {1,number,#,##0.00}",
+        "{1,choice,0#no files|1#one file|1<{1} files}",
+        "It''s '{'literal'}' {0}",
+    };
+    Object[] args = {"Ana", 1234.5, 0.25, date};
+    for (String template : templates) {
+      for (Locale locale : new Locale[] {EN, Locale.GERMANY}) {
+        assertEquals(new MessageFormat(template, locale).format(args),
+            MessagePattern.compile(template, locale).format(args), template);
+      }
+    }
+  }
+
+  @Test
+  void testPluralAndSelectBranchesNest() {
+    MessagePattern pattern = MessagePattern.compile(
+        "{0, select, female {{1, plural, offset:1 =0{Nobody} =1{{2} alone} one{{2} and # other} other{{2} and # others}}}"
+            + " other {{1, plural, =0{Nobody} other{# people, '#' counted}}}}", EN);
+
+    assertEquals("Nobody", pattern.format(new Object[] {"female", 0, "Ana"}));
+    assertEquals("Ana alone", pattern.format(new Object[] {"female", 1, "Ana"}));
+    assertEquals("Ana and 1 other", pattern.format(new Object[] {"female", 2, "Ana"}));
+    assertEquals("Ana and 1,233 others", pattern.format(new Object[] {"female", 1234, "Ana"}));
+    assertEquals("3 people, # counted", pattern.format(new Object[] {"male", 3}));
+  }
+
+  @Test
+  void testApostrophesAndMissingArgumentsAreKept() {
+    assertEquals("l'utilisateur Ana", MessagePattern.compile("l'utilisateur {0}", Locale.FRENCH).format(new Object[] {"Ana"}));
+    assertEquals("Ana and {1}", MessagePattern.compile("{0} and {1}", EN).format(new Object[] {"Ana"}));
+  }
+
+  @Test
+  void testFormatterCachesPatternsAndFallsBackOnMalformedTemplates() {
+    assertSame(MessageFormatter.compile("Hello {0}", EN), MessageFormatter.compile("Hello {0}", EN));
+    assertNotSame(MessageFormatter.compile("Hello {0}", EN), MessageFormatter.compile("Hello {0}", Locale.FRENCH));
+
+    assertThrows(IllegalArgumentException.class, () -> MessagePattern.compile("{0, plural, one{x}}", EN));
+    assertThrows(IllegalArgumentException.class, () -> MessageFormatter.compile("Hello {name}", EN));
+    assertEquals("Hello Ana", MessageFormatter.format("Hello {}", new Object[] {"Ana"}, EN));
+    assertEquals("1 item", MessageFormatter.format("{0, plural, one{# item} other{# items}}", new Object[] {1}, EN));
+  }
+
+  @Test
+  void testFormatToAppendsToBuildersAndWriters() {
+    StringBuilder builder = new StringBuilder("> ");
+    MessageFormatter.formatTo(builder, "{0} has {1,number} messages", new Object[] {"Ana", 1200}, EN);
+    MessageFormatter.formatTo(builder, "; {0,number} is no number", new Object[] {"x"}, EN);
+    assertEquals("> Ana has 1,200 messages; {0,number} is no number", builder.toString());
+
+    String longText = "x".repeat(5000);
+    StringWriter writer = new StringWriter();
+    MessageFormatter.formatTo(writer, "{0}|{1}", new Object[] {longText, 2}, EN);
+    new PluralBuilder(3, EN, null, new Sha256HashGenerator()).one("# file").other("{0} files, # total").formatTo(writer);
+    assertEquals(longText + "|23 files, 3 total", writer.toString());
+  }
+
+  @Test
+  void testChoiceBranchesSelectAndFormatLikeMessageFormat() {
+    String template = "{0,choice,-1#negative|0#none|0<{0,number,integer} items for {1}|100#many}";
+    MessagePattern pattern = MessagePattern.compile(template, EN);
+    for (double value : new double[] {-5, -1, -0.5, 0, 0.25, 1, 99.9, 100, 1e9}) {
+      Object[] args = {value, "Ana"};
+      assertEquals(new MessageFormat(template, EN).format(args), pattern.format(args), String.valueOf(value));
+    }
+    assertThrows(IllegalArgumentException.class, () -> pattern.format(new Object[] {"text"}));
+  }
+
+  @Test
+  void testPrimitiveArgumentsFormatLikeBoxedOnes() {
+    String[] templates = {
+        "{0} items",
+        "{0,number,#,##0.00} EUR",
+        "{0,choice,0#no files|1#one file|1<{0} files}",
+        "{0,plural,=0{none} one{# file} other{# files}}",
+        "{0,plural,offset:1 =1{just you} one{you and # other} other{you and # others}}",
+        "{0,select,1{one} other{many}}",
+    };
+    for (String template : templates) {
+      for (long count : new long[] {0, 1, 2, 1234}) {
+        assertEquals(MessageFormatter.format(template, new Object[] {count}, Locale.GERMANY),
+            MessageFormatter.format(template, MessageArguments.of(count), Locale.GERMANY), template);
+        assertEquals(MessageFormatter.format(template, new Object[] {count + 0.5}, EN),
+            MessageFormatter.format(template, MessageArguments.of(count + 0.5), EN), template);
+      }
+    }
+
+    MessageArguments args = MessageArguments.of("Ana", 3L);
+    assertEquals("Ana has 3", MessageFormatter.format("{0} has {1}", args, EN));
+    assertEquals(0, args.size());
+    assertSame(args, MessageArguments.of((Object) "reused"));
+    MessageArguments nested = MessageArguments.of("nested");
+    assertNotSame(args, nested);
+    nested.release();
+    args.release();
+  }
+
+  @Test
+  void testSharesFormatsAcrossConcurrentVirtualThreads() throws Exception {
+    MessagePattern pattern = MessagePattern.compile(
+        "{0,number,#,##0.00} / {1} / {2,plural,one{# file} other{# files}}", Locale.GERMANY);
+    List<Future<String>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 2_000; i++) {
+        double amount = i + 0.25;
+        long count = i;
+        results.add(executor.submit(() -> pattern.format(new Object[] {amount, count * 1000, count})));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        String expected = new MessageFormat("{0,number,#,##0.00} / {1} / {2}", Locale.GERMANY)
+            .format(new Object[] {i + 0.25, i * 1000L, i}) + (i == 1 ? " file" : " files");
+        assertEquals(expected, results.get(i).get());
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageSourceFactoryTest {
+
+  @Test
+  void testJsonCatalogsStreamWithFullEscapesAndTrailingMetadata() {
+    HashGenerator sha256 = new Sha256HashGenerator();
+    for (FluentConfig.KeyMode keyMode : FluentConfig.KeyMode.values()) {
+      FluentConfig config = new FluentConfig("i18n-json")
+          .supportedLocales("en", "fr", "de")
+          .defaultLocale("en")
+          .messageSourceType(FluentConfig.MessageSourceType.JSON)
+          .keyMode(keyMode);
+      NaturalTextMessageSource source = MessageSourceFactory.createMessageSource(config);
+
+      assertEquals("Bonjour \"été\"\n😀",
+          source.resolve(sha256.generateHash("Hello"), "Hello", Locale.FRENCH).getTranslation());
+      assertEquals("Simple \\ valeur", source.resolve("plain-entry", "x", Locale.FRENCH).getTranslation());
+      assertFalse(source.exists("_comment", Locale.FRENCH));
+
+      // Keyed by Murmur3 with the metadata last: re-keyed from the originals on a second pass
+      assertEquals("Hallo", source.resolve(sha256.generateHash("Hello"), "Hello", Locale.GERMAN).getTranslation());
+      assertFalse(source.exists(sha256.generateHash("Bye"), Locale.GERMAN));
+    }
+  }
+
+  @Test
+  void testPropertiesCatalogsLoadInOnePass() {
+    HashGenerator sha256 = new Sha256HashGenerator();
+    for (FluentConfig.KeyMode keyMode : FluentConfig.KeyMode.values()) {
+      FluentConfig config = new FluentConfig("i18n-properties")
+          .supportedLocales("en", "fr")
+          .defaultLocale("en")
+          .messageSourceType(FluentConfig.MessageSourceType.PROPERTIES)
+          .keyMode(keyMode);
+      NaturalTextMessageSource source = MessageSourceFactory.createMessageSource(config);
+
+      assertEquals("Bonjour à tous", source.resolve(sha256.generateHash("Hello"), "Hello", Locale.FRENCH).getTranslation());
+      assertEquals("Simple", source.resolve("plain-entry", "x", Locale.FRENCH).getTranslation());
+    }
+  }
+
+  @Test
+  void testBinaryCatalogsShareOneStringTable() {
+    HashGenerator sha256 = new Sha256HashGenerator();
+    String hello = sha256.generateHash("Hello");
+    Locale enGb = Locale.forLanguageTag("en-GB");
+    for (FluentConfig.KeyMode keyMode : FluentConfig.KeyMode.values()) {
+      FluentConfig config = new FluentConfig("i18n-binary-shared")
+          .supportedLocales("en", "en-GB", "fr")
+          .defaultLocale("en")
+          .messageSourceType(FluentConfig.MessageSourceType.BINARY)
+          .keyMode(keyMode);
+      NaturalTextMessageSource source = MessageSourceFactory.createMessageSource(config);
+
+      assertEquals("Colour", source.resolve(sha256.generateHash("Color"), "Color", enGb).getTranslation());
+      assertEquals("Color", source.resolve(sha256.generateHash("Color"), "Color", Locale.ENGLISH).getTranslation());
+      assertEquals("Bonjour à tous", source.resolve(hello, "Hello", Locale.FRENCH).getTranslation());
+      assertSame(source.resolve(hello, "Hello", Locale.ENGLISH).getTranslation(), source.resolve(hello, "Hello", enGb).getTranslation());
+      assertSame(source.resolve(sha256.generateHash("OK"), "OK", Locale.FRENCH).getTranslation(),
+          source.resolve(sha256.generateHash("OK"), "OK", enGb).getTranslation());
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static io.github.unattendedflight.fluent.i18n.core.PluralForm.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluralRulesTest {
+
+  @Test
+  void testSelectsCldrCategoriesForIntegers() {
+    assertEquals(OTHER, PluralRules.determine(0, Locale.ENGLISH));
+    assertEquals(ONE, PluralRules.determine(1, Locale.ENGLISH));
+    assertEquals(ONE, PluralRules.determine(0, Locale.FRENCH));
+    assertEquals(MANY, PluralRules.determine(1_000_000, Locale.FRENCH));
+    assertEquals(MANY, PluralRules.determine(2_000_000, Locale.forLanguageTag("pt-PT")));
+    assertEquals(ONE, PluralRules.determine(0, Locale.forLanguageTag("pt-BR")));
+    assertEquals(OTHER, PluralRules.determine(0, Locale.forLanguageTag("pt-PT")));
+
+    Locale russian = Locale.forLanguageTag("ru");
+    assertEquals(ONE, PluralRules.determine(21, russian));
+    assertEquals(FEW, PluralRules.determine(23, russian));
+    assertEquals(MANY, PluralRules.determine(11, russian));
+    assertEquals(MANY, PluralRules.determine(0, russian));
+
+    Locale arabic = Locale.forLanguageTag("ar-EG");
+    assertEquals(ZERO, PluralRules.determine(0, arabic));
+    assertEquals(TWO, PluralRules.determine(2, arabic));
+    assertEquals(FEW, PluralRules.determine(103, arabic));
+    assertEquals(MANY, PluralRules.determine(111, arabic));
+    assertEquals(OTHER, PluralRules.determine(100, arabic));
+
+    assertEquals(OTHER, PluralRules.determine(1, Locale.JAPANESE));
+    assertEquals(OTHER, PluralRules.determine(1, Locale.forLanguageTag("tlh")));
+    assertSame(PluralRules.forLocale(Locale.US), PluralRules.forLocale(Locale.UK));
+  }
+
+  @Test
+  void testEvaluatesDecimalsWithTheirVisibleFractionDigits() {
+    assertEquals(OTHER, PluralRules.determine(1.5, Locale.ENGLISH));
+    assertEquals(ONE, PluralRules.determine(1.0, Locale.ENGLISH));
+    assertEquals(OTHER, PluralRules.determine(new BigDecimal("1.0"), Locale.ENGLISH));
+    assertEquals(ONE, PluralRules.determine(1.5, Locale.FRENCH));
+
+    Locale russian = Locale.forLanguageTag("ru");
+    assertEquals(OTHER, PluralRules.determine(2.5, russian));
+
+    // f and t: 0.1 and 1.1 are "one" in Macedonian, 0.11 is not
+    Locale macedonian = Locale.forLanguageTag("mk");
+    assertEquals(ONE, PluralRules.determine(1.1, macedonian));
+    assertEquals(ONE, PluralRules.determine(new BigDecimal("0.1"), macedonian));
+    assertEquals(OTHER, PluralRules.determine(0.11, macedonian));
+
+    // t drops trailing zeros: Danish 0.10 has t = 1 and is "one", 2.0 is not
+    Locale danish = Locale.forLanguageTag("da");
+    assertEquals(ONE, PluralRules.determine(new BigDecimal("0.10"), danish));
+    assertEquals(OTHER, PluralRules.determine(new BigDecimal("2.0"), danish));
+
+    assertEquals(MANY, PluralRules.determine(new BigDecimal("1E+24"), Locale.FRENCH));
+    assertEquals(OTHER, PluralRules.determine(Double.NaN, Locale.ENGLISH));
+  }
+
+  @Test
+  void testExplicitZeroTextsStillTakeZero() {
+    PluralTemplate template = PluralTemplate.builder(new Sha256HashGenerator())
+        .zero("No files").one("{} file").few("{} files (few)").many("{} files (many)").other("{} files").build();
+
+    assertEquals("No files", template.format(0, Locale.forLanguageTag("ru")));
+    assertEquals("21 file", template.format(21, Locale.forLanguageTag("ru")));
+    assertEquals("5 files (many)", template.format(5, Locale.forLanguageTag("ru")));
+    assertEquals("No items", MessagePattern.compile("{0, plural, zero {No items} other {# items}}", Locale.ENGLISH)
+        .format(new Object[] {0}));
+  }
+}
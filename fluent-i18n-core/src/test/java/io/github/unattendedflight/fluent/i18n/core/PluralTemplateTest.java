@@ -0,0 +1,63 @@
+package io.github.unattendedflight.fluent.i18n.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluralTemplateTest {
+  private static final HashGenerator HASHES = new Sha256HashGenerator();
+
+  @Test
+  void testBuildsTheExtractorsIcuPatternAndHashOnce() {
+    PluralTemplate template = PluralTemplate.builder(HASHES).other("{} files").zero("No files").one("One file").build();
+
+    assertEquals("{0, plural, zero {No files} one {One file} other {{} files}}", template.getIcuPattern());
+    assertEquals(HASHES.generateHash(template.getIcuPattern()), template.getHash());
+    assertEquals("No files", template.format(0, Locale.ENGLISH));
+    assertEquals("One file", template.format(1, Locale.ENGLISH));
+    assertEquals("12 files", template.format(12, Locale.ENGLISH));
+
+    PluralBuilder builder = new PluralBuilder(3, Locale.ENGLISH, null, HASHES).one("One file").other("{} files");
+    assertSame(builder.template(), new PluralBuilder(5, Locale.ENGLISH, null, HASHES).one("One file").other("{} files").template());
+  }
+
+  @Test
+  void testSplitsTranslatedIcuStringsWithNestedBraces() {
+    assertEquals(Map.of(PluralForm.ZERO, "Aucun fichier", PluralForm.ONE, "{0} fichier", PluralForm.OTHER, "{} fichiers"),
+        PluralTemplate.split("{0, plural, =0 {Aucun fichier} one {{0} fichier} other {{} fichiers}}"));
+    assertEquals(Map.of(PluralForm.OTHER, "Fichiers"), PluralTemplate.split("Fichiers"));
+  }
+
+  @Test
+  void testFormatsTranslationsFoundByOneLookup() {
+    PluralTemplate template = PluralTemplate.builder(HASHES).one("{} file").other("{} files").build();
+    NaturalTextMessageSource source = new NaturalTextMessageSource() {
+      @Override
+      public TranslationResult resolve(String hash, String naturalText, Locale locale) {
+        return hash.equals(template.getHash())
+            ? TranslationResult.found("{0, plural, one {# fichier} other {# fichiers}}")
+            : TranslationResult.notFound(naturalText);
+      }
+
+      @Override
+      public boolean exists(String hash, Locale locale) {
+        return hash.equals(template.getHash());
+      }
+
+      @Override
+      public Iterable<Locale> getSupportedLocales() {
+        return List.of(Locale.FRENCH);
+      }
+    };
+
+    StringBuilder out = new StringBuilder();
+    template.formatTo(out, 1, Locale.FRENCH, source);
+    out.append(", ");
+    template.formatTo(out, 7, Locale.FRENCH, source);
+    assertEquals("1 fichier, 7 fichiers", out.toString());
+  }
+}
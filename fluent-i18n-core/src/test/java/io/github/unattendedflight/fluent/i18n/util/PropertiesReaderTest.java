@@ -0,0 +1,66 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesReaderTest {
+
+  @Test
+  void testMatchesJavaUtilProperties() throws IOException {
+    String input = String.join("\n",
+        "# comment \\",
+        "! another comment",
+        "   plain = value with spaces   ",
+        "colon:value",
+        "space separated value",
+        "tab\tseparated",
+        "empty",
+        "empty2 =",
+        "key\\ with\\=escapes\\:x = v",
+        "unicode = Gr\\u00fc\\u00dfe \\uD83D\\uDE00",
+        "escapes = a\\tb\\nc\\rd\\fe\\\\f\\qg",
+        "continued = first \\",
+        "     second \\",
+        "\tthird",
+        "even = ends with backslash\\\\",
+        "next = after even",
+        "",
+        "   ",
+        "duplicate = one",
+        "duplicate = two",
+        "windows = crlf\r\ncr = only\rlast = no newline \\");
+
+    Properties expected = new Properties();
+    expected.load(new StringReader(input));
+    Map<String, String> actual = new HashMap<>();
+    PropertiesReader.read(new StringReader(input), actual::put);
+
+    Map<String, String> expectedMap = new HashMap<>();
+    for (String key : expected.stringPropertyNames()) {
+      expectedMap.put(key, expected.getProperty(key));
+    }
+    assertEquals(expectedMap, actual);
+    assertEquals("first second third", actual.get("continued"));
+    assertEquals("two", actual.get("duplicate"));
+  }
+
+  @Test
+  void testLongLinesAndMalformedEscapes() throws IOException {
+    String longValue = "x".repeat(20_000);
+    Map<String, String> actual = new HashMap<>();
+    PropertiesReader.read(new StringReader("long=" + longValue), actual::put);
+    assertEquals(longValue, actual.get("long"));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> PropertiesReader.read(new StringReader("bad=\\u12G4"), (key, value) -> { }));
+    assertThrows(IllegalArgumentException.class,
+        () -> PropertiesReader.read(new StringReader("bad=\\u12"), (key, value) -> { }));
+  }
+}
@@ -0,0 +1,101 @@
+package io.github.unattendedflight.fluent.i18n.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TinyLfuCacheTest {
+
+  @Test
+  void testSizeStaysBoundedUnderDynamicKeys() {
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(100);
+
+    for (int i = 0; i < 10_000; i++) {
+      cache.computeIfAbsent("User " + i + " logged in", key -> "hash" + key.length());
+    }
+
+    assertEquals(100, cache.size());
+    CacheStats stats = cache.stats();
+    assertEquals(10_000, stats.getMissCount());
+    assertEquals(9_900, stats.getEvictionCount());
+  }
+
+  @Test
+  void testFrequentKeysSurviveScans() {
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(200);
+    AtomicInteger computations = new AtomicInteger();
+
+    for (int round = 0; round < 50; round++) {
+      for (int i = 0; i < 100; i++) {
+        cache.computeIfAbsent("Literal " + i, key -> key + computations.incrementAndGet());
+      }
+      for (int i = 0; i < 500; i++) {
+        cache.computeIfAbsent("Dynamic " + round + "/" + i, key -> key + computations.incrementAndGet());
+      }
+    }
+
+    int literalMisses = 0;
+    for (int i = 0; i < 100; i++) {
+      if (cache.getIfPresent("Literal " + i) == null) {
+        literalMisses++;
+      }
+    }
+    assertTrue(literalMisses <= 5, "Frequently used keys were evicted: " + literalMisses);
+  }
+
+  @Test
+  void testBufferedConcurrentReadsProtectFrequentKeys() throws Exception {
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(200);
+
+    List<Future<?>> readers = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+      for (int thread = 0; thread < 4; thread++) {
+        String name = "Thread " + thread;
+        readers.add(executor.submit(() -> {
+          for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 100; i++) {
+              cache.computeIfAbsent("Literal " + i, key -> key);
+            }
+            for (int i = 0; i < 500; i++) {
+              cache.computeIfAbsent(name + " dynamic " + round + "/" + i, key -> key);
+            }
+          }
+        }));
+      }
+      for (Future<?> reader : readers) {
+        reader.get(30, TimeUnit.SECONDS);
+      }
+    }
+
+    int literalMisses = 0;
+    for (int i = 0; i < 100; i++) {
+      if (cache.getIfPresent("Literal " + i) == null) {
+        literalMisses++;
+      }
+    }
+    assertTrue(literalMisses <= 5, "Frequently used keys were evicted: " + literalMisses);
+    assertEquals(200, cache.size());
+  }
+
+  @Test
+  void testShrinkingEvictsAndCountsEvictions() {
+    TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(50);
+    for (int i = 0; i < 50; i++) {
+      cache.putIfAbsent(i, i);
+    }
+
+    cache.setMaximumSize(10);
+
+    assertEquals(10, cache.size());
+    assertEquals(40, cache.stats().getEvictionCount());
+    assertEquals(1.0, new CacheStats(0, 0, 0, 0).getHitRate());
+  }
+}
@@ -129,6 +129,33 @@ public abstract class AbstractFluentI18nMojo extends AbstractMojo {
   @Parameter(property = "fluent.i18n.outputFormat", defaultValue = "json")
   protected String outputFormat;
 
+  /**
+   * Specifies the physical layout of compiled binary catalogs.
+   * <p>
+   * {@code stream} writes the compact, gzip-compressed format version 2. {@code indexed} writes
+   * uncompressed catalogs with a sorted index that the runtime memory-maps and searches in place,
+   * which keeps large catalogs off the heap. {@code perfect-hash} adds a minimal perfect hash table
+   * to the indexed layout so that every lookup costs a constant two reads.
+   * <p>
+   * Property: fluent.i18n.binaryLayout
+   * Default Value: "stream"
+   */
+  @Parameter(property = "fluent.i18n.binaryLayout", defaultValue = "stream")
+  protected String binaryLayout;
+
+  /**
+   * Specifies whether binary catalogs of the {@code stream} layout share one string table.
+   * <p>
+   * Every distinct translation is then written once, to {@code messages.strings.bin}, and the
+   * catalogs of all locales refer to it by index, so translations that many locales share, such
+   * as brand names or regional variants of one language, are stored and decoded once.
+   * <p>
+   * Property: fluent.i18n.sharedStringTable
+   * Default Value: false
+   */
+  @Parameter(property = "fluent.i18n.sharedStringTable", defaultValue = "false")
+  protected boolean sharedStringTable;
+
   /**
    * Indicates whether translation files should be validated during the Maven plugin execution.
    * <p>
@@ -304,17 +331,21 @@ public abstract class AbstractFluentI18nMojo extends AbstractMojo {
     if (extractionPatterns == null || extractionPatterns.isEmpty()) {
       return Arrays.asList(
           // Context with description
-          "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*description\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+          "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*description\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
 
           // Context only
-          "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+          "(?s)I18n\\s*\\.\\s*context\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
 
           // Regular translate
-          "(?s)I18n\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+          "(?s)I18n\\s*\\.\\s*translate\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
 
           // Other methods
-          "(?s)I18n\\s*\\.\\s*describe\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
-          "(?s)I18n\\s*\\.\\s*t\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)"
+          "(?s)I18n\\s*\\.\\s*describe\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
+          "(?s)I18n\\s*\\.\\s*t\\s*\\(((?:[^()\"']|\"[^\"]*\"|'[^']*'|\\((?:[^()\"']|\"[^\"]*\"|'[^']*')*\\))+)\\)",
+
+          // Message keys: context and text, then text alone (no top-level comma)
+          "(?s)I18n\\s*\\.\\s*key\\s*\\((\\s*\"[^\"]*\"\\s*),((?:[^()\"']|\"[^\"]*\"|'[^']*')+)\\)",
+          "(?s)I18n\\s*\\.\\s*key\\s*\\(((?:[^(),\"']|\"[^\"]*\"|'[^']*')+)\\)"
       );
     }
     return extractionPatterns;
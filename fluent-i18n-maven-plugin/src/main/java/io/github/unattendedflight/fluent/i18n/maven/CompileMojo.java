@@ -1,5 +1,6 @@
 package io.github.unattendedflight.fluent.i18n.maven;
 
+import io.github.unattendedflight.fluent.i18n.compiler.BinaryLayout;
 import io.github.unattendedflight.fluent.i18n.compiler.CompilationError;
 import io.github.unattendedflight.fluent.i18n.compiler.CompilationResult;
 import io.github.unattendedflight.fluent.i18n.compiler.CompilerConfig;
@@ -28,9 +29,10 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 
 /**
  * CompileMojo is a Maven plugin goal that compiles translation files for supported locales
- * into specified output formats. This goal is typically invoked during the PROCESS_RESOURCES
- * phase of the Maven lifecycle and aims to prepare translation resources for use in the
- * application, such as generating JSON or JavaScript files from PO (Portable Object) files.
+ * into specified output formats. This goal is typically invoked during the PROCESS_CLASSES
+ * phase of the Maven lifecycle, after {@code extract} has synchronized the PO files, and aims
+ * to prepare translation resources for use in the application, such as generating JSON or
+ * JavaScript files from PO (Portable Object) files.
  *
  * This class extends AbstractFluentI18nMojo to leverage the configuration and utility
  * functions provided by the Fluent I18n project, ensuring adherence to localization standards.
@@ -56,7 +58,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
  * - Output formats.
  * - Minification and validation preferences.
  */
-@Mojo(name = "compile", defaultPhase = LifecyclePhase.PROCESS_RESOURCES, requiresDependencyResolution= ResolutionScope.RUNTIME)
+@Mojo(name = "compile", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution= ResolutionScope.RUNTIME)
 public class CompileMojo extends AbstractFluentI18nMojo {
 
     /**
@@ -302,6 +304,17 @@ public class CompileMojo extends AbstractFluentI18nMojo {
         builder.validateTranslations(validateTranslations);
         builder.minifyOutput(minifyOutput);
 
+        try {
+            builder.binaryLayout(BinaryLayout.valueOf(binaryLayout.toUpperCase().replace('-', '_')));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("Invalid binary layout: " + binaryLayout);
+        }
+        builder.sharedStringTable(sharedStringTable);
+
+        // Catalogs keyed by long values match the runtime key mode from the shared configuration
+        builder.longKeys(config.getKeyMode() == FluentConfig.KeyMode.LONG);
+        builder.hashAlgorithm(config.getHashAlgorithm());
+
         return builder;
     }
 
@@ -29,7 +29,10 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
  * This class is responsible for managing the extraction process, including reading configuration,
  * initiating message extraction, and handling PO file synchronization.
  *
- * The goal "extract" can be executed during the Maven build, typically in the "generate-resources" phase.
+ * The goal "extract" can be executed during the Maven build, by default in the "process-classes" phase,
+ * so the messages the annotation processor recorded while compiling the main sources are those of
+ * the current build. Test classes are compiled later in the lifecycle, so their recorded messages
+ * are those of the previous test compilation; test sources are scanned either way.
  * It supports configuration for scanning test sources and handling pre-existing translations.
  *
  * The process includes:
@@ -45,7 +48,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
  * - MojoExecutionException: Thrown when there is an error during the extraction or synchronization process.
  * - MojoFailureException: Thrown when the plugin execution fails due to a configuration or runtime issue.
  */
-@Mojo(name = "extract", defaultPhase = LifecyclePhase.GENERATE_RESOURCES, requiresDependencyResolution = ResolutionScope.RUNTIME)
+@Mojo(name = "extract", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.RUNTIME)
 public class ExtractMojo extends AbstractFluentI18nMojo {
 
     /**
@@ -181,6 +184,7 @@ public class ExtractMojo extends AbstractFluentI18nMojo {
 
         // Use configured encoding, fallback to Maven plugin parameter
         builder.sourceEncoding(config.getEncoding());
+        builder.hashAlgorithm(config.getHashAlgorithm());
 
         // Use Maven plugin extraction patterns (these are build-specific)
         for (String pattern : getExtractionPatternsList()) {
@@ -195,6 +199,12 @@ public class ExtractMojo extends AbstractFluentI18nMojo {
             builder.sourceDirectories(allSources);
         }
 
+        // Merge messages recorded by the annotation processor while compiling
+        builder.addProcessedMessageFile(Path.of(project.getBuild().getOutputDirectory(), ExtractionConfig.PROCESSED_MESSAGES_RESOURCE));
+        if (scanTestSources) {
+            builder.addProcessedMessageFile(Path.of(project.getBuild().getTestOutputDirectory(), ExtractionConfig.PROCESSED_MESSAGES_RESOURCE));
+        }
+
         return builder;
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package io.github.unattendedflight.fluent.i18n.maven;
 
 import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
 import io.github.unattendedflight.fluent.i18n.config.FluentConfigLoader;
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
 import java.io.File;
 import java.net.URI;
 import java.net.URL;
@@ -438,6 +439,22 @@ public class FluentI18nConfigReader {
             result.cacheTimeoutSeconds(override.getCacheTimeoutSeconds());
         }
 
+        if (hasNonDefaultNumericValue(override.getHashCacheSize(), 10_000L)) {
+            result.hashCacheSize(override.getHashCacheSize());
+        }
+
+        if (hasNonDefaultNumericValue(override.getFormatCacheSize(), 4_096L)) {
+            result.formatCacheSize(override.getFormatCacheSize());
+        }
+
+        if (hasNonDefaultNumericValue(override.getArenaCacheSize(), 256L)) {
+            result.arenaCacheSize(override.getArenaCacheSize());
+        }
+
+        if (hasNonDefaultNumericValue(override.getFormatMemoSize(), 4_096L)) {
+            result.formatMemoSize(override.getFormatMemoSize());
+        }
+
         if (hasNonDefaultBooleanValue(override, "enableAutoReload", false)) {
             result.enableAutoReload(override.isEnableAutoReload());
         }
@@ -446,6 +463,16 @@ public class FluentI18nConfigReader {
             result.autoReloadIntervalSeconds(override.getAutoReloadIntervalSeconds());
         }
 
+        if (hasNonDefaultBooleanValue(override, "enableWarmUp", true)) {
+            result.enableWarmUp(override.isEnableWarmUp());
+        }
+
+        if (!override.getWarmUpLocales().isEmpty()) {
+            result.warmUpLocales(override.getWarmUpLocales().stream()
+                .map(Locale::toLanguageTag)
+                .toArray(String[]::new));
+        }
+
         if (hasNonDefaultBooleanValue(override, "enableFallback", true)) {
             result.enableFallback(override.isEnableFallback());
         }
@@ -454,6 +481,26 @@ public class FluentI18nConfigReader {
             result.logMissingTranslations(override.isLogMissingTranslations());
         }
 
+        if (override.getHashAlgorithm() != HashAlgorithm.SHA256) {
+            result.hashAlgorithm(override.getHashAlgorithm());
+        }
+
+        if (override.getKeyMode() != FluentConfig.KeyMode.STRING) {
+            result.keyMode(override.getKeyMode());
+        }
+
+        if (override.getCatalogLoading() != FluentConfig.CatalogLoading.WAIT) {
+            result.catalogLoading(override.getCatalogLoading());
+        }
+
+        if (override.getCatalogStorage() != FluentConfig.CatalogStorage.STRINGS) {
+            result.catalogStorage(override.getCatalogStorage());
+        }
+
+        if (override.getFormatMemoMode() != FluentConfig.FormatMemoMode.OFF) {
+            result.formatMemoMode(override.getFormatMemoMode());
+        }
+
         // Merge custom properties (override takes precedence for conflicts)
         Map<String, Object> mergedCustomProps = new HashMap<>(result.getCustomProperties());
         mergedCustomProps.putAll(override.getCustomProperties());
@@ -473,10 +520,21 @@ public class FluentI18nConfigReader {
             Objects.equals(config1.getMessageSourceType(), config2.getMessageSourceType()) &&
             config1.isEnableCaching() == config2.isEnableCaching() &&
             config1.getCacheTimeoutSeconds() == config2.getCacheTimeoutSeconds() &&
+            config1.getHashCacheSize() == config2.getHashCacheSize() &&
+            config1.getFormatCacheSize() == config2.getFormatCacheSize() &&
+            config1.getArenaCacheSize() == config2.getArenaCacheSize() &&
             config1.isEnableAutoReload() == config2.isEnableAutoReload() &&
             config1.getAutoReloadIntervalSeconds() == config2.getAutoReloadIntervalSeconds() &&
+            config1.isEnableWarmUp() == config2.isEnableWarmUp() &&
+            Objects.equals(config1.getWarmUpLocales(), config2.getWarmUpLocales()) &&
             config1.isEnableFallback() == config2.isEnableFallback() &&
             config1.isLogMissingTranslations() == config2.isLogMissingTranslations() &&
+            config1.getHashAlgorithm() == config2.getHashAlgorithm() &&
+            config1.getKeyMode() == config2.getKeyMode() &&
+            config1.getCatalogLoading() == config2.getCatalogLoading() &&
+            config1.getCatalogStorage() == config2.getCatalogStorage() &&
+            config1.getFormatMemoMode() == config2.getFormatMemoMode() &&
+            config1.getFormatMemoSize() == config2.getFormatMemoSize() &&
             Objects.equals(config1.getCustomProperties(), config2.getCustomProperties());
     }
 
@@ -512,6 +570,8 @@ public class FluentI18nConfigReader {
                 return config.isEnableCaching() != defaultValue;
             case "enableAutoReload":
                 return config.isEnableAutoReload() != defaultValue;
+            case "enableWarmUp":
+                return config.isEnableWarmUp() != defaultValue;
             case "enableFallback":
                 return config.isEnableFallback() != defaultValue;
             case "logMissingTranslations":
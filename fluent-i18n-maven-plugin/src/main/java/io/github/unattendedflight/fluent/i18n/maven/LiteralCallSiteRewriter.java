@@ -0,0 +1,172 @@
+package io.github.unattendedflight.fluent.i18n.maven;
+
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import java.util.Set;
+
+/**
+ * Rewrites {@code I18n.t}, {@code I18n.translate} and {@code I18n.describe} calls whose
+ * natural text is a string literal into {@code invokedynamic} instructions linked by
+ * {@code io.github.unattendedflight.fluent.i18n.LiteralCallSites}. For {@code t} and
+ * {@code translate}, calls of the fixed-arity and primitive overloads qualify as well as
+ * those of the varargs methods.
+ *
+ * A call qualifies when data-flow analysis shows that its first argument can only come
+ * from a single {@code ldc} of a string constant. The {@code invokestatic} is replaced by
+ * an {@code invokedynamic} with the very same descriptor whose bootstrap arguments are
+ * the literal, its hash and the ID of the hash algorithm; the caller keeps pushing the
+ * literal, so the operand stack and stack map frames of the method are left untouched.
+ * All other calls are left as they are.
+ */
+public class LiteralCallSiteRewriter {
+    private static final String I18N_OWNER = "io/github/unattendedflight/fluent/i18n/I18n";
+    private static final Set<String> TRANSLATE_DESCRIPTORS = Set.of(
+        "(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;",
+        "(Ljava/lang/String;)Ljava/lang/String;",
+        "(Ljava/lang/String;Ljava/lang/Object;)Ljava/lang/String;",
+        "(Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;",
+        "(Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;",
+        "(Ljava/lang/String;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;",
+        "(Ljava/lang/String;I)Ljava/lang/String;",
+        "(Ljava/lang/String;J)Ljava/lang/String;",
+        "(Ljava/lang/String;D)Ljava/lang/String;",
+        "(Ljava/lang/String;C)Ljava/lang/String;");
+    private static final String DESCRIBE_DESCRIPTOR =
+        "(Ljava/lang/String;[Ljava/lang/Object;)Lio/github/unattendedflight/fluent/i18n/core/MessageDescriptor;";
+    private static final Handle BOOTSTRAP = new Handle(
+        Opcodes.H_INVOKESTATIC,
+        "io/github/unattendedflight/fluent/i18n/LiteralCallSites",
+        "bootstrap",
+        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;"
+            + "Ljava/lang/String;Ljava/lang/String;I)Ljava/lang/invoke/CallSite;",
+        false);
+
+    private final HashAlgorithm hashAlgorithm;
+    private final HashGenerator hashGenerator;
+    private int rewrittenCallSites;
+
+    /**
+     * Creates a rewriter that precomputes hashes with the given algorithm.
+     *
+     * @param hashAlgorithm the algorithm used by the runtime to hash natural text
+     */
+    public LiteralCallSiteRewriter(HashAlgorithm hashAlgorithm) {
+        this.hashAlgorithm = hashAlgorithm;
+        this.hashGenerator = hashAlgorithm.newGenerator();
+    }
+
+    /**
+     * Rewrites the qualifying call sites of a class.
+     *
+     * @param classFile the class file bytes
+     * @return the rewritten class file, or {@code null} if the class contains no qualifying call site
+     * @throws AnalyzerException if the bytecode of a method calling {@code I18n} cannot be analyzed
+     */
+    public byte[] rewrite(byte[] classFile) throws AnalyzerException {
+        ClassReader reader = new ClassReader(classFile);
+        ClassNode classNode = new ClassNode();
+        reader.accept(classNode, 0);
+
+        // invokedynamic requires class files of Java 7 or later
+        if ((classNode.version & 0xFFFF) < Opcodes.V1_7 || I18N_OWNER.equals(classNode.name)) {
+            return null;
+        }
+
+        int rewritten = 0;
+        for (MethodNode method : classNode.methods) {
+            if (callsI18n(method)) {
+                rewritten += rewrite(classNode.name, method);
+            }
+        }
+        if (rewritten == 0) {
+            return null;
+        }
+        rewrittenCallSites += rewritten;
+
+        // Descriptors are unchanged, so neither max stack nor frames need to be recomputed
+        ClassWriter writer = new ClassWriter(reader, 0);
+        classNode.accept(writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Returns the number of call sites rewritten so far.
+     *
+     * @return the number of rewritten call sites
+     */
+    public int getRewrittenCallSites() {
+        return rewrittenCallSites;
+    }
+
+    private int rewrite(String owner, MethodNode method) throws AnalyzerException {
+        Frame<SourceValue>[] frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, method);
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        int rewritten = 0;
+
+        for (int i = 0; i < instructions.length; i++) {
+            if (!(instructions[i] instanceof MethodInsnNode call) || !isRewritable(call) || frames[i] == null) {
+                continue;
+            }
+            Frame<SourceValue> frame = frames[i];
+            // The natural text is the first argument, below the others on the stack
+            SourceValue naturalText = frame.getStack(frame.getStackSize() - Type.getArgumentTypes(call.desc).length);
+            String literal = literalOf(naturalText);
+            if (literal == null) {
+                continue;
+            }
+            String name = call.name.equals("describe") ? "describe" : "translate";
+            method.instructions.set(call, new InvokeDynamicInsnNode(
+                name, call.desc, BOOTSTRAP, literal, hashGenerator.generateHash(literal), hashAlgorithm.getId()));
+            rewritten++;
+        }
+        return rewritten;
+    }
+
+    private static boolean callsI18n(MethodNode method) {
+        for (AbstractInsnNode instruction : method.instructions) {
+            if (instruction instanceof MethodInsnNode call && isRewritable(call)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRewritable(MethodInsnNode call) {
+        if (call.getOpcode() != Opcodes.INVOKESTATIC || !I18N_OWNER.equals(call.owner)) {
+            return false;
+        }
+        return switch (call.name) {
+            case "t", "translate" -> TRANSLATE_DESCRIPTORS.contains(call.desc);
+            case "describe" -> DESCRIBE_DESCRIPTOR.equals(call.desc);
+            default -> false;
+        };
+    }
+
+    private static String literalOf(SourceValue value) {
+        if (value.insns.size() != 1) {
+            return null;
+        }
+        AbstractInsnNode source = value.insns.iterator().next();
+        if (source instanceof LdcInsnNode ldc && ldc.cst instanceof String literal) {
+            return literal;
+        }
+        return null;
+    }
+}
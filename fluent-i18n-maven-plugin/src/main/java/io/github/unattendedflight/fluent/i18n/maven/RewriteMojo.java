@@ -0,0 +1,99 @@
+package io.github.unattendedflight.fluent.i18n.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+
+/**
+ * RewriteMojo is a Maven plugin goal that rewrites the compiled classes of the project so
+ * that translation calls with literal natural text never hash that text at runtime.
+ *
+ * The goal runs in the PROCESS_CLASSES phase, right after {@code compile}. Every call to
+ * {@code I18n.t}, {@code I18n.translate} or {@code I18n.describe} whose natural text is a
+ * string literal is turned into an {@code invokedynamic} call site that carries the hash
+ * computed here; see {@link LiteralCallSiteRewriter}. Calls with any other natural text
+ * argument keep using the regular, hashing code path.
+ *
+ * Hashes are computed with the configured {@code hashAlgorithm} and the call sites record
+ * which algorithm that was. Applications that run with a different algorithm, or install a
+ * custom generator at runtime, still work: their call sites hash the literal once when
+ * they are linked instead of using the precomputed value.
+ *
+ * Classes are rewritten in place and the goal is idempotent, so running it again on
+ * already rewritten classes, or on classes without translation calls, changes nothing.
+ */
+@Mojo(name = "rewrite", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class RewriteMojo extends AbstractFluentI18nMojo {
+
+    /**
+     * The directory holding the compiled classes to rewrite.
+     * <p>
+     * Property: fluent.i18n.classesDirectory
+     * Default Value: "${project.build.outputDirectory}"
+     */
+    @Parameter(property = "fluent.i18n.classesDirectory", defaultValue = "${project.build.outputDirectory}")
+    protected File classesDirectory;
+
+    /**
+     * Executes the Maven goal for rewriting literal translation call sites.
+     *
+     * Walks all class files below the classes directory, rewrites those containing
+     * qualifying call sites and logs how many call sites were rewritten. A class whose
+     * bytecode cannot be analyzed is left untouched and reported as a warning.
+     *
+     * @throws MojoExecutionException if the classes cannot be read or written
+     * @throws MojoFailureException if the execution fails
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        checkSkip();
+
+        Path root = classesDirectory.toPath();
+        if (!Files.isDirectory(root)) {
+            getLog().info("No compiled classes found in " + root + ", skipping call site rewriting");
+            return;
+        }
+
+        getLog().info("Rewriting literal I18n call sites in " + root);
+        LiteralCallSiteRewriter rewriter = new LiteralCallSiteRewriter(getConfiguration().getHashAlgorithm());
+        int rewrittenClasses = 0;
+
+        for (Path classFile : findClassFiles(root)) {
+            try {
+                byte[] rewritten = rewriter.rewrite(Files.readAllBytes(classFile));
+                if (rewritten != null) {
+                    Files.write(classFile, rewritten);
+                    rewrittenClasses++;
+                    getLog().debug("Rewrote call sites in " + root.relativize(classFile));
+                }
+            } catch (AnalyzerException e) {
+                getLog().warn("Could not analyze " + root.relativize(classFile) + ", leaving it unchanged: " + e.getMessage());
+            } catch (IOException e) {
+                throw new MojoExecutionException("Failed to rewrite class file: " + classFile, e);
+            }
+        }
+
+        getLog().info("Rewrote " + rewriter.getRewrittenCallSites() + " call sites in " + rewrittenClasses + " classes");
+    }
+
+    private List<Path> findClassFiles(Path root) throws MojoExecutionException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(".class"))
+                .filter(Files::isRegularFile)
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to scan classes directory: " + root, e);
+        }
+    }
+}
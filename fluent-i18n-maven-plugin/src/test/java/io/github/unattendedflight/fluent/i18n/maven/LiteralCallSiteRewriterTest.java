@@ -0,0 +1,120 @@
+package io.github.unattendedflight.fluent.i18n.maven;
+
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiteralCallSiteRewriterTest {
+
+  @Test
+  void testRewritesLiteralCallSitesAndLeavesTheRestAlone(@TempDir Path dir) throws Exception {
+    Path source = dir.resolve("src/fixture/Calls.java");
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, """
+        package fixture;
+
+        import io.github.unattendedflight.fluent.i18n.I18n;
+        import java.util.List;
+        import java.util.function.Supplier;
+
+        public class Calls implements Supplier<List<String>> {
+          @Override
+          public List<String> get() {
+            String dynamic = new String("Dynamic {0}");
+            boolean flag = System.nanoTime() != 0;
+            return List.of(
+                I18n.t("Plain"),
+                I18n.translate("Varargs {0} {1} {2} {3} {4}", "a", "b", "c", "d", "e"),
+                I18n.t("One {0}", "a"),
+                I18n.t("Two {0} {1}", "a", "b"),
+                I18n.translate("Three {0} {1} {2}", "a", "b", "c"),
+                I18n.translate("Four {0} {1} {2} {3}", "a", "b", "c", "d"),
+                I18n.t("Int {0}", 42),
+                I18n.t("Long {0}", 42L),
+                I18n.t("Double {0}", 1.5),
+                I18n.t("Char {0}", 'x'),
+                I18n.resolve(I18n.describe("Described {0}", "d")),
+                I18n.t(dynamic, "x"),
+                I18n.t(flag ? "Yes" : "No"));
+          }
+        }
+        """);
+    Path original = Files.createDirectories(dir.resolve("original"));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+      assertTrue(compiler.getTask(null, files, null,
+          List.of("-classpath", System.getProperty("java.class.path"), "-proc:none", "-d", original.toString()),
+          null, files.getJavaFileObjects(source)).call());
+    }
+    byte[] classFile = Files.readAllBytes(original.resolve("fixture/Calls.class"));
+
+    LiteralCallSiteRewriter rewriter = new LiteralCallSiteRewriter(HashAlgorithm.SHA256);
+    byte[] rewritten = rewriter.rewrite(classFile);
+    assertNotNull(rewritten);
+    assertEquals(11, rewriter.getRewrittenCallSites());
+
+    MethodNode get = method(rewritten, "get");
+    int invokeDynamic = 0;
+    int invokeStatic = 0;
+    for (AbstractInsnNode instruction : get.instructions) {
+      if (instruction instanceof InvokeDynamicInsnNode indy
+          && indy.bsm.getOwner().equals("io/github/unattendedflight/fluent/i18n/LiteralCallSites")) {
+        invokeDynamic++;
+      } else if (instruction instanceof MethodInsnNode call && call.getOpcode() == Opcodes.INVOKESTATIC
+          && call.owner.equals("io/github/unattendedflight/fluent/i18n/I18n") && !call.name.equals("resolve")) {
+        invokeStatic++;
+      }
+    }
+    assertEquals(11, invokeDynamic);
+    // The computed natural text and the one merged from two branches keep the regular call
+    assertEquals(2, invokeStatic);
+
+    // A second pass finds nothing left to rewrite
+    assertNull(new LiteralCallSiteRewriter(HashAlgorithm.SHA256).rewrite(rewritten));
+
+    Path rewrittenDir = Files.createDirectories(dir.resolve("rewritten/fixture"));
+    Files.write(rewrittenDir.resolve("Calls.class"), rewritten);
+    List<String> expected = run(original);
+    List<String> actual = run(dir.resolve("rewritten"));
+    assertEquals(expected, actual);
+    assertEquals("Plain", actual.get(0));
+    assertEquals("Varargs a b c d e", actual.get(1));
+    assertEquals("Char x", actual.get(9));
+    assertEquals("Described d", actual.get(10));
+    assertEquals("Yes", actual.get(12));
+  }
+
+  private static MethodNode method(byte[] classFile, String name) {
+    ClassNode classNode = new ClassNode();
+    new ClassReader(classFile).accept(classNode, 0);
+    return classNode.methods.stream().filter(m -> m.name.equals(name)).findFirst().orElseThrow();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> run(Path classes) throws Exception {
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+        LiteralCallSiteRewriterTest.class.getClassLoader())) {
+      Class<?> calls = loader.loadClass("fixture.Calls");
+      return ((Supplier<List<String>>) calls.getConstructor().newInstance()).get();
+    }
+  }
+}
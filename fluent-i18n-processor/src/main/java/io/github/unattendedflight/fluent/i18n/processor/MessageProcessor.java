@@ -0,0 +1,400 @@
+package io.github.unattendedflight.fluent.i18n.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+import io.github.unattendedflight.fluent.i18n.annotation.Message;
+import io.github.unattendedflight.fluent.i18n.annotation.Translatable;
+import io.github.unattendedflight.fluent.i18n.core.HashAlgorithm;
+import io.github.unattendedflight.fluent.i18n.core.HashGenerator;
+import io.github.unattendedflight.fluent.i18n.extractor.ExtractionConfig;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Annotation processor that turns {@link Message} and {@link Translatable} annotations into
+ * typed message accessors while {@code javac} compiles the sources that carry them.
+ *
+ * For every package with annotated fields, methods or parameters it generates a class,
+ * {@code Messages} by default, holding for each message a {@code _HASH} constant with the hash
+ * computed at build time, a {@link io.github.unattendedflight.fluent.i18n.MessageKey} bound to
+ * that hash, and typed methods that format it:
+ * <pre>{@code
+ * @Message(value = "Welcome {0}!", args = "name")
+ * static final String WELCOME = "Welcome {0}!";
+ *
+ * // generated
+ * public static String welcome(Object name) { ... }
+ * public static void welcomeTo(Appendable out, Object name) { ... }
+ * }</pre>
+ * Parameters are named after the annotation's {@code args}, or {@code arg0}, {@code arg1}...
+ * for each placeholder of the text when no names are given.
+ *
+ * Once processing is over, the messages are also written to {@value #EXTRACTION_RESOURCE} in
+ * the class output, in the format read by
+ * {@link io.github.unattendedflight.fluent.i18n.extractor.MessageExtractor}, so the
+ * {@code extract} goal picks annotated messages, including those with a context, up from
+ * the compiler instead of scanning sources for them.
+ *
+ * Options, passed as {@code -A<name>=<value>}:
+ * <ul>
+ *   <li>{@value #HASH_ALGORITHM_OPTION}: the algorithm of the precomputed hashes, {@code sha256}
+ *       (default) or {@code murmur3}; keys rehash once at runtime if {@code I18n} uses another one</li>
+ *   <li>{@value #CLASS_NAME_OPTION}: the simple name of the generated classes, {@code Messages} by default</li>
+ * </ul>
+ */
+public class MessageProcessor extends AbstractProcessor {
+    /**
+     * The class output resource the extracted messages are written to.
+     */
+    public static final String EXTRACTION_RESOURCE = ExtractionConfig.PROCESSED_MESSAGES_RESOURCE;
+
+    /**
+     * The option selecting the hash algorithm.
+     */
+    public static final String HASH_ALGORITHM_OPTION = "fluent.i18n.hashAlgorithm";
+
+    /**
+     * The option naming the generated classes.
+     */
+    public static final String CLASS_NAME_OPTION = "fluent.i18n.messagesClass";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\d+)[^}]*}|\\{}");
+    private static final Pattern CAMEL_HUMP = Pattern.compile("(?<=[a-z0-9])(?=[A-Z])");
+
+    private HashAlgorithm hashAlgorithm;
+    private HashGenerator hashGenerator;
+    private String className;
+    private Trees trees;
+    private final Set<String> generatedPackages = new HashSet<>();
+    private final List<Map<String, Object>> extracted = new ArrayList<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        String algorithm = processingEnv.getOptions().get(HASH_ALGORITHM_OPTION);
+        this.hashAlgorithm = algorithm != null ? HashAlgorithm.fromString(algorithm) : HashAlgorithm.SHA256;
+        this.hashGenerator = hashAlgorithm.newGenerator();
+        this.className = processingEnv.getOptions().getOrDefault(CLASS_NAME_OPTION, "Messages");
+        try {
+            this.trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            this.trees = null; // Not javac: messages are recorded without line numbers
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(Message.class.getCanonicalName(), Translatable.class.getCanonicalName());
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(HASH_ALGORITHM_OPTION, CLASS_NAME_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<String, List<GeneratedMessage>> byPackage = new TreeMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Message.class)) {
+            Message message = element.getAnnotation(Message.class);
+            add(byPackage, element, message.value(), message.context(), null, message.args());
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Translatable.class)) {
+            Translatable translatable = element.getAnnotation(Translatable.class);
+            add(byPackage, element, translatable.value(), translatable.context(), translatable.description(), new String[0]);
+        }
+
+        for (Map.Entry<String, List<GeneratedMessage>> entry : byPackage.entrySet()) {
+            if (!generatedPackages.add(entry.getKey())) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Messages of package '" + entry.getKey() + "' found in a later processing round are not generated");
+                continue;
+            }
+            writeMessagesClass(entry.getKey(), entry.getValue());
+        }
+
+        if (roundEnv.processingOver() && !extracted.isEmpty()) {
+            writeExtractionResult();
+        }
+        return false;
+    }
+
+    private void add(Map<String, List<GeneratedMessage>> byPackage, Element element, String text, String context,
+                     String description, String[] argNames) {
+        if (text.isBlank()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Blank message text is ignored", element);
+            return;
+        }
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(element);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String contextKey = context.isEmpty() ? null : context;
+        String hash = contextKey != null ? hashGenerator.generateHash(text, contextKey) : hashGenerator.generateHash(text);
+
+        List<GeneratedMessage> messages = byPackage.computeIfAbsent(packageName, p -> new ArrayList<>());
+        String baseName = element.getSimpleName().toString();
+        String constant = uniqueConstant(messages, toConstant(baseName));
+        messages.add(new GeneratedMessage(constant, toMethodName(constant), text, contextKey, hash,
+            parameterNames(text, argNames)));
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("hash", hash);
+        record.put("naturalText", text);
+        record.put("contextKey", contextKey);
+        record.put("context", description != null && !description.isEmpty() ? description : contextKey);
+        record.put("file", sourceFile(element));
+        record.put("line", line(element));
+        extracted.add(record);
+    }
+
+    private void writeMessagesClass(String packageName, List<GeneratedMessage> messages) {
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import io.github.unattendedflight.fluent.i18n.MessageKey;\n\n")
+            .append("/**\n * Typed accessors of the annotated messages of this package.\n */\n")
+            .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(className).append(" {\n")
+            .append("    private ").append(className).append("() {}\n");
+
+        for (GeneratedMessage message : messages) {
+            String params = String.join(", ", message.parameters().stream().map(p -> "Object " + p).toList());
+            String args = String.join(", ", message.parameters());
+            out.append("\n    /**\n     * ").append(javadoc(message.text())).append("\n     */\n")
+                .append("    public static final String ").append(message.constant()).append("_HASH = ")
+                .append(literal(message.hash())).append(";\n\n")
+                .append("    public static final MessageKey ").append(message.constant()).append(" = MessageKey.of(")
+                .append(message.contextKey() != null ? literal(message.contextKey()) : "null").append(", ")
+                .append(literal(message.text())).append(", ").append(message.constant()).append("_HASH, ")
+                .append(hashAlgorithm.getId()).append(");\n\n")
+                .append("    public static String ").append(message.method()).append("(").append(params).append(") {\n")
+                .append("        return ").append(message.constant()).append(".format(").append(args).append(");\n")
+                .append("    }\n\n")
+                .append("    public static void ").append(message.method()).append("To(Appendable out")
+                .append(params.isEmpty() ? "" : ", " + params).append(") {\n")
+                .append("        ").append(message.constant()).append(".formatTo(out")
+                .append(args.isEmpty() ? "" : ", " + args).append(");\n")
+                .append("    }\n");
+        }
+        out.append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName);
+            try (Writer writer = file.openWriter()) {
+                writer.write(out.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Failed to generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void writeExtractionResult() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hashAlgorithm", hashAlgorithm.name().toLowerCase(Locale.ROOT));
+        result.put("messages", extracted);
+        try {
+            FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", EXTRACTION_RESOURCE);
+            try (Writer writer = file.openWriter()) {
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(writer, result);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Failed to write " + EXTRACTION_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    private String sourceFile(Element element) {
+        if (trees != null) {
+            TreePath path = trees.getPath(element);
+            if (path != null) {
+                try {
+                    return Path.of(path.getCompilationUnit().getSourceFile().toUri()).toString();
+                } catch (IllegalArgumentException | UnsupportedOperationException e) {
+                    return path.getCompilationUnit().getSourceFile().getName();
+                }
+            }
+        }
+        Element type = element;
+        while (type.getEnclosingElement() != null && !(type.getEnclosingElement() instanceof PackageElement)) {
+            type = type.getEnclosingElement();
+        }
+        return type.toString().replace('.', '/') + ".java";
+    }
+
+    private int line(Element element) {
+        if (trees == null) {
+            return 0;
+        }
+        TreePath path = trees.getPath(element);
+        if (path == null) {
+            return 0;
+        }
+        CompilationUnitTree unit = path.getCompilationUnit();
+        long position = trees.getSourcePositions().getStartPosition(unit, path.getLeaf());
+        return position < 0 ? 0 : (int) unit.getLineMap().getLineNumber(position);
+    }
+
+    /**
+     * Names the parameters of a message: after the annotation's argument names, or one
+     * {@code argN} per placeholder of the text.
+     */
+    static List<String> parameterNames(String text, String[] argNames) {
+        List<String> names = new ArrayList<>();
+        for (String name : argNames) {
+            String identifier = name.replaceAll("[^A-Za-z0-9_$]", "_");
+            if (identifier.isEmpty() || !Character.isJavaIdentifierStart(identifier.charAt(0))
+                    || SourceVersion.isKeyword(identifier) || identifier.equals("out") || names.contains(identifier)) {
+                identifier = "arg" + names.size();
+            }
+            names.add(identifier);
+        }
+        if (!names.isEmpty()) {
+            return names;
+        }
+        int count = 0;
+        int unnumbered = 0;
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                count = Math.max(count, Integer.parseInt(matcher.group(1)) + 1);
+            } else {
+                unnumbered++;
+            }
+        }
+        for (int i = 0; i < Math.max(count, unnumbered); i++) {
+            names.add("arg" + i);
+        }
+        return names;
+    }
+
+    static String toConstant(String name) {
+        String constant = name.equals(name.toUpperCase(Locale.ROOT))
+            ? name
+            : CAMEL_HUMP.matcher(name).replaceAll("_").toUpperCase(Locale.ROOT);
+        return constant.startsWith("_") ? "MESSAGE" + constant : constant;
+    }
+
+    static String toMethodName(String constant) {
+        StringBuilder method = new StringBuilder();
+        for (String part : constant.toLowerCase(Locale.ROOT).split("_")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            method.append(method.isEmpty() ? part : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+        }
+        String name = method.toString();
+        return SourceVersion.isKeyword(name) ? name + "Message" : name;
+    }
+
+    private static String uniqueConstant(List<GeneratedMessage> messages, String constant) {
+        String candidate = constant;
+        int suffix = 2;
+        while (contains(messages, candidate)) {
+            candidate = constant + "_" + suffix++;
+        }
+        return candidate;
+    }
+
+    private static boolean contains(List<GeneratedMessage> messages, String constant) {
+        for (GeneratedMessage message : messages) {
+            if (message.constant().equals(constant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String literal(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    /**
+     * Escapes a message text for a Javadoc comment. Backslashes are escaped because javac
+     * reads a backslash followed by {@code u} as a unicode escape even in comments, and
+     * characters outside printable ASCII become character references so the generated
+     * source does not depend on the encoding javac reads it with.
+     */
+    static String javadoc(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); ) {
+            int c = text.codePointAt(i);
+            i += Character.charCount(c);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '@' -> out.append("&#64;");
+                case '\\' -> out.append("&#92;");
+                case '/' -> out.append(out.isEmpty() || out.charAt(out.length() - 1) != '*' ? "/" : "&#47;");
+                case '\n', '\r' -> out.append(' ');
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        out.append("&#x").append(Integer.toHexString(c)).append(';');
+                    } else {
+                        out.appendCodePoint(c);
+                    }
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * A message of a generated class: its constant and method names, text, context, hash
+     * and parameter names.
+     */
+    private record GeneratedMessage(String constant, String method, String text, String contextKey, String hash,
+                                    List<String> parameters) {}
+}
@@ -0,0 +1,87 @@
+package io.github.unattendedflight.fluent.i18n.processor;
+
+import io.github.unattendedflight.fluent.i18n.core.Sha256HashGenerator;
+import io.github.unattendedflight.fluent.i18n.extractor.ExtractedMessage;
+import io.github.unattendedflight.fluent.i18n.extractor.ExtractionConfig;
+import io.github.unattendedflight.fluent.i18n.extractor.ExtractionResult;
+import io.github.unattendedflight.fluent.i18n.extractor.MessageExtractor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageProcessorTest {
+
+  @Test
+  void testGeneratesTypedAccessorsAndExtractionResult(@TempDir Path dir) throws Exception {
+    Path source = dir.resolve("src/com/example/Screens.java");
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, """
+        package com.example;
+
+        import io.github.unattendedflight.fluent.i18n.annotation.Message;
+        import io.github.unattendedflight.fluent.i18n.annotation.Translatable;
+
+        class Screens {
+          @Message(value = "Welcome {0}!", args = "name")
+          static final String WELCOME = "Welcome {0}!";
+
+          @Translatable(value = "Save", context = "button")
+          String saveLabel;
+
+          @Message(value = "Saved to C:\\\\users\\\\{0} – déjà vu 😀", args = "user")
+          static final String SAVED = "Saved";
+        }
+        """, StandardCharsets.UTF_8);
+    Path classes = Files.createDirectories(dir.resolve("classes"));
+    Path generated = Files.createDirectories(dir.resolve("generated"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+      JavaCompiler.CompilationTask task = compiler.getTask(null, files, null,
+          List.of("-classpath", System.getProperty("java.class.path"), "-proc:only",
+              "-d", classes.toString(), "-s", generated.toString()),
+          null, files.getJavaFileObjects(source));
+      task.setProcessors(List.of(new MessageProcessor()));
+      assertTrue(task.call());
+
+      // The generated class must compile, whatever the message texts contain
+      Path generatedMessages = generated.resolve("com/example/Messages.java");
+      JavaCompiler.CompilationTask compile = compiler.getTask(null, files, null,
+          List.of("-classpath", System.getProperty("java.class.path"), "-proc:none", "-encoding", "UTF-8",
+              "-d", classes.toString()),
+          null, files.getJavaFileObjects(source, generatedMessages));
+      assertTrue(compile.call());
+      assertTrue(Files.exists(classes.resolve("com/example/Messages.class")));
+    }
+
+    Sha256HashGenerator sha256 = new Sha256HashGenerator();
+    String messages = Files.readString(generated.resolve("com/example/Messages.java"));
+    assertTrue(messages.chars().allMatch(c -> c < 0x80));
+    assertTrue(messages.contains("public static final String WELCOME_HASH = \"" + sha256.generateHash("Welcome {0}!") + "\";"));
+    assertTrue(messages.contains("public static String welcome(Object name)"));
+    assertTrue(messages.contains("public static void welcomeTo(Appendable out, Object name)"));
+    assertTrue(messages.contains("SAVE_LABEL = MessageKey.of(\"button\", \"Save\", SAVE_LABEL_HASH, 0);"));
+    assertTrue(messages.contains("public static String saveLabel()"));
+    assertTrue(messages.contains("Saved to C:&#92;users&#92;{0} &#x2013; d&#xe9;j&#xe0; vu &#x1f600;"));
+
+    Path extracted = classes.resolve(MessageProcessor.EXTRACTION_RESOURCE);
+    ExtractionResult result = new MessageExtractor(new ExtractionConfig()
+        .projectRoot(dir)
+        .sourceDirectories(List.of())
+        .addProcessedMessageFile(extracted)).extract();
+    ExtractedMessage save = result.getExtractedMessages().get(sha256.generateHash("Save", "button"));
+    assertEquals("button", save.getContextKey());
+    assertEquals("src/com/example/Screens.java", save.getLocations().getFirst().getFilePath().replace('\\', '/'));
+    assertEquals(10, save.getLocations().getFirst().getLineNumber());
+    assertEquals(3, result.getMessageCount());
+  }
+}
@@ -4,10 +4,17 @@ import io.github.unattendedflight.fluent.i18n.I18n;
 import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
 import io.github.unattendedflight.fluent.i18n.core.MessageSourceFactory;
 import io.github.unattendedflight.fluent.i18n.core.NaturalTextMessageSource;
+import io.github.unattendedflight.fluent.i18n.springboot.fluenti18n.FluentI18nApplicationAvailability;
 import io.github.unattendedflight.fluent.i18n.springboot.fluenti18n.FluentI18nInitializer;
+import io.github.unattendedflight.fluent.i18n.springboot.fluenti18n.FluentI18nWarmUp;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.availability.ApplicationAvailability;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -77,4 +84,38 @@ public class FluentI18nSpringConfig {
     public FluentI18nInitializer fluentI18nInitializer(NaturalTextMessageSource messageSource) {
         return new FluentI18nInitializer(messageSource);
     }
+    
+    /**
+     * Preloads the catalogs of the configured warm-up locales at startup.
+     *
+     * Loads run on the executor bean named {@code fluentI18nWarmUpExecutor} when one is
+     * defined, and on virtual threads otherwise.
+     *
+     * @param messageSource the message source whose catalogs are preloaded
+     * @param fluentConfig the fluent configuration
+     * @param warmUpExecutor the optional executor running the catalog loads
+     * @return the warm-up bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(FluentI18nWarmUp.class)
+    public FluentI18nWarmUp fluentI18nWarmUp(NaturalTextMessageSource messageSource, FluentConfig fluentConfig,
+                                             @Qualifier("fluentI18nWarmUpExecutor") ObjectProvider<Executor> warmUpExecutor) {
+        Executor executor = warmUpExecutor.getIfAvailable(
+            () -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fluent-i18n-warm-up-", 0).factory()));
+        return new FluentI18nWarmUp(messageSource, fluentConfig, executor);
+    }
+    
+    /**
+     * Replaces the application availability of Spring Boot with one that refuses traffic
+     * until the warm-up has loaded the catalogs. An application that defines its own
+     * {@link ApplicationAvailability} keeps it, and readiness is then not held back.
+     *
+     * @param warmUp the warm-up holding back readiness
+     * @return the application availability bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(ApplicationAvailability.class)
+    public FluentI18nApplicationAvailability applicationAvailability(ObjectProvider<FluentI18nWarmUp> warmUp) {
+        return new FluentI18nApplicationAvailability(warmUp);
+    }
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.github.unattendedflight.fluent.i18n.spring;
 
 import io.github.unattendedflight.fluent.i18n.I18n;
+import io.github.unattendedflight.fluent.i18n.core.PluralBuilder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -30,6 +31,110 @@ public class I18nTemplateUtils {
     public String translate(String message, Object... args) {
         return I18n.translate(message, args);
     }
+
+    /**
+     * Translates a message without arguments.
+     *
+     * @param message the message to be translated
+     * @return the translated message
+     */
+    public String translate(String message) {
+        return I18n.translate(message);
+    }
+
+    /**
+     * Translates a message with one argument, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, Object arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Translates a message with two arguments, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, Object arg0, Object arg1) {
+        return I18n.translate(message, arg0, arg1);
+    }
+
+    /**
+     * Translates a message with three arguments, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, Object arg0, Object arg1, Object arg2) {
+        return I18n.translate(message, arg0, arg1, arg2);
+    }
+
+    /**
+     * Translates a message with four arguments, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @param arg3 the argument {@code {3}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, Object arg0, Object arg1, Object arg2, Object arg3) {
+        return I18n.translate(message, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Translates a message with an {@code int} argument, formatted without boxing.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, int arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Translates a message with a {@code long} argument, formatted without boxing.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, long arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Translates a message with a {@code double} argument, formatted without boxing.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, double arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Translates a message with a {@code char} argument, formatted as the character.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String translate(String message, char arg0) {
+        return I18n.translate(message, arg0);
+    }
     
     /**
      * Translates a message string with optional arguments into the current locale.
@@ -41,6 +146,110 @@ public class I18nTemplateUtils {
     public String t(String message, Object... args) {
         return translate(message, args);
     }
+
+    /**
+     * Shorthand that translates a message without arguments.
+     *
+     * @param message the message to be translated
+     * @return the translated message
+     */
+    public String t(String message) {
+        return I18n.translate(message);
+    }
+
+    /**
+     * Shorthand that translates a message with one argument, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, Object arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Shorthand that translates a message with two arguments, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, Object arg0, Object arg1) {
+        return I18n.translate(message, arg0, arg1);
+    }
+
+    /**
+     * Shorthand that translates a message with three arguments, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, Object arg0, Object arg1, Object arg2) {
+        return I18n.translate(message, arg0, arg1, arg2);
+    }
+
+    /**
+     * Shorthand that translates a message with four arguments, without a varargs array.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @param arg1 the argument {@code {1}}
+     * @param arg2 the argument {@code {2}}
+     * @param arg3 the argument {@code {3}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, Object arg0, Object arg1, Object arg2, Object arg3) {
+        return I18n.translate(message, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Shorthand that translates a message with an {@code int} argument, formatted without boxing.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, int arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Shorthand that translates a message with a {@code long} argument, formatted without boxing.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, long arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Shorthand that translates a message with a {@code double} argument, formatted without boxing.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, double arg0) {
+        return I18n.translate(message, arg0);
+    }
+
+    /**
+     * Shorthand that translates a message with a {@code char} argument, formatted as the character.
+     *
+     * @param message the message to be translated
+     * @param arg0 the argument {@code {0}}
+     * @return the translated and formatted message
+     */
+    public String t(String message, char arg0) {
+        return I18n.translate(message, arg0);
+    }
     
     /**
      * Translates a message within a specific context using internationalization features.
@@ -54,6 +263,32 @@ public class I18nTemplateUtils {
         return I18n.context(context).translate(message, args);
     }
     
+    /**
+     * Translates the provided message and appends it to the template's output, such as the
+     * {@link java.io.Writer} a page is rendered into, without building an intermediate string.
+     *
+     * @param out the output receiving the translated message
+     * @param message the message key or string to be translated
+     * @param args optional arguments to be substituted into the message
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    public void translateTo(Appendable out, String message, Object... args) {
+        I18n.translateTo(out, message, args);
+    }
+    
+    /**
+     * Translates a message within a specific context and appends it to the template's output.
+     *
+     * @param out the output receiving the translated message
+     * @param context the context for the translation, typically a scope or category
+     * @param message the message to translate
+     * @param args optional arguments to format the translated message
+     * @throws java.io.UncheckedIOException if appending to the output fails
+     */
+    public void ctxTo(Appendable out, String context, String message, Object... args) {
+        I18n.context(context).translateTo(out, message, args);
+    }
+    
     /**
      * Formats the given date into a localized string representation based on the current locale and a medium display style.
      *
@@ -242,6 +477,20 @@ public class I18nTemplateUtils {
          * @return The formatted string corresponding to the most suitable plural form for the given count.
          */
         public String format() {
+            return builder().format();
+        }
+        
+        /**
+         * Appends the message of the most suitable plural form to the template's output.
+         *
+         * @param out the output receiving the pluralized message
+         * @throws java.io.UncheckedIOException if appending to the output fails
+         */
+        public void formatTo(Appendable out) {
+            builder().formatTo(out);
+        }
+        
+        private PluralBuilder builder() {
             var builder = I18n.plural(count);
             if (zero != null) builder.zero(zero);
             if (one != null) builder.one(one);
@@ -249,7 +498,7 @@ public class I18nTemplateUtils {
             if (few != null) builder.few(few);
             if (many != null) builder.many(many);
             if (other != null) builder.other(other);
-            return builder.format();
+            return builder;
         }
         
         /**
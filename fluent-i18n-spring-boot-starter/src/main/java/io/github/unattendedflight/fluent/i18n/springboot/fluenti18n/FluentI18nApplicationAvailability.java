@@ -0,0 +1,50 @@
+package io.github.unattendedflight.fluent.i18n.springboot.fluenti18n;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+
+/**
+ * The application availability of Spring Boot, reporting {@link ReadinessState#REFUSING_TRAFFIC}
+ * while the {@link FluentI18nWarmUp} is still loading catalogs.
+ *
+ * Spring Boot declares the application ready to accept traffic once it has started, and
+ * the warm-up may still be running at that point. Rather than publishing a competing
+ * readiness event, whose effect would depend on the order in which listeners receive
+ * events, this bean records every event like Spring Boot's own bean and overrides the
+ * readiness it reports until the warm-up has completed. Probes and health indicators
+ * reading the readiness from {@link org.springframework.boot.availability.ApplicationAvailability}
+ * therefore see the application as ready only once its catalogs are loaded.
+ */
+public class FluentI18nApplicationAvailability extends ApplicationAvailabilityBean {
+
+    private final ObjectProvider<FluentI18nWarmUp> warmUp;
+
+    /**
+     * Creates the availability for a warm-up.
+     *
+     * @param warmUp the warm-up holding back readiness, if one is defined
+     */
+    public FluentI18nApplicationAvailability(ObjectProvider<FluentI18nWarmUp> warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public <S extends AvailabilityState> S getState(Class<S> stateType, S defaultState) {
+        return holdReadiness(stateType, super.getState(stateType, defaultState));
+    }
+
+    @Override
+    public <S extends AvailabilityState> S getState(Class<S> stateType) {
+        return holdReadiness(stateType, super.getState(stateType));
+    }
+
+    private <S extends AvailabilityState> S holdReadiness(Class<S> stateType, S state) {
+        if (state != ReadinessState.ACCEPTING_TRAFFIC) {
+            return state;
+        }
+        FluentI18nWarmUp current = warmUp.getIfAvailable();
+        return current != null && !current.isComplete() ? stateType.cast(ReadinessState.REFUSING_TRAFFIC) : state;
+    }
+}
@@ -4,6 +4,7 @@ import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
 import io.github.unattendedflight.fluent.i18n.config.FluentConfigLoader;
 import io.github.unattendedflight.fluent.i18n.spring.FluentI18nSpringConfig;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -18,7 +19,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Auto-configuration for Fluent i18n Spring Boot integration.
  * This configuration automatically sets up fluent-i18n when Spring Boot is detected.
  */
-@AutoConfiguration
+@AutoConfiguration(before = ApplicationAvailabilityAutoConfiguration.class)
 @ConditionalOnClass(name = "org.springframework.web.servlet.LocaleResolver")
 @Import(FluentI18nSpringConfig.class)
 public class FluentI18nAutoConfiguration {
@@ -0,0 +1,97 @@
+package io.github.unattendedflight.fluent.i18n.springboot.fluenti18n;
+
+import io.github.unattendedflight.fluent.i18n.config.FluentConfig;
+import io.github.unattendedflight.fluent.i18n.core.NaturalTextMessageSource;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.availability.ReadinessState;
+
+/**
+ * Preloads translation catalogs at startup and holds back readiness until they are loaded.
+ *
+ * The warm-up starts once all singletons are created and loads the configured locales
+ * (all supported locales by default) in parallel on the given executor, so it overlaps
+ * with the rest of the startup. Until the warm-up has finished,
+ * {@link FluentI18nApplicationAvailability} reports {@link ReadinessState#REFUSING_TRAFFIC}
+ * even after Spring Boot declared the application ready, so a Kubernetes readiness probe
+ * backed by the availability state never routes traffic to a pod whose catalogs are still cold.
+ */
+public class FluentI18nWarmUp implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(FluentI18nWarmUp.class);
+
+    private final NaturalTextMessageSource messageSource;
+    private final FluentConfig config;
+    private final Executor executor;
+    private volatile CompletableFuture<Map<Locale, Duration>> warmUp;
+    private volatile boolean complete;
+
+    /**
+     * Creates the warm-up for a message source.
+     *
+     * @param messageSource the message source whose catalogs are preloaded
+     * @param config the configuration naming the locales to preload
+     * @param executor the executor running the catalog loads
+     */
+    public FluentI18nWarmUp(NaturalTextMessageSource messageSource, FluentConfig config, Executor executor) {
+        this.messageSource = messageSource;
+        this.config = config;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts loading the catalogs in the background, unless warm-up is disabled.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!config.isEnableWarmUp()) {
+            markComplete();
+            return;
+        }
+        Set<Locale> locales = config.getWarmUpLocales().isEmpty() ? config.getSupportedLocales() : config.getWarmUpLocales();
+        long start = System.nanoTime();
+        logger.info("Warming up translations for {} locales", locales.size());
+
+        warmUp = messageSource.warmUpAsync(locales, executor).whenComplete((timings, failure) -> {
+            if (failure != null) {
+                logger.warn("Warm-up of translations failed", failure);
+            } else {
+                timings.forEach((locale, time) ->
+                    logger.debug("Loaded translations for {} in {} ms", locale.toLanguageTag(), time.toMillis()));
+                logger.info("Warmed up translations for {} locales in {} ms", locales.size(),
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            }
+            markComplete();
+        });
+    }
+
+    /**
+     * Tells whether every catalog has been loaded.
+     *
+     * @return {@code true} once the warm-up has completed
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns the running warm-up.
+     *
+     * @return a future completing with the load time of every catalog loaded by the warm-up,
+     *         or {@code null} before the warm-up has started
+     */
+    public CompletableFuture<Map<Locale, Duration>> getWarmUp() {
+        return warmUp;
+    }
+
+    private void markComplete() {
+        complete = true;
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.support.RequestContextUtils;
 
 import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * FluentI18nWebInterceptor is a simple interceptor that ensures fluent-i18n's current locale
@@ -25,14 +27,22 @@ public class FluentI18nWebInterceptor implements HandlerInterceptor {
     private static final Logger logger = LoggerFactory.getLogger(FluentI18nWebInterceptor.class);
     
     private final FluentConfig config;
+    private final Set<Locale> supportedLocales;
+    private final Set<String> supportedLanguages;
     
     /**
      * Constructs a new instance of FluentI18nWebInterceptor with the specified FluentConfig.
+     * The supported locales and their languages are captured once, so checking a request's
+     * locale neither copies nor streams the configured set.
      *
      * @param config the FluentConfig instance containing the configuration for the interceptor
      */
     public FluentI18nWebInterceptor(FluentConfig config) {
         this.config = config;
+        this.supportedLocales = Set.copyOf(config.getSupportedLocales());
+        this.supportedLanguages = supportedLocales.stream()
+            .map(Locale::getLanguage)
+            .collect(Collectors.toUnmodifiableSet());
     }
     
     /**
@@ -129,14 +139,8 @@ public class FluentI18nWebInterceptor implements HandlerInterceptor {
             return false;
         }
         
-        // Check exact match first
-        if (config.getSupportedLocales().contains(locale)) {
-            return true;
-        }
-        
-        // Check if language matches any supported locale
-        return config.getSupportedLocales().stream()
-            .anyMatch(supported -> supported.getLanguage().equals(locale.getLanguage()));
+        // Check exact match first, then whether the language matches any supported locale
+        return supportedLocales.contains(locale) || supportedLanguages.contains(locale.getLanguage());
     }
     
     /**
@@ -0,0 +1,79 @@
+package io.github.unattendedflight.fluent.i18n.springboot.fluenti18n;
+
+import io.github.unattendedflight.fluent.i18n.core.NaturalTextMessageSource;
+import io.github.unattendedflight.fluent.i18n.core.TranslationResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentI18nWarmUpTest {
+  private static final CompletableFuture<Map<Locale, Duration>> LOADS = new CompletableFuture<>();
+
+  @Test
+  void testRefusesTrafficUntilTheWarmUpCompletes() {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestApplication.class)
+        .web(WebApplicationType.NONE)
+        .run()) {
+      ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+      FluentI18nWarmUp warmUp = context.getBean(FluentI18nWarmUp.class);
+
+      assertFalse(warmUp.isComplete());
+      assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+
+      LOADS.complete(Map.of(Locale.FRENCH, Duration.ofMillis(1)));
+      assertTrue(warmUp.isComplete());
+      assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+  }
+
+  @Configuration
+  @EnableAutoConfiguration
+  static class TestApplication {
+
+    @Bean
+    NaturalTextMessageSource slowMessageSource() {
+      return new SlowSource();
+    }
+  }
+
+  /**
+   * A message source whose warm-up completes only when the test completes {@link #LOADS}.
+   */
+  private static final class SlowSource implements NaturalTextMessageSource {
+
+    @Override
+    public TranslationResult resolve(String hash, String naturalText, Locale locale) {
+      return TranslationResult.notFound(naturalText);
+    }
+
+    @Override
+    public boolean exists(String hash, Locale locale) {
+      return false;
+    }
+
+    @Override
+    public Iterable<Locale> getSupportedLocales() {
+      return List.of(Locale.ENGLISH, Locale.FRENCH);
+    }
+
+    @Override
+    public CompletableFuture<Map<Locale, Duration>> warmUpAsync(Iterable<Locale> locales, Executor executor) {
+      return LOADS;
+    }
+  }
+}